@@ -10,12 +10,14 @@ package io.harness;
 import static io.harness.annotations.dev.HarnessTeam.CE;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBBatchWriter;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.changestreamsframework.ChangeType;
 import io.harness.persistence.PersistentEntity;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import java.util.List;
 import java.util.concurrent.Callable;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,21 +31,31 @@ import org.bson.types.ObjectId;
 public class CDCEntityBulkMigrationTask<T extends PersistentEntity> implements Callable<Boolean> {
   private ChangeHandler changeHandler;
   private Class entityType;
-  private Document document;
+  private List<Document> documents;
   private String tableName;
   private String[] fields;
+  private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
 
   @Override
   public Boolean call() throws Exception {
-    DBObject dbObject = toDBObject(document);
-
-    ChangeEvent changeEvent = ChangeEvent.builder()
-                                  .fullDocument(dbObject)
-                                  .changeType(ChangeType.INSERT)
-                                  .entityType(entityType)
-                                  .uuid(getUuidFromDocument(document))
-                                  .build();
-    return changeHandler.handleChange(changeEvent, Strings.toLowerCase(tableName), fields);
+    boolean result = true;
+    timeScaleDBBatchWriter.startBatch();
+    try {
+      for (Document document : documents) {
+        DBObject dbObject = toDBObject(document);
+
+        ChangeEvent changeEvent = ChangeEvent.builder()
+                                      .fullDocument(dbObject)
+                                      .changeType(ChangeType.INSERT)
+                                      .entityType(entityType)
+                                      .uuid(getUuidFromDocument(document))
+                                      .build();
+        result = changeHandler.handleChange(changeEvent, Strings.toLowerCase(tableName), fields) && result;
+      }
+    } finally {
+      timeScaleDBBatchWriter.flushBatch();
+    }
+    return result;
   }
 
   public static DBObject toDBObject(Document document) {
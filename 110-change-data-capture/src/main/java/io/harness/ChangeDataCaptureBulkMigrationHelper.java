@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.CE;
 
 import io.harness.annotations.ChangeDataCapture;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBBatchWriter;
 import io.harness.changestreamsframework.ChangeTracker;
 import io.harness.entities.CDCEntity;
 import io.harness.persistence.PersistentEntity;
@@ -37,8 +38,10 @@ import org.bson.Document;
 public class ChangeDataCaptureBulkMigrationHelper {
   @Inject private ChangeTracker changeTracker;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
   private static final int NUMBER_OF_BULK_SYNC_THREADS = 5;
-  private static final int BULK_SYNC_TASK_QUEUE_SIZE = 200;
+  private static final int BULK_SYNC_TASK_QUEUE_SIZE = 20;
+  private static final int BULK_SYNC_BATCH_SIZE = 100;
   private static final String BULK_THREAD_SUFFIX = "-bulk-migration-%d";
 
   private boolean runBulkMigration(CDCEntity<?> cdcEntity) {
@@ -61,20 +64,24 @@ public class ChangeDataCaptureBulkMigrationHelper {
     MongoCollection<Document> collection =
         mongoDatabase.getCollection(changeTracker.getCollectionName(subscriptionEntity));
 
+    ChangeDataCapture[] dataCaptures = subscriptionEntity.getAnnotationsByType(ChangeDataCapture.class);
     try (MongoCursor<Document> cursor = collection.find().iterator()) {
+      List<Document> documents = new ArrayList<>(BULK_SYNC_BATCH_SIZE);
       while (cursor.hasNext()) {
-        final Document document = cursor.next();
-        ChangeDataCapture[] dataCaptures =
-            cdcEntity.getSubscriptionEntity().getAnnotationsByType(ChangeDataCapture.class);
-        for (ChangeDataCapture changeDataCapture : dataCaptures) {
-          ChangeHandler changeHandler = cdcEntity.getChangeHandler(changeDataCapture.handler());
-          if (changeHandler != null) {
-            CDCEntityBulkMigrationTask<T> cdcEntityBulkMigrationTask = new CDCEntityBulkMigrationTask<>(
-                changeHandler, subscriptionEntity, document, changeDataCapture.table(), changeDataCapture.fields());
-            taskFutures.add(boundedExecutorService.submit(cdcEntityBulkMigrationTask));
-          } else {
-            log.info("ChangeHandler for {} is null", changeDataCapture.handler());
+        documents.add(cursor.next());
+        if (documents.size() == BULK_SYNC_BATCH_SIZE || !cursor.hasNext()) {
+          for (ChangeDataCapture changeDataCapture : dataCaptures) {
+            ChangeHandler changeHandler = cdcEntity.getChangeHandler(changeDataCapture.handler());
+            if (changeHandler != null) {
+              CDCEntityBulkMigrationTask<T> cdcEntityBulkMigrationTask =
+                  new CDCEntityBulkMigrationTask<>(changeHandler, subscriptionEntity, documents,
+                      changeDataCapture.table(), changeDataCapture.fields(), timeScaleDBBatchWriter);
+              taskFutures.add(boundedExecutorService.submit(cdcEntityBulkMigrationTask));
+            } else {
+              log.info("ChangeHandler for {} is null", changeDataCapture.handler());
+            }
           }
+          documents = new ArrayList<>(BULK_SYNC_BATCH_SIZE);
         }
       }
       for (Future<Boolean> taskFuture : taskFutures) {
@@ -9,8 +9,10 @@ package io.harness;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBBatchWriter;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
+import io.harness.persistence.PersistentEntity;
 
 import software.wings.dl.WingsPersistence;
 
@@ -19,13 +21,14 @@ import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -33,7 +36,10 @@ import lombok.extern.slf4j.Slf4j;
 class ChangeEventProcessor {
   @Inject private Set<CDCEntity<?>> subscribedClasses;
   @Inject private WingsPersistence wingsPersistence;
-  private final BlockingQueue<ChangeEvent<?>> changeEventQueue = new LinkedBlockingQueue<>();
+  @Inject private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
+  // Events of an entity are processed in the order of its change stream, one queue per subscribed entity
+  private final ConcurrentMap<Class<? extends PersistentEntity>, BlockingQueue<ChangeEvent<?>>> changeEventQueues =
+      new ConcurrentHashMap<>();
   private final ExecutorService changeEventExecutorService =
       Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("primary-change-processor").build());
   private final ExecutorService changeEventProcessorWatcher =
@@ -43,7 +49,9 @@ class ChangeEventProcessor {
   private ChangeEventProcessorTask changeEventProcessorTask;
 
   void startProcessingChangeEvents() {
-    changeEventProcessorTask = new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence);
+    subscribedClasses.forEach(cdcEntity -> getChangeEventQueue(cdcEntity.getSubscriptionEntity()));
+    changeEventProcessorTask =
+        new ChangeEventProcessorTask(subscribedClasses, changeEventQueues, wingsPersistence, timeScaleDBBatchWriter);
     changeEventProcessorTaskFuture = changeEventExecutorService.submit(changeEventProcessorTask);
     changeEventProcessorWatcher.submit(this::watchChangeEventQueue);
   }
@@ -52,7 +60,7 @@ class ChangeEventProcessor {
     try {
       log.trace("Adding change event in the queue, entity={}, type={}", changeEvent.getEntityType(),
           changeEvent.getChangeType());
-      changeEventQueue.put(changeEvent);
+      getChangeEventQueue(changeEvent.getEntityType()).put(changeEvent);
       total.incrementAndGet();
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -62,19 +70,22 @@ class ChangeEventProcessor {
     return true;
   }
 
+  private BlockingQueue<ChangeEvent<?>> getChangeEventQueue(Class<? extends PersistentEntity> entityType) {
+    return changeEventQueues.computeIfAbsent(entityType, key -> new LinkedBlockingQueue<>());
+  }
+
   private void watchChangeEventQueue() {
     while (!changeEventProcessorWatcher.isShutdown()) {
       LockSupport.parkNanos(Duration.ofSeconds(30).toNanos());
-      int waiting = changeEventQueue.size();
+      int waiting = changeEventQueues.values().stream().mapToInt(BlockingQueue::size).sum();
       int processing = changeEventProcessorTask.getActiveCount();
-      log.info("ChangeEventProcessor stats, processing={}, waiting={}, completed={}, total={}", processing, waiting,
-          changeEventProcessorTask.getCompletedTaskCount(), total.get());
+      log.info("ChangeEventProcessor stats, processing={}, waiting={}, completed={}, total={}, rows={}, writeMillis={}",
+          processing, waiting, changeEventProcessorTask.getCompletedTaskCount(), total.get(),
+          timeScaleDBBatchWriter.getWrittenRows(), timeScaleDBBatchWriter.getWriteMillis());
       if ((processing + waiting) > 10) {
-        changeEventQueue.stream()
-            .collect(Collectors.groupingBy(ChangeEvent::getEntityType, Collectors.counting()))
-            .forEach(
-                (entity,
-                    count) -> log.info("ChangeEventProcessor stats breakdown, entity={}, waiting={}", entity, count));
+        changeEventQueues.forEach((entity, queue)
+                                      -> log.info("ChangeEventProcessor stats breakdown, entity={}, waiting={}",
+                                          entity, queue.size()));
       }
     }
   }
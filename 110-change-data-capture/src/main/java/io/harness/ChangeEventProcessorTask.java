@@ -13,12 +13,16 @@ import io.harness.CDCStateEntity.cdcStateEntityKeys;
 import io.harness.annotations.ChangeDataCapture;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBBatchWriter;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 import io.harness.persistence.PersistentEntity;
 
 import software.wings.dl.WingsPersistence;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
@@ -38,26 +42,34 @@ import org.mongodb.morphia.query.UpdateOperations;
 @Slf4j
 @OwnedBy(HarnessTeam.CE)
 public class ChangeEventProcessorTask implements Runnable {
+  private static final int MAX_BATCH_SIZE = 500;
+
   private ExecutorService executorService;
   private final Set<CDCEntity<?>> cdcEntities;
-  private final BlockingQueue<ChangeEvent<?>> changeEventQueue;
+  private final Map<Class<? extends PersistentEntity>, BlockingQueue<ChangeEvent<?>>> changeEventQueues;
   private final WingsPersistence wingsPersistence;
+  private final TimeScaleDBBatchWriter timeScaleDBBatchWriter;
   private final AtomicInteger processing = new AtomicInteger(0);
   private final AtomicLong completed = new AtomicLong(0);
 
-  ChangeEventProcessorTask(Set<CDCEntity<?>> cdcEntities, BlockingQueue<ChangeEvent<?>> changeEventQueue,
-      WingsPersistence wingsPersistence) {
+  ChangeEventProcessorTask(Set<CDCEntity<?>> cdcEntities,
+      Map<Class<? extends PersistentEntity>, BlockingQueue<ChangeEvent<?>>> changeEventQueues,
+      WingsPersistence wingsPersistence, TimeScaleDBBatchWriter timeScaleDBBatchWriter) {
     this.cdcEntities = cdcEntities;
-    this.changeEventQueue = changeEventQueue;
+    this.changeEventQueues = changeEventQueues;
     this.wingsPersistence = wingsPersistence;
+    this.timeScaleDBBatchWriter = timeScaleDBBatchWriter;
   }
 
   @Override
   public void run() {
+    // A single listener per queue keeps the changes of a document in order
     executorService = Executors.newFixedThreadPool(
-        cdcEntities.size(), ThreadFactoryBuilder.create().setNameFormat("change-processor-%d").get());
-    Set<Future<?>> futures =
-        cdcEntities.stream().map(cdcEntity -> executorService.submit(this::listenToQueue)).collect(Collectors.toSet());
+        changeEventQueues.size(), ThreadFactoryBuilder.create().setNameFormat("change-processor-%d").get());
+    Set<Future<?>> futures = changeEventQueues.values()
+                                 .stream()
+                                 .map(changeEventQueue -> executorService.submit(() -> listenToQueue(changeEventQueue)))
+                                 .collect(Collectors.toSet());
     waitForTasks(futures);
   }
 
@@ -71,15 +83,20 @@ public class ChangeEventProcessorTask implements Runnable {
     }
   }
 
-  public void listenToQueue() {
+  public void listenToQueue(BlockingQueue<ChangeEvent<?>> changeEventQueue) {
+    List<ChangeEvent<?>> changeEvents = new ArrayList<>(MAX_BATCH_SIZE);
     try {
       while (!executorService.isShutdown()) {
         ChangeEvent<?> changeEvent = changeEventQueue.poll(Integer.MAX_VALUE, TimeUnit.MINUTES);
         if (changeEvent != null) {
-          processing.incrementAndGet();
-          processChange(changeEvent);
-          processing.decrementAndGet();
-          completed.incrementAndGet();
+          // Whatever piled up while the previous batch was written goes in the next one
+          changeEvents.add(changeEvent);
+          changeEventQueue.drainTo(changeEvents, MAX_BATCH_SIZE - 1);
+          processing.addAndGet(changeEvents.size());
+          processChanges(changeEvents);
+          processing.addAndGet(-changeEvents.size());
+          completed.addAndGet(changeEvents.size());
+          changeEvents.clear();
         }
       }
     } catch (InterruptedException e) {
@@ -91,6 +108,19 @@ public class ChangeEventProcessorTask implements Runnable {
     }
   }
 
+  private void processChanges(List<ChangeEvent<?>> changeEvents) {
+    timeScaleDBBatchWriter.startBatch();
+    try {
+      changeEvents.forEach(this::processChange);
+    } finally {
+      timeScaleDBBatchWriter.flushBatch();
+    }
+
+    // Only once the rows of all the events are written, so that no event is skipped when resuming from the token
+    ChangeEvent<?> lastChangeEvent = changeEvents.get(changeEvents.size() - 1);
+    saveCDCStateEntityToken(lastChangeEvent.getEntityType(), lastChangeEvent);
+  }
+
   private void processChange(ChangeEvent<?> changeEvent) {
     Class<? extends PersistentEntity> clazz = changeEvent.getEntityType();
     ChangeDataCapture[] dataCaptures = clazz.getAnnotationsByType(ChangeDataCapture.class);
@@ -108,8 +138,6 @@ public class ChangeEventProcessorTask implements Runnable {
         }
       }
     }
-
-    saveCDCStateEntityToken(clazz, changeEvent);
   }
 
   private void saveCDCStateEntityToken(Class<? extends PersistentEntity> sourceClass, ChangeEvent<?> changeEvent) {
@@ -29,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class AbstractChangeDataHandler implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
 
   @Override
   public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
@@ -50,17 +51,16 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
     switch (changeEvent.getChangeType()) {
       case INSERT:
         if (columnValueMapping != null) {
-          dbOperation(insertSQL(tableName, columnValueMapping));
+          timeScaleDBBatchWriter.insert(tableName, columnValueMapping);
         }
         break;
       case UPDATE:
         if (columnValueMapping != null) {
-          dbOperation(updateSQL(
-              tableName, columnValueMapping, Collections.singletonMap("id", changeEvent.getUuid()), primaryKeys));
+          timeScaleDBBatchWriter.upsert(tableName, columnValueMapping, primaryKeys);
         }
         break;
       case DELETE:
-        dbOperation(deleteSQL(tableName, Collections.singletonMap("id", changeEvent.getUuid())));
+        timeScaleDBBatchWriter.delete(tableName, Collections.singletonMap("id", changeEvent.getUuid()));
         break;
       default:
         log.info("Change Event Type not Handled: {}", changeEvent.getChangeType());
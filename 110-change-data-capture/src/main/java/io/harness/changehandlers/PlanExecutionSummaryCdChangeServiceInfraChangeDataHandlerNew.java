@@ -23,7 +23,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -36,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
   private static String SERVICE_STARTTS = "service_startts";
   private static String SERVICE_ENDTS = "service_endts";
 
@@ -50,7 +51,7 @@ public class PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew implem
           if (columnValueMapping != null && columnValueMapping.size() > 0) {
             columnValueMapping.forEach(column -> {
               if (column.containsKey(SERVICE_STARTTS) && !column.get(SERVICE_STARTTS).equals("")) {
-                dbOperation(insertSQL(tableName, column));
+                timeScaleDBBatchWriter.insert(tableName, column);
               }
             });
           }
@@ -59,7 +60,7 @@ public class PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew implem
           if (columnValueMapping != null && columnValueMapping.size() > 0) {
             columnValueMapping.forEach(column -> {
               if (column.containsKey(SERVICE_STARTTS) && !column.get(SERVICE_STARTTS).equals("")) {
-                dbOperation(updateSQL(tableName, column, Collections.singletonMap("id", changeEvent.getUuid())));
+                timeScaleDBBatchWriter.upsert(tableName, column, Arrays.asList("id", SERVICE_STARTTS));
               }
             });
           }
@@ -23,7 +23,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -36,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PlanExecutionSummaryCdServiceAndInfraChangeDataHandler implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
   private static String SERVICE_STARTTS = "service_startts";
   private static String SERVICE_ENDTS = "service_endts";
 
@@ -61,7 +62,7 @@ public class PlanExecutionSummaryCdServiceAndInfraChangeDataHandler implements C
               }
               if (newColumnValueMapping.containsKey(SERVICE_STARTTS)
                   && !newColumnValueMapping.get(SERVICE_STARTTS).equals("")) {
-                dbOperation(insertSQL(tableName, newColumnValueMapping));
+                timeScaleDBBatchWriter.insert(tableName, newColumnValueMapping);
               }
             }
           }
@@ -81,8 +82,7 @@ public class PlanExecutionSummaryCdServiceAndInfraChangeDataHandler implements C
               }
               if (newColumnValueMapping.containsKey(SERVICE_STARTTS)
                   && !newColumnValueMapping.get(SERVICE_STARTTS).equals("")) {
-                dbOperation(
-                    updateSQL(tableName, newColumnValueMapping, Collections.singletonMap("id", changeEvent.getUuid())));
+                timeScaleDBBatchWriter.upsert(tableName, newColumnValueMapping, Arrays.asList("id", SERVICE_STARTTS));
               }
               newColumnValueMapping.clear();
             }
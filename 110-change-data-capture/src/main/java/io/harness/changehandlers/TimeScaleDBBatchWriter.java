@@ -0,0 +1,262 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the rows produced by change handlers to TimeScaleDB with parameterized statements. While a batch is open on
+ * the calling thread the writes are buffered, and on flush the rows sharing a statement are sent as one JDBC batch, all
+ * in a single transaction. Writes made outside of a batch are executed right away.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+@Slf4j
+public class TimeScaleDBBatchWriter {
+  private static final int MAX_RETRY_COUNT = 5;
+  private static final String ID = "id";
+  private static final String UUID = "UUID";
+
+  @Inject private TimeScaleDBService timeScaleDBService;
+  private final ThreadLocal<List<RowWrite>> openBatch = new ThreadLocal<>();
+  private final AtomicLong writtenRows = new AtomicLong();
+  private final AtomicLong writeMillis = new AtomicLong();
+
+  public boolean insert(String tableName, Map<String, String> columnValueMapping) {
+    return write(RowWrite.of(WriteType.INSERT, tableName, columnValueMapping, null));
+  }
+
+  public boolean upsert(String tableName, Map<String, String> columnValueMapping, List<String> primaryKeys) {
+    return write(RowWrite.of(WriteType.UPSERT, tableName, columnValueMapping, primaryKeys));
+  }
+
+  public boolean update(String tableName, Map<String, String> columnValueMappingForSet,
+      Map<String, String> columnValueMappingForCondition) {
+    return write(RowWrite.ofUpdate(tableName, columnValueMappingForSet, columnValueMappingForCondition));
+  }
+
+  public boolean delete(String tableName, Map<String, String> columnValueMappingForCondition) {
+    return write(RowWrite.of(WriteType.DELETE, tableName, columnValueMappingForCondition, null));
+  }
+
+  /**
+   * Buffers the writes of the calling thread until {@link #flushBatch()} is called.
+   */
+  public void startBatch() {
+    if (openBatch.get() == null) {
+      openBatch.set(new ArrayList<>());
+    }
+  }
+
+  /**
+   * Writes the rows buffered since the batch was started and closes it. When the batch fails its rows are written one
+   * by one, and the ones that keep failing are logged and skipped as they would be outside of a batch.
+   */
+  public void flushBatch() {
+    List<RowWrite> rows = openBatch.get();
+    openBatch.remove();
+    if (isEmpty(rows)) {
+      return;
+    }
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down, skipping {} rows", rows.size());
+      return;
+    }
+
+    long startTime = System.nanoTime();
+    if (!writeBatch(rows)) {
+      rows.forEach(this::writeRow);
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    writtenRows.addAndGet(rows.size());
+    writeMillis.addAndGet(elapsedMillis);
+    log.debug("Wrote batch of {} rows in {} ms", rows.size(), elapsedMillis);
+  }
+
+  public long getWrittenRows() {
+    return writtenRows.get();
+  }
+
+  public long getWriteMillis() {
+    return writeMillis.get();
+  }
+
+  private boolean write(RowWrite row) {
+    if (row == null) {
+      return false;
+    }
+    List<RowWrite> batch = openBatch.get();
+    if (batch != null) {
+      batch.add(row);
+      return true;
+    }
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down");
+      return false;
+    }
+    return writeRow(row);
+  }
+
+  private boolean writeBatch(List<RowWrite> rows) {
+    // Rows of the same statement are batched together, which must not reorder the writes of a single row. The n-th
+    // write of every row goes in the n-th round, so rounds run one after the other and writes within a round commute.
+    List<Map<String, List<RowWrite>>> rounds = new ArrayList<>();
+    Map<String, Integer> writesPerRow = new HashMap<>();
+    for (RowWrite row : rows) {
+      int round = row.getRowKey() == null ? 0 : writesPerRow.merge(row.getRowKey(), 1, Integer::sum) - 1;
+      if (round == rounds.size()) {
+        rounds.add(new LinkedHashMap<>());
+      }
+      rounds.get(round).computeIfAbsent(row.getStatement(), statement -> new ArrayList<>()).add(row);
+    }
+
+    try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+      boolean autoCommit = dbConnection.getAutoCommit();
+      dbConnection.setAutoCommit(false);
+      try {
+        for (Map<String, List<RowWrite>> round : rounds) {
+          for (Map.Entry<String, List<RowWrite>> entry : round.entrySet()) {
+            try (PreparedStatement statement = dbConnection.prepareStatement(entry.getKey())) {
+              for (RowWrite row : entry.getValue()) {
+                row.bind(statement);
+                statement.addBatch();
+              }
+              statement.executeBatch();
+            }
+          }
+        }
+        dbConnection.commit();
+        return true;
+      } catch (SQLException e) {
+        dbConnection.rollback();
+        throw e;
+      } finally {
+        dbConnection.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException e) {
+      log.warn("Failed to write batch of {} rows, writing them one by one", rows.size(), e);
+      return false;
+    }
+  }
+
+  private boolean writeRow(RowWrite row) {
+    int retryCount = 0;
+    while (retryCount < MAX_RETRY_COUNT) {
+      try (Connection dbConnection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = dbConnection.prepareStatement(row.getStatement())) {
+        row.bind(statement);
+        statement.execute();
+        return true;
+      } catch (SQLException e) {
+        log.error("Failed to save/update/delete data Query = {}, values = {}, retryCount=[{}], Exception: ",
+            row.getStatement(), row.getValues(), retryCount, e);
+        retryCount++;
+      }
+    }
+    return false;
+  }
+
+  private enum WriteType { INSERT, UPSERT, DELETE }
+
+  @Value
+  private static class RowWrite {
+    String statement;
+    List<String> values;
+    // Identifies the written row, when known, to keep the writes of a row in order
+    String rowKey;
+
+    static RowWrite of(
+        WriteType writeType, String tableName, Map<String, String> columnValueMapping, List<String> primaryKeys) {
+      List<String> columns = new ArrayList<>();
+      List<String> values = new ArrayList<>();
+      addColumns(columnValueMapping, columns, values);
+      if (columns.isEmpty()) {
+        log.warn("Nothing to write for {} in table {}", writeType, tableName);
+        return null;
+      }
+
+      StringBuilder statement = new StringBuilder(256);
+      if (writeType == WriteType.DELETE) {
+        statement.append("DELETE FROM ").append(tableName).append(" WHERE ");
+        statement.append(String.join("=? AND ", columns)).append("=?");
+      } else {
+        statement.append("INSERT INTO ").append(tableName).append(" (").append(String.join(",", columns));
+        statement.append(") VALUES (").append(String.join(",", Collections.nCopies(columns.size(), "?")));
+        statement.append(')');
+        if (writeType == WriteType.UPSERT) {
+          statement.append(" ON CONFLICT (").append(String.join(",", primaryKeys)).append(") DO UPDATE SET ");
+          for (int i = 0; i < columns.size(); i++) {
+            statement.append(i == 0 ? "" : ",").append(columns.get(i)).append("=EXCLUDED.").append(columns.get(i));
+          }
+        }
+      }
+
+      return new RowWrite(statement.toString(), values, getRowKey(tableName, columnValueMapping));
+    }
+
+    static RowWrite ofUpdate(String tableName, Map<String, String> columnValueMappingForSet,
+        Map<String, String> columnValueMappingForCondition) {
+      List<String> columns = new ArrayList<>();
+      List<String> conditionColumns = new ArrayList<>();
+      List<String> values = new ArrayList<>();
+      addColumns(columnValueMappingForSet, columns, values);
+      addColumns(columnValueMappingForCondition, conditionColumns, values);
+      if (columns.isEmpty() || conditionColumns.isEmpty()) {
+        log.warn("Nothing to write for UPDATE in table {}", tableName);
+        return null;
+      }
+      String statement = "UPDATE " + tableName + " SET " + String.join("=?,", columns) + "=? WHERE "
+          + String.join("=? AND ", conditionColumns) + "=?";
+      return new RowWrite(statement, values, getRowKey(tableName, columnValueMappingForCondition));
+    }
+
+    // Columns holding a NULL or blank value are not written
+    private static void addColumns(Map<String, String> columnValueMapping, List<String> columns, List<String> values) {
+      columnValueMapping.forEach((column, value) -> {
+        if (value != null && !value.equals("")) {
+          columns.add(column);
+          values.add(value);
+        }
+      });
+    }
+
+    // Some tables name their id column UUID
+    private static String getRowKey(String tableName, Map<String, String> columnValueMapping) {
+      String id = columnValueMapping.containsKey(ID) ? columnValueMapping.get(ID) : columnValueMapping.get(UUID);
+      return isEmpty(id) ? null : tableName + ':' + id;
+    }
+
+    void bind(PreparedStatement statement) throws SQLException {
+      for (int i = 0; i < values.size(); i++) {
+        // Sent untyped, so that the database converts the value to the column type as it does for a literal
+        statement.setObject(i + 1, values.get(i), Types.OTHER);
+      }
+    }
+  }
+}
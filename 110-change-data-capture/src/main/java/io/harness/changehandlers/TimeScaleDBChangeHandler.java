@@ -33,20 +33,21 @@ import org.bouncycastle.util.Strings;
 public class TimeScaleDBChangeHandler implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject private TimeScaleDBBatchWriter timeScaleDBBatchWriter;
 
   @Override
   public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
     log.trace("In TimeScale Change Handler: {}, {}, {}", changeEvent, tableName, fields);
     switch (changeEvent.getChangeType()) {
       case INSERT:
-        dbOperation(insertSQL(tableName, getColumnValueMapping(changeEvent, fields)));
+        timeScaleDBBatchWriter.insert(tableName, getColumnValueMapping(changeEvent, fields));
         break;
       case UPDATE:
-        dbOperation(updateSQL(tableName, getColumnValueMapping(changeEvent, fields),
-            Collections.singletonMap("UUID", changeEvent.getUuid())));
+        timeScaleDBBatchWriter.update(tableName, getColumnValueMapping(changeEvent, fields),
+            Collections.singletonMap("UUID", changeEvent.getUuid()));
         break;
       case DELETE:
-        dbOperation(deleteSQL(tableName, Collections.singletonMap("UUID", changeEvent.getUuid())));
+        timeScaleDBBatchWriter.delete(tableName, Collections.singletonMap("UUID", changeEvent.getUuid()));
         break;
       default:
         log.info("Change Event Type not Handled: {}", changeEvent.getChangeType());
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ng.core.outbox;
+
+import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.EventsFrameworkConstants;
+import io.harness.eventsframework.EventsFrameworkMetadataConstants;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.entity_crud.EntityChangeDTO;
+import io.harness.eventsframework.producer.Message;
+import io.harness.ng.core.events.InfrastructureCreateEvent;
+import io.harness.ng.core.events.InfrastructureDeleteEvent;
+import io.harness.ng.core.events.InfrastructureUpdateEvent;
+import io.harness.ng.core.events.InfrastructureUpsertEvent;
+import io.harness.ng.core.events.OutboxEventConstants;
+import io.harness.ng.core.infrastructure.entity.InfrastructureEntity;
+import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.api.OutboxEventHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.google.protobuf.StringValue;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes the entity change events of infrastructure definitions, which plans cached by the pipeline service embed.
+ */
+@Slf4j
+@OwnedBy(HarnessTeam.PIPELINE)
+public class InfrastructureOutboxEventHandler implements OutboxEventHandler {
+  private final ObjectMapper objectMapper;
+  private final Producer eventProducer;
+
+  @Inject
+  InfrastructureOutboxEventHandler(@Named(EventsFrameworkConstants.ENTITY_CRUD) Producer eventProducer) {
+    this.eventProducer = eventProducer;
+    this.objectMapper = NG_DEFAULT_OBJECT_MAPPER;
+  }
+
+  @Override
+  public boolean handle(OutboxEvent outboxEvent) {
+    try {
+      switch (outboxEvent.getEventType()) {
+        case OutboxEventConstants.INFRASTRUCTURE_CREATED:
+          InfrastructureCreateEvent createEvent =
+              objectMapper.readValue(outboxEvent.getEventData(), InfrastructureCreateEvent.class);
+          return publishEvent(createEvent.getAccountIdentifier(), createEvent.getInfrastructure(),
+              EventsFrameworkMetadataConstants.CREATE_ACTION);
+        case OutboxEventConstants.INFRASTRUCTURE_UPDATED:
+          InfrastructureUpdateEvent updateEvent =
+              objectMapper.readValue(outboxEvent.getEventData(), InfrastructureUpdateEvent.class);
+          return publishEvent(updateEvent.getAccountIdentifier(), updateEvent.getInfrastructure(),
+              EventsFrameworkMetadataConstants.UPDATE_ACTION);
+        case OutboxEventConstants.INFRASTRUCTURE_UPSERTED:
+          InfrastructureUpsertEvent upsertEvent =
+              objectMapper.readValue(outboxEvent.getEventData(), InfrastructureUpsertEvent.class);
+          return publishEvent(upsertEvent.getAccountIdentifier(), upsertEvent.getInfrastructure(),
+              EventsFrameworkMetadataConstants.UPSERT_ACTION);
+        case OutboxEventConstants.INFRASTRUCTURE_DELETED:
+          InfrastructureDeleteEvent deleteEvent =
+              objectMapper.readValue(outboxEvent.getEventData(), InfrastructureDeleteEvent.class);
+          return publishEvent(deleteEvent.getAccountIdentifier(), deleteEvent.getInfrastructure(),
+              EventsFrameworkMetadataConstants.DELETE_ACTION);
+        default:
+          return false;
+      }
+    } catch (IOException ex) {
+      log.error("Failed to read infrastructure outbox event {}", outboxEvent.getId(), ex);
+      return false;
+    }
+  }
+
+  private boolean publishEvent(String accountIdentifier, InfrastructureEntity infrastructure, String action) {
+    try {
+      EntityChangeDTO.Builder infraChangeEvent = EntityChangeDTO.newBuilder()
+                                                     .setAccountIdentifier(StringValue.of(accountIdentifier))
+                                                     .setIdentifier(StringValue.of(infrastructure.getIdentifier()));
+      if (isNotBlank(infrastructure.getOrgIdentifier())) {
+        infraChangeEvent.setOrgIdentifier(StringValue.of(infrastructure.getOrgIdentifier()));
+      }
+      if (isNotBlank(infrastructure.getProjectIdentifier())) {
+        infraChangeEvent.setProjectIdentifier(StringValue.of(infrastructure.getProjectIdentifier()));
+      }
+      eventProducer.send(
+          Message.newBuilder()
+              .putAllMetadata(ImmutableMap.of("accountId", accountIdentifier,
+                  EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.INFRASTRUCTURE_ENTITY,
+                  EventsFrameworkMetadataConstants.ACTION, action))
+              .setData(infraChangeEvent.build().toByteString())
+              .build());
+      return true;
+    } catch (EventsFrameworkDownException e) {
+      log.error(
+          "Failed to send event to events framework infrastructure Identifier: {}", infrastructure.getIdentifier(), e);
+      return false;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import static io.harness.ng.core.utils.NGYamlUtils.getYamlString;
 import static io.harness.security.PrincipalContextData.PRINCIPAL_CONTEXT;
 
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import io.harness.ModuleType;
 import io.harness.annotations.dev.HarnessTeam;
@@ -23,11 +24,18 @@ import io.harness.audit.beans.ResourceDTO;
 import io.harness.audit.beans.ResourceScopeDTO;
 import io.harness.audit.client.api.AuditClientService;
 import io.harness.context.GlobalContext;
+import io.harness.eventsframework.EventsFrameworkConstants;
+import io.harness.eventsframework.EventsFrameworkMetadataConstants;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.entity_crud.EntityChangeDTO;
+import io.harness.eventsframework.producer.Message;
 import io.harness.ng.core.events.OutboxEventConstants;
 import io.harness.ng.core.events.ServiceCreateEvent;
 import io.harness.ng.core.events.ServiceDeleteEvent;
 import io.harness.ng.core.events.ServiceUpdateEvent;
 import io.harness.ng.core.events.ServiceUpsertEvent;
+import io.harness.ng.core.service.entity.ServiceEntity;
 import io.harness.ng.core.service.entity.ServiceRequest;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.api.OutboxEventHandler;
@@ -36,7 +44,10 @@ import io.harness.security.dto.Principal;
 import io.harness.security.dto.ServicePrincipal;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.google.protobuf.StringValue;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,10 +56,13 @@ import lombok.extern.slf4j.Slf4j;
 public class ServiceOutBoxEventHandler implements OutboxEventHandler {
   private final ObjectMapper objectMapper;
   private final AuditClientService auditClientService;
+  private final Producer eventProducer;
 
   @Inject
-  ServiceOutBoxEventHandler(AuditClientService auditClientService) {
+  ServiceOutBoxEventHandler(
+      AuditClientService auditClientService, @Named(EventsFrameworkConstants.ENTITY_CRUD) Producer eventProducer) {
     this.auditClientService = auditClientService;
+    this.eventProducer = eventProducer;
     this.objectMapper = NG_DEFAULT_OBJECT_MAPPER;
   }
 
@@ -56,6 +70,8 @@ public class ServiceOutBoxEventHandler implements OutboxEventHandler {
     GlobalContext globalContext = outboxEvent.getGlobalContext();
     ServiceCreateEvent serviceCreateEvent =
         objectMapper.readValue(outboxEvent.getEventData(), ServiceCreateEvent.class);
+    boolean publishedToRedis = publishEvent(serviceCreateEvent.getAccountIdentifier(), serviceCreateEvent.getService(),
+        EventsFrameworkMetadataConstants.CREATE_ACTION);
     AuditEntry auditEntry =
         AuditEntry.builder()
             .action(Action.CREATE)
@@ -73,13 +89,16 @@ public class ServiceOutBoxEventHandler implements OutboxEventHandler {
     } else if (globalContext.get(PRINCIPAL_CONTEXT) != null) {
       principal = ((PrincipalContextData) globalContext.get(PRINCIPAL_CONTEXT)).getPrincipal();
     }
-    return auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
+    return publishedToRedis
+        && auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
   }
 
   private boolean handlerServiceUpserted(OutboxEvent outboxEvent) throws IOException {
     GlobalContext globalContext = outboxEvent.getGlobalContext();
     ServiceUpsertEvent serviceUpsertEvent =
         objectMapper.readValue(outboxEvent.getEventData(), ServiceUpsertEvent.class);
+    boolean publishedToRedis = publishEvent(serviceUpsertEvent.getAccountIdentifier(), serviceUpsertEvent.getService(),
+        EventsFrameworkMetadataConstants.UPSERT_ACTION);
     AuditEntry auditEntry =
         AuditEntry.builder()
             .action(Action.UPSERT)
@@ -97,12 +116,15 @@ public class ServiceOutBoxEventHandler implements OutboxEventHandler {
     } else if (globalContext.get(PRINCIPAL_CONTEXT) != null) {
       principal = ((PrincipalContextData) globalContext.get(PRINCIPAL_CONTEXT)).getPrincipal();
     }
-    return auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
+    return publishedToRedis
+        && auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
   }
   private boolean handlerServiceUpdated(OutboxEvent outboxEvent) throws IOException {
     GlobalContext globalContext = outboxEvent.getGlobalContext();
     ServiceUpdateEvent serviceUpdateEvent =
         objectMapper.readValue(outboxEvent.getEventData(), ServiceUpdateEvent.class);
+    boolean publishedToRedis = publishEvent(serviceUpdateEvent.getAccountIdentifier(),
+        serviceUpdateEvent.getNewService(), EventsFrameworkMetadataConstants.UPDATE_ACTION);
     AuditEntry auditEntry =
         AuditEntry.builder()
             .action(Action.UPDATE)
@@ -121,12 +143,15 @@ public class ServiceOutBoxEventHandler implements OutboxEventHandler {
     } else if (globalContext.get(PRINCIPAL_CONTEXT) != null) {
       principal = ((PrincipalContextData) globalContext.get(PRINCIPAL_CONTEXT)).getPrincipal();
     }
-    return auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
+    return publishedToRedis
+        && auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
   }
   private boolean handlerServiceDeleted(OutboxEvent outboxEvent) throws IOException {
     GlobalContext globalContext = outboxEvent.getGlobalContext();
     ServiceDeleteEvent serviceDeleteEvent =
         objectMapper.readValue(outboxEvent.getEventData(), ServiceDeleteEvent.class);
+    boolean publishedToRedis = publishEvent(serviceDeleteEvent.getAccountIdentifier(), serviceDeleteEvent.getService(),
+        EventsFrameworkMetadataConstants.DELETE_ACTION);
     AuditEntry auditEntry =
         AuditEntry.builder()
             .action(Action.DELETE)
@@ -144,7 +169,34 @@ public class ServiceOutBoxEventHandler implements OutboxEventHandler {
     } else if (globalContext.get(PRINCIPAL_CONTEXT) != null) {
       principal = ((PrincipalContextData) globalContext.get(PRINCIPAL_CONTEXT)).getPrincipal();
     }
-    return auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
+    return publishedToRedis
+        && auditClientService.publishAudit(auditEntry, fromSecurityPrincipal(principal), globalContext);
+  }
+
+  // Plans cached by the pipeline service embed the services they deploy
+  private boolean publishEvent(String accountIdentifier, ServiceEntity service, String action) {
+    try {
+      EntityChangeDTO.Builder serviceChangeEvent = EntityChangeDTO.newBuilder()
+                                                       .setAccountIdentifier(StringValue.of(accountIdentifier))
+                                                       .setIdentifier(StringValue.of(service.getIdentifier()));
+      if (isNotBlank(service.getOrgIdentifier())) {
+        serviceChangeEvent.setOrgIdentifier(StringValue.of(service.getOrgIdentifier()));
+      }
+      if (isNotBlank(service.getProjectIdentifier())) {
+        serviceChangeEvent.setProjectIdentifier(StringValue.of(service.getProjectIdentifier()));
+      }
+      eventProducer.send(
+          Message.newBuilder()
+              .putAllMetadata(ImmutableMap.of("accountId", accountIdentifier,
+                  EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.SERVICE_ENTITY,
+                  EventsFrameworkMetadataConstants.ACTION, action))
+              .setData(serviceChangeEvent.build().toByteString())
+              .build());
+      return true;
+    } catch (EventsFrameworkDownException e) {
+      log.error("Failed to send event to events framework service Identifier: {}", service.getIdentifier(), e);
+      return false;
+    }
   }
 
   @Override
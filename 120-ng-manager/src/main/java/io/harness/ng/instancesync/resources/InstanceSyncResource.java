@@ -60,8 +60,7 @@ public class InstanceSyncResource {
         (InstanceSyncPerpetualTaskResponse) delegateResponseData;
     log.info("Received instance sync perpetual task response for accountId : {} and perpetualTaskId : {} : {}",
         accountIdentifier, perpetualTaskId, instanceSyncPerpetualTaskResponse.toString());
-    instanceSyncService.processInstanceSyncByPerpetualTask(
-        accountIdentifier, perpetualTaskId, instanceSyncPerpetualTaskResponse);
-    return ResponseDTO.newResponse(Boolean.TRUE);
+    return ResponseDTO.newResponse(instanceSyncService.processInstanceSyncByPerpetualTask(
+        accountIdentifier, perpetualTaskId, instanceSyncPerpetualTaskResponse));
   }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ng.core.outbox;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.EventsFrameworkMetadataConstants;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.entity_crud.EntityChangeDTO;
+import io.harness.eventsframework.producer.Message;
+import io.harness.ng.core.events.InfrastructureDeleteEvent;
+import io.harness.ng.core.events.InfrastructureUpdateEvent;
+import io.harness.ng.core.infrastructure.entity.InfrastructureEntity;
+import io.harness.outbox.OutboxEvent;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class InfrastructureOutboxEventHandlerTest extends CategoryTest {
+  private static final InfrastructureEntity INFRASTRUCTURE = InfrastructureEntity.builder()
+                                                                 .accountId("acc")
+                                                                 .orgIdentifier("org")
+                                                                 .projectIdentifier("proj")
+                                                                 .envIdentifier("env")
+                                                                 .identifier("infra")
+                                                                 .build();
+
+  private Producer eventProducer;
+  private InfrastructureOutboxEventHandler infrastructureOutboxEventHandler;
+
+  @Before
+  public void setup() {
+    eventProducer = mock(Producer.class);
+    infrastructureOutboxEventHandler = new InfrastructureOutboxEventHandler(eventProducer);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testUpdatePublishesEntityChangeEvent() throws JsonProcessingException, InvalidProtocolBufferException {
+    InfrastructureUpdateEvent updateEvent = InfrastructureUpdateEvent.builder()
+                                                .accountIdentifier("acc")
+                                                .orgIdentifier("org")
+                                                .projectIdentifier("proj")
+                                                .infrastructure(INFRASTRUCTURE)
+                                                .build();
+
+    assertThat(infrastructureOutboxEventHandler.handle(toOutboxEvent(updateEvent.getEventType(), updateEvent)))
+        .isTrue();
+
+    ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+    verify(eventProducer).send(messageCaptor.capture());
+    Message message = messageCaptor.getValue();
+    assertThat(message.getMetadataMap())
+        .containsEntry(EventsFrameworkMetadataConstants.ENTITY_TYPE,
+            EventsFrameworkMetadataConstants.INFRASTRUCTURE_ENTITY)
+        .containsEntry(EventsFrameworkMetadataConstants.ACTION, EventsFrameworkMetadataConstants.UPDATE_ACTION);
+    EntityChangeDTO entityChangeDTO = EntityChangeDTO.parseFrom(message.getData());
+    assertThat(entityChangeDTO.getAccountIdentifier().getValue()).isEqualTo("acc");
+    assertThat(entityChangeDTO.getOrgIdentifier().getValue()).isEqualTo("org");
+    assertThat(entityChangeDTO.getProjectIdentifier().getValue()).isEqualTo("proj");
+    assertThat(entityChangeDTO.getIdentifier().getValue()).isEqualTo("infra");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEventIsKeptWhenEventsFrameworkIsDown() throws JsonProcessingException {
+    InfrastructureDeleteEvent deleteEvent =
+        InfrastructureDeleteEvent.builder().accountIdentifier("acc").infrastructure(INFRASTRUCTURE).build();
+    when(eventProducer.send(ArgumentMatchers.any())).thenThrow(new EventsFrameworkDownException("down"));
+
+    assertThat(infrastructureOutboxEventHandler.handle(toOutboxEvent(deleteEvent.getEventType(), deleteEvent)))
+        .isFalse();
+  }
+
+  private OutboxEvent toOutboxEvent(String eventType, Object event) throws JsonProcessingException {
+    return OutboxEvent.builder()
+        .id("id")
+        .eventType(eventType)
+        .eventData(NG_DEFAULT_OBJECT_MAPPER.writeValueAsString(event))
+        .blocked(false)
+        .build();
+  }
+}
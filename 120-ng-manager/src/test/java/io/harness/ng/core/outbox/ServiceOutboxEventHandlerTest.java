@@ -32,6 +32,7 @@ import io.harness.audit.beans.AuditEntry;
 import io.harness.audit.client.api.AuditClientService;
 import io.harness.category.element.UnitTests;
 import io.harness.context.GlobalContext;
+import io.harness.eventsframework.api.Producer;
 import io.harness.ng.core.events.ServiceCreateEvent;
 import io.harness.ng.core.events.ServiceDeleteEvent;
 import io.harness.ng.core.events.ServiceOutboxEvents;
@@ -56,13 +57,15 @@ import org.mockito.ArgumentCaptor;
 public class ServiceOutboxEventHandlerTest extends CategoryTest {
   private ObjectMapper objectMapper;
   private AuditClientService auditClientService;
+  private Producer eventProducer;
   private ServiceOutBoxEventHandler serviceEventHandler;
 
   @Before
   public void setup() {
     this.objectMapper = NG_DEFAULT_OBJECT_MAPPER;
     auditClientService = mock(AuditClientService.class);
-    serviceEventHandler = spy(new ServiceOutBoxEventHandler(auditClientService));
+    eventProducer = mock(Producer.class);
+    serviceEventHandler = spy(new ServiceOutBoxEventHandler(auditClientService, eventProducer));
   }
 
   @Test
@@ -110,6 +113,7 @@ public class ServiceOutboxEventHandlerTest extends CategoryTest {
     AuditEntry auditEntry = auditEntryArgumentCaptor.getValue();
     assertAuditEntry(accountIdentifier, orgIdentifier, projectIdentifier, identifier, auditEntry, outboxEvent);
     assertEquals(Action.CREATE, auditEntry.getAction());
+    verify(eventProducer, times(1)).send(any());
     assertNull(auditEntry.getOldYaml());
     assertEquals(newYaml, auditEntry.getNewYaml());
   }
@@ -41,6 +41,8 @@ public class InstanceSyncPerpetualTaskInfo {
   @FdUniqueIndex String infrastructureMappingId;
   List<DeploymentInfoDetails> deploymentInfoDetailsList;
   @FdUniqueIndex String perpetualTaskId;
+  // Fingerprint of the instances last reported by the perpetual task, instance deltas must be based on it
+  String instanceFingerprint;
   @CreatedDate long createdAt;
   @LastModifiedDate long lastUpdatedAt;
 }
@@ -25,6 +25,7 @@ public class InstanceSyncPerpetualTaskInfoMapper {
         .deploymentInfoDetailsDTOList(DeploymentInfoDetailsMapper.toDeploymentInfoDetailsDTOList(
             instanceSyncPerpetualTaskInfo.getDeploymentInfoDetailsList()))
         .perpetualTaskId(instanceSyncPerpetualTaskInfo.getPerpetualTaskId())
+        .instanceFingerprint(instanceSyncPerpetualTaskInfo.getInstanceFingerprint())
         .createdAt(instanceSyncPerpetualTaskInfo.getCreatedAt())
         .lastUpdatedAt(instanceSyncPerpetualTaskInfo.getLastUpdatedAt())
         .build();
@@ -38,6 +39,7 @@ public class InstanceSyncPerpetualTaskInfoMapper {
         .deploymentInfoDetailsList(DeploymentInfoDetailsMapper.toDeploymentInfoDetailsEntityList(
             instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()))
         .perpetualTaskId(instanceSyncPerpetualTaskInfoDTO.getPerpetualTaskId())
+        .instanceFingerprint(instanceSyncPerpetualTaskInfoDTO.getInstanceFingerprint())
         .build();
   }
 }
@@ -15,6 +15,7 @@ import io.harness.models.CountByServiceIdAndEnvType;
 import io.harness.models.EnvBuildInstanceCount;
 import io.harness.models.InstancesByBuildId;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -51,6 +52,13 @@ public interface InstanceRepositoryCustom {
   List<Instance> getActiveInstancesByInfrastructureMappingId(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, String infrastructureMappingId);
 
+  List<Instance> getActiveInstancesByInstanceKeys(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String infrastructureMappingId, Collection<String> instanceKeys);
+
+  long updateMulti(Criteria criteria, Update update);
+
+  void replaceAll(List<Instance> instances);
+
   AggregationResults<EnvBuildInstanceCount> getEnvBuildInstanceCountByServiceId(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, String serviceId, long timestampInMs);
 
@@ -25,11 +25,14 @@ import io.harness.models.constants.InstanceSyncConstants;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -198,6 +201,46 @@ public class InstanceRepositoryCustomImpl implements InstanceRepositoryCustom {
     return mongoTemplate.find(query, Instance.class);
   }
 
+  @Override
+  public List<Instance> getActiveInstancesByInstanceKeys(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String infrastructureMappingId, Collection<String> instanceKeys) {
+    Criteria criteria = Criteria.where(InstanceKeys.accountIdentifier)
+                            .is(accountIdentifier)
+                            .and(InstanceKeys.orgIdentifier)
+                            .is(orgIdentifier)
+                            .and(InstanceKeys.projectIdentifier)
+                            .is(projectIdentifier)
+                            .and(InstanceKeys.infrastructureMappingId)
+                            .is(infrastructureMappingId)
+                            .and(InstanceKeys.instanceKey)
+                            .in(instanceKeys)
+                            .and(InstanceKeys.isDeleted)
+                            .is(false);
+    Query query = new Query().addCriteria(criteria);
+    return mongoTemplate.find(query, Instance.class);
+  }
+
+  @Override
+  public long updateMulti(Criteria criteria, Update update) {
+    return mongoTemplate.updateMulti(new Query(criteria), update, Instance.class).getModifiedCount();
+  }
+
+  // Replaces each instance matched on its instance key and infrastructure mapping in a single round trip
+  @Override
+  public void replaceAll(List<Instance> instances) {
+    if (instances.isEmpty()) {
+      return;
+    }
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Instance.class);
+    instances.forEach(instance
+        -> bulkOperations.replaceOne(new Query(Criteria.where(InstanceKeys.instanceKey)
+                                                   .is(instance.getInstanceKey())
+                                                   .and(InstanceKeys.infrastructureMappingId)
+                                                   .is(instance.getInfrastructureMappingId())),
+            instance));
+    bulkOperations.execute();
+  }
+
   @Override
   public AggregationResults<EnvBuildInstanceCount> getEnvBuildInstanceCountByServiceId(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, String serviceId, long timestampInMs) {
@@ -15,6 +15,7 @@ import io.harness.models.CountByServiceIdAndEnvType;
 import io.harness.models.EnvBuildInstanceCount;
 import io.harness.models.InstancesByBuildId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import javax.validation.constraints.NotEmpty;
@@ -37,6 +38,14 @@ public interface InstanceService {
 
   Optional<InstanceDTO> findAndReplace(InstanceDTO instanceDTO);
 
+  /**
+   * Soft deletes the active instances with the given instance keys, returns the number of deleted instances
+   */
+  long deleteByInstanceKeys(@NotEmpty String accountIdentifier, @NotEmpty String orgIdentifier,
+      @NotEmpty String projectIdentifier, String infrastructureMappingId, Collection<String> instanceKeys);
+
+  void replaceAll(List<InstanceDTO> instanceDTOList);
+
   List<InstanceDTO> getActiveInstancesByAccount(String accountIdentifier, long timestamp);
 
   List<InstanceDTO> getInstancesDeployedInInterval(String accountIdentifier, long startTimestamp, long endTimeStamp);
@@ -59,6 +68,9 @@ public interface InstanceService {
   List<InstanceDTO> getActiveInstancesByInfrastructureMappingId(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, String infrastructureMappingId);
 
+  List<InstanceDTO> getActiveInstancesByInstanceKeys(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String infrastructureMappingId, Collection<String> instanceKeys);
+
   List<InstanceDTO> getActiveInstancesByInstanceInfo(
       String accountIdentifier, String instanceInfoNamespace, String instanceInfoPodName);
 
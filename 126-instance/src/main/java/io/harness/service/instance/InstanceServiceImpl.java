@@ -7,6 +7,7 @@
 
 package io.harness.service.instance;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -25,6 +26,8 @@ import io.harness.repositories.instance.InstanceRepository;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -133,6 +136,42 @@ public class InstanceServiceImpl implements InstanceService {
     return Optional.of(InstanceMapper.toDTO(instanceOptional));
   }
 
+  @Override
+  public long deleteByInstanceKeys(String accountIdentifier, String orgIdentifier, String projectIdentifier,
+      String infrastructureMappingId, Collection<String> instanceKeys) {
+    checkArgument(isNotEmpty(accountIdentifier), "accountIdentifier must be present");
+    checkArgument(isNotEmpty(orgIdentifier), "orgIdentifier must be present");
+    checkArgument(isNotEmpty(projectIdentifier), "projectIdentifier must be present");
+    if (isEmpty(instanceKeys)) {
+      return 0;
+    }
+
+    Criteria criteria = Criteria.where(InstanceKeys.instanceKey)
+                            .in(instanceKeys)
+                            .and(InstanceKeys.accountIdentifier)
+                            .is(accountIdentifier)
+                            .and(InstanceKeys.orgIdentifier)
+                            .is(orgIdentifier)
+                            .and(InstanceKeys.projectIdentifier)
+                            .is(projectIdentifier)
+                            .and(InstanceKeys.infrastructureMappingId)
+                            .is(infrastructureMappingId)
+                            .and(InstanceKeys.isDeleted)
+                            .is(false);
+    Update update =
+        new Update().set(InstanceKeys.isDeleted, true).set(InstanceKeys.deletedAt, System.currentTimeMillis());
+    return instanceRepository.updateMulti(criteria, update);
+  }
+
+  @Override
+  public void replaceAll(List<InstanceDTO> instanceDTOList) {
+    // Bulk writes skip the auditing of the entity
+    long lastModifiedAt = System.currentTimeMillis();
+    List<Instance> instances = instanceDTOList.stream().map(InstanceMapper::toEntity).collect(Collectors.toList());
+    instances.forEach(instance -> instance.setLastModifiedAt(lastModifiedAt));
+    instanceRepository.replaceAll(instances);
+  }
+
   @Override
   public List<InstanceDTO> getActiveInstancesByAccount(String accountIdentifier, long timestamp) {
     return InstanceMapper.toDTO(instanceRepository.getActiveInstancesByAccount(accountIdentifier, timestamp));
@@ -193,6 +232,16 @@ public class InstanceServiceImpl implements InstanceService {
         accountIdentifier, orgIdentifier, projectIdentifier, infrastructureMappingId));
   }
 
+  @Override
+  public List<InstanceDTO> getActiveInstancesByInstanceKeys(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String infrastructureMappingId, Collection<String> instanceKeys) {
+    if (isEmpty(instanceKeys)) {
+      return new ArrayList<>();
+    }
+    return InstanceMapper.toDTO(instanceRepository.getActiveInstancesByInstanceKeys(
+        accountIdentifier, orgIdentifier, projectIdentifier, infrastructureMappingId, instanceKeys));
+  }
+
   @Override
   public List<InstanceDTO> getActiveInstancesByInstanceInfo(
       String accountIdentifier, String instanceInfoNamespace, String instanceInfoPodName) {
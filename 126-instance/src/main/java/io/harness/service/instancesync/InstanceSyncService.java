@@ -15,6 +15,11 @@ import io.harness.models.DeploymentEvent;
 @OwnedBy(HarnessTeam.DX)
 public interface InstanceSyncService {
   void processInstanceSyncForNewDeployment(DeploymentEvent deploymentEvent);
-  void processInstanceSyncByPerpetualTask(String accountIdentifier, String perpetualTaskId,
+
+  /**
+   * Returns false when the response is a delta that is not based on the stored instances, the delegate should then
+   * send all instances.
+   */
+  boolean processInstanceSyncByPerpetualTask(String accountIdentifier, String perpetualTaskId,
       InstanceSyncPerpetualTaskResponse instanceSyncPerpetualTaskResponse);
 }
@@ -9,6 +9,7 @@ package io.harness.service.instancesync;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.instancesync.DeltaInstanceSyncPerpetualTaskResponse;
 import io.harness.delegate.beans.instancesync.InstanceSyncPerpetualTaskResponse;
 import io.harness.delegate.beans.instancesync.ServerInstanceInfo;
 import io.harness.dtos.DeploymentSummaryDTO;
@@ -47,8 +48,10 @@ import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -149,6 +152,11 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
           // Sync only for deployment infos / instance sync handler keys from instances from server
           performInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO,
               deploymentSummaryDTO.getServerInstanceInfoList(), abstractInstanceSyncHandler, true);
+          // Instances changed outside of the perpetual task, the next instance delta is rejected for all instances
+          if (instanceSyncPerpetualTaskInfoDTO.getInstanceFingerprint() != null) {
+            instanceSyncPerpetualTaskInfoService.updateInstanceFingerprint(
+                infrastructureMappingDTO.getAccountIdentifier(), instanceSyncPerpetualTaskInfoDTO.getId(), null);
+          }
 
           log.info("Instance sync completed for infrastructure mapping id : {}", infrastructureMappingDTO.getId());
           return;
@@ -163,7 +171,7 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
   }
 
   @Override
-  public void processInstanceSyncByPerpetualTask(String accountIdentifier, String perpetualTaskId,
+  public boolean processInstanceSyncByPerpetualTask(String accountIdentifier, String perpetualTaskId,
       InstanceSyncPerpetualTaskResponse instanceSyncPerpetualTaskResponse) {
     log.info("processInstanceSyncByPerpetualTask, accountIdentifier: {}", accountIdentifier);
     log.info("processInstanceSyncByPerpetualTask, perpetualTaskId: {}", perpetualTaskId);
@@ -176,7 +184,7 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
                                       .build(OverrideBehavior.OVERRIDE_ERROR)) {
       if (instanceSyncPerpetualTaskResponse.getServerInstanceDetails() == null) {
         log.error("server instances details cannot be null");
-        return;
+        return true;
       }
 
       logServerInstances(instanceSyncPerpetualTaskResponse.getServerInstanceDetails());
@@ -185,7 +193,7 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
       if (!instanceSyncPerpetualTaskInfoDTOOptional.isPresent()) {
         log.error("No instance sync perpetual task info record found for perpetual task id : {}", perpetualTaskId);
         instanceSyncPerpetualTaskService.deletePerpetualTask(accountIdentifier, perpetualTaskId);
-        return;
+        return true;
       }
 
       InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO =
@@ -204,7 +212,7 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
               instanceSyncPerpetualTaskInfoDTO.getInfrastructureMappingId());
           // delete perpetual task as well as instance sync perpetual task info record
           instanceSyncHelper.cleanUpInstanceSyncPerpetualTaskInfo(instanceSyncPerpetualTaskInfoDTO);
-          return;
+          return true;
         }
 
         try (
@@ -214,14 +222,35 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
           AbstractInstanceSyncHandler instanceSyncHandler = instanceSyncHandlerFactoryService.getInstanceSyncHandler(
               instanceSyncPerpetualTaskResponse.getDeploymentType(),
               infrastructureMappingDTO.get().getInfrastructureKind());
-          performInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO.get(),
-              instanceSyncPerpetualTaskResponse.getServerInstanceDetails(), instanceSyncHandler, false);
+          if (isInstanceDelta(instanceSyncPerpetualTaskResponse)) {
+            DeltaInstanceSyncPerpetualTaskResponse deltaResponse =
+                (DeltaInstanceSyncPerpetualTaskResponse) instanceSyncPerpetualTaskResponse;
+            // Read again under the lock, a new deployment sync resets the fingerprint
+            instanceSyncPerpetualTaskInfoDTO =
+                instanceSyncPerpetualTaskInfoService.findByPerpetualTaskId(accountIdentifier, perpetualTaskId)
+                    .orElse(instanceSyncPerpetualTaskInfoDTO);
+            if (!deltaResponse.getBaseInstanceFingerprint().equals(
+                    instanceSyncPerpetualTaskInfoDTO.getInstanceFingerprint())) {
+              log.info("Instance delta is based on fingerprint {} instead of {}, requesting all instances",
+                  deltaResponse.getBaseInstanceFingerprint(),
+                  instanceSyncPerpetualTaskInfoDTO.getInstanceFingerprint());
+              return false;
+            }
+            performInstanceDeltaSync(infrastructureMappingDTO.get(), deltaResponse, instanceSyncHandler);
+          } else {
+            performInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO.get(),
+                instanceSyncPerpetualTaskResponse.getServerInstanceDetails(), instanceSyncHandler, false);
+          }
+          updateInstanceFingerprint(instanceSyncPerpetualTaskInfoDTO, instanceSyncPerpetualTaskResponse);
           log.info("Instance Sync completed");
         } catch (Exception exception) {
           log.error("Exception occured during instance sync", exception);
+          // The delta may be partially applied, the delegate sends all instances on rejection
+          return !isInstanceDelta(instanceSyncPerpetualTaskResponse);
         }
       }
     }
+    return true;
   }
 
   // ------------------------------- PRIVATE METHODS --------------------------------------
@@ -239,6 +268,81 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
     utils.processInstances(instancesToBeModified);
   }
 
+  /**
+   * Applies the instances added and removed since the last response of the perpetual task. Deployment info details are
+   * refreshed on the periodic full responses only.
+   */
+  private void performInstanceDeltaSync(InfrastructureMappingDTO infrastructureMappingDTO,
+      DeltaInstanceSyncPerpetualTaskResponse deltaResponse, AbstractInstanceSyncHandler instanceSyncHandler) {
+    Map<String, InstanceInfoDTO> addedInstanceInfos = new HashMap<>();
+    instanceSyncHandler.getInstanceDetailsFromServerInstances(deltaResponse.getServerInstanceDetails())
+        .forEach(instanceInfoDTO
+            -> addedInstanceInfos.put(instanceSyncHandler.getInstanceKey(instanceInfoDTO), instanceInfoDTO));
+    // An instance that changed is reported as removed and added again, it is updated instead
+    Set<String> instanceKeysToBeDeleted = new HashSet<>();
+    if (deltaResponse.getRemovedServerInstanceDetails() != null) {
+      instanceSyncHandler.getInstanceDetailsFromServerInstances(deltaResponse.getRemovedServerInstanceDetails())
+          .stream()
+          .map(instanceSyncHandler::getInstanceKey)
+          .filter(instanceKey -> !addedInstanceInfos.containsKey(instanceKey))
+          .forEach(instanceKeysToBeDeleted::add);
+    }
+
+    List<InstanceDTO> instancesInDB = instanceService.getActiveInstancesByInstanceKeys(
+        infrastructureMappingDTO.getAccountIdentifier(), infrastructureMappingDTO.getOrgIdentifier(),
+        infrastructureMappingDTO.getProjectIdentifier(), infrastructureMappingDTO.getId(),
+        addedInstanceInfos.keySet());
+    Map<String, InstanceDTO> instancesInDBMap = new HashMap<>();
+    instancesInDB.forEach(instanceDTO
+        -> instancesInDBMap.put(instanceSyncHandler.getInstanceKey(instanceDTO.getInstanceInfoDTO()), instanceDTO));
+
+    Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified =
+        utils.initMapForTrackingFinalListOfInstances();
+    Map<String, List<InstanceInfoDTO>> syncKeyToInstanceInfosToBeAdded = new HashMap<>();
+    addedInstanceInfos.forEach((instanceKey, instanceInfoDTO) -> {
+      InstanceDTO instanceInDB = instancesInDBMap.get(instanceKey);
+      if (instanceInDB != null) {
+        instancesToBeModified.get(OperationsOnInstances.UPDATE)
+            .add(instanceSyncHandler.updateInstance(instanceInDB, instanceInfoDTO));
+      } else {
+        syncKeyToInstanceInfosToBeAdded
+            .computeIfAbsent(instanceSyncHandler.getInstanceSyncHandlerKey(instanceInfoDTO), k -> new ArrayList<>())
+            .add(instanceInfoDTO);
+      }
+    });
+    Map<String, List<InstanceDTO>> syncKeyToInstancesInDBMap =
+        utils.getSyncKeyToInstances(instanceSyncHandler, instancesInDB);
+    for (Map.Entry<String, List<InstanceInfoDTO>> entry : syncKeyToInstanceInfosToBeAdded.entrySet()) {
+      DeploymentSummaryDTO deploymentSummaryDTO = getDeploymentSummary(
+          entry.getKey(), syncKeyToInstancesInDBMap.getOrDefault(entry.getKey(), Collections.emptyList()), true);
+      instancesToBeModified.get(OperationsOnInstances.ADD)
+          .addAll(buildInstances(
+              instanceSyncHandler, entry.getValue(), deploymentSummaryDTO, infrastructureMappingDTO, true));
+    }
+
+    utils.processInstanceDelta(infrastructureMappingDTO, instanceKeysToBeDeleted, instancesToBeModified);
+  }
+
+  private boolean isInstanceDelta(InstanceSyncPerpetualTaskResponse instanceSyncPerpetualTaskResponse) {
+    return instanceSyncPerpetualTaskResponse instanceof DeltaInstanceSyncPerpetualTaskResponse
+        && ((DeltaInstanceSyncPerpetualTaskResponse) instanceSyncPerpetualTaskResponse).getBaseInstanceFingerprint()
+        != null;
+  }
+
+  private void updateInstanceFingerprint(InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO,
+      InstanceSyncPerpetualTaskResponse instanceSyncPerpetualTaskResponse) {
+    if (!(instanceSyncPerpetualTaskResponse instanceof DeltaInstanceSyncPerpetualTaskResponse)) {
+      return;
+    }
+    String instanceFingerprint =
+        ((DeltaInstanceSyncPerpetualTaskResponse) instanceSyncPerpetualTaskResponse).getInstanceFingerprint();
+    if (!Objects.equals(instanceFingerprint, instanceSyncPerpetualTaskInfoDTO.getInstanceFingerprint())) {
+      instanceSyncPerpetualTaskInfoService.updateInstanceFingerprint(
+          instanceSyncPerpetualTaskInfoDTO.getAccountIdentifier(), instanceSyncPerpetualTaskInfoDTO.getId(),
+          instanceFingerprint);
+    }
+  }
+
   /**
    * This method will process instances from DB and instances from server and return final list of
    * instances to be added / deleted / updated
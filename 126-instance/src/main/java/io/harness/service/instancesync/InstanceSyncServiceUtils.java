@@ -7,6 +7,7 @@
 
 package io.harness.service.instancesync;
 
+import io.harness.dtos.InfrastructureMappingDTO;
 import io.harness.dtos.InstanceDTO;
 import io.harness.dtos.instanceinfo.InstanceInfoDTO;
 import io.harness.service.instance.InstanceService;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,6 +33,22 @@ class InstanceSyncServiceUtils {
     saveInstances(instancesToBeModified.get(OperationsOnInstances.ADD));
     updateInstances(instancesToBeModified.get(OperationsOnInstances.UPDATE));
   }
+
+  // Applies the instance changes reported in a delta with one write per operation, except for the added instances
+  // which may exist in deleted state and are undeleted one by one
+  public void processInstanceDelta(InfrastructureMappingDTO infrastructureMappingDTO,
+      Set<String> instanceKeysToBeDeleted, Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified) {
+    long deletedCount = instanceService.deleteByInstanceKeys(infrastructureMappingDTO.getAccountIdentifier(),
+        infrastructureMappingDTO.getOrgIdentifier(), infrastructureMappingDTO.getProjectIdentifier(),
+        infrastructureMappingDTO.getId(), instanceKeysToBeDeleted);
+    log.info("Instance Operation : {} , count : {} , details : {}", OperationsOnInstances.DELETE.name(), deletedCount,
+        instanceKeysToBeDeleted);
+    saveInstances(instancesToBeModified.get(OperationsOnInstances.ADD));
+    List<InstanceDTO> instancesToBeUpdated = instancesToBeModified.get(OperationsOnInstances.UPDATE);
+    logInstances(OperationsOnInstances.UPDATE.name(), instancesToBeUpdated);
+    instanceService.replaceAll(instancesToBeUpdated);
+  }
+
   private void deleteInstances(List<InstanceDTO> instancesToBeDeleted) {
     logInstances(OperationsOnInstances.DELETE.name(), instancesToBeDeleted);
     instancesToBeDeleted.forEach(instanceDTO
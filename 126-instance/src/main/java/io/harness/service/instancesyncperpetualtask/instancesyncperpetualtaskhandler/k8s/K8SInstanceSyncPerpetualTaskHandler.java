@@ -144,6 +144,7 @@ public class K8SInstanceSyncPerpetualTaskHandler extends InstanceSyncPerpetualTa
     return K8sInstanceSyncPerpetualTaskParams.newBuilder()
         .setAccountId(accountIdentifier)
         .addAllK8SDeploymentReleaseList(toK8sDeploymentReleaseList(deploymentReleaseData))
+        .setDeltaSyncEnabled(true)
         .build();
   }
 
@@ -26,4 +26,7 @@ public interface InstanceSyncPerpetualTaskInfoService {
 
   InstanceSyncPerpetualTaskInfoDTO updateDeploymentInfoDetailsList(
       InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO);
+
+  void updateInstanceFingerprint(
+      String accountIdentifier, String instanceSyncPerpetualTaskInfoId, String instanceFingerprint);
 }
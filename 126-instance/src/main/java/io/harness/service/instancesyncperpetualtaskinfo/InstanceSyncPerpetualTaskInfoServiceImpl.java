@@ -70,4 +70,15 @@ public class InstanceSyncPerpetualTaskInfoServiceImpl implements InstanceSyncPer
             instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()));
     return InstanceSyncPerpetualTaskInfoMapper.toDTO(instanceSyncPerpetualTaskInfoRepository.update(criteria, update));
   }
+
+  @Override
+  public void updateInstanceFingerprint(
+      String accountIdentifier, String instanceSyncPerpetualTaskInfoId, String instanceFingerprint) {
+    Criteria criteria = Criteria.where(InstanceSyncPerpetualTaskInfoKeys.accountIdentifier)
+                            .is(accountIdentifier)
+                            .and(InstanceSyncPerpetualTaskInfoKeys.id)
+                            .is(instanceSyncPerpetualTaskInfoId);
+    Update update = new Update().set(InstanceSyncPerpetualTaskInfoKeys.instanceFingerprint, instanceFingerprint);
+    instanceSyncPerpetualTaskInfoRepository.update(criteria, update);
+  }
 }
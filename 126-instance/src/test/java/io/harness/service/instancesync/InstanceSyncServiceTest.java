@@ -10,9 +10,12 @@ package io.harness.service.instancesync;
 import static io.harness.rule.OwnerRule.VIKYATH_HAREKAL;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -63,6 +66,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -107,6 +111,7 @@ public class InstanceSyncServiceTest extends InstancesTestBase {
   private static final String TEST_ENV_NAME = "instance-sync-env";
   private static final long ONE_WEEKS_IN_MILLIS = (long) 7 * 24 * 60 * 60 * 1000;
   @Captor ArgumentCaptor<Map<OperationsOnInstances, List<InstanceDTO>>> instancesToBeModifiedCaptor;
+  @Captor ArgumentCaptor<Set<String>> instanceKeysToBeDeletedCaptor;
 
   private InstanceSyncService instanceSyncService;
   @Mock private PersistentLocker persistentLocker;
@@ -467,6 +472,81 @@ public class InstanceSyncServiceTest extends InstancesTestBase {
     assertEquals(TEST_INFRA_MAPPING_ID, instanceToBeDeleted.getInfrastructureMappingId());
   }
 
+  @Test
+  @Owner(developers = VIKYATH_HAREKAL)
+  @Category(UnitTests.class)
+  public void testProcessInstanceSyncByPerpetualTaskWithInstanceDelta() {
+    InstanceSyncPerpetualTaskResponse response =
+        K8sInstanceSyncPerpetualTaskResponse.builder()
+            .serverInstanceDetails(
+                Collections.singletonList(getMockServerInstanceInfo(TEST_POD_NAME2, TEST_RELEASE_NAME1)))
+            .removedServerInstanceDetails(
+                Collections.singletonList(getMockServerInstanceInfo(TEST_POD_NAME1, TEST_RELEASE_NAME1)))
+            .baseInstanceFingerprint("base")
+            .instanceFingerprint("next")
+            .build();
+
+    // Mock
+    InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO =
+        getMockInstanceSyncPerpetualTaskInfo(TEST_RELEASE_NAME1);
+    instanceSyncPerpetualTaskInfoDTO.setId(PERPETUAL_TASK_ID);
+    instanceSyncPerpetualTaskInfoDTO.setAccountIdentifier(TEST_ACCOUNT_ID);
+    instanceSyncPerpetualTaskInfoDTO.setInstanceFingerprint("base");
+    when(instanceSyncPerpetualTaskInfoService.findByPerpetualTaskId(anyString(), anyString()))
+        .thenReturn(Optional.of(instanceSyncPerpetualTaskInfoDTO));
+    InfrastructureMappingDTO infraMappingDTO = getMockInfraMapping(TEST_INFRA_KEY1);
+    when(infrastructureMappingService.getByInfrastructureMappingId(TEST_INFRA_MAPPING_ID))
+        .thenReturn(Optional.of(infraMappingDTO));
+    when(deploymentSummaryService.getLatestByInstanceKey(TEST_RELEASE_NAME1))
+        .thenReturn(Optional.of(getMockDeploymentSummary(TEST_INFRA_KEY1, TEST_POD_NAME1)));
+    when(instanceService.getActiveInstancesByInstanceKeys(any(), any(), any(), any(), any()))
+        .thenReturn(Collections.emptyList());
+    when(instanceSyncServiceUtils.initMapForTrackingFinalListOfInstances()).thenReturn(initInstancesToBeModified());
+
+    assertTrue(instanceSyncService.processInstanceSyncByPerpetualTask(TEST_ACCOUNT_ID, PERPETUAL_TASK_ID, response));
+
+    // Verify only the delta is applied, without reading all instances of the infrastructure mapping
+    verify(instanceSyncServiceUtils)
+        .processInstanceDelta(
+            eq(infraMappingDTO), instanceKeysToBeDeletedCaptor.capture(), instancesToBeModifiedCaptor.capture());
+    assertEquals(Collections.singleton(TEST_INSTANCESYNC_KEY1), instanceKeysToBeDeletedCaptor.getValue());
+    Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified = instancesToBeModifiedCaptor.getValue();
+    assertEquals(0, instancesToBeModified.get(OperationsOnInstances.UPDATE).size());
+    assertEquals(1, instancesToBeModified.get(OperationsOnInstances.ADD).size());
+    assertEquals(TEST_INSTANCESYNC_KEY2, instancesToBeModified.get(OperationsOnInstances.ADD).get(0).getInstanceKey());
+    verify(instanceService, never()).getActiveInstancesByInfrastructureMappingId(any(), any(), any(), any());
+    verify(instanceSyncPerpetualTaskInfoService)
+        .updateInstanceFingerprint(TEST_ACCOUNT_ID, PERPETUAL_TASK_ID, "next");
+  }
+
+  @Test
+  @Owner(developers = VIKYATH_HAREKAL)
+  @Category(UnitTests.class)
+  public void testProcessInstanceSyncByPerpetualTaskRejectsInstanceDeltaOnFingerprintMismatch() {
+    InstanceSyncPerpetualTaskResponse response =
+        K8sInstanceSyncPerpetualTaskResponse.builder()
+            .serverInstanceDetails(
+                Collections.singletonList(getMockServerInstanceInfo(TEST_POD_NAME2, TEST_RELEASE_NAME1)))
+            .removedServerInstanceDetails(Collections.emptyList())
+            .baseInstanceFingerprint("stale")
+            .instanceFingerprint("next")
+            .build();
+
+    // Mock
+    InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO =
+        getMockInstanceSyncPerpetualTaskInfo(TEST_RELEASE_NAME1);
+    instanceSyncPerpetualTaskInfoDTO.setInstanceFingerprint("base");
+    when(instanceSyncPerpetualTaskInfoService.findByPerpetualTaskId(anyString(), anyString()))
+        .thenReturn(Optional.of(instanceSyncPerpetualTaskInfoDTO));
+    when(infrastructureMappingService.getByInfrastructureMappingId(TEST_INFRA_MAPPING_ID))
+        .thenReturn(Optional.of(getMockInfraMapping(TEST_INFRA_KEY1)));
+
+    assertFalse(instanceSyncService.processInstanceSyncByPerpetualTask(TEST_ACCOUNT_ID, PERPETUAL_TASK_ID, response));
+
+    verify(instanceSyncServiceUtils, never()).processInstanceDelta(any(), any(), any());
+    verify(instanceSyncPerpetualTaskInfoService, never()).updateInstanceFingerprint(any(), any(), any());
+  }
+
   private Map<String, List<InstanceDTO>> mockSyncKeyToInstances(InstanceDTO instanceDTO) {
     K8sInstanceInfoDTO k8sInstanceInfoDTO = (K8sInstanceInfoDTO) instanceDTO.getInstanceInfoDTO();
     Map<String, List<InstanceDTO>> syncKeyToInstanceMap = new HashMap<>();
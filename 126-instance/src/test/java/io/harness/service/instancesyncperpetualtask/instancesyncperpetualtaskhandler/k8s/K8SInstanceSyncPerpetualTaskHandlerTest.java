@@ -116,6 +116,7 @@ public class K8SInstanceSyncPerpetualTaskHandlerTest extends InstancesTestBase {
         K8sInstanceSyncPerpetualTaskParams.newBuilder()
             .setAccountId(ACCOUNT_IDENTIFIER)
             .addAllK8SDeploymentReleaseList(k8sDeploymentReleaseList)
+            .setDeltaSyncEnabled(true)
             .build();
     Any perpetualTaskPack = Any.pack(k8sInstanceSyncPerpetualTaskParams);
     K8sInstanceSyncRequest k8sInstanceSyncRequest =
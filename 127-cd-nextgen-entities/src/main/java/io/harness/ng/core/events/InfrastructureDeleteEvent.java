@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ng.core.events;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.audit.ResourceTypeConstants.INFRASTRUCTURE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.event.Event;
+import io.harness.ng.core.ProjectScope;
+import io.harness.ng.core.Resource;
+import io.harness.ng.core.ResourceScope;
+import io.harness.ng.core.infrastructure.entity.InfrastructureEntity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@OwnedBy(PIPELINE)
+@Getter
+@Builder
+@AllArgsConstructor
+public class InfrastructureDeleteEvent implements Event {
+  private String accountIdentifier;
+  private String orgIdentifier;
+  private String projectIdentifier;
+  private InfrastructureEntity infrastructure;
+
+  @JsonIgnore
+  @Override
+  public ResourceScope getResourceScope() {
+    return new ProjectScope(
+        accountIdentifier, infrastructure.getOrgIdentifier(), infrastructure.getProjectIdentifier());
+  }
+
+  @JsonIgnore
+  @Override
+  public Resource getResource() {
+    return Resource.builder().identifier(infrastructure.getIdentifier()).type(INFRASTRUCTURE).build();
+  }
+
+  @JsonIgnore
+  @Override
+  public String getEventType() {
+    return OutboxEventConstants.INFRASTRUCTURE_DELETED;
+  }
+}
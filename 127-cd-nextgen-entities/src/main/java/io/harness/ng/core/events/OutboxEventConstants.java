@@ -20,6 +20,10 @@ public class OutboxEventConstants {
   public static final String ENVIRONMENT_UPDATED = "EnvironmentUpdated";
   public static final String ENVIRONMENT_DELETED = "EnvironmentDeleted";
   public static final String ENVIRONMENT_UPSERTED = "EnvironmentUpserted";
+  public static final String INFRASTRUCTURE_CREATED = "InfrastructureCreated";
+  public static final String INFRASTRUCTURE_UPDATED = "InfrastructureUpdated";
+  public static final String INFRASTRUCTURE_DELETED = "InfrastructureDeleted";
+  public static final String INFRASTRUCTURE_UPSERTED = "InfrastructureUpserted";
 
   // EnvironmentGroup
   public static final String ENVIRONMENT_GROUP_CREATED = "EnvironmentGroupCreated";
@@ -24,9 +24,14 @@ import io.harness.exception.DuplicateFieldException;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.UnexpectedException;
 import io.harness.ng.DuplicateKeyExceptionParser;
+import io.harness.ng.core.events.InfrastructureCreateEvent;
+import io.harness.ng.core.events.InfrastructureDeleteEvent;
+import io.harness.ng.core.events.InfrastructureUpdateEvent;
+import io.harness.ng.core.events.InfrastructureUpsertEvent;
 import io.harness.ng.core.infrastructure.entity.InfrastructureEntity;
 import io.harness.ng.core.infrastructure.entity.InfrastructureEntity.InfrastructureEntityKeys;
 import io.harness.ng.core.infrastructure.services.InfrastructureEntityService;
+import io.harness.outbox.api.OutboxService;
 import io.harness.pms.merger.helpers.RuntimeInputFormHelper;
 import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlUtils;
@@ -51,7 +56,6 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
@@ -65,11 +69,11 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 @OwnedBy(PIPELINE)
 @Singleton
-@AllArgsConstructor(onConstructor = @__({ @Inject }))
 @Slf4j
 public class InfrastructureEntityServiceImpl implements InfrastructureEntityService {
   private final InfrastructureRepository infrastructureRepository;
-  @Inject @Named(OUTBOX_TRANSACTION_TEMPLATE) private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboxService outboxService;
   private final RetryPolicy<Object> transactionRetryPolicy = DEFAULT_TRANSACTION_RETRY_POLICY;
 
   private static final String DUP_KEY_EXP_FORMAT_STRING_FOR_PROJECT =
@@ -79,6 +83,14 @@ public class InfrastructureEntityServiceImpl implements InfrastructureEntityServ
   private static final String DUP_KEY_EXP_FORMAT_STRING_FOR_ACCOUNT =
       "Infrastructure [%s] in Account [%s] already exists";
 
+  @Inject
+  public InfrastructureEntityServiceImpl(InfrastructureRepository infrastructureRepository,
+      @Named(OUTBOX_TRANSACTION_TEMPLATE) TransactionTemplate transactionTemplate, OutboxService outboxService) {
+    this.infrastructureRepository = infrastructureRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.outboxService = outboxService;
+  }
+
   void validatePresenceOfRequiredFields(Object... fields) {
     Lists.newArrayList(fields).forEach(field -> Objects.requireNonNull(field, "One of the required fields is null."));
   }
@@ -90,9 +102,16 @@ public class InfrastructureEntityServiceImpl implements InfrastructureEntityServ
           infraEntity.getAccountId(), infraEntity.getIdentifier(), infraEntity.getEnvIdentifier());
       setNameIfNotPresent(infraEntity);
       modifyInfraRequest(infraEntity);
-      return Failsafe.with(transactionRetryPolicy)
-          .get(() -> transactionTemplate.execute(status -> infrastructureRepository.save(infraEntity)));
-
+      return Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
+        InfrastructureEntity createdInfra = infrastructureRepository.save(infraEntity);
+        outboxService.save(InfrastructureCreateEvent.builder()
+                               .accountIdentifier(infraEntity.getAccountId())
+                               .orgIdentifier(infraEntity.getOrgIdentifier())
+                               .projectIdentifier(infraEntity.getProjectIdentifier())
+                               .infrastructure(createdInfra)
+                               .build());
+        return createdInfra;
+      }));
     } catch (DuplicateKeyException ex) {
       throw new DuplicateFieldException(
           getDuplicateInfrastructureExistsErrorMessage(infraEntity.getAccountId(), infraEntity.getOrgIdentifier(),
@@ -118,17 +137,24 @@ public class InfrastructureEntityServiceImpl implements InfrastructureEntityServ
         get(requestInfra.getAccountId(), requestInfra.getOrgIdentifier(), requestInfra.getProjectIdentifier(),
             requestInfra.getEnvIdentifier(), requestInfra.getIdentifier());
     if (infraEntityOptional.isPresent()) {
-      return Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
-        InfrastructureEntity updatedResult = infrastructureRepository.update(criteria, requestInfra);
-        if (updatedResult == null) {
-          throw new InvalidRequestException(String.format(
-              "Infrastructure [%s] under Environment [%s], Project [%s], Organization [%s] couldn't be updated or doesn't exist.",
-              requestInfra.getIdentifier(), requestInfra.getEnvIdentifier(), requestInfra.getProjectIdentifier(),
-              requestInfra.getOrgIdentifier()));
-        }
-
-        return updatedResult;
-      }));
+      InfrastructureEntity updatedInfra =
+          Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
+            InfrastructureEntity updatedResult = infrastructureRepository.update(criteria, requestInfra);
+            if (updatedResult == null) {
+              throw new InvalidRequestException(String.format(
+                  "Infrastructure [%s] under Environment [%s], Project [%s], Organization [%s] couldn't be updated or doesn't exist.",
+                  requestInfra.getIdentifier(), requestInfra.getEnvIdentifier(), requestInfra.getProjectIdentifier(),
+                  requestInfra.getOrgIdentifier()));
+            }
+            outboxService.save(InfrastructureUpdateEvent.builder()
+                                   .accountIdentifier(requestInfra.getAccountId())
+                                   .orgIdentifier(requestInfra.getOrgIdentifier())
+                                   .projectIdentifier(requestInfra.getProjectIdentifier())
+                                   .infrastructure(updatedResult)
+                                   .build());
+            return updatedResult;
+          }));
+      return updatedInfra;
     } else {
       throw new InvalidRequestException(
           String.format("Infrastructure [%s] under Environment [%s], Project [%s], Organization [%s] doesn't exist.",
@@ -143,16 +169,24 @@ public class InfrastructureEntityServiceImpl implements InfrastructureEntityServ
     setNameIfNotPresent(requestInfra);
     modifyInfraRequest(requestInfra);
     Criteria criteria = getInfrastructureEqualityCriteria(requestInfra);
-    return Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
-      InfrastructureEntity result = infrastructureRepository.upsert(criteria, requestInfra);
-      if (result == null) {
-        throw new InvalidRequestException(String.format(
-            "Infrastructure [%s] under Environment [%s] Project[%s], Organization [%s] couldn't be upserted.",
-            requestInfra.getIdentifier(), requestInfra.getEnvIdentifier(), requestInfra.getProjectIdentifier(),
-            requestInfra.getOrgIdentifier()));
-      }
-      return result;
-    }));
+    InfrastructureEntity upsertedInfra =
+        Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
+          InfrastructureEntity result = infrastructureRepository.upsert(criteria, requestInfra);
+          if (result == null) {
+            throw new InvalidRequestException(String.format(
+                "Infrastructure [%s] under Environment [%s] Project[%s], Organization [%s] couldn't be upserted.",
+                requestInfra.getIdentifier(), requestInfra.getEnvIdentifier(), requestInfra.getProjectIdentifier(),
+                requestInfra.getOrgIdentifier()));
+          }
+          outboxService.save(InfrastructureUpsertEvent.builder()
+                                 .accountIdentifier(requestInfra.getAccountId())
+                                 .orgIdentifier(requestInfra.getOrgIdentifier())
+                                 .projectIdentifier(requestInfra.getProjectIdentifier())
+                                 .infrastructure(result)
+                                 .build());
+          return result;
+        }));
+    return upsertedInfra;
   }
 
   @Override
@@ -171,20 +205,26 @@ public class InfrastructureEntityServiceImpl implements InfrastructureEntityServ
                                            .identifier(infraIdentifier)
                                            .build();
     // todo: check for infra usage in pipelines
-    // todo: outbox events
     Criteria criteria = getInfrastructureEqualityCriteria(infraEntity);
     Optional<InfrastructureEntity> infraEntityOptional =
         get(accountId, orgIdentifier, projectIdentifier, envIdentifier, infraIdentifier);
     if (infraEntityOptional.isPresent()) {
-      return Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
+      boolean deleted = Failsafe.with(transactionRetryPolicy).get(() -> transactionTemplate.execute(status -> {
         DeleteResult deleteResult = infrastructureRepository.delete(criteria);
         if (!deleteResult.wasAcknowledged() || deleteResult.getDeletedCount() != 1) {
           throw new InvalidRequestException(String.format(
               "Infrastructure [%s] under Environment [%s], Project[%s], Organization [%s] couldn't be deleted.",
               infraIdentifier, envIdentifier, projectIdentifier, orgIdentifier));
         }
+        outboxService.save(InfrastructureDeleteEvent.builder()
+                               .accountIdentifier(accountId)
+                               .orgIdentifier(orgIdentifier)
+                               .projectIdentifier(projectIdentifier)
+                               .infrastructure(infraEntityOptional.get())
+                               .build());
         return true;
       }));
+      return deleted;
     } else {
       throw new InvalidRequestException(
           String.format("Infrastructure [%s] under Environment [%s], Project[%s], Organization [%s] doesn't exist.",
@@ -895,18 +895,6 @@ public class DelegateModule extends AbstractModule {
         new ThreadFactoryBuilder().setNameFormat("jenkins-%d").setPriority(Thread.NORM_PRIORITY).build());
   }
 
-  // TODO: Club this thread pool with sync/async task thread pool
-  @Provides
-  @Singleton
-  @Named("perpetualTaskTimeoutExecutor")
-  public ScheduledExecutorService perpetualTaskTimeoutExecutor() {
-    return new ScheduledThreadPoolExecutor(40,
-        new ThreadFactoryBuilder()
-            .setNameFormat("perpetual-task-timeout-%d")
-            .setPriority(Thread.NORM_PRIORITY)
-            .build());
-  }
-
   @Provides
   @Singleton
   @Named("delegateAgentMetricsExecutor")
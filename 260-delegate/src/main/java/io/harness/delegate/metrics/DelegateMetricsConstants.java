@@ -19,6 +19,10 @@ public class DelegateMetricsConstants {
   public static final String TASKS_CURRENTLY_EXECUTING = "tasks_currently_executing";
   public static final String TASKS_IN_QUEUE = "tasks_in_queue";
   public static final String TASK_TIMEOUT = "task_timeout";
+  public static final String LOG_LINES_DROPPED = "log_lines_dropped";
+  public static final String LOG_LINES_DELAYED = "log_lines_delayed";
+  public static final String PERPETUAL_TASK_SCHEDULE_DRIFT = "perpetual_task_schedule_drift";
+  public static final String PERPETUAL_TASK_QUEUE_DELAY = "perpetual_task_queue_delay";
 
   private static final String DELEGATE_NAME_LABEL = "delegate_name";
   private static final String TASK_TYPE_LABEL = "task_type";
@@ -28,6 +32,12 @@ public class DelegateMetricsConstants {
     put(TASKS_CURRENTLY_EXECUTING, create("Number of tasks in execution.", DELEGATE_NAME_LABEL));
     put(TASKS_IN_QUEUE, create("Number of tasks in the queue.", DELEGATE_NAME_LABEL));
     put(TASK_TIMEOUT, create("Number of tasks timed out.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(LOG_LINES_DROPPED, create("Number of task log lines dropped by the log shipper.", DELEGATE_NAME_LABEL));
+    put(LOG_LINES_DELAYED, create("Number of task log lines pushed late by the log shipper.", DELEGATE_NAME_LABEL));
+    put(PERPETUAL_TASK_SCHEDULE_DRIFT,
+        create("Largest delay in ms of perpetual task runs past due.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(PERPETUAL_TASK_QUEUE_DELAY,
+        create("Largest wait in ms of perpetual task runs for a worker.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
   }
 
   private static void put(String metricName, DelegateMetricDetails metricDetails) {
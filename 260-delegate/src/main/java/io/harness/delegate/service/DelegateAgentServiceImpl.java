@@ -48,6 +48,10 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_PROCESS;
 import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_LINES_DELAYED;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_LINES_DROPPED;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.PERPETUAL_TASK_QUEUE_DELAY;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.PERPETUAL_TASK_SCHEDULE_DRIFT;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_IN_QUEUE;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASK_EXECUTION_TIME;
@@ -141,12 +145,14 @@ import io.harness.logging.AutoLogContext;
 import io.harness.logstreaming.LogStreamingClient;
 import io.harness.logstreaming.LogStreamingHelper;
 import io.harness.logstreaming.LogStreamingSanitizer;
+import io.harness.logstreaming.LogStreamingShipper;
 import io.harness.logstreaming.LogStreamingTaskClient;
 import io.harness.logstreaming.LogStreamingTaskClient.LogStreamingTaskClientBuilder;
 import io.harness.managerclient.DelegateAgentManagerClient;
 import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.network.FibonacciBackOff;
 import io.harness.network.Http;
+import io.harness.perpetualtask.PerpetualTaskScheduler;
 import io.harness.perpetualtask.PerpetualTaskWorker;
 import io.harness.rest.RestResponse;
 import io.harness.security.TokenGenerator;
@@ -361,6 +367,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject private ExecutionConfigOverrideFromFileOnDelegate delegateLocalConfigService;
   @Inject(optional = true) @Nullable private PerpetualTaskWorker perpetualTaskWorker;
   @Inject(optional = true) @Nullable private LogStreamingClient logStreamingClient;
+  @Inject private LogStreamingShipper logStreamingShipper;
   @Inject DelegateTaskFactory delegateTaskFactory;
   @Inject(optional = true) @Nullable private DelegateServiceAgentClient delegateServiceAgentClient;
   @Inject private KryoSerializer kryoSerializer;
@@ -2136,6 +2143,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     LogStreamingTaskClientBuilder taskClientBuilder =
         LogStreamingTaskClient.builder()
             .logStreamingClient(logStreamingClient)
+            .logStreamingShipper(logStreamingShipper)
             .accountId(delegateTaskPackage.getAccountId())
             .token(delegateTaskPackage.getLogStreamingToken())
             .logStreamingSanitizer(
@@ -2697,6 +2705,21 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = ((ThreadPoolExecutor) taskExecutor).getActiveCount();
     metricRegistry.recordGaugeValue(TASKS_IN_QUEUE, new String[] {DELEGATE_NAME}, tasksInQueueCount);
     metricRegistry.recordGaugeValue(TASKS_CURRENTLY_EXECUTING, new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    metricRegistry.recordGaugeValue(
+        LOG_LINES_DROPPED, new String[] {DELEGATE_NAME}, logStreamingShipper.getDroppedLines());
+    metricRegistry.recordGaugeValue(
+        LOG_LINES_DELAYED, new String[] {DELEGATE_NAME}, logStreamingShipper.getDelayedLines());
+    if (perpetualTaskWorker != null) {
+      PerpetualTaskScheduler perpetualTaskScheduler = perpetualTaskWorker.getPerpetualTaskScheduler();
+      for (Map.Entry<String, Long> drift : perpetualTaskScheduler.drainMaxScheduleDriftMillis().entrySet()) {
+        metricRegistry.recordGaugeValue(
+            PERPETUAL_TASK_SCHEDULE_DRIFT, new String[] {DELEGATE_NAME, drift.getKey()}, drift.getValue());
+      }
+      for (Map.Entry<String, Long> delay : perpetualTaskScheduler.drainMaxQueueDelayMillis().entrySet()) {
+        metricRegistry.recordGaugeValue(
+            PERPETUAL_TASK_QUEUE_DELAY, new String[] {DELEGATE_NAME, delay.getKey()}, delay.getValue());
+      }
+    }
   }
 
   private void sendErrorResponse(DelegateTaskPackage delegateTaskPackage, Exception exception) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock free ring buffer of log lines with many producers (the task threads writing logs) and a single consumer
+ * (the shipper push of the stream). Producers claim a slot by advancing the tail and then publish the line into it, the
+ * consumer only advances the head over published slots.
+ */
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+class LogLineRingBuffer {
+  private final int mask;
+  private final AtomicReferenceArray<LogLine> lines;
+  // Written before the line is published, so it is visible to the consumer once it sees the line
+  private final long[] enqueuedAtNanos;
+  private final AtomicLong tail = new AtomicLong();
+  private volatile long head;
+
+  LogLineRingBuffer(int requestedCapacity) {
+    int capacity = requestedCapacity <= 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+    this.mask = capacity - 1;
+    this.lines = new AtomicReferenceArray<>(capacity);
+    this.enqueuedAtNanos = new long[capacity];
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Returns false without blocking when the buffer is full.
+   */
+  boolean offer(LogLine line, long nowNanos) {
+    long claimed;
+    do {
+      claimed = tail.get();
+      if (claimed - head > mask) {
+        return false;
+      }
+    } while (!tail.compareAndSet(claimed, claimed + 1));
+
+    int index = (int) (claimed & mask);
+    enqueuedAtNanos[index] = nowNanos;
+    lines.lazySet(index, line);
+    return true;
+  }
+
+  /**
+   * Moves up to max published lines to the sink, must not be called concurrently.
+   *
+   * @return the number of drained lines that were enqueued before the given time
+   */
+  int drainTo(List<LogLine> sink, int max, long enqueuedBeforeNanos) {
+    long current = head;
+    int drained = 0;
+    int enqueuedBefore = 0;
+    while (drained < max) {
+      int index = (int) (current & mask);
+      LogLine line = lines.get(index);
+      if (line == null) {
+        // Empty, or the slot is claimed but the producer did not publish the line yet
+        break;
+      }
+      if (enqueuedAtNanos[index] - enqueuedBeforeNanos < 0) {
+        enqueuedBefore++;
+      }
+      lines.lazySet(index, null);
+      sink.add(line);
+      current++;
+      drained++;
+    }
+    head = current;
+    return enqueuedBefore;
+  }
+
+  int size() {
+    long size = tail.get() - head;
+    return size < 0 ? 0 : (int) size;
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+}
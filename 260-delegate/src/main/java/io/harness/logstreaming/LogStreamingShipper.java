@@ -0,0 +1,249 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.network.SafeHttpCall;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delegate wide shipper of the log lines written by tasks to the log service. Lines are buffered per log stream and
+ * pushed in batches from a small shared pool, either once a stream has a full batch or on the periodic flush. Every
+ * stream has at most one push in flight, which keeps its lines in order. When the log service is slow buffers fill
+ * up and writers are held back for a short while, after which lines are dropped rather than stalling the tasks.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class LogStreamingShipper {
+  private static final int STREAM_CAPACITY = 8192;
+  private static final int MAX_BATCH_SIZE = 1000;
+  private static final int MAX_CONCURRENT_PUSHES = 4;
+  private static final long FLUSH_INTERVAL_MILLIS = 100;
+  private static final long MAX_WRITE_BLOCK_MILLIS = 200;
+  private static final long DELAYED_LINE_THRESHOLD_MILLIS = TimeUnit.SECONDS.toMillis(5);
+  private static final long IDLE_STREAM_EVICTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+  private final int streamCapacity;
+  private final int maxBatchSize;
+  private final long flushIntervalMillis;
+  private final long maxWriteBlockNanos;
+  private final long delayedLineThresholdNanos;
+  private final Executor pushExecutor;
+  private final ScheduledExecutorService flushScheduler;
+
+  private final ConcurrentMap<String, LogStream> streams = new ConcurrentHashMap<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicLong droppedLines = new AtomicLong();
+  private final AtomicLong delayedLines = new AtomicLong();
+
+  @Inject
+  public LogStreamingShipper() {
+    this(STREAM_CAPACITY, MAX_BATCH_SIZE, FLUSH_INTERVAL_MILLIS, MAX_WRITE_BLOCK_MILLIS, DELAYED_LINE_THRESHOLD_MILLIS,
+        Executors.newFixedThreadPool(MAX_CONCURRENT_PUSHES,
+            new ThreadFactoryBuilder().setNameFormat("log-streaming-push-%d").setDaemon(true).build()));
+  }
+
+  @VisibleForTesting
+  LogStreamingShipper(int streamCapacity, int maxBatchSize, long flushIntervalMillis, long maxWriteBlockMillis,
+      long delayedLineThresholdMillis, Executor pushExecutor) {
+    this.streamCapacity = streamCapacity;
+    this.maxBatchSize = maxBatchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.maxWriteBlockNanos = TimeUnit.MILLISECONDS.toNanos(maxWriteBlockMillis);
+    this.delayedLineThresholdNanos = TimeUnit.MILLISECONDS.toNanos(delayedLineThresholdMillis);
+    this.pushExecutor = pushExecutor;
+    this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("log-streaming-flush-%d").setDaemon(true).build());
+  }
+
+  public void write(
+      LogStreamingClient logStreamingClient, String token, String accountId, String logKey, LogLine logLine) {
+    startIfNeeded();
+    LogStream stream = streams.computeIfAbsent(
+        streamKey(accountId, logKey), key -> new LogStream(logStreamingClient, token, accountId, logKey));
+    stream.lastWriteMillis = System.currentTimeMillis();
+
+    if (!stream.buffer.offer(logLine, System.nanoTime()) && !offerWithBackpressure(stream, logLine)) {
+      if (droppedLines.getAndIncrement() % 1000 == 0) {
+        log.warn("Log service is not keeping up, dropping log lines for account {} and key {}. Dropped so far {}",
+            accountId, logKey, droppedLines.get());
+      }
+      return;
+    }
+
+    if (stream.evicted || stream.buffer.size() >= maxBatchSize) {
+      schedulePush(stream);
+    }
+  }
+
+  /**
+   * Waits until the lines of the stream are pushed and stops tracking it.
+   *
+   * @return false if lines were still pending when the timeout elapsed
+   */
+  public boolean drain(String accountId, String logKey, long timeoutMillis) {
+    LogStream stream = streams.get(streamKey(accountId, logKey));
+    if (stream == null) {
+      return true;
+    }
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    synchronized (stream) {
+      while ((!stream.buffer.isEmpty() || stream.pushing.get()) && System.currentTimeMillis() < deadline) {
+        schedulePush(stream);
+        log.debug("for {} the logs are not drained yet. waiting...", logKey);
+        try {
+          stream.wait(Math.max(1, Math.min(100, deadline - System.currentTimeMillis())));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+    boolean drained = stream.buffer.isEmpty() && !stream.pushing.get();
+    evict(stream);
+    return drained;
+  }
+
+  public long getDroppedLines() {
+    return droppedLines.get();
+  }
+
+  public long getDelayedLines() {
+    return delayedLines.get();
+  }
+
+  public int getStreamCount() {
+    return streams.size();
+  }
+
+  @VisibleForTesting
+  void flush() {
+    long idleSince = System.currentTimeMillis() - IDLE_STREAM_EVICTION_MILLIS;
+    for (LogStream stream : streams.values()) {
+      if (!stream.buffer.isEmpty()) {
+        schedulePush(stream);
+      } else if (stream.lastWriteMillis < idleSince && !stream.pushing.get()) {
+        // Streams of tasks that did not close them, or lines written after the stream was closed
+        evict(stream);
+      }
+    }
+  }
+
+  private void startIfNeeded() {
+    if (!started.get() && started.compareAndSet(false, true)) {
+      flushScheduler.scheduleWithFixedDelay(() -> {
+        try {
+          flush();
+        } catch (Exception e) {
+          log.error("Unable to flush log streams", e);
+        }
+      }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private boolean offerWithBackpressure(LogStream stream, LogLine logLine) {
+    schedulePush(stream);
+    long deadline = System.nanoTime() + maxWriteBlockNanos;
+    while (System.nanoTime() - deadline < 0) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+      if (stream.buffer.offer(logLine, System.nanoTime())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void schedulePush(LogStream stream) {
+    if (!stream.pushing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      pushExecutor.execute(() -> push(stream));
+    } catch (RejectedExecutionException e) {
+      stream.pushing.set(false);
+      log.error("Unable to schedule push to log stream for account {} and key {}", stream.accountId, stream.logKey, e);
+    }
+  }
+
+  private void push(LogStream stream) {
+    try {
+      List<LogLine> batch = new ArrayList<>(Math.min(maxBatchSize, stream.buffer.size()));
+      int delayed = stream.buffer.drainTo(batch, maxBatchSize, System.nanoTime() - delayedLineThresholdNanos);
+      if (batch.isEmpty()) {
+        return;
+      }
+      delayedLines.addAndGet(delayed);
+      try {
+        SafeHttpCall.executeWithExceptions(
+            stream.logStreamingClient.pushMessage(stream.token, stream.accountId, stream.logKey, batch));
+      } catch (Exception ex) {
+        log.error("Unable to push message to log stream for account {} and key {}", stream.accountId, stream.logKey,
+            ex);
+      }
+    } finally {
+      stream.pushing.set(false);
+      synchronized (stream) {
+        stream.notifyAll();
+      }
+    }
+    // Keep going with a backlog instead of waiting for the next flush
+    if (stream.buffer.size() >= maxBatchSize) {
+      schedulePush(stream);
+    }
+  }
+
+  private void evict(LogStream stream) {
+    stream.evicted = true;
+    streams.remove(streamKey(stream.accountId, stream.logKey), stream);
+    // A line written while evicting is not picked up by the periodic flush anymore
+    if (!stream.buffer.isEmpty()) {
+      schedulePush(stream);
+    }
+  }
+
+  private static String streamKey(String accountId, String logKey) {
+    return accountId + ":" + logKey;
+  }
+
+  private class LogStream {
+    private final LogStreamingClient logStreamingClient;
+    private final String token;
+    private final String accountId;
+    private final String logKey;
+    private final LogLineRingBuffer buffer = new LogLineRingBuffer(streamCapacity);
+    private final AtomicBoolean pushing = new AtomicBoolean();
+    private volatile long lastWriteMillis = System.currentTimeMillis();
+    private volatile boolean evicted;
+
+    LogStream(LogStreamingClient logStreamingClient, String token, String accountId, String logKey) {
+      this.logStreamingClient = logStreamingClient;
+      this.token = token;
+      this.accountId = accountId;
+      this.logKey = logKey;
+    }
+  }
+}
@@ -53,6 +53,9 @@ import org.jetbrains.annotations.NotNull;
  *    -> write line
  *    -> close stream
  * concurrent usage of open and close stream will result in loss of logs
+ *
+ * Lines are handed over to the delegate wide {@link LogStreamingShipper} when one is provided, otherwise every client
+ * pushes its own lines from a dedicated scheduler.
  */
 @Builder
 @Slf4j
@@ -60,6 +63,7 @@ import org.jetbrains.annotations.NotNull;
 public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private final DelegateLogService logService;
   private final LogStreamingClient logStreamingClient;
+  private final LogStreamingShipper logStreamingShipper;
   private final LogStreamingSanitizer logStreamingSanitizer;
   private final ExecutorService taskProgressExecutor;
   private final String token;
@@ -82,6 +86,9 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     } catch (Exception ex) {
       log.error("Unable to open log stream for account {} and key {}", accountId, logKey, ex);
     }
+    if (logStreamingShipper != null) {
+      return;
+    }
     scheduledExecutorService = new ScheduledThreadPoolExecutor(1,
         new ThreadFactoryBuilder().setNameFormat("log-streaming-client-%d").setPriority(Thread.NORM_PRIORITY).build());
     scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
@@ -92,6 +99,14 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     String logKey = getLogKey(baseLogKeySuffix);
 
     // we don't want workflow steps to hang because of any log reasons. Putting a safety net just in case
+    if (logStreamingShipper != null) {
+      if (!logStreamingShipper.drain(accountId, logKey, TimeUnit.SECONDS.toMillis(5))) {
+        log.error("log stream was not drained for {}. This will result in missing logs", logKey);
+      }
+      closeLogStream(logKey);
+      return;
+    }
+
     long startTime = currentTimeMillis();
     synchronized (logCache) {
       while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
@@ -107,12 +122,18 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
       log.error("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
           logCache.size());
     }
+    try {
+      closeLogStream(logKey);
+    } finally {
+      scheduledExecutorService.shutdownNow();
+    }
+  }
+
+  private void closeLogStream(String logKey) {
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
     } catch (Exception ex) {
       log.error("Unable to close log stream for account {} and key {}", accountId, logKey, ex);
-    } finally {
-      scheduledExecutorService.shutdownNow();
     }
   }
 
@@ -127,6 +148,11 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine);
     colorLog(logLine);
 
+    if (logStreamingShipper != null) {
+      logStreamingShipper.write(logStreamingClient, token, accountId, logKey, logLine);
+      return;
+    }
+
     synchronized (logCache) {
       if (!logCache.containsKey(logKey)) {
         logCache.put(logKey, new ArrayList<>());
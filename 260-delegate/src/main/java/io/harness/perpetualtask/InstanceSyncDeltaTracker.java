@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import static io.harness.annotations.dev.HarnessTeam.CDP;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.beans.instancesync.ServerInstanceInfo;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+
+/**
+ * Keeps the instances last accepted by the manager for each instance sync perpetual task, so that the next run only
+ * sends the instances added and removed since then along with the fingerprint of the accepted instances. All instances
+ * are sent again every hour, the manager refreshes the last used time of deployments on full responses only.
+ */
+@Singleton
+@OwnedBy(CDP)
+@TargetModule(HarnessModule._930_DELEGATE_TASKS)
+public class InstanceSyncDeltaTracker {
+  private static final long FULL_SYNC_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final long STATE_EXPIRY_HOURS = 2;
+
+  private final Cache<String, AcceptedInstances> acceptedInstances =
+      CacheBuilder.newBuilder().expireAfterAccess(STATE_EXPIRY_HOURS, TimeUnit.HOURS).build();
+
+  /**
+   * Returns the instances to send for the task, a full sync when nothing was accepted recently for it.
+   */
+  public InstanceSyncDelta getDelta(String taskId, List<ServerInstanceInfo> serverInstanceInfos) {
+    Map<String, ServerInstanceInfo> instances = toInstanceMap(serverInstanceInfos);
+    AcceptedInstances accepted = acceptedInstances.getIfPresent(taskId);
+    if (accepted == null || System.currentTimeMillis() - accepted.getFullSyncTime() > FULL_SYNC_INTERVAL_MILLIS) {
+      return fullSync(instances);
+    }
+
+    List<ServerInstanceInfo> added = new ArrayList<>();
+    instances.forEach((key, instance) -> {
+      if (!accepted.getInstances().containsKey(key)) {
+        added.add(instance);
+      }
+    });
+    List<ServerInstanceInfo> removed = new ArrayList<>();
+    accepted.getInstances().forEach((key, instance) -> {
+      if (!instances.containsKey(key)) {
+        removed.add(instance);
+      }
+    });
+    return new InstanceSyncDelta(
+        instances, added, removed, fingerprint(instances), accepted.getFingerprint(), accepted.getFullSyncTime());
+  }
+
+  public InstanceSyncDelta getFullSync(List<ServerInstanceInfo> serverInstanceInfos) {
+    return fullSync(toInstanceMap(serverInstanceInfos));
+  }
+
+  public void accepted(String taskId, InstanceSyncDelta delta) {
+    acceptedInstances.put(
+        taskId, new AcceptedInstances(delta.getInstances(), delta.getFingerprint(), delta.getFullSyncTime()));
+  }
+
+  public void reset(String taskId) {
+    acceptedInstances.invalidate(taskId);
+  }
+
+  private InstanceSyncDelta fullSync(Map<String, ServerInstanceInfo> instances) {
+    return new InstanceSyncDelta(instances, new ArrayList<>(instances.values()), new ArrayList<>(),
+        fingerprint(instances), null, System.currentTimeMillis());
+  }
+
+  // Instance infos are value objects, their string form covers every field the manager stores
+  private Map<String, ServerInstanceInfo> toInstanceMap(List<ServerInstanceInfo> serverInstanceInfos) {
+    Map<String, ServerInstanceInfo> instances = new HashMap<>();
+    if (!isEmpty(serverInstanceInfos)) {
+      serverInstanceInfos.forEach(instance -> instances.put(instance.toString(), instance));
+    }
+    return instances;
+  }
+
+  @VisibleForTesting
+  static String fingerprint(Map<String, ServerInstanceInfo> instances) {
+    return Hashing.sha256()
+        .hashString(String.join("\n", new TreeSet<>(instances.keySet())), StandardCharsets.UTF_8)
+        .toString();
+  }
+
+  @Value
+  public static class InstanceSyncDelta {
+    Map<String, ServerInstanceInfo> instances;
+    List<ServerInstanceInfo> added;
+    List<ServerInstanceInfo> removed;
+    String fingerprint;
+    // Null for a full sync
+    String baseFingerprint;
+    long fullSyncTime;
+
+    public boolean isFullSync() {
+      return baseFingerprint == null;
+    }
+  }
+
+  @Value
+  private static class AcceptedInstances {
+    Map<String, ServerInstanceInfo> instances;
+    String fingerprint;
+    long fullSyncTime;
+  }
+}
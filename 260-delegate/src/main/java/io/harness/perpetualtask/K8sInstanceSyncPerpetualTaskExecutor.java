@@ -30,11 +30,14 @@ import io.harness.k8s.model.K8sPod;
 import io.harness.k8s.model.KubernetesConfig;
 import io.harness.logging.CommandExecutionStatus;
 import io.harness.managerclient.DelegateAgentManagerClient;
+import io.harness.perpetualtask.InstanceSyncDeltaTracker.InstanceSyncDelta;
 import io.harness.perpetualtask.instancesync.K8sDeploymentRelease;
 import io.harness.perpetualtask.instancesync.K8sInstanceSyncPerpetualTaskParams;
+import io.harness.rest.RestResponse;
 import io.harness.serializer.KryoSerializer;
 
 import com.google.inject.Inject;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
@@ -61,6 +64,7 @@ public class K8sInstanceSyncPerpetualTaskExecutor implements PerpetualTaskExecut
   @Inject private ContainerDeploymentDelegateBaseHelper containerBaseHelper;
   @Inject private K8sTaskHelperBase k8sTaskHelperBase;
   @Inject private DelegateAgentManagerClient delegateAgentManagerClient;
+  @Inject private InstanceSyncDeltaTracker instanceSyncDeltaTracker;
 
   @Override
   public PerpetualTaskResponse runOnce(
@@ -68,11 +72,13 @@ public class K8sInstanceSyncPerpetualTaskExecutor implements PerpetualTaskExecut
     log.info("Running the K8s InstanceSync perpetual task executor for task id: {}", taskId);
     K8sInstanceSyncPerpetualTaskParams taskParams =
         AnyUtils.unpack(params.getCustomizedParams(), K8sInstanceSyncPerpetualTaskParams.class);
-    return executeK8sInstanceSyncTask(taskId, taskParams);
+    // Managers that always answer true would have the delegate take rejected deltas for accepted ones
+    return executeK8sInstanceSyncTask(
+        taskId, taskParams, taskParams.getDeltaSyncEnabled() && params.getInstanceSyncDeltaSupported());
   }
 
   private PerpetualTaskResponse executeK8sInstanceSyncTask(
-      PerpetualTaskId taskId, K8sInstanceSyncPerpetualTaskParams taskParams) {
+      PerpetualTaskId taskId, K8sInstanceSyncPerpetualTaskParams taskParams, boolean deltaSyncEnabled) {
     List<K8sDeploymentReleaseData> deploymentReleaseDataList =
         fixK8sDeploymentReleaseData(getK8sDeploymentReleaseData(taskParams));
 
@@ -86,7 +92,9 @@ public class K8sInstanceSyncPerpetualTaskExecutor implements PerpetualTaskExecut
     log.info("K8s Instance sync nInstances: {}, task id: {}",
         isEmpty(serverInstanceInfos) ? 0 : serverInstanceInfos.size(), taskId);
 
-    String instanceSyncResponseMsg = publishInstanceSyncResult(taskId, taskParams.getAccountId(), serverInstanceInfos);
+    String instanceSyncResponseMsg = deltaSyncEnabled
+        ? publishInstanceSyncDelta(taskId, taskParams.getAccountId(), serverInstanceInfos)
+        : publishInstanceSyncResult(taskId, taskParams.getAccountId(), serverInstanceInfos);
     return PerpetualTaskResponse.builder().responseCode(SC_OK).responseMessage(instanceSyncResponseMsg).build();
   }
 
@@ -179,8 +187,55 @@ public class K8sInstanceSyncPerpetualTaskExecutor implements PerpetualTaskExecut
     return SUCCESS_RESPONSE_MSG;
   }
 
+  private String publishInstanceSyncDelta(
+      PerpetualTaskId taskId, String accountId, List<ServerInstanceInfo> serverInstanceInfos) {
+    InstanceSyncDelta delta = instanceSyncDeltaTracker.getDelta(taskId.getId(), serverInstanceInfos);
+    try {
+      boolean accepted = sendInstanceSyncDelta(taskId, accountId, delta);
+      if (!accepted && !delta.isFullSync()) {
+        log.info("Instances of task id: {} are out of sync with the manager, sending all instances", taskId);
+        delta = instanceSyncDeltaTracker.getFullSync(serverInstanceInfos);
+        accepted = sendInstanceSyncDelta(taskId, accountId, delta);
+      }
+      if (accepted) {
+        instanceSyncDeltaTracker.accepted(taskId.getId(), delta);
+      } else {
+        instanceSyncDeltaTracker.reset(taskId.getId());
+      }
+    } catch (Exception e) {
+      // Not a rejection, the next run sends the changes since the instances last accepted again
+      String errorMsg = format(
+          "Failed to publish K8s instance sync result PerpetualTaskId [%s], accountId [%s]", taskId.getId(), accountId);
+      log.error(errorMsg + ", serverInstanceInfos: {}", serverInstanceInfos, e);
+      return errorMsg;
+    }
+    return SUCCESS_RESPONSE_MSG;
+  }
+
+  // Returns whether the manager accepted the delta, throws when it gave no answer
+  private boolean sendInstanceSyncDelta(PerpetualTaskId taskId, String accountId, InstanceSyncDelta delta)
+      throws IOException {
+    log.info("K8s Instance sync added: {}, removed: {}, full sync: {}, task id: {}", delta.getAdded().size(),
+        delta.getRemoved().size(), delta.isFullSync(), taskId);
+    K8sInstanceSyncPerpetualTaskResponse instanceSyncResponse =
+        K8sInstanceSyncPerpetualTaskResponse.builder()
+            .serverInstanceDetails(delta.getAdded())
+            .removedServerInstanceDetails(delta.getRemoved())
+            .instanceFingerprint(delta.getFingerprint())
+            .baseInstanceFingerprint(delta.getBaseFingerprint())
+            .commandExecutionStatus(CommandExecutionStatus.SUCCESS)
+            .build();
+    RestResponse<Boolean> response = execute(
+        delegateAgentManagerClient.processInstanceSyncNGResult(taskId.getId(), accountId, instanceSyncResponse));
+    if (response == null || response.getResource() == null) {
+      throw new IOException("No instance sync response from the manager");
+    }
+    return response.getResource();
+  }
+
   @Override
   public boolean cleanup(PerpetualTaskId taskId, PerpetualTaskExecutionParams params) {
+    instanceSyncDeltaTracker.reset(taskId.getId());
     return false;
   }
 
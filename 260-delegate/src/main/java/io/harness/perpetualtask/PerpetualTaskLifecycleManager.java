@@ -11,27 +11,25 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
-import io.harness.concurrent.HTimeLimiter;
 import io.harness.grpc.utils.AnyUtils;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.logging.AutoLogContext;
 
-import com.google.common.util.concurrent.TimeLimiter;
 import com.google.common.util.concurrent.UncheckedTimeoutException;
 import com.google.protobuf.util.Durations;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class PerpetualTaskLifecycleManager {
-  private final long timeoutMillis;
+  @Getter private final long timeoutMillis;
+  @Getter private final String taskType;
   private final PerpetualTaskId taskId;
-  private final TimeLimiter timeLimiter;
   private final PerpetualTaskExecutionParams params;
   private final PerpetualTaskExecutionContext context;
   private final PerpetualTaskExecutor perpetualTaskExecutor;
@@ -41,28 +39,18 @@ public class PerpetualTaskLifecycleManager {
 
   PerpetualTaskLifecycleManager(PerpetualTaskId taskId, PerpetualTaskExecutionContext context,
       Map<String, PerpetualTaskExecutor> factoryMap, PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient,
-      TimeLimiter timeLimiter, AtomicInteger currentlyExecutingPerpetualTasksCount, String accountId) {
+      AtomicInteger currentlyExecutingPerpetualTasksCount, String accountId) {
     this.taskId = taskId;
     this.context = context;
-    this.timeLimiter = timeLimiter;
     this.perpetualTaskServiceAgentClient = perpetualTaskServiceAgentClient;
     params = context.getTaskParams();
-    perpetualTaskExecutor = factoryMap.get(getTaskType(params));
+    taskType = getTaskType(params);
+    perpetualTaskExecutor = factoryMap.get(taskType);
     timeoutMillis = Durations.toMillis(context.getTaskSchedule().getTimeout());
     this.currentlyExecutingPerpetualTasksCount = currentlyExecutingPerpetualTasksCount;
     this.accountId = accountId;
   }
 
-  void startTask() {
-    try {
-      HTimeLimiter.callInterruptible21(timeLimiter, Duration.ofMillis(timeoutMillis), this::call);
-    } catch (UncheckedTimeoutException tex) {
-      log.error("Timed out starting task", tex);
-    } catch (Exception ex) {
-      log.error("Exception is ", ex);
-    }
-  }
-
   void stopTask() {
     try {
       if (perpetualTaskExecutor != null) {
@@ -93,6 +81,16 @@ public class PerpetualTaskLifecycleManager {
       log.error("Exception is ", ex);
       decrementTaskCounter();
     }
+    // The scheduler interrupts runs that outlast the task timeout and runs of stopped tasks
+    Thread.interrupted();
+    if (PerpetualTaskScheduler.isCurrentRunCancelled()) {
+      log.debug("Task was stopped while running, not sending the heartbeat");
+      return null;
+    }
+    if (PerpetualTaskScheduler.isCurrentRunTimedOut()) {
+      perpetualTaskResponse = PerpetualTaskResponse.builder().responseCode(408).responseMessage("failed").build();
+      log.debug("Timed out running task");
+    }
     perpetualTaskServiceAgentClient.heartbeat(taskId, taskStartTime, perpetualTaskResponse, accountId);
     return null;
   }
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the perpetual tasks of the delegate off a hashed timer wheel driven by a single tick thread. Due tasks are
+ * handed to a bounded worker pool, with at most a fixed number of runs of the same task type at a time, and the next
+ * run is scheduled one interval after the previous one finished. Runs past their timeout are interrupted by the tick
+ * thread, so no thread waits on a run. The largest schedule drift, from due time to hand off, and queueing delay, from
+ * hand off to start, are kept per task type until read.
+ */
+@Slf4j
+@Singleton
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class PerpetualTaskScheduler {
+  private static final long TICK_MILLIS = 1000;
+  private static final int WHEEL_SIZE = 512;
+  private static final int WORKER_THREADS = 40;
+  private static final int WORKER_QUEUE_SIZE = 1000;
+  private static final int MAX_CONCURRENT_RUNS_PER_TASK_TYPE = 10;
+  private static final long MAX_INITIAL_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(120);
+  // Spreads the n-th task of an interval at the fractional part of n times the golden ratio within the interval
+  private static final double SPREAD_FACTOR = 0.6180339887498949;
+  // The task being run by each worker thread
+  private static final ThreadLocal<ScheduledTask> currentTask = new ThreadLocal<>();
+
+  private final long tickMillis;
+  private final int maxConcurrentRunsPerTaskType;
+  private final long startNanos = System.nanoTime();
+  private final List<Set<ScheduledTask>> wheel = new ArrayList<>(WHEEL_SIZE);
+  private long processedTick;
+
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final ScheduledExecutorService tickExecutor;
+  private final ThreadPoolExecutor workerPool;
+  private final Set<ScheduledTask> runningTasks = ConcurrentHashMap.newKeySet();
+  private final Map<String, Semaphore> taskTypePermits = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicInteger> scheduledTasksPerInterval = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> maxScheduleDriftMillis = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> maxQueueDelayMillis = new ConcurrentHashMap<>();
+
+  @Inject
+  public PerpetualTaskScheduler() {
+    this(TICK_MILLIS, WORKER_THREADS, MAX_CONCURRENT_RUNS_PER_TASK_TYPE);
+  }
+
+  @VisibleForTesting
+  PerpetualTaskScheduler(long tickMillis, int workerThreads, int maxConcurrentRunsPerTaskType) {
+    this.tickMillis = tickMillis;
+    this.maxConcurrentRunsPerTaskType = maxConcurrentRunsPerTaskType;
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new HashSet<>());
+    }
+    tickExecutor = new ScheduledThreadPoolExecutor(
+        1, new ThreadFactoryBuilder().setNameFormat("perpetual-task-scheduler").setDaemon(true).build());
+    workerPool = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(WORKER_QUEUE_SIZE),
+        new ThreadFactoryBuilder().setNameFormat("perpetual-task-worker-%d").setDaemon(true).build());
+  }
+
+  // The tick thread keeps running when the worker stops, the cancelled tasks are dropped from the wheel
+  public void start() {
+    if (started.compareAndSet(false, true)) {
+      tickExecutor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @VisibleForTesting
+  void shutdown() {
+    tickExecutor.shutdownNow();
+    workerPool.shutdownNow();
+  }
+
+  /**
+   * Tells whether the run on the current thread was interrupted for outlasting its timeout. Stays true once the
+   * interrupt is cleared or swallowed by the task, and is false for runs of cancelled tasks.
+   */
+  public static boolean isCurrentRunTimedOut() {
+    ScheduledTask scheduledTask = currentTask.get();
+    return scheduledTask != null && scheduledTask.timedOut && !scheduledTask.cancelled;
+  }
+
+  /**
+   * Tells whether the task run on the current thread was cancelled, its run is interrupted as well.
+   */
+  public static boolean isCurrentRunCancelled() {
+    ScheduledTask scheduledTask = currentTask.get();
+    return scheduledTask != null && scheduledTask.cancelled;
+  }
+
+  /**
+   * Schedules the task to run every interval, measured from the end of the previous run. The first run is spread
+   * within the interval, up to two minutes, so that tasks assigned together with the same interval do not run
+   * together.
+   */
+  public ScheduledTask schedule(String taskType, Runnable task, long intervalMillis, long timeoutMillis) {
+    ScheduledTask scheduledTask = new ScheduledTask(taskType, task, intervalMillis, timeoutMillis);
+    scheduleAt(scheduledTask, now() + getInitialDelay(intervalMillis));
+    return scheduledTask;
+  }
+
+  /**
+   * Returns the largest schedule drift in milliseconds of each task type since the last call.
+   */
+  public Map<String, Long> drainMaxScheduleDriftMillis() {
+    return drain(maxScheduleDriftMillis);
+  }
+
+  /**
+   * Returns the largest queueing delay in milliseconds of each task type since the last call.
+   */
+  public Map<String, Long> drainMaxQueueDelayMillis() {
+    return drain(maxQueueDelayMillis);
+  }
+
+  private long getInitialDelay(long intervalMillis) {
+    long window = Math.min(intervalMillis, MAX_INITIAL_DELAY_MILLIS);
+    int position =
+        scheduledTasksPerInterval.computeIfAbsent(intervalMillis, k -> new AtomicInteger()).getAndIncrement();
+    double offset = (position * SPREAD_FACTOR) % 1;
+    // Jitter within a tick keeps delegates that got the same tasks assigned from running them in lockstep
+    return (long) (offset * window) + ThreadLocalRandom.current().nextLong(tickMillis);
+  }
+
+  private void scheduleAt(ScheduledTask scheduledTask, long dueTime) {
+    synchronized (wheel) {
+      scheduledTask.dueTime = dueTime;
+      addToWheel(scheduledTask, dueTime);
+    }
+  }
+
+  // Defers a due run to the next tick, keeping its due time so the deferral shows in the schedule drift
+  private void defer(ScheduledTask scheduledTask, long now) {
+    addToWheel(scheduledTask, now + tickMillis);
+  }
+
+  private void addToWheel(ScheduledTask scheduledTask, long runTime) {
+    synchronized (wheel) {
+      long dueTick = Math.max((runTime + tickMillis - 1) / tickMillis, processedTick + 1);
+      scheduledTask.remainingRounds = (dueTick - processedTick - 1) / WHEEL_SIZE;
+      wheel.get((int) (dueTick % WHEEL_SIZE)).add(scheduledTask);
+    }
+  }
+
+  @VisibleForTesting
+  void tick() {
+    try {
+      long now = now();
+      List<ScheduledTask> dueTasks = new ArrayList<>();
+      synchronized (wheel) {
+        // Catches up on ticks missed while the thread was not scheduled
+        while (processedTick < now / tickMillis) {
+          processedTick++;
+          Iterator<ScheduledTask> iterator = wheel.get((int) (processedTick % WHEEL_SIZE)).iterator();
+          while (iterator.hasNext()) {
+            ScheduledTask scheduledTask = iterator.next();
+            if (scheduledTask.cancelled) {
+              iterator.remove();
+            } else if (scheduledTask.remainingRounds > 0) {
+              scheduledTask.remainingRounds--;
+            } else {
+              iterator.remove();
+              dueTasks.add(scheduledTask);
+            }
+          }
+        }
+      }
+      dueTasks.forEach(scheduledTask -> dispatch(scheduledTask, now));
+      interruptTimedOutTasks(now);
+    } catch (Exception ex) {
+      log.error("Exception in perpetual task scheduler tick", ex);
+    }
+  }
+
+  private void dispatch(ScheduledTask scheduledTask, long now) {
+    Semaphore permits =
+        taskTypePermits.computeIfAbsent(scheduledTask.taskType, k -> new Semaphore(maxConcurrentRunsPerTaskType));
+    if (!permits.tryAcquire()) {
+      defer(scheduledTask, now);
+      return;
+    }
+    recordMax(maxScheduleDriftMillis, scheduledTask.taskType, now - scheduledTask.dueTime);
+    try {
+      scheduledTask.execution = workerPool.submit(() -> run(scheduledTask, permits, now));
+    } catch (RejectedExecutionException ex) {
+      permits.release();
+      log.warn("Perpetual task worker queue is full, deferring run of {} task", scheduledTask.taskType);
+      defer(scheduledTask, now);
+    }
+  }
+
+  private void run(ScheduledTask scheduledTask, Semaphore permits, long submitTime) {
+    long startTime = now();
+    recordMax(maxQueueDelayMillis, scheduledTask.taskType, startTime - submitTime);
+    scheduledTask.deadline = startTime + scheduledTask.timeoutMillis;
+    scheduledTask.timedOut = false;
+    scheduledTask.started = true;
+    runningTasks.add(scheduledTask);
+    currentTask.set(scheduledTask);
+    try {
+      if (!scheduledTask.cancelled) {
+        scheduledTask.task.run();
+      }
+    } catch (Exception ex) {
+      log.error("Throwable while executing perpetual task", ex);
+    } finally {
+      currentTask.remove();
+      runningTasks.remove(scheduledTask);
+      scheduledTask.started = false;
+      scheduledTask.execution = null;
+      permits.release();
+      // Clears an interrupt of a timed out run that the task did not act on before the thread is reused
+      Thread.interrupted();
+      if (!scheduledTask.cancelled) {
+        scheduleAt(scheduledTask, now() + scheduledTask.intervalMillis);
+      }
+    }
+  }
+
+  private void interruptTimedOutTasks(long now) {
+    for (ScheduledTask scheduledTask : runningTasks) {
+      Future<?> execution = scheduledTask.execution;
+      if (scheduledTask.timeoutMillis > 0 && now > scheduledTask.deadline && execution != null) {
+        // Set before interrupting, so the run sees it as soon as it acts on the interrupt
+        scheduledTask.timedOut = true;
+        if (execution.cancel(true)) {
+          log.warn(
+              "Perpetual task of type {} timed out after {} ms", scheduledTask.taskType, scheduledTask.timeoutMillis);
+        }
+      }
+    }
+  }
+
+  private void recordMax(Map<String, AtomicLong> maxima, String taskType, long value) {
+    maxima.computeIfAbsent(taskType, k -> new AtomicLong()).accumulateAndGet(value, Math::max);
+  }
+
+  private Map<String, Long> drain(Map<String, AtomicLong> maxima) {
+    Map<String, Long> drained = new HashMap<>();
+    maxima.forEach((taskType, max) -> drained.put(taskType, max.getAndSet(0)));
+    return drained;
+  }
+
+  private long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  public static class ScheduledTask {
+    private final String taskType;
+    private final Runnable task;
+    private final long intervalMillis;
+    private final long timeoutMillis;
+    private volatile boolean cancelled;
+    private volatile Future<?> execution;
+    private volatile boolean started;
+    private volatile long deadline;
+    private volatile boolean timedOut;
+    // Guarded by the wheel
+    private long dueTime;
+    private long remainingRounds;
+
+    ScheduledTask(String taskType, Runnable task, long intervalMillis, long timeoutMillis) {
+      this.taskType = taskType;
+      this.task = task;
+      this.intervalMillis = intervalMillis;
+      this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Stops further runs of the task and interrupts the current one if any.
+     */
+    public void cancel() {
+      cancelled = true;
+      Future<?> currentExecution = execution;
+      // A run still waiting for a worker skips the task itself, cancelling it would skip releasing its permit
+      if (started && currentExecution != null) {
+        currentExecution.cancel(true);
+      }
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+}
@@ -14,25 +14,21 @@ import static java.lang.System.currentTimeMillis;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
-import io.harness.concurrent.HTimeLimiter;
 import io.harness.flow.BackoffScheduler;
 import io.harness.logging.AutoLogContext;
 import io.harness.logging.LoggingListener;
 import io.harness.mongo.DelayLogContext;
-import io.harness.threading.Schedulable;
+import io.harness.perpetualtask.PerpetualTaskScheduler.ScheduledTask;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
-import com.google.common.util.concurrent.TimeLimiter;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import com.google.inject.name.Named;
 import com.google.protobuf.util.Durations;
 import com.google.protobuf.util.Timestamps;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -41,10 +37,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -61,8 +53,7 @@ public class PerpetualTaskWorker {
   private static final Marker THROTTLED = MarkerFactory.getMarker("THROTTLED");
   @Getter private final Map<PerpetualTaskId, PerpetualTaskAssignRecord> runningTaskMap = new ConcurrentHashMap<>();
 
-  private final TimeLimiter perpetualTaskTimeLimiter;
-  private final ScheduledExecutorService perpetualTaskTimeoutExecutor;
+  @Getter private final PerpetualTaskScheduler perpetualTaskScheduler;
 
   private final AtomicBoolean firstFillUp = new AtomicBoolean(true);
   private final BackoffScheduler backoffScheduler;
@@ -92,12 +83,10 @@ public class PerpetualTaskWorker {
 
   @Inject
   public PerpetualTaskWorker(PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient,
-      Map<String, PerpetualTaskExecutor> factoryMap, @Named("taskExecutor") ThreadPoolExecutor perpetualTaskExecutor,
-      @Named("perpetualTaskTimeoutExecutor") ScheduledExecutorService perpetualTaskTimeoutExecutor) {
+      Map<String, PerpetualTaskExecutor> factoryMap, PerpetualTaskScheduler perpetualTaskScheduler) {
     this.perpetualTaskServiceAgentClient = perpetualTaskServiceAgentClient;
     this.factoryMap = factoryMap;
-    this.perpetualTaskTimeLimiter = HTimeLimiter.create(perpetualTaskExecutor);
-    this.perpetualTaskTimeoutExecutor = perpetualTaskTimeoutExecutor;
+    this.perpetualTaskScheduler = perpetualTaskScheduler;
     backoffScheduler = new BackoffScheduler(getClass().getSimpleName(), Duration.ofMinutes(4), Duration.ofMinutes(14));
   }
 
@@ -198,18 +187,16 @@ public class PerpetualTaskWorker {
       PerpetualTaskExecutionContext context =
           perpetualTaskServiceAgentClient.perpetualTaskContext(task.getTaskId(), accountId);
       PerpetualTaskSchedule schedule = context.getTaskSchedule();
-      long intervalSeconds = Durations.toSeconds(schedule.getInterval());
+      long intervalMillis = Durations.toMillis(schedule.getInterval());
 
-      PerpetualTaskLifecycleManager perpetualTaskLifecycleManager =
-          new PerpetualTaskLifecycleManager(task.getTaskId(), context, factoryMap, perpetualTaskServiceAgentClient,
-              perpetualTaskTimeLimiter, currentlyExecutingPerpetualTasksCount, accountId);
+      PerpetualTaskLifecycleManager perpetualTaskLifecycleManager = new PerpetualTaskLifecycleManager(task.getTaskId(),
+          context, factoryMap, perpetualTaskServiceAgentClient, currentlyExecutingPerpetualTasksCount, accountId);
 
       synchronized (runningTaskMap) {
         runningTaskMap.computeIfAbsent(task.getTaskId(), k -> {
           log.info("Starting perpetual task with id: {}.", task.getTaskId().getId());
-          ScheduledFuture<?> taskHandle = perpetualTaskTimeoutExecutor.scheduleWithFixedDelay(
-              new Schedulable("Throwable while executing perpetual task", perpetualTaskLifecycleManager::startTask),
-              new SecureRandom().nextInt(120), intervalSeconds, TimeUnit.SECONDS);
+          ScheduledTask taskHandle = perpetualTaskScheduler.schedule(perpetualTaskLifecycleManager.getTaskType(),
+              perpetualTaskLifecycleManager::call, intervalMillis, perpetualTaskLifecycleManager.getTimeoutMillis());
 
           PerpetualTaskHandle perpetualTaskHandle = new PerpetualTaskHandle(taskHandle, perpetualTaskLifecycleManager);
 
@@ -237,7 +224,7 @@ public class PerpetualTaskWorker {
       }
       log.info("Stopping perpetual task with id: {}.", taskId.getId());
       perpetualTaskAssignRecord.getPerpetualTaskHandle().getTaskLifecycleManager().stopTask();
-      perpetualTaskAssignRecord.getPerpetualTaskHandle().getTaskHandle().cancel(true);
+      perpetualTaskAssignRecord.getPerpetualTaskHandle().getTaskHandle().cancel();
     }
   }
 
@@ -247,6 +234,7 @@ public class PerpetualTaskWorker {
 
   public void start() {
     if (running.compareAndSet(false, true)) {
+      perpetualTaskScheduler.start();
       PerpetualTaskWorkerService perpetualTaskWorkerService = new PerpetualTaskWorkerService();
       perpetualTaskWorkerService.startAsync();
       this.svcHolder.set(perpetualTaskWorkerService);
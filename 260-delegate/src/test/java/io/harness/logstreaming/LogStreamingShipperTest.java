@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import retrofit2.Call;
+import retrofit2.Response;
+
+public class LogStreamingShipperTest extends CategoryTest {
+  private static final String ACCOUNT_ID = generateUuid();
+  private static final String TOKEN = generateUuid();
+
+  private final LogStreamingClient logStreamingClient = mock(LogStreamingClient.class);
+  private final List<Runnable> pendingPushes = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    Call<Void> call = mock(Call.class);
+    when(call.execute()).thenReturn(Response.success(null));
+    when(logStreamingClient.pushMessage(anyString(), anyString(), anyString(), any())).thenReturn(call);
+  }
+
+  private static LogLine logLine(String message) {
+    return LogLine.builder().level(LogLevel.INFO).message(message).build();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPushLinesOfEveryStreamInOrder() {
+    LogStreamingShipper shipper = new LogStreamingShipper(16, 3, TimeUnit.HOURS.toMillis(1), 0, 0, Runnable::run);
+    List<LogLine> lines = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      lines.add(logLine("line" + i));
+      shipper.write(logStreamingClient, TOKEN, ACCOUNT_ID, "key1", lines.get(i));
+    }
+    LogLine otherLine = logLine("other");
+    shipper.write(logStreamingClient, TOKEN, ACCOUNT_ID, "key2", otherLine);
+    assertThat(shipper.getStreamCount()).isEqualTo(2);
+
+    // A full batch is pushed right away, the rest on flush
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClient).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key1"), captor.capture());
+    assertThat(captor.getValue()).containsExactly(lines.get(0), lines.get(1), lines.get(2));
+
+    shipper.flush();
+    verify(logStreamingClient, times(2)).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key1"), captor.capture());
+    assertThat(captor.getValue()).containsExactly(lines.get(3));
+    verify(logStreamingClient).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key2"), captor.capture());
+    assertThat(captor.getValue()).containsExactly(otherLine);
+
+    assertThat(shipper.drain(ACCOUNT_ID, "key1", 100)).isTrue();
+    assertThat(shipper.getStreamCount()).isEqualTo(1);
+    assertThat(shipper.getDroppedLines()).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropLinesWhenLogServiceIsNotKeepingUp() {
+    // Pushes never complete, as if the log service was not responding
+    LogStreamingShipper shipper =
+        new LogStreamingShipper(4, 100, TimeUnit.HOURS.toMillis(1), 1, 0, pendingPushes::add);
+    for (int i = 0; i < 6; i++) {
+      shipper.write(logStreamingClient, TOKEN, ACCOUNT_ID, "key", logLine("line" + i));
+    }
+    assertThat(shipper.getDroppedLines()).isEqualTo(2);
+    assertThat(pendingPushes).hasSize(1);
+    assertThat(shipper.drain(ACCOUNT_ID, "key", 10)).isFalse();
+    verify(logStreamingClient, never()).pushMessage(anyString(), anyString(), anyString(), any());
+
+    // Once the push goes through the buffered lines are shipped, and counted as delayed
+    pendingPushes.get(0).run();
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClient).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key"), captor.capture());
+    assertThat(captor.getValue()).hasSize(4);
+    assertThat(shipper.getDelayedLines()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldWrapAroundRingBuffer() {
+    LogLineRingBuffer buffer = new LogLineRingBuffer(3);
+    assertThat(buffer.capacity()).isEqualTo(4);
+
+    long hourAgo = System.nanoTime() - TimeUnit.HOURS.toNanos(1);
+    List<LogLine> drained = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      LogLine line = logLine("line" + i);
+      assertThat(buffer.offer(line, System.nanoTime())).isTrue();
+      assertThat(buffer.drainTo(drained, 10, hourAgo)).isZero();
+      assertThat(drained.get(drained.size() - 1)).isSameAs(line);
+    }
+    assertThat(buffer.isEmpty()).isTrue();
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(buffer.offer(logLine("full"), System.nanoTime())).isTrue();
+    }
+    assertThat(buffer.offer(logLine("full"), System.nanoTime())).isFalse();
+    assertThat(buffer.drainTo(new ArrayList<>(), 2, hourAgo)).isZero();
+    assertThat(buffer.size()).isEqualTo(2);
+  }
+}
@@ -52,6 +52,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -84,6 +86,7 @@ public class K8sInstanceSyncPerpetualTaskExecutorTest extends DelegateTestBase {
   @Before
   public void setUp() throws IOException {
     on(k8sInstanceSyncPerpetualTaskExecutor).set("kryoSerializer", kryoSerializer);
+    on(k8sInstanceSyncPerpetualTaskExecutor).set("instanceSyncDeltaTracker", new InstanceSyncDeltaTracker());
     doReturn(call)
         .when(delegateAgentManagerClient)
         .processInstanceSyncNGResult(anyString(), anyString(), perpetualTaskResponseCaptor.capture());
@@ -238,6 +241,127 @@ public class K8sInstanceSyncPerpetualTaskExecutorTest extends DelegateTestBase {
     });
   }
 
+  @Test
+  @Owner(developers = OwnerRule.GEORGE)
+  @Category(UnitTests.class)
+  public void runOnceWithDeltaSyncSendsChangedInstances() throws Exception {
+    List<K8sDeploymentRelease> deploymentReleases =
+        getK8sDeploymentReleases(Arrays.asList("ns1", "ns2"), RELEASE_NAME_1, Arrays.asList("ns3"), RELEASE_NAME_2);
+    K8sInstanceSyncPerpetualTaskParams message = K8sInstanceSyncPerpetualTaskParams.newBuilder()
+                                                     .setAccountId(ACCOUNT_ID)
+                                                     .addAllK8SDeploymentReleaseList(deploymentReleases)
+                                                     .setDeltaSyncEnabled(true)
+                                                     .build();
+    PerpetualTaskExecutionParams perpetualTaskExecutionParams = PerpetualTaskExecutionParams.newBuilder()
+                                                                    .setCustomizedParams(Any.pack(message))
+                                                                    .setInstanceSyncDeltaSupported(true)
+                                                                    .build();
+    PerpetualTaskId taskId = PerpetualTaskId.newBuilder().setId(PERPETUAL_TASK_ID).build();
+    doReturn(retrofit2.Response.success(new RestResponse<>(true))).when(call).execute();
+
+    // Nothing accepted yet, all instances are sent
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    K8sInstanceSyncPerpetualTaskResponse fullResponse = perpetualTaskResponseCaptor.getValue();
+    assertThat(fullResponse.getBaseInstanceFingerprint()).isNull();
+    assertThat(fullResponse.getServerInstanceDetails()).hasSize(3);
+    assertThat(fullResponse.getRemovedServerInstanceDetails()).isEmpty();
+
+    // A pod of ns1 is replaced, only the change is sent
+    K8sPod replacedPod = K8sPod.builder().name("replaced").namespace("ns1").releaseName(RELEASE_NAME_1).build();
+    doReturn(Arrays.asList(replacedPod))
+        .when(k8sTaskHelperBase)
+        .getPodDetails(any(KubernetesConfig.class), eq("ns1"), eq(RELEASE_NAME_1), anyLong());
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    K8sInstanceSyncPerpetualTaskResponse deltaResponse = perpetualTaskResponseCaptor.getValue();
+    assertThat(deltaResponse.getBaseInstanceFingerprint()).isEqualTo(fullResponse.getInstanceFingerprint());
+    assertThat(deltaResponse.getInstanceFingerprint()).isNotEqualTo(fullResponse.getInstanceFingerprint());
+    assertThat(deltaResponse.getServerInstanceDetails()).hasSize(1);
+    assertThat(((K8sServerInstanceInfo) deltaResponse.getServerInstanceDetails().get(0)).getName())
+        .isEqualTo("replaced");
+    assertThat(deltaResponse.getRemovedServerInstanceDetails()).hasSize(1);
+    assertThat(((K8sServerInstanceInfo) deltaResponse.getRemovedServerInstanceDetails().get(0)).getNamespace())
+        .isEqualTo("ns1");
+
+    // The manager rejects a delta it cannot apply, all instances are sent again in the same run
+    doReturn(retrofit2.Response.success(new RestResponse<>(false)))
+        .doReturn(retrofit2.Response.success(new RestResponse<>(true)))
+        .when(call)
+        .execute();
+    doReturn(new ArrayList<>())
+        .when(k8sTaskHelperBase)
+        .getPodDetails(any(KubernetesConfig.class), eq("ns3"), eq(RELEASE_NAME_2), anyLong());
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    List<K8sInstanceSyncPerpetualTaskResponse> responses = perpetualTaskResponseCaptor.getAllValues();
+    K8sInstanceSyncPerpetualTaskResponse rejectedResponse = responses.get(responses.size() - 2);
+    assertThat(rejectedResponse.getBaseInstanceFingerprint()).isEqualTo(deltaResponse.getInstanceFingerprint());
+    assertThat(rejectedResponse.getRemovedServerInstanceDetails()).hasSize(1);
+    K8sInstanceSyncPerpetualTaskResponse resyncResponse = responses.get(responses.size() - 1);
+    assertThat(resyncResponse.getBaseInstanceFingerprint()).isNull();
+    assertThat(resyncResponse.getServerInstanceDetails()).hasSize(2);
+  }
+
+  @Test
+  @Owner(developers = OwnerRule.GEORGE)
+  @Category(UnitTests.class)
+  public void runOnceWithDeltaSyncKeepsDeltaOnFailures() throws Exception {
+    List<K8sDeploymentRelease> deploymentReleases =
+        getK8sDeploymentReleases(Arrays.asList("ns1", "ns2"), RELEASE_NAME_1, Arrays.asList("ns3"), RELEASE_NAME_2);
+    K8sInstanceSyncPerpetualTaskParams message = K8sInstanceSyncPerpetualTaskParams.newBuilder()
+                                                     .setAccountId(ACCOUNT_ID)
+                                                     .addAllK8SDeploymentReleaseList(deploymentReleases)
+                                                     .setDeltaSyncEnabled(true)
+                                                     .build();
+    PerpetualTaskExecutionParams perpetualTaskExecutionParams = PerpetualTaskExecutionParams.newBuilder()
+                                                                    .setCustomizedParams(Any.pack(message))
+                                                                    .setInstanceSyncDeltaSupported(true)
+                                                                    .build();
+    PerpetualTaskId taskId = PerpetualTaskId.newBuilder().setId(PERPETUAL_TASK_ID).build();
+    doReturn(retrofit2.Response.success(new RestResponse<>(true))).when(call).execute();
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    K8sInstanceSyncPerpetualTaskResponse fullResponse = perpetualTaskResponseCaptor.getValue();
+
+    // The manager could not reach NG, which is not a rejection
+    doReturn(retrofit2.Response.error(500, ResponseBody.create(MediaType.parse("application/json"), "{}")))
+        .when(call)
+        .execute();
+    doReturn(new ArrayList<>())
+        .when(k8sTaskHelperBase)
+        .getPodDetails(any(KubernetesConfig.class), eq("ns3"), eq(RELEASE_NAME_2), anyLong());
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    assertThat(perpetualTaskResponseCaptor.getAllValues()).hasSize(2);
+
+    doReturn(retrofit2.Response.success(new RestResponse<>(true))).when(call).execute();
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    K8sInstanceSyncPerpetualTaskResponse deltaResponse = perpetualTaskResponseCaptor.getValue();
+    assertThat(perpetualTaskResponseCaptor.getAllValues()).hasSize(3);
+    assertThat(deltaResponse.getBaseInstanceFingerprint()).isEqualTo(fullResponse.getInstanceFingerprint());
+    assertThat(deltaResponse.getServerInstanceDetails()).isEmpty();
+    assertThat(deltaResponse.getRemovedServerInstanceDetails()).hasSize(1);
+  }
+
+  @Test
+  @Owner(developers = OwnerRule.GEORGE)
+  @Category(UnitTests.class)
+  public void runOnceSendsAllInstancesWhenManagerDoesNotSupportDeltas() throws Exception {
+    List<K8sDeploymentRelease> deploymentReleases =
+        getK8sDeploymentReleases(Arrays.asList("ns1", "ns2"), RELEASE_NAME_1, Arrays.asList("ns3"), RELEASE_NAME_2);
+    K8sInstanceSyncPerpetualTaskParams message = K8sInstanceSyncPerpetualTaskParams.newBuilder()
+                                                     .setAccountId(ACCOUNT_ID)
+                                                     .addAllK8SDeploymentReleaseList(deploymentReleases)
+                                                     .setDeltaSyncEnabled(true)
+                                                     .build();
+    PerpetualTaskExecutionParams perpetualTaskExecutionParams =
+        PerpetualTaskExecutionParams.newBuilder().setCustomizedParams(Any.pack(message)).build();
+    PerpetualTaskId taskId = PerpetualTaskId.newBuilder().setId(PERPETUAL_TASK_ID).build();
+    doReturn(retrofit2.Response.success(new RestResponse<>(true))).when(call).execute();
+
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    k8sInstanceSyncPerpetualTaskExecutor.runOnce(taskId, perpetualTaskExecutionParams, Instant.EPOCH);
+    K8sInstanceSyncPerpetualTaskResponse response = perpetualTaskResponseCaptor.getValue();
+    assertThat(response.getInstanceFingerprint()).isNull();
+    assertThat(response.getServerInstanceDetails()).hasSize(3);
+  }
+
   private List<K8sDeploymentRelease> getK8sDeploymentReleases(List<String> namespacesRN1, String releaseName1,
       List<String> namespacesRN2, String releaseName2) throws Exception {
     K8sDeploymentRelease k8sDeploymentReleaseOne = getK8sDeploymentRelease(namespacesRN1, releaseName1);
@@ -20,7 +20,6 @@ import io.harness.category.element.UnitTests;
 import io.harness.perpetualtask.ecs.EcsPerpetualTaskParams;
 import io.harness.rule.Owner;
 
-import com.google.common.util.concurrent.TimeLimiter;
 import com.google.common.util.concurrent.UncheckedTimeoutException;
 import com.google.protobuf.Any;
 import java.time.Instant;
@@ -42,7 +41,6 @@ import org.powermock.modules.junit4.PowerMockRunner;
 public class PerpetualTaskLifecycleManagerTest extends CategoryTest {
   private PerpetualTaskLifecycleManager perpetualTaskLifecycleManager;
   private final Map<String, PerpetualTaskExecutor> factoryMap = new HashMap<>();
-  @Mock private TimeLimiter timeLimiter;
   @Mock private PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
 
   @Mock private PerpetualTaskExecutor perpetualTaskExecutor;
@@ -78,7 +76,7 @@ public class PerpetualTaskLifecycleManagerTest extends CategoryTest {
     PerpetualTaskExecutionContext taskContext =
         PerpetualTaskExecutionContext.newBuilder().setTaskParams(params).build();
     perpetualTaskLifecycleManager = new PerpetualTaskLifecycleManager(perpetualTaskId, taskContext, factoryMap,
-        perpetualTaskServiceAgentClient, timeLimiter, currentlyExecutingPerpetualTasksCount, ACCOUNT_ID);
+        perpetualTaskServiceAgentClient, currentlyExecutingPerpetualTasksCount, ACCOUNT_ID);
   }
 
   @Test
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.perpetualtask.PerpetualTaskScheduler.ScheduledTask;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PerpetualTaskSchedulerTest extends CategoryTest {
+  private PerpetualTaskScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler = new PerpetualTaskScheduler(10, 4, 1);
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testTaskRunsEveryIntervalUntilCancelled() throws InterruptedException {
+    AtomicInteger runs = new AtomicInteger();
+    ScheduledTask scheduledTask = scheduler.schedule("type", runs::incrementAndGet, 20, 1000);
+
+    await().atMost(5L, TimeUnit.SECONDS).until(() -> runs.get() >= 3);
+    scheduledTask.cancel();
+    int runsAfterCancel = runs.get();
+    Thread.sleep(100);
+    // A run already handed to a worker when cancelling still completes
+    assertThat(runs.get()).isLessThanOrEqualTo(runsAfterCancel + 1);
+    assertThat(scheduler.drainMaxScheduleDriftMillis()).containsKey("type");
+    assertThat(scheduler.drainMaxQueueDelayMillis()).containsKey("type");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRunsOfTheSameTypeAreLimited() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    AtomicInteger runs = new AtomicInteger();
+    Runnable task = () -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        running.decrementAndGet();
+        runs.incrementAndGet();
+      }
+    };
+    for (int i = 0; i < 3; i++) {
+      scheduler.schedule("limited", task, 10, 1000);
+    }
+
+    await().atMost(5L, TimeUnit.SECONDS).until(() -> runs.get() >= 6);
+    assertThat(maxRunning.get()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRunPastTimeoutIsInterrupted() {
+    AtomicBoolean interrupted = new AtomicBoolean();
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    scheduler.schedule("slow", () -> {
+      try {
+        neverReleased.await();
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+    }, 60000, 50);
+
+    await().atMost(5L, TimeUnit.SECONDS).until(interrupted::get);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRunThatSwallowsTheInterruptIsTimedOut() {
+    AtomicBoolean timedOut = new AtomicBoolean();
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    scheduler.schedule("swallowing", () -> {
+      try {
+        neverReleased.await();
+      } catch (InterruptedException e) {
+        // Swallowed
+      }
+      timedOut.set(PerpetualTaskScheduler.isCurrentRunTimedOut());
+    }, 60000, 50);
+
+    await().atMost(5L, TimeUnit.SECONDS).until(timedOut::get);
+    assertThat(PerpetualTaskScheduler.isCurrentRunTimedOut()).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRunOfCancelledTaskIsNotTimedOut() throws InterruptedException {
+    AtomicBoolean cancelled = new AtomicBoolean();
+    AtomicBoolean timedOut = new AtomicBoolean(true);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    ScheduledTask scheduledTask = scheduler.schedule("stopped", () -> {
+      started.countDown();
+      try {
+        neverReleased.await();
+      } catch (InterruptedException e) {
+        // Swallowed
+      }
+      timedOut.set(PerpetualTaskScheduler.isCurrentRunTimedOut());
+      cancelled.set(PerpetualTaskScheduler.isCurrentRunCancelled());
+    }, 60000, 60000);
+
+    assertThat(started.await(5L, TimeUnit.SECONDS)).isTrue();
+    // Cancelling again interrupts the run if it was not handed its future yet
+    await().atMost(5L, TimeUnit.SECONDS).until(() -> {
+      scheduledTask.cancel();
+      return cancelled.get();
+    });
+    assertThat(timedOut.get()).isFalse();
+  }
+}
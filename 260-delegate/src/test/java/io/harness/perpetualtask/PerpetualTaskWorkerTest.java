@@ -19,7 +19,6 @@ import static org.mockito.Mockito.verify;
 
 import io.harness.DelegateTestBase;
 import io.harness.category.element.UnitTests;
-import io.harness.manage.ManagedScheduledExecutorService;
 import io.harness.perpetualtask.k8s.watch.K8sWatchTaskParams;
 import io.harness.rule.Owner;
 import io.harness.serializer.KryoSerializer;
@@ -28,7 +27,6 @@ import io.harness.threading.Concurrent;
 import software.wings.beans.KubernetesClusterConfig;
 
 import com.google.inject.Inject;
-import com.google.inject.name.Named;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
@@ -42,8 +40,6 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
 import org.junit.Rule;
@@ -77,11 +73,7 @@ public class PerpetualTaskWorkerTest extends DelegateTestBase {
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
   @Mock private PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
   @Mock private Map<String, PerpetualTaskExecutor> factoryMap;
-  @Mock @Named("taskExecutor") ThreadPoolExecutor perpetualTaskExecutor;
-  @Spy
-  @Named("perpetualTaskTimeoutExecutor")
-  ScheduledExecutorService perpetualTaskTimeoutExecutor =
-      new ManagedScheduledExecutorService("perpetualTaskTimeoutExecutor");
+  @Spy PerpetualTaskScheduler perpetualTaskScheduler = new PerpetualTaskScheduler();
   @InjectMocks private PerpetualTaskWorker worker;
 
   @Inject KryoSerializer kryoSerializer;
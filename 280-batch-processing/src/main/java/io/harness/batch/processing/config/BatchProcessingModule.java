@@ -50,11 +50,13 @@ import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.PerspectiveAnomalyService;
 import io.harness.ccm.views.service.ViewCustomFieldService;
 import io.harness.ccm.views.service.ViewsBillingService;
+import io.harness.ccm.views.service.ViewsQueryResultCache;
 import io.harness.ccm.views.service.impl.CEViewFolderServiceImpl;
 import io.harness.ccm.views.service.impl.CEViewServiceImpl;
 import io.harness.ccm.views.service.impl.PerspectiveAnomalyServiceImpl;
 import io.harness.ccm.views.service.impl.ViewCustomFieldServiceImpl;
 import io.harness.ccm.views.service.impl.ViewsBillingServiceImpl;
+import io.harness.ccm.views.service.impl.ViewsQueryResultCacheImpl;
 import io.harness.connector.ConnectorResourceClientModule;
 import io.harness.event.handler.segment.SegmentConfig;
 import io.harness.ff.FeatureFlagService;
@@ -138,6 +140,7 @@ public class BatchProcessingModule extends AbstractModule {
     bind(CEViewService.class).to(CEViewServiceImpl.class);
     bind(CEViewFolderService.class).to(CEViewFolderServiceImpl.class);
     bind(ViewsBillingService.class).to(ViewsBillingServiceImpl.class);
+    bind(ViewsQueryResultCache.class).to(ViewsQueryResultCacheImpl.class);
     bind(ViewCustomFieldService.class).to(ViewCustomFieldServiceImpl.class);
     bind(BusinessMappingService.class).to(BusinessMappingServiceImpl.class);
     bind(CeAccountExpirationChecker.class).to(CeAccountExpirationCheckerImpl.class);
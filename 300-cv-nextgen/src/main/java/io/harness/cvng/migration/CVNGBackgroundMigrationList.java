@@ -23,6 +23,7 @@ import io.harness.cvng.migration.list.AddMonitoringSourcesToVerificationJobMigra
 import io.harness.cvng.migration.list.AddTaskInfoToVerificationTask;
 import io.harness.cvng.migration.list.AppDCVConfigCompleteMetricPathMigration;
 import io.harness.cvng.migration.list.AppDCustomMetricForExistingProjects;
+import io.harness.cvng.migration.list.BackfillSLIRecordBuckets;
 import io.harness.cvng.migration.list.CVNGBaseMigration;
 import io.harness.cvng.migration.list.CleanUpMonitoringSourcePerpetualTask;
 import io.harness.cvng.migration.list.CleanUpOldDocuments;
@@ -112,6 +113,7 @@ public class CVNGBackgroundMigrationList {
         .add(Pair.of(48, SetNotRequiredActivityAnalysisStatusToIgnored.class))
         .add(Pair.of(49, PrometheusConnectorAuthenticationPerpetualTaskMigration.class))
         .add(Pair.of(50, AddEnabledFlagToSLISLOMigration.class))
+        .add(Pair.of(51, BackfillSLIRecordBuckets.class))
         .build();
   }
 }
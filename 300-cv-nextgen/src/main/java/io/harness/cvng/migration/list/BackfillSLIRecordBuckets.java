@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.migration.list;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.persistence.HQuery.excludeAuthorityCount;
+
+import static com.mongodb.ErrorCategory.DUPLICATE_KEY;
+
+import io.harness.cvng.migration.CVNGMigration;
+import io.harness.cvng.migration.beans.ChecklistItem;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
+import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
+import io.harness.persistence.HIterator;
+import io.harness.persistence.HPersistence;
+
+import com.google.inject.Inject;
+import com.mongodb.DuplicateKeyException;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoCommandException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.mongodb.morphia.query.Query;
+import org.mongodb.morphia.query.Sort;
+import org.mongodb.morphia.query.UpdateOperations;
+
+/**
+ * Copies the minute SLI records into their hourly buckets. Record writes keep setting bucket slots while this runs, so
+ * buckets are only ever updated in place: a missing bucket is inserted whole by an upsert, and in an existing one only
+ * the slots still empty are set, each guarded by the slot being empty so a newer write is never overwritten.
+ */
+@Slf4j
+public class BackfillSLIRecordBuckets implements CVNGMigration {
+  @Inject private HPersistence hPersistence;
+
+  @Override
+  public void migrate() {
+    log.info("Begin migration for backfilling SLI record buckets");
+    try (HIterator<ServiceLevelIndicator> iterator =
+             new HIterator<>(hPersistence.createQuery(ServiceLevelIndicator.class).fetch())) {
+      while (iterator.hasNext()) {
+        ServiceLevelIndicator serviceLevelIndicator = iterator.next();
+        int bucketCount = backfill(serviceLevelIndicator.getUuid());
+        log.info("Backfilled {} SLI record buckets for SLI {}", bucketCount, serviceLevelIndicator.getUuid());
+      }
+    }
+  }
+
+  private int backfill(String sliId) {
+    int bucketCount = 0;
+    List<SLIRecord> sliRecords = new ArrayList<>();
+    try (HIterator<SLIRecord> iterator = new HIterator<>(hPersistence.createQuery(SLIRecord.class)
+                                                             .filter(SLIRecordKeys.sliId, sliId)
+                                                             .order(Sort.ascending(SLIRecordKeys.timestamp))
+                                                             .fetch())) {
+      while (iterator.hasNext()) {
+        SLIRecord sliRecord = iterator.next();
+        if (!sliRecords.isEmpty() && !getBucketStartTime(sliRecords.get(0)).equals(getBucketStartTime(sliRecord))) {
+          upsertBucket(sliRecords);
+          bucketCount++;
+          sliRecords.clear();
+        }
+        sliRecords.add(sliRecord);
+      }
+    }
+    if (!sliRecords.isEmpty()) {
+      upsertBucket(sliRecords);
+      bucketCount++;
+    }
+    return bucketCount;
+  }
+
+  private void upsertBucket(List<SLIRecord> sliRecords) {
+    SLIRecord firstSLIRecord = sliRecords.get(0);
+    Instant bucketStartTime = getBucketStartTime(firstSLIRecord);
+    SLIRecordBucket backfilledBucket =
+        SLIRecordBucket.newBucket(firstSLIRecord.getSliId(), firstSLIRecord.getVerificationTaskId(), bucketStartTime);
+    sliRecords.forEach(backfilledBucket::setSLIRecord);
+    UpdateOperations<SLIRecordBucket> updateOperations =
+        hPersistence.createUpdateOperations(SLIRecordBucket.class)
+            .setOnInsert(SLIRecordBucketKeys.uuid, generateUuid())
+            .setOnInsert(SLIRecordBucketKeys.verificationTaskId, backfilledBucket.getVerificationTaskId())
+            .setOnInsert(SLIRecordBucketKeys.sliStates, backfilledBucket.getSliStates())
+            .setOnInsert(SLIRecordBucketKeys.runningGoodCounts, backfilledBucket.getRunningGoodCounts())
+            .setOnInsert(SLIRecordBucketKeys.runningBadCounts, backfilledBucket.getRunningBadCounts())
+            .setOnInsert(SLIRecordBucketKeys.sliVersions, backfilledBucket.getSliVersions())
+            .setOnInsert(SLIRecordBucketKeys.validUntil, backfilledBucket.getValidUntil());
+    SLIRecordBucket sliRecordBucket;
+    try {
+      sliRecordBucket = hPersistence.upsert(getBucketQuery(firstSLIRecord.getSliId(), bucketStartTime),
+          updateOperations, HPersistence.upsertReturnNewOptions);
+    } catch (MongoCommandException | DuplicateKeyException exception) {
+      if (ErrorCategory.fromErrorCode(exception.getCode()) != DUPLICATE_KEY) {
+        throw exception;
+      }
+      // Inserted concurrently by a record write
+      sliRecordBucket = getBucketQuery(firstSLIRecord.getSliId(), bucketStartTime).get();
+    }
+    for (SLIRecord sliRecord : sliRecords) {
+      int minuteIndex = SLIRecordBucket.getMinuteIndex(sliRecord.getTimestamp());
+      if (sliRecordBucket.getSLIRecord(minuteIndex) == null) {
+        setSlotIfEmpty(sliRecord, minuteIndex);
+      }
+    }
+  }
+
+  private void setSlotIfEmpty(SLIRecord sliRecord, int minuteIndex) {
+    String slot = "." + minuteIndex;
+    // Validation does not know about array indexes
+    Query<SLIRecordBucket> query = getBucketQuery(sliRecord.getSliId(), getBucketStartTime(sliRecord))
+                                       .disableValidation()
+                                       .filter(SLIRecordBucketKeys.sliStates + slot, SLIRecordBucket.NO_RECORD);
+    UpdateOperations<SLIRecordBucket> updateOperations =
+        hPersistence.createUpdateOperations(SLIRecordBucket.class)
+            .disableValidation()
+            .set(SLIRecordBucketKeys.sliStates + slot, sliRecord.getSliState().ordinal())
+            .set(SLIRecordBucketKeys.runningGoodCounts + slot, sliRecord.getRunningGoodCount())
+            .set(SLIRecordBucketKeys.runningBadCounts + slot, sliRecord.getRunningBadCount())
+            .set(SLIRecordBucketKeys.sliVersions + slot, sliRecord.getSliVersion());
+    hPersistence.update(query, updateOperations);
+  }
+
+  private Query<SLIRecordBucket> getBucketQuery(String sliId, Instant bucketStartTime) {
+    return hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+        .filter(SLIRecordBucketKeys.sliId, sliId)
+        .filter(SLIRecordBucketKeys.bucketStartTime, bucketStartTime);
+  }
+
+  private static Instant getBucketStartTime(SLIRecord sliRecord) {
+    return SLIRecordBucket.getBucketStartTime(sliRecord.getTimestamp());
+  }
+
+  @Override
+  public ChecklistItem whatHappensOnRollback() {
+    return ChecklistItem.NA;
+  }
+
+  @Override
+  public ChecklistItem whatHappensIfOldVersionIteratorPicksMigratedEntity() {
+    return ChecklistItem.NA;
+  }
+}
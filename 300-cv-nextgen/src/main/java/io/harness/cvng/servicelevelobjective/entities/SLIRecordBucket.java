@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.CreatedAtAware;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UpdatedAtAware;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.mongodb.morphia.annotations.Id;
+
+/**
+ * The SLI records of an hour, one array slot per minute. Reading a time range takes one document per hour instead of
+ * one per minute, and as the counts are running counts the good and bad minutes between any two minutes are known
+ * without reading the minutes in between.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordBucketKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Entity(value = "sliRecordBuckets", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+@StoreIn(DbAliases.CVNG)
+public class SLIRecordBucket implements PersistentEntity, UuidAware, UpdatedAtAware, CreatedAtAware {
+  public static final int BUCKET_SIZE_MINUTES = 60;
+  public static final int NO_RECORD = -1;
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("unique_sli_bucketStartTime")
+                 .unique(true)
+                 .field(SLIRecordBucketKeys.sliId)
+                 .field(SLIRecordBucketKeys.bucketStartTime)
+                 .build())
+        .build();
+  }
+
+  @Id private String uuid;
+  private String verificationTaskId;
+  private String sliId;
+  private Instant bucketStartTime;
+  // Indexed by minute of the bucket, sliStates holds the SLIState ordinal or NO_RECORD
+  private int[] sliStates;
+  private long[] runningGoodCounts;
+  private long[] runningBadCounts;
+  private int[] sliVersions;
+  private long lastUpdatedAt;
+  private long createdAt;
+  @Builder.Default @FdTtlIndex private Date validUntil = Date.from(OffsetDateTime.now().plusDays(180).toInstant());
+
+  public static SLIRecordBucket newBucket(String sliId, String verificationTaskId, Instant bucketStartTime) {
+    int[] sliStates = new int[BUCKET_SIZE_MINUTES];
+    Arrays.fill(sliStates, NO_RECORD);
+    return SLIRecordBucket.builder()
+        .sliId(sliId)
+        .verificationTaskId(verificationTaskId)
+        .bucketStartTime(bucketStartTime)
+        .sliStates(sliStates)
+        .runningGoodCounts(new long[BUCKET_SIZE_MINUTES])
+        .runningBadCounts(new long[BUCKET_SIZE_MINUTES])
+        .sliVersions(new int[BUCKET_SIZE_MINUTES])
+        .build();
+  }
+
+  public static Instant getBucketStartTime(Instant timestamp) {
+    return timestamp.truncatedTo(ChronoUnit.HOURS);
+  }
+
+  public static int getMinuteIndex(Instant timestamp) {
+    return (int) (TimeUnit.MILLISECONDS.toMinutes(timestamp.toEpochMilli()) % BUCKET_SIZE_MINUTES);
+  }
+
+  public Instant getBucketEndTime() {
+    return bucketStartTime.plus(BUCKET_SIZE_MINUTES, ChronoUnit.MINUTES);
+  }
+
+  public SLIRecord getSLIRecord(int minuteIndex) {
+    if (sliStates[minuteIndex] == NO_RECORD) {
+      return null;
+    }
+    return SLIRecord.builder()
+        .sliId(sliId)
+        .verificationTaskId(verificationTaskId)
+        .timestamp(bucketStartTime.plus(minuteIndex, ChronoUnit.MINUTES))
+        .sliState(SLIState.values()[sliStates[minuteIndex]])
+        .runningGoodCount(runningGoodCounts[minuteIndex])
+        .runningBadCount(runningBadCounts[minuteIndex])
+        .sliVersion(sliVersions[minuteIndex])
+        .build();
+  }
+
+  public void setSLIRecord(SLIRecord sliRecord) {
+    int minuteIndex = getMinuteIndex(sliRecord.getTimestamp());
+    sliStates[minuteIndex] = sliRecord.getSliState().ordinal();
+    runningGoodCounts[minuteIndex] = sliRecord.getRunningGoodCount();
+    runningBadCounts[minuteIndex] = sliRecord.getRunningBadCount();
+    sliVersions[minuteIndex] = sliRecord.getSliVersion();
+  }
+}
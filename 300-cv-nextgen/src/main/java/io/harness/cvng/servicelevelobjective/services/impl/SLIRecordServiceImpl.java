@@ -12,6 +12,9 @@ import static io.harness.persistence.HQuery.excludeAuthorityCount;
 
 import io.harness.annotations.retry.RetryOnException;
 import io.harness.cvng.core.beans.params.TimeRangeParams;
+import io.harness.cvng.migration.CVNGBackgroundMigrationList;
+import io.harness.cvng.migration.beans.CVNGSchema;
+import io.harness.cvng.migration.list.BackfillSLIRecordBuckets;
 import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
 import io.harness.cvng.servicelevelobjective.beans.SLIValue;
 import io.harness.cvng.servicelevelobjective.beans.SLODashboardWidget.Point;
@@ -20,12 +23,15 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.persistence.HPersistence;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import com.mongodb.DuplicateKeyException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -36,16 +42,30 @@ import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.mongodb.morphia.query.FindOptions;
+import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
+import org.mongodb.morphia.query.UpdateOperations;
 
 public class SLIRecordServiceImpl implements SLIRecordService {
   @VisibleForTesting static int MAX_NUMBER_OF_POINTS = 2000;
   private static final int RETRY_COUNT = 3;
+  private static final int BUCKET_BACKFILL_VERSION =
+      CVNGBackgroundMigrationList.getMigrations()
+          .stream()
+          .filter(migration -> migration.getValue() == BackfillSLIRecordBuckets.class)
+          .mapToInt(Pair::getKey)
+          .max()
+          .getAsInt();
   @Inject private HPersistence hPersistence;
   @Inject Clock clock;
+  private volatile boolean bucketsBackfilled;
 
   @Override
   public void create(List<SLIRecordParam> sliRecordParamList, String sliId, String verificationTaskId, int sliVersion) {
@@ -94,6 +114,7 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       sliRecordList.add(sliRecord);
     }
     hPersistence.save(sliRecordList);
+    saveToBuckets(sliRecordList);
   }
 
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
@@ -132,6 +153,42 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       }
     }
     hPersistence.save(updateOrCreateSLIRecords);
+    saveToBuckets(updateOrCreateSLIRecords);
+  }
+
+  private void saveToBuckets(List<SLIRecord> sliRecords) {
+    Map<Instant, List<SLIRecord>> sliRecordsPerBucket = sliRecords.stream().collect(Collectors.groupingBy(
+        sliRecord -> SLIRecordBucket.getBucketStartTime(sliRecord.getTimestamp()), TreeMap::new, Collectors.toList()));
+    sliRecordsPerBucket.forEach(this::upsertBucket);
+  }
+
+  private void upsertBucket(Instant bucketStartTime, List<SLIRecord> sliRecords) {
+    SLIRecord firstSLIRecord = sliRecords.get(0);
+    Query<SLIRecordBucket> query = hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+                                       .filter(SLIRecordBucketKeys.sliId, firstSLIRecord.getSliId())
+                                       .filter(SLIRecordBucketKeys.bucketStartTime, bucketStartTime);
+    // Only the slots of the written minutes are set, validation does not know about array indexes
+    UpdateOperations<SLIRecordBucket> updateOperations =
+        hPersistence.createUpdateOperations(SLIRecordBucket.class).disableValidation();
+    for (SLIRecord sliRecord : sliRecords) {
+      String slot = "." + SLIRecordBucket.getMinuteIndex(sliRecord.getTimestamp());
+      updateOperations.set(SLIRecordBucketKeys.sliStates + slot, sliRecord.getSliState().ordinal())
+          .set(SLIRecordBucketKeys.runningGoodCounts + slot, sliRecord.getRunningGoodCount())
+          .set(SLIRecordBucketKeys.runningBadCounts + slot, sliRecord.getRunningBadCount())
+          .set(SLIRecordBucketKeys.sliVersions + slot, sliRecord.getSliVersion());
+    }
+    if (hPersistence.update(query, updateOperations).getUpdatedCount() > 0) {
+      return;
+    }
+    SLIRecordBucket sliRecordBucket =
+        SLIRecordBucket.newBucket(firstSLIRecord.getSliId(), firstSLIRecord.getVerificationTaskId(), bucketStartTime);
+    sliRecords.forEach(sliRecordBucket::setSLIRecord);
+    try {
+      hPersistence.insert(sliRecordBucket);
+    } catch (DuplicateKeyException e) {
+      // Created concurrently, the slots can be set now
+      hPersistence.update(query, updateOperations);
+    }
   }
 
   @Override
@@ -216,15 +273,14 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   public List<SLIRecord> getSLIRecordsForLookBackDuration(String sliId, long lookBackDuration) {
     Instant startTime = clock.instant().minusMillis(lookBackDuration);
     Instant endTime = clock.instant().minusMillis(Duration.ofMinutes(1).toMillis());
-    List<Instant> minutes = new ArrayList<>();
+    SortedSet<Instant> minutes = new TreeSet<>();
     minutes.add(startTime);
     minutes.add(endTime);
-    return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
-        .filter(SLIRecordKeys.sliId, sliId)
-        .field(SLIRecordKeys.timestamp)
-        .in(minutes)
-        .order(Sort.ascending(SLIRecordKeys.timestamp))
-        .asList();
+    if (!areBucketsBackfilled()) {
+      return getSLIRecords(sliId, minutes);
+    }
+    List<SLIRecordBucket> sliRecordBuckets = getSLIRecordBuckets(sliId, startTime, endTime.plus(Duration.ofMinutes(1)));
+    return getSLIRecords(sliRecordBuckets, minutes);
   }
 
   @Override
@@ -237,17 +293,33 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   }
 
   private List<SLIRecord> sliRecords(String sliId, Instant startTime, Instant endTime, TimeRangeParams filter) {
-    SLIRecord firstRecord = getFirstSLIRecord(sliId, startTime);
-    SLIRecord lastRecord = getLastSLIRecord(sliId, endTime);
-    SLIRecord firstRecordInRange = getFirstSLIRecord(sliId, filter.getStartTime());
-    SLIRecord lastRecordInRange = getLastSLIRecord(sliId, filter.getEndTime());
+    List<SLIRecordBucket> sliRecordBuckets = null;
+    SLIRecord firstRecord;
+    SLIRecord lastRecord;
+    SLIRecord firstRecordInRange;
+    SLIRecord lastRecordInRange;
+    if (areBucketsBackfilled()) {
+      // Buckets of the whole range are read at once, which is cheaper than picking the minutes one by one
+      sliRecordBuckets = getSLIRecordBuckets(sliId,
+          startTime.isBefore(filter.getStartTime()) ? startTime : filter.getStartTime(),
+          endTime.isAfter(filter.getEndTime()) ? endTime : filter.getEndTime());
+      firstRecord = getFirstSLIRecord(sliRecordBuckets, startTime);
+      lastRecord = getLastSLIRecord(sliRecordBuckets, endTime);
+      firstRecordInRange = getFirstSLIRecord(sliRecordBuckets, filter.getStartTime());
+      lastRecordInRange = getLastSLIRecord(sliRecordBuckets, filter.getEndTime());
+    } else {
+      firstRecord = getFirstSLIRecord(sliId, startTime);
+      lastRecord = getLastSLIRecord(sliId, endTime);
+      firstRecordInRange = getFirstSLIRecord(sliId, filter.getStartTime());
+      lastRecordInRange = getLastSLIRecord(sliId, filter.getEndTime());
+    }
     if (firstRecordInRange == null || lastRecordInRange == null) {
       return Collections.emptyList();
     } else {
       startTime = firstRecordInRange.getTimestamp();
       endTime = lastRecordInRange.getTimestamp().plus(Duration.ofMinutes(1));
     }
-    List<Instant> minutes = new ArrayList<>();
+    SortedSet<Instant> minutes = new TreeSet<>();
     long totalMinutes = Duration.between(startTime, endTime).toMinutes();
     long diff = totalMinutes / MAX_NUMBER_OF_POINTS;
     if (diff == 0) {
@@ -263,6 +335,47 @@ public class SLIRecordServiceImpl implements SLIRecordService {
     }
     minutes.add(endTime.minus(Duration.ofMinutes(1)));
     minutes.add(lastRecord.getTimestamp()); // always include start and end minute.
+    return sliRecordBuckets == null ? getSLIRecords(sliId, minutes) : getSLIRecords(sliRecordBuckets, minutes);
+  }
+
+  // Until the backfill is recorded complete, buckets miss the minutes written before they existed
+  private boolean areBucketsBackfilled() {
+    if (!bucketsBackfilled) {
+      CVNGSchema cvngSchema = hPersistence.createQuery(CVNGSchema.class, excludeAuthorityCount).get();
+      bucketsBackfilled = cvngSchema != null && cvngSchema.getVersion() >= BUCKET_BACKFILL_VERSION;
+    }
+    return bucketsBackfilled;
+  }
+
+  private List<SLIRecordBucket> getSLIRecordBuckets(String sliId, Instant startTime, Instant endTime) {
+    return hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+        .filter(SLIRecordBucketKeys.sliId, sliId)
+        .field(SLIRecordBucketKeys.bucketStartTime)
+        .greaterThanOrEq(SLIRecordBucket.getBucketStartTime(startTime))
+        .field(SLIRecordBucketKeys.bucketStartTime)
+        .lessThan(endTime)
+        .order(Sort.ascending(SLIRecordBucketKeys.bucketStartTime))
+        .asList();
+  }
+
+  private List<SLIRecord> getSLIRecords(List<SLIRecordBucket> sliRecordBuckets, SortedSet<Instant> minutes) {
+    Map<Instant, SLIRecordBucket> bucketsByStartTime = sliRecordBuckets.stream().collect(
+        Collectors.toMap(SLIRecordBucket::getBucketStartTime, Function.identity()));
+    List<SLIRecord> sliRecords = new ArrayList<>();
+    for (Instant minute : minutes) {
+      SLIRecordBucket sliRecordBucket = bucketsByStartTime.get(SLIRecordBucket.getBucketStartTime(minute));
+      // Records are kept at minute boundaries only
+      if (sliRecordBucket != null && minute.equals(minute.truncatedTo(ChronoUnit.MINUTES))) {
+        SLIRecord sliRecord = sliRecordBucket.getSLIRecord(SLIRecordBucket.getMinuteIndex(minute));
+        if (sliRecord != null) {
+          sliRecords.add(sliRecord);
+        }
+      }
+    }
+    return sliRecords;
+  }
+
+  private List<SLIRecord> getSLIRecords(String sliId, SortedSet<Instant> minutes) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
         .filter(SLIRecordKeys.sliId, sliId)
         .field(SLIRecordKeys.timestamp)
@@ -271,6 +384,46 @@ public class SLIRecordServiceImpl implements SLIRecordService {
         .asList();
   }
 
+  private SLIRecord getFirstSLIRecord(List<SLIRecordBucket> sliRecordBuckets, Instant timestampInclusive) {
+    Instant firstMinute = timestampInclusive.plus(Duration.ofMinutes(1)).minusNanos(1).truncatedTo(ChronoUnit.MINUTES);
+    for (SLIRecordBucket sliRecordBucket : sliRecordBuckets) {
+      Instant bucketEndTime = sliRecordBucket.getBucketEndTime();
+      if (!bucketEndTime.isAfter(firstMinute)) {
+        continue;
+      }
+      int fromIndex =
+          sliRecordBucket.getBucketStartTime().isBefore(firstMinute) ? SLIRecordBucket.getMinuteIndex(firstMinute) : 0;
+      for (int i = fromIndex; i < SLIRecordBucket.BUCKET_SIZE_MINUTES; i++) {
+        SLIRecord sliRecord = sliRecordBucket.getSLIRecord(i);
+        if (sliRecord != null) {
+          return sliRecord;
+        }
+      }
+    }
+    return null;
+  }
+
+  private SLIRecord getLastSLIRecord(List<SLIRecordBucket> sliRecordBuckets, Instant timestampExclusive) {
+    for (int bucket = sliRecordBuckets.size() - 1; bucket >= 0; bucket--) {
+      SLIRecordBucket sliRecordBucket = sliRecordBuckets.get(bucket);
+      if (!sliRecordBucket.getBucketStartTime().isBefore(timestampExclusive)) {
+        continue;
+      }
+      Instant bucketEndTime = sliRecordBucket.getBucketEndTime();
+      // Last minute starting before the timestamp
+      int toIndex = bucketEndTime.isAfter(timestampExclusive)
+          ? SLIRecordBucket.getMinuteIndex(timestampExclusive.minusNanos(1))
+          : SLIRecordBucket.BUCKET_SIZE_MINUTES - 1;
+      for (int i = toIndex; i >= 0; i--) {
+        SLIRecord sliRecord = sliRecordBucket.getSLIRecord(i);
+        if (sliRecord != null) {
+          return sliRecord;
+        }
+      }
+    }
+    return null;
+  }
+
   @VisibleForTesting
   List<SLIRecord> getSLIRecords(String sliId, Instant startTimeStamp, Instant endTimeStamp) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
@@ -286,6 +439,8 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   @Override
   public void delete(List<String> sliIds) {
     hPersistence.delete(hPersistence.createQuery(SLIRecord.class).field(SLIRecordKeys.sliId).in(sliIds));
+    hPersistence.delete(
+        hPersistence.createQuery(SLIRecordBucket.class).field(SLIRecordBucketKeys.sliId).in(sliIds));
   }
 
   private SLIRecord getLastSLIRecord(String sliId, Instant startTimeStamp) {
@@ -296,6 +451,7 @@ public class SLIRecordServiceImpl implements SLIRecordService {
         .order(Sort.descending(SLIRecordKeys.timestamp))
         .get();
   }
+
   private SLIRecord getFirstSLIRecord(String sliId, Instant timestampInclusive) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
         .filter(SLIRecordKeys.sliId, sliId)
@@ -84,6 +84,7 @@ import io.harness.cvng.notification.entities.NotificationRule;
 import io.harness.cvng.notification.entities.SLONotificationRule;
 import io.harness.cvng.servicelevelobjective.entities.RatioServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.SLOErrorBudgetReset;
 import io.harness.cvng.servicelevelobjective.entities.SLOHealthIndicator;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
@@ -197,6 +198,7 @@ public class CVNextGenMorphiaRegister implements MorphiaRegistrar {
     set.add(SLOHealthIndicator.class);
     set.add(ThresholdServiceLevelIndicator.class);
     set.add(SLIRecord.class);
+    set.add(SLIRecordBucket.class);
     set.add(SideKick.class);
     set.add(DynatraceCVConfig.class);
     set.add(SLOErrorBudgetReset.class);
@@ -14,6 +14,7 @@ import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.rule.OwnerRule.ARPITJ;
 import static io.harness.rule.OwnerRule.DEEPAK_CHHIKARA;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.KAMAL;
 import static io.harness.rule.OwnerRule.KAPIL;
 
@@ -25,6 +26,9 @@ import io.harness.CvNextGenTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.cvng.core.beans.params.TimeRangeParams;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.migration.CVNGBackgroundMigrationList;
+import io.harness.cvng.migration.beans.CVNGSchema;
+import io.harness.cvng.migration.list.BackfillSLIRecordBuckets;
 import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
 import io.harness.cvng.servicelevelobjective.beans.SLODashboardWidget.Point;
 import io.harness.cvng.servicelevelobjective.beans.SLODashboardWidget.SLOGraphData;
@@ -32,6 +36,9 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
+import io.harness.cvng.servicelevelobjective.entities.ThresholdServiceLevelIndicator;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
@@ -44,6 +51,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -55,6 +63,7 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
   @Spy @Inject private SLIRecordServiceImpl sliRecordService;
   @Inject private Clock clock;
   @Inject private HPersistence hPersistence;
+  @Inject private BackfillSLIRecordBuckets backfillSLIRecordBuckets;
   private String verificationTaskId;
   private String sliId;
   @Before
@@ -63,6 +72,7 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     SLIRecordServiceImpl.MAX_NUMBER_OF_POINTS = 5;
     verificationTaskId = generateUuid();
     sliId = generateUuid();
+    saveSchemaVersion(CVNGBackgroundMigrationList.getMigrations().stream().mapToInt(Pair::getKey).max().getAsInt());
   }
   @Test
   @Owner(developers = KAMAL)
@@ -373,6 +383,37 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     testGraphCalculation(sliStates, SLIMissingDataType.GOOD, expectedSLITrend, expectedBurndown, 35, 4, 0);
   }
 
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testCreate_upsertsIntoHourlyBuckets() {
+    Instant startTime = Instant.parse("2020-07-27T10:55:00Z");
+    List<SLIState> sliStates = Arrays.asList(BAD, GOOD, GOOD, NO_DATA, GOOD, GOOD, BAD, BAD, BAD, BAD);
+    createData(startTime, sliStates);
+    List<SLIRecordBucket> sliRecordBuckets = getSLIRecordBuckets(sliId);
+    assertThat(sliRecordBuckets).hasSize(2);
+    assertThat(sliRecordBuckets.get(0).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T10:00:00Z"));
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(54)).isNull();
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(55).getSliState()).isEqualTo(BAD);
+    assertThat(sliRecordBuckets.get(1).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T11:00:00Z"));
+    SLIRecord lastRecord = sliRecordBuckets.get(1).getSLIRecord(4);
+    assertThat(lastRecord.getTimestamp()).isEqualTo(Instant.parse("2020-07-27T11:04:00Z"));
+    assertThat(lastRecord.getRunningBadCount()).isEqualTo(5);
+    assertThat(lastRecord.getRunningGoodCount()).isEqualTo(4);
+    assertThat(sliRecordBuckets.get(1).getSLIRecord(5)).isNull();
+
+    List<SLIState> updatedSliStates = Arrays.asList(BAD, BAD, BAD, BAD, BAD);
+    sliRecordService.create(getSLIRecordParam(startTime.plus(Duration.ofMinutes(5)), updatedSliStates), sliId,
+        verificationTaskId, 1);
+    sliRecordBuckets = getSLIRecordBuckets(sliId);
+    assertThat(sliRecordBuckets).hasSize(2);
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(59).getSliVersion()).isEqualTo(0);
+    lastRecord = sliRecordBuckets.get(1).getSLIRecord(4);
+    assertThat(lastRecord.getRunningBadCount()).isEqualTo(6);
+    assertThat(lastRecord.getRunningGoodCount()).isEqualTo(3);
+    assertThat(lastRecord.getSliVersion()).isEqualTo(1);
+  }
+
   @Test
   @Owner(developers = KAPIL)
   @Category(UnitTests.class)
@@ -384,6 +425,38 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     assertThat(errorBudgetBurnRate).isCloseTo(3.333, offset(0.001));
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testGetGraphData_readsMinuteRecordsUntilBucketsAreBackfilled() {
+    saveSchemaVersion(0);
+    Instant startTime = Instant.parse("2020-07-27T10:00:00Z");
+    createData(startTime, Arrays.asList(GOOD, NO_DATA, BAD, GOOD));
+    // Records written before the buckets existed
+    hPersistence.delete(hPersistence.createQuery(SLIRecordBucket.class).filter(SLIRecordBucketKeys.sliId, sliId));
+    SLOGraphData sloGraphData = sliRecordService.getGraphData(
+        sliId, startTime, startTime.plus(Duration.ofMinutes(5)), 100, SLIMissingDataType.GOOD, 0);
+    assertThat(sloGraphData.getSloPerformanceTrend()).hasSize(4);
+    assertThat(sloGraphData.getErrorBudgetRemaining()).isEqualTo(99);
+
+    sliRecordService.create(
+        getSLIRecordParam(startTime.plus(Duration.ofMinutes(2)), Arrays.asList(BAD)), sliId, verificationTaskId, 1);
+    hPersistence.save(ThresholdServiceLevelIndicator.builder().uuid(sliId).build());
+    backfillSLIRecordBuckets.migrate();
+    List<SLIRecordBucket> sliRecordBuckets = getSLIRecordBuckets(sliId);
+    assertThat(sliRecordBuckets).hasSize(1);
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(0).getSliState()).isEqualTo(GOOD);
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(1).getSliState()).isEqualTo(NO_DATA);
+    // Minutes written since the buckets exist are kept
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(2).getSliVersion()).isEqualTo(1);
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(3).getRunningGoodCount()).isEqualTo(2);
+    assertThat(sliRecordBuckets.get(0).getSLIRecord(4)).isNull();
+  }
+
+  private void saveSchemaVersion(int version) {
+    hPersistence.save(CVNGSchema.builder().uuid(CVNGSchema.SCHEMA_ID).version(version).build());
+  }
+
   private void createData(Instant startTime, List<SLIState> sliStates) {
     List<SLIRecordParam> sliRecordParams = getSLIRecordParam(startTime, sliStates);
     sliRecordService.create(sliRecordParams, sliId, verificationTaskId, 0);
@@ -398,6 +471,13 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     }
     return sliRecordParams;
   }
+  private List<SLIRecordBucket> getSLIRecordBuckets(String sliId) {
+    return hPersistence.createQuery(SLIRecordBucket.class, excludeAuthority)
+        .filter(SLIRecordBucketKeys.sliId, sliId)
+        .order(Sort.ascending(SLIRecordBucketKeys.bucketStartTime))
+        .asList();
+  }
+
   private SLIRecord getLastRecord(String sliId) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthority)
         .filter(SLIRecordKeys.sliId, sliId)
@@ -706,6 +706,10 @@ if [[ "" != "$DISTRIBUTED_LOCK_IMPLEMENTATION" ]]; then
   yq write -i $CONFIG_FILE distributedLockImplementation "$DISTRIBUTED_LOCK_IMPLEMENTATION"
 fi
 
+if [[ "" != "$RATE_LIMIT_IMPLEMENTATION" ]]; then
+  yq write -i $CONFIG_FILE rateLimitImplementation "$RATE_LIMIT_IMPLEMENTATION"
+fi
+
 if [[ "" != "$ATMOSPHERE_BACKEND" ]]; then
   yq write -i $CONFIG_FILE atmosphereBroadcaster "$ATMOSPHERE_BACKEND"
 fi
@@ -240,6 +240,7 @@ import software.wings.service.impl.AccountServiceImpl;
 import software.wings.service.impl.AppManifestCloudProviderPTaskManager;
 import software.wings.service.impl.ApplicationManifestServiceImpl;
 import software.wings.service.impl.ArtifactStreamServiceImpl;
+import software.wings.service.impl.AssignDelegateServiceImpl;
 import software.wings.service.impl.AuditServiceHelper;
 import software.wings.service.impl.AuditServiceImpl;
 import software.wings.service.impl.BarrierServiceImpl;
@@ -272,6 +273,7 @@ import software.wings.service.impl.yaml.YamlPushServiceImpl;
 import software.wings.service.intfc.AccountService;
 import software.wings.service.intfc.ApplicationManifestService;
 import software.wings.service.intfc.ArtifactStreamService;
+import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.AuditService;
 import software.wings.service.intfc.DataStoreService;
 import software.wings.service.intfc.DelegateProfileService;
@@ -1354,6 +1356,10 @@ public class WingsApplication extends Application<MainConfiguration> {
         injector.getInstance(Key.get(DelegateProfileEventHandler.class));
     delegateServiceImpl.getDelegateProfileSubject().register(delegateProfileEventHandler);
     delegateProfileService.getDelegateProfileSubject().register(delegateProfileEventHandler);
+    AssignDelegateServiceImpl assignDelegateService =
+        (AssignDelegateServiceImpl) injector.getInstance(Key.get(AssignDelegateService.class));
+    delegateServiceImpl.getDelegateProfileSubject().register(assignDelegateService);
+    delegateProfileService.getDelegateProfileSubject().register(assignDelegateService);
 
     // Eventually will be moved to dms
     PerpetualTaskServiceImpl perpetualTaskService =
@@ -28,7 +28,6 @@ import io.harness.serializer.KryoSerializer;
 import software.wings.service.intfc.DelegateTaskServiceClassic;
 
 import com.google.inject.Inject;
-import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,7 +41,7 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
   @Override
   public void queueTask(DelegateClassicTaskRequest request, StreamObserver<QueueTaskResponse> responseObserver) {
     try {
-      DelegateTask task = (DelegateTask) kryoSerializer.asInflatedObject(request.getDelegateTaskKryo().toByteArray());
+      DelegateTask task = (DelegateTask) kryoSerializer.asInflatedObject(request.getDelegateTaskKryo());
 
       delegateTaskServiceClassic.queueTask(task);
 
@@ -58,11 +57,11 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
   @Override
   public void executeTask(DelegateClassicTaskRequest request, StreamObserver<ExecuteTaskResponse> responseObserver) {
     try {
-      DelegateTask task = (DelegateTask) kryoSerializer.asInflatedObject(request.getDelegateTaskKryo().toByteArray());
+      DelegateTask task = (DelegateTask) kryoSerializer.asInflatedObject(request.getDelegateTaskKryo());
       DelegateResponseData delegateResponseData = delegateTaskServiceClassic.executeTask(task);
       responseObserver.onNext(
           ExecuteTaskResponse.newBuilder()
-              .setDelegateTaskResponseKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(delegateResponseData)))
+              .setDelegateTaskResponseKryo(kryoSerializer.asDeflatedByteString(delegateResponseData))
               .build());
       responseObserver.onCompleted();
 
@@ -81,7 +80,7 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       DelegateTask delegateTask = delegateTaskServiceClassic.abortTask(accountId, delegateTaskId);
       responseObserver.onNext(
           AbortTaskResponse.newBuilder()
-              .setDelegateTaskKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(delegateTask)))
+              .setDelegateTaskKryo(kryoSerializer.asDeflatedByteString(delegateTask))
               .build());
       responseObserver.onCompleted();
 
@@ -114,9 +113,9 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       String perpetualTaskType = request.getPerpetualTaskType();
       String accountId = request.getAccountId();
       PerpetualTaskClientContext clientContext =
-          (PerpetualTaskClientContext) kryoSerializer.asInflatedObject(request.getClientContextKryo().toByteArray());
+          (PerpetualTaskClientContext) kryoSerializer.asInflatedObject(request.getClientContextKryo());
       PerpetualTaskSchedule schedule =
-          (PerpetualTaskSchedule) kryoSerializer.asInflatedObject(request.getPerpetualTaskScheduleKryo().toByteArray());
+          (PerpetualTaskSchedule) kryoSerializer.asInflatedObject(request.getPerpetualTaskScheduleKryo());
       boolean allowDuplicate = request.getAllowDuplicate();
       String taskDescription = request.getTaskDescription();
       String taskId = perpetualTaskService.createPerpetualTaskInternal(
@@ -13,7 +13,9 @@ import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.limits.configuration.NoLimitConfiguredException;
+import io.harness.limits.impl.model.RateLimit;
 import io.harness.limits.lib.LimitChecker;
+import io.harness.limits.lib.RateLimitChecker;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -33,4 +35,13 @@ public interface LimitCheckerFactory {
    *
    */
   @Nonnull LimitChecker getInstance(Action action);
+
+  /**
+   *
+   * @param limit - rate limit to check
+   * @param key - key the actions are counted against
+   * @return rateLimitChecker instance for given limit and key, backed by the configured rate limit implementation
+   *
+   */
+  @Nonnull RateLimitChecker getRateLimitChecker(RateLimit limit, String key);
 }
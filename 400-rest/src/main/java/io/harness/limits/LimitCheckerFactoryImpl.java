@@ -13,7 +13,11 @@ import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.limits.checker.MongoStaticLimitChecker;
+import io.harness.limits.checker.rate.GcraRateLimitChecker;
+import io.harness.limits.checker.rate.LocalGcraStateStore;
 import io.harness.limits.checker.rate.MongoSlidingWindowRateLimitChecker;
+import io.harness.limits.checker.rate.RateLimitImplementation;
+import io.harness.limits.checker.rate.RedisGcraStateStore;
 import io.harness.limits.configuration.InvalidLimitConfigurationException;
 import io.harness.limits.configuration.LimitConfigurationService;
 import io.harness.limits.configuration.NoLimitConfiguredException;
@@ -22,10 +26,12 @@ import io.harness.limits.impl.model.StaticLimit;
 import io.harness.limits.lib.Limit;
 import io.harness.limits.lib.LimitChecker;
 import io.harness.limits.lib.LimitType;
+import io.harness.limits.lib.RateLimitChecker;
 
 import software.wings.dl.WingsPersistence;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -37,6 +43,9 @@ import javax.annotation.ParametersAreNonnullByDefault;
 public class LimitCheckerFactoryImpl implements LimitCheckerFactory {
   @Inject private LimitConfigurationService configuredLimitService;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private RateLimitImplementation rateLimitImplementation;
+  @Inject private Provider<RedisGcraStateStore> redisGcraStateStoreProvider;
+  @Inject private LocalGcraStateStore localGcraStateStore;
 
   // TODO: add cache once Redis infra is in place. See PR #3150 for relevant discussion
   @Override
@@ -54,14 +63,12 @@ public class LimitCheckerFactoryImpl implements LimitCheckerFactory {
     Limit limit = configuredLimit.getLimit();
     LimitChecker checker;
 
-    // might need different implementations based on `action` but for now
-    // using mongo backed implementations
     switch (limit.getLimitType()) {
       case STATIC:
         checker = new MongoStaticLimitChecker((StaticLimit) limit, wingsPersistence, action);
         break;
       case RATE_LIMIT:
-        checker = new MongoSlidingWindowRateLimitChecker((RateLimit) limit, wingsPersistence, action);
+        checker = getRateLimitChecker((RateLimit) limit, action.key());
         break;
       default:
         throw new IllegalArgumentException("Unhandled limit type: " + limit.getLimitType());
@@ -70,6 +77,21 @@ public class LimitCheckerFactoryImpl implements LimitCheckerFactory {
     return checker;
   }
 
+  @Override
+  @Nonnull
+  public RateLimitChecker getRateLimitChecker(RateLimit limit, String key) {
+    switch (rateLimitImplementation) {
+      case MONGO:
+        return new MongoSlidingWindowRateLimitChecker(limit, wingsPersistence, key);
+      case REDIS:
+        return new GcraRateLimitChecker(limit, redisGcraStateStoreProvider.get(), key);
+      case LOCAL:
+        return new GcraRateLimitChecker(limit, localGcraStateStore, key);
+      default:
+        throw new IllegalArgumentException("Unhandled rate limit implementation: " + rateLimitImplementation);
+    }
+  }
+
   private void validate(ConfiguredLimit configuredLimit, Action action) {
     if (null == configuredLimit.getLimit()) {
       throw new InvalidLimitConfigurationException(configuredLimit, "configuredLimit.limit is null");
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.limits.impl.model.RateLimit;
+import io.harness.limits.lib.RateLimitChecker;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+/**
+ * Rate limit implementation using the generic cell rate algorithm, which keeps a single timestamp per key instead of
+ * every access time. Each action moves the theoretical arrival time of the next action ahead by duration / count, and
+ * actions are rejected while that time is more than the duration ahead of now. So up to count actions are allowed in a
+ * burst, and permits come back one at a time at a steady rate rather than all at once when old accesses leave the
+ * window.
+ *
+ * Unlike the mongo rate limits, which allow at most count actions in any window, a full burst followed by actions at
+ * the steady rate lets up to about twice the count through within one window. No usage buckets are kept either, and
+ * the redis store lets actions through when redis can't be reached. It is only used when the rateLimitImplementation
+ * setting asks for it.
+ *
+ * You shouldn't need to directly create an instance of this, but rather use {@link
+ * io.harness.limits.LimitCheckerFactory} to get a rate limiter.
+ */
+@OwnedBy(PL)
+public class GcraRateLimitChecker implements RateLimitChecker, RateLimitVicinityChecker {
+  @Getter private final RateLimit limit;
+  private final GcraStateStore store;
+  private final String key;
+  private final Clock clock;
+  private final long window;
+  private final long emissionInterval;
+
+  public GcraRateLimitChecker(RateLimit limit, GcraStateStore store, String key) {
+    this(limit, store, key, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  GcraRateLimitChecker(RateLimit limit, GcraStateStore store, String key, Clock clock) {
+    this.limit = limit;
+    this.store = store;
+    this.key = key;
+    this.clock = clock;
+    this.window = limit.getDurationUnit().toMicros(limit.getDuration());
+    this.emissionInterval = Math.max(window / Math.max(limit.getCount(), 1), 1);
+  }
+
+  @Override
+  public boolean checkAndConsume() {
+    if (limit.getCount() <= 0) {
+      return false;
+    }
+    return store.tryConsume(key, now(), emissionInterval, window);
+  }
+
+  @Override
+  public boolean crossed(int percentage) {
+    double consumed = Math.max(0, store.getTheoreticalArrivalTime(key) - now()) / (double) emissionInterval;
+    double percentValue = (percentage / 100.0) * limit.getCount();
+
+    return consumed > percentValue;
+  }
+
+  private long now() {
+    Instant instant = clock.instant();
+    return TimeUnit.SECONDS.toMicros(instant.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(instant.getNano());
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+/**
+ * Keeps the theoretical arrival time of the next action per key for {@link GcraRateLimitChecker}.
+ * Times are in microseconds since the epoch.
+ */
+@OwnedBy(PL)
+public interface GcraStateStore {
+  /**
+   * Atomically moves the theoretical arrival time of the key by the emission interval, unless that puts it more than
+   * the window ahead of now.
+   *
+   * @return true if the action is allowed
+   */
+  boolean tryConsume(String key, long now, long emissionInterval, long window);
+
+  /**
+   * @return the theoretical arrival time of the key, 0 if there were no recent actions
+   */
+  long getTheoreticalArrivalTime(String key);
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the state of rate limits in memory, so limits apply per pod. Keys idle for a day are dropped, which resets
+ * limits with longer windows.
+ */
+@OwnedBy(PL)
+@Singleton
+public class LocalGcraStateStore implements GcraStateStore {
+  private static final int MAX_KEYS = 100_000;
+  private static final int KEY_EXPIRY_HOURS = 24;
+
+  private final Cache<String, AtomicLong> theoreticalArrivalTimes =
+      CacheBuilder.newBuilder().maximumSize(MAX_KEYS).expireAfterAccess(KEY_EXPIRY_HOURS, TimeUnit.HOURS).build();
+
+  @Override
+  public boolean tryConsume(String key, long now, long emissionInterval, long window) {
+    AtomicLong theoreticalArrivalTime = theoreticalArrivalTimes.asMap().computeIfAbsent(key, k -> new AtomicLong());
+    while (true) {
+      long current = theoreticalArrivalTime.get();
+      long next = Math.max(current, now) + emissionInterval;
+      if (next - now > window) {
+        return false;
+      }
+      if (theoreticalArrivalTime.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public long getTheoreticalArrivalTime(String key) {
+    AtomicLong theoreticalArrivalTime = theoreticalArrivalTimes.getIfPresent(key);
+    return theoreticalArrivalTime == null ? 0 : theoreticalArrivalTime.get();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.eventsframework.impl.redis.RedisUtils;
+import io.harness.redis.RedisConfig;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Keeps the state of rate limits in Redis as a single value per key, updated by a script so concurrent actions from
+ * all pods are counted exactly once. Redis failures let actions through rather than blocking them.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class RedisGcraStateStore implements GcraStateStore {
+  private static final String RATE_LIMIT_PREFIX = "rateLimits";
+
+  // KEYS[1] = key, ARGV = now, emission interval, window; returns 1 if allowed
+  private static final String TRY_CONSUME_SCRIPT = "local now = tonumber(ARGV[1]) "
+      + "local tat = tonumber(redis.call('GET', KEYS[1]) or ARGV[1]) "
+      + "if tat < now then tat = now end "
+      + "local newTat = tat + tonumber(ARGV[2]) "
+      + "if newTat - now > tonumber(ARGV[3]) then return 0 end "
+      + "local ttl = math.max(1, math.ceil((newTat - now) / 1000)) "
+      + "redis.call('SET', KEYS[1], string.format('%.0f', newTat), 'PX', ttl) "
+      + "return 1";
+
+  private final RedissonClient client;
+  private final String namespace;
+
+  @Inject
+  RedisGcraStateStore(@Named("lock") RedisConfig redisConfig) {
+    this.client = RedisUtils.getClient(redisConfig);
+    String envNamespace = redisConfig.getEnvNamespace();
+    this.namespace = EmptyPredicate.isEmpty(envNamespace) ? RATE_LIMIT_PREFIX.concat(":")
+                                                          : String.format("%s:%s:", envNamespace, RATE_LIMIT_PREFIX);
+  }
+
+  @Override
+  public boolean tryConsume(String key, long now, long emissionInterval, long window) {
+    try {
+      Long allowed = client.getScript(StringCodec.INSTANCE)
+                         .eval(RScript.Mode.READ_WRITE, TRY_CONSUME_SCRIPT, RScript.ReturnType.INTEGER,
+                             Collections.singletonList(namespace.concat(key)), String.valueOf(now),
+                             String.valueOf(emissionInterval), String.valueOf(window));
+      return allowed != null && allowed == 1;
+    } catch (Exception ex) {
+      log.error("Failed to check rate limit {} in redis, allowing the action", key, ex);
+      return true;
+    }
+  }
+
+  @Override
+  public long getTheoreticalArrivalTime(String key) {
+    try {
+      Object value = client.getBucket(namespace.concat(key), StringCodec.INSTANCE).get();
+      return value == null ? 0 : Long.parseLong(value.toString());
+    } catch (Exception ex) {
+      log.error("Failed to read rate limit {} from redis", key, ex);
+      return 0;
+    }
+  }
+}
@@ -286,7 +286,7 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
                                          .build();
 
     return PerpetualTaskExecutionContext.newBuilder()
-        .setTaskParams(params)
+        .setTaskParams(params.toBuilder().setInstanceSyncDeltaSupported(true))
         .setTaskSchedule(schedule)
         .setHeartbeatTimestamp(HTimestamps.fromMillis(perpetualTaskRecord.getLastHeartbeat()))
         .build();
@@ -12,6 +12,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.delegate.beans.DelegateResponseData;
+import io.harness.exception.GeneralException;
 import io.harness.instancesync.InstanceSyncResourceClient;
 import io.harness.utils.RestCallToNGManagerClientUtils;
 
@@ -26,28 +27,32 @@ import lombok.extern.slf4j.Slf4j;
 public class InstanceSyncResponsePublisher {
   @Inject private InstanceSyncResourceClient instanceSyncResourceClient;
 
-  public void publishInstanceSyncResponseToNG(
+  /**
+   * Returns whether NG accepted the response, NG rejects instance deltas that are not based on the instances it has.
+   * Throws when NG could not be reached, which is not a rejection.
+   */
+  public boolean publishInstanceSyncResponseToNG(
       String accountIdentifier, String perpetualTaskId, DelegateResponseData instanceSyncPerpetualTaskResponse) {
     if (instanceSyncPerpetualTaskResponse == null) {
       log.error("Instance sync perpetual task response is null for accountIdentifier : {} and perpetualTaskId : {}",
           accountIdentifier, perpetualTaskId);
     }
-    boolean response = false;
-    int retry = 0;
-    while (!response && retry < 3) {
+    Exception lastException = null;
+    for (int retry = 0; retry < 3; retry++) {
       try {
-        response = RestCallToNGManagerClientUtils.execute(instanceSyncResourceClient.sendPerpetualTaskResponse(
+        boolean accepted = RestCallToNGManagerClientUtils.execute(instanceSyncResourceClient.sendPerpetualTaskResponse(
             accountIdentifier, perpetualTaskId, instanceSyncPerpetualTaskResponse));
+        log.info(
+            "Successfully pushed instance sync perpetual task response from CG to NG for accountIdentifier : {} and perpetualTaskId : {}, accepted : {}",
+            accountIdentifier, perpetualTaskId, accepted);
+        return accepted;
       } catch (Exception exception) {
         log.error(
             "Error occured while sending instance sync perpetual task response from CG to NG for accountIdentifier : {} and perpetualTaskId : {}",
             accountIdentifier, perpetualTaskId, exception);
+        lastException = exception;
       }
-      retry += 1;
     }
-
-    log.info(
-        "Successfully pushed instance sync perpetual task response from CG to NG for accountIdentifier : {} and perpetualTaskId : {}",
-        accountIdentifier, perpetualTaskId);
+    throw new GeneralException("Failed to send instance sync perpetual task response to NG", lastException);
   }
 }
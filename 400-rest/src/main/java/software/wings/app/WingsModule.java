@@ -70,12 +70,14 @@ import io.harness.ccm.views.service.CEViewFolderService;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.ViewCustomFieldService;
 import io.harness.ccm.views.service.ViewsBillingService;
+import io.harness.ccm.views.service.ViewsQueryResultCache;
 import io.harness.ccm.views.service.impl.CEReportScheduleServiceImpl;
 import io.harness.ccm.views.service.impl.CEReportTemplateBuilderServiceImpl;
 import io.harness.ccm.views.service.impl.CEViewFolderServiceImpl;
 import io.harness.ccm.views.service.impl.CEViewServiceImpl;
 import io.harness.ccm.views.service.impl.ViewCustomFieldServiceImpl;
 import io.harness.ccm.views.service.impl.ViewsBillingServiceImpl;
+import io.harness.ccm.views.service.impl.ViewsQueryResultCacheImpl;
 import io.harness.cdlicense.impl.CgCdLicenseUsageService;
 import io.harness.cdlicense.impl.CgCdLicenseUsageServiceImpl;
 import io.harness.config.PipelineConfig;
@@ -154,6 +156,7 @@ import io.harness.licensing.remote.NgLicenseHttpClientModule;
 import io.harness.licensing.remote.admin.AdminLicenseHttpClientModule;
 import io.harness.limits.LimitCheckerFactory;
 import io.harness.limits.LimitCheckerFactoryImpl;
+import io.harness.limits.checker.rate.RateLimitImplementation;
 import io.harness.limits.configuration.LimitConfigurationService;
 import io.harness.limits.configuration.LimitConfigurationServiceMongo;
 import io.harness.limits.counter.service.CounterService;
@@ -843,6 +846,14 @@ public class WingsModule extends AbstractModule implements ServersModule {
                                                                     : configuration.getDistributedLockImplementation();
   }
 
+  @Provides
+  @Singleton
+  RateLimitImplementation rateLimitImplementation() {
+    // GCRA limits allow other bursts than the mongo ones and keep no usage buckets, so they have to be opted into
+    return configuration.getRateLimitImplementation() == null ? RateLimitImplementation.MONGO
+                                                              : configuration.getRateLimitImplementation();
+  }
+
   @Provides
   @Singleton
   MongoConfig mongoConfig() {
@@ -1168,6 +1179,7 @@ public class WingsModule extends AbstractModule implements ServersModule {
     bind(BudgetService.class).to(BudgetServiceImpl.class);
     bind(ViewCustomFieldService.class).to(ViewCustomFieldServiceImpl.class);
     bind(ViewsBillingService.class).to(ViewsBillingServiceImpl.class);
+    bind(ViewsQueryResultCache.class).to(ViewsQueryResultCacheImpl.class);
     bind(CEViewService.class).to(CEViewServiceImpl.class);
     bind(CEViewFolderService.class).to(CEViewFolderServiceImpl.class);
     bind(BusinessMappingService.class).to(BusinessMappingServiceImpl.class);
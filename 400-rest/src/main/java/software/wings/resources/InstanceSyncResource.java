@@ -71,11 +71,9 @@ public class InstanceSyncResource {
       @QueryParam("accountId") @NotEmpty String accountId, DelegateResponseData response) {
     try (AutoLogContext ignore1 = new AccountLogContext(accountId, OVERRIDE_ERROR);
          AutoLogContext ignore2 = new PerpetualTaskLogContext(perpetualTaskId, OVERRIDE_ERROR)) {
-      instanceSyncResponsePublisher.publishInstanceSyncResponseToNG(
-          accountId, perpetualTaskId.replaceAll("[\r\n]", ""), response);
-    } catch (Exception e) {
-      log.error("Failed to process results for perpetual task: [{}]", perpetualTaskId.replaceAll("[\r\n]", ""), e);
+      // Failures are returned as errors, the delegate sends all instances again only when NG rejects them
+      return new RestResponse<>(instanceSyncResponsePublisher.publishInstanceSyncResponseToNG(
+          accountId, perpetualTaskId.replaceAll("[\r\n]", ""), response));
     }
-    return new RestResponse<>(true);
   }
 }
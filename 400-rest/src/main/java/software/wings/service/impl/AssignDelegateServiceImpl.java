@@ -16,6 +16,7 @@ import static io.harness.delegate.beans.NgSetupFields.NG;
 import static io.harness.delegate.task.TaskFailureReason.EXPIRED;
 import static io.harness.persistence.HPersistence.upsertReturnNewOptions;
 
+import static software.wings.service.impl.DelegateEligibilityIndex.NOT_INDEXED;
 import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP;
 import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_OWNER;
 import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP;
@@ -60,6 +61,7 @@ import io.harness.ff.FeatureFlagService;
 import io.harness.persistence.HPersistence;
 import io.harness.service.dto.RetryDelegate;
 import io.harness.service.intfc.DelegateCache;
+import io.harness.service.intfc.DelegateProfileObserver;
 import io.harness.service.intfc.DelegateTaskRetryObserver;
 
 import software.wings.beans.Environment;
@@ -86,6 +88,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -114,7 +117,8 @@ import org.mongodb.morphia.query.UpdateOperations;
 @BreakDependencyOn("software.wings.service.intfc.EnvironmentService")
 @BreakDependencyOn("software.wings.service.intfc.InfrastructureMappingService")
 @OwnedBy(HarnessTeam.DEL)
-public class AssignDelegateServiceImpl implements AssignDelegateService, DelegateTaskRetryObserver {
+public class AssignDelegateServiceImpl
+    implements AssignDelegateService, DelegateTaskRetryObserver, DelegateProfileObserver {
   public static final String SCOPE_WILDCARD = "*";
   private static final SecureRandom random = new SecureRandom();
   public static final long MAX_DELEGATE_LAST_HEARTBEAT = (5 * 60 * 1000L) + (15 * 1000L); // 5 minutes 15 seconds
@@ -128,6 +132,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
   private static final long WHITELIST_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
 
   private static final String NO_ACTIVE_DELEGATES = "Account has no active delegates";
+  // Same freshness as the delegate group and profile caches the selectors and scoping rules are read from
+  private static final long ELIGIBILITY_INDEX_TTL_SECONDS = 30;
 
   public static final String PIPELINE = "pipeline";
   public static final String STAGE = "stage";
@@ -181,6 +187,17 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
             }
           });
 
+  private final LoadingCache<String, DelegateEligibilityIndex> eligibilityIndexCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(ELIGIBILITY_INDEX_TTL_SECONDS, TimeUnit.SECONDS)
+          .build(new CacheLoader<String, DelegateEligibilityIndex>() {
+            @Override
+            public DelegateEligibilityIndex load(String accountId) {
+              return buildEligibilityIndex(accountId);
+            }
+          });
+
   @Override
   public boolean canAssign(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
@@ -874,12 +891,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return eligibleDelegateIds;
       }
 
-      eligibleDelegateIds =
-          delegates.stream()
-              .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
-              .map(Delegate::getUuid)
-              .collect(Collectors.toList());
+      eligibleDelegateIds = selectEligibleDelegates(task, delegates);
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
       List<String> nonAssignables =
           task.getNonAssignableDelegates()
@@ -895,6 +907,118 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return eligibleDelegateIds;
   }
 
+  /**
+   * Same outcome as evaluating {@link #canAssignTask(String, DelegateTask)} for every delegate, but task type and
+   * selector matching is served from the eligibility index of the account. Delegates changed since the index was built
+   * are evaluated one by one.
+   */
+  private List<String> selectEligibleDelegates(DelegateTask task, List<Delegate> delegates) throws ExecutionException {
+    DelegateEligibilityIndex index = eligibilityIndexCache.get(task.getAccountId());
+    BitSet supportingTaskType = index.supportingTaskType(task.getData().getTaskType());
+    BitSet matchingSelectors = matchingSelectors(index, task.getExecutionCapabilities());
+
+    List<String> eligibleDelegateIds = new ArrayList<>();
+    for (Delegate activeDelegate : delegates) {
+      if (activeDelegate.getStatus() == DelegateInstanceStatus.DELETED) {
+        continue;
+      }
+      Delegate delegate = delegateCache.get(task.getAccountId(), activeDelegate.getUuid(), false);
+      int position = delegate == null ? NOT_INDEXED : index.position(delegate);
+      boolean canAssign = position == NOT_INDEXED
+          ? canAssignTask(activeDelegate.getUuid(), task)
+          : canAssignIndexedTask(index, position, supportingTaskType, matchingSelectors, task);
+      if (canAssign) {
+        eligibleDelegateIds.add(activeDelegate.getUuid());
+      }
+    }
+    return eligibleDelegateIds;
+  }
+
+  private boolean canAssignIndexedTask(DelegateEligibilityIndex index, int position, BitSet supportingTaskType,
+      BitSet matchingSelectors, DelegateTask task) {
+    Delegate delegate = index.getDelegate(position);
+    String nonAssignableReason = null;
+    if (!supportingTaskType.get(position)) {
+      nonAssignableReason = CAN_NOT_ASSIGN_TASK_GROUP;
+    } else if (index.isScoped(position) && !canAssignDelegateScopes(delegate, task)) {
+      nonAssignableReason = CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP;
+    } else if (index.isScoped(position)
+        && !canAssignDelegateProfileScopes(delegate, task.getSetupAbstractions(), task.getUuid())) {
+      nonAssignableReason = CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP;
+    } else if (matchingSelectors != null && !matchingSelectors.get(position)) {
+      nonAssignableReason = CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP;
+    }
+
+    if (nonAssignableReason == null) {
+      return true;
+    }
+    task.getNonAssignableDelegates()
+        .computeIfAbsent(nonAssignableReason, key -> new ArrayList<>())
+        .add(index.getName(position));
+    log.debug("Delegate {} can not be assigned task {}: {}", delegate.getUuid(), task.getUuid(), nonAssignableReason);
+    return false;
+  }
+
+  /**
+   * Returns the delegates having all the selectors required by the task, or null when the task does not require any.
+   */
+  private BitSet matchingSelectors(DelegateEligibilityIndex index, List<ExecutionCapability> executionCapabilities) {
+    if (isEmpty(executionCapabilities)) {
+      return null;
+    }
+    List<SelectorCapability> selectorsCapabilityList =
+        delegateTaskServiceClassic.fetchTaskSelectorCapabilities(executionCapabilities);
+    if (isEmpty(selectorsCapabilityList)) {
+      return null;
+    }
+    log.info("Selectors received : {}", selectorsCapabilityList);
+
+    Set<String> selectors = new HashSet<>();
+    for (SelectorCapability selectorCapability : selectorsCapabilityList) {
+      if (selectorCapability.getSelectors() != null) {
+        selectors.addAll(trimmedLowercaseSet(selectorCapability.getSelectors()));
+      }
+    }
+    return index.havingSelectors(selectors);
+  }
+
+  @VisibleForTesting
+  DelegateEligibilityIndex buildEligibilityIndex(String accountId) {
+    List<Delegate> delegates = getAccountDelegates(accountId)
+                                   .stream()
+                                   .map(delegate -> delegateCache.get(accountId, delegate.getUuid(), false))
+                                   .filter(Objects::nonNull)
+                                   .collect(toList());
+    return new DelegateEligibilityIndex(
+        delegates, delegate -> delegateService.retrieveDelegateSelectors(delegate, true), this::hasProfileScopingRules);
+  }
+
+  private boolean hasProfileScopingRules(Delegate delegate) {
+    DelegateProfile delegateProfile =
+        delegateCache.getDelegateProfile(delegate.getAccountId(), delegate.getDelegateProfileId());
+    return delegateProfile != null && isNotEmpty(delegateProfile.getScopingRules());
+  }
+
+  @Override
+  public void onProfileUpdated(DelegateProfile originalProfile, DelegateProfile updatedProfile) {
+    eligibilityIndexCache.invalidate(updatedProfile.getAccountId());
+  }
+
+  @Override
+  public void onProfileApplied(String accountId, String delegateId, String profileId) {
+    eligibilityIndexCache.invalidate(accountId);
+  }
+
+  @Override
+  public void onProfileSelectorsUpdated(String accountId, String profileId) {
+    eligibilityIndexCache.invalidate(accountId);
+  }
+
+  @Override
+  public void onProfileScopesUpdated(String accountId, String profileId) {
+    eligibilityIndexCache.invalidate(accountId);
+  }
+
   @Override
   public List<String> getConnectedDelegateList(List<String> delegates, DelegateTask delegateTask) {
     if (isEmpty(delegates)) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable snapshot of the delegates of an account, indexed by supported task type and selector so that the
+ * delegates able to take a task are found by intersecting bitsets instead of evaluating every delegate.
+ */
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateEligibilityIndex {
+  public static final int NOT_INDEXED = -1;
+
+  private final Map<String, Integer> positions = new HashMap<>();
+  private final Delegate[] delegates;
+  private final String[] names;
+  private final Map<String, BitSet> delegatesByTaskType = new HashMap<>();
+  private final Map<String, BitSet> delegatesBySelector = new HashMap<>();
+  private final BitSet delegatesWithSelectors = new BitSet();
+  // Delegates with include/exclude scopes or profile scoping rules, these still need to be evaluated per task
+  private final BitSet scopedDelegates = new BitSet();
+
+  /**
+   * @param delegates full delegate entities, as returned by the delegate cache
+   * @param selectorsProvider selectors of a delegate including the ones of its group and the implicit ones
+   * @param profileScoped whether the profile of a delegate has scoping rules
+   */
+  public DelegateEligibilityIndex(Collection<Delegate> delegates, Function<Delegate, Set<String>> selectorsProvider,
+      Predicate<Delegate> profileScoped) {
+    this.delegates = new Delegate[delegates.size()];
+    this.names = new String[delegates.size()];
+
+    int position = 0;
+    for (Delegate delegate : delegates) {
+      this.positions.put(delegate.getUuid(), position);
+      this.delegates[position] = delegate;
+      this.names[position] = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
+
+      if (delegate.getSupportedTaskTypes() != null) {
+        for (String taskType : delegate.getSupportedTaskTypes()) {
+          delegatesByTaskType.computeIfAbsent(taskType, key -> new BitSet()).set(position);
+        }
+      }
+
+      Set<String> selectors = trimmedLowercaseSet(selectorsProvider.apply(delegate));
+      if (isNotEmpty(selectors)) {
+        delegatesWithSelectors.set(position);
+        for (String selector : selectors) {
+          delegatesBySelector.computeIfAbsent(selector, key -> new BitSet()).set(position);
+        }
+      }
+
+      if (isNotEmpty(delegate.getIncludeScopes()) || isNotEmpty(delegate.getExcludeScopes())
+          || profileScoped.test(delegate)) {
+        scopedDelegates.set(position);
+      }
+      position++;
+    }
+  }
+
+  /**
+   * Returns the position of the delegate, or {@link #NOT_INDEXED} when the index was built from a different version
+   * of the delegate entity than the given one.
+   */
+  public int position(Delegate delegate) {
+    Integer position = positions.get(delegate.getUuid());
+    if (position == null || delegates[position] != delegate) {
+      return NOT_INDEXED;
+    }
+    return position;
+  }
+
+  public int size() {
+    return delegates.length;
+  }
+
+  public Delegate getDelegate(int position) {
+    return delegates[position];
+  }
+
+  public String getName(int position) {
+    return names[position];
+  }
+
+  public boolean isScoped(int position) {
+    return scopedDelegates.get(position);
+  }
+
+  /**
+   * Delegates supporting the given task type.
+   */
+  public BitSet supportingTaskType(String taskType) {
+    BitSet supporting = taskType == null ? null : delegatesByTaskType.get(taskType);
+    return supporting == null ? new BitSet() : (BitSet) supporting.clone();
+  }
+
+  /**
+   * Delegates having all the given selectors, selectors are expected to be trimmed and lowercase. Delegates without
+   * any selector never match, even when no selector is required.
+   */
+  public BitSet havingSelectors(Set<String> selectors) {
+    BitSet matching = (BitSet) delegatesWithSelectors.clone();
+    if (isEmpty(selectors)) {
+      return matching;
+    }
+    for (String selector : selectors) {
+      BitSet withSelector = delegatesBySelector.get(selector);
+      if (withSelector == null) {
+        return new BitSet();
+      }
+      matching.and(withSelector);
+    }
+    return matching;
+  }
+}
@@ -18,7 +18,6 @@ import io.harness.limits.ActionType;
 import io.harness.limits.LimitCheckerFactory;
 import io.harness.limits.checker.LimitApproachingException;
 import io.harness.limits.checker.UsageLimitExceededException;
-import io.harness.limits.checker.rate.MongoSlidingWindowRateLimitChecker;
 import io.harness.limits.checker.rate.RateLimitVicinityChecker;
 import io.harness.limits.configuration.NoLimitConfiguredException;
 import io.harness.limits.impl.model.RateLimit;
@@ -27,7 +26,6 @@ import io.harness.limits.lib.RateLimitChecker;
 import io.harness.logging.AccountLogContext;
 import io.harness.logging.AutoLogContext;
 
-import software.wings.dl.WingsPersistence;
 import software.wings.service.intfc.deployment.PreDeploymentChecker;
 
 import com.google.inject.Inject;
@@ -47,12 +45,10 @@ public class DeploymentRateLimitChecker implements PreDeploymentChecker {
   private static final double SHORT_LIMIT_PERCENT = 0.4D;
 
   private LimitCheckerFactory limitCheckerFactory;
-  private WingsPersistence persistence;
 
   @Inject
-  public DeploymentRateLimitChecker(LimitCheckerFactory limitCheckerFactory, WingsPersistence persistence) {
+  public DeploymentRateLimitChecker(LimitCheckerFactory limitCheckerFactory) {
     this.limitCheckerFactory = limitCheckerFactory;
-    this.persistence = persistence;
   }
 
   /**
@@ -137,8 +133,7 @@ public class DeploymentRateLimitChecker implements PreDeploymentChecker {
     }
 
     // 40% of 24 hour limit allowed per hour
-    return new MongoSlidingWindowRateLimitChecker(
-        new RateLimit((int) (limit.getCount() * SHORT_LIMIT_PERCENT), 1, TimeUnit.HOURS), persistence,
-        action.key() + "_hourly");
+    return limitCheckerFactory.getRateLimitChecker(
+        new RateLimit((int) (limit.getCount() * SHORT_LIMIT_PERCENT), 1, TimeUnit.HOURS), action.key() + "_hourly");
   }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.limits.impl.model.RateLimit;
+import io.harness.rule.Owner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class GcraRateLimitCheckerTest extends CategoryTest {
+  private static final Instant START = Instant.parse("2022-01-01T00:00:00Z");
+  private static final RateLimit LIMIT = new RateLimit(10, 1, TimeUnit.HOURS);
+
+  private final LocalGcraStateStore store = new LocalGcraStateStore();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldAllowBurstUpToLimit() {
+    GcraRateLimitChecker checker = checkerAt(Duration.ZERO);
+    for (int i = 0; i < 10; i++) {
+      assertThat(checker.checkAndConsume()).isTrue();
+    }
+    assertThat(checker.checkAndConsume()).isFalse();
+    assertThat(checkerAt(Duration.ofMinutes(5)).checkAndConsume()).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRegeneratePermitsAtSteadyRate() {
+    GcraRateLimitChecker checker = checkerAt(Duration.ZERO);
+    for (int i = 0; i < 10; i++) {
+      checker.checkAndConsume();
+    }
+
+    // One permit comes back every 6 minutes
+    GcraRateLimitChecker later = checkerAt(Duration.ofMinutes(6));
+    assertThat(later.checkAndConsume()).isTrue();
+    assertThat(later.checkAndConsume()).isFalse();
+
+    GcraRateLimitChecker muchLater = checkerAt(Duration.ofMinutes(6 + 18));
+    for (int i = 0; i < 3; i++) {
+      assertThat(muchLater.checkAndConsume()).isTrue();
+    }
+    assertThat(muchLater.checkAndConsume()).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotCountRejectedActions() {
+    GcraRateLimitChecker checker = checkerAt(Duration.ZERO);
+    for (int i = 0; i < 20; i++) {
+      checker.checkAndConsume();
+    }
+    assertThat(checkerAt(Duration.ofHours(1)).crossed(0)).isFalse();
+    assertThat(checkerAt(Duration.ofHours(1)).checkAndConsume()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReportVicinity() {
+    GcraRateLimitChecker checker = checkerAt(Duration.ZERO);
+    for (int i = 0; i < 8; i++) {
+      checker.checkAndConsume();
+    }
+    assertThat(checker.crossed(70)).isTrue();
+    assertThat(checker.crossed(80)).isFalse();
+    assertThat(checkerAt(Duration.ofMinutes(12)).crossed(50)).isTrue();
+    assertThat(checkerAt(Duration.ofMinutes(13)).crossed(60)).isFalse();
+    assertThat(new GcraRateLimitChecker(LIMIT, store, "other").crossed(0)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldAllowExactlyTheLimitUnderConcurrency() throws Exception {
+    RateLimit limit = new RateLimit(1000, 1, TimeUnit.DAYS);
+    GcraRateLimitChecker checker =
+        new GcraRateLimitChecker(limit, store, "concurrent", Clock.fixed(START, ZoneOffset.UTC));
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          int allowed = 0;
+          for (int j = 0; j < 500; j++) {
+            allowed += checker.checkAndConsume() ? 1 : 0;
+          }
+          return allowed;
+        }));
+      }
+      int allowed = 0;
+      for (Future<Integer> future : futures) {
+        allowed += future.get();
+      }
+      assertThat(allowed).isEqualTo(1000);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private GcraRateLimitChecker checkerAt(Duration elapsed) {
+    return new GcraRateLimitChecker(LIMIT, store, "key", Clock.fixed(START.plus(elapsed), ZoneOffset.UTC));
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import io.harness.limits.impl.model.RateLimit;
+import io.harness.redis.RedisConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Has a number of threads check the same rate limits concurrently, spread over a number of keys, and reports the
+ * throughput and whether exactly the limit was allowed per key. Uses the in memory store, and the redis store as well
+ * when a redis url is given. Thread count, key count, checks per thread and redis url can be given as arguments, 16,
+ * 100 and 100000 by default.
+ */
+@Slf4j
+public class RateLimitCheckerBenchmark {
+  private static final RateLimit LIMIT = new RateLimit(1000, 1, TimeUnit.DAYS);
+
+  public static void main(String[] args) throws Exception {
+    int threadCount = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    int keyCount = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int checkCount = args.length > 2 ? Integer.parseInt(args[2]) : 100000;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      // Warm up
+      run(new LocalGcraStateStore(), executor, threadCount, keyCount, checkCount);
+      run(new LocalGcraStateStore(), executor, threadCount, keyCount, checkCount);
+
+      long startTime = System.nanoTime();
+      long allowed = run(new LocalGcraStateStore(), executor, threadCount, keyCount, checkCount);
+      report("local", threadCount, keyCount, checkCount, startTime, allowed);
+
+      if (args.length > 3) {
+        RedisGcraStateStore redisStore = new RedisGcraStateStore(
+            RedisConfig.builder().redisUrl(args[3]).envNamespace("benchmark" + System.nanoTime()).build());
+        // Fewer checks, each one is a round trip
+        int redisCheckCount = checkCount / 100;
+        startTime = System.nanoTime();
+        allowed = run(redisStore, executor, threadCount, keyCount, redisCheckCount);
+        report("redis", threadCount, keyCount, redisCheckCount, startTime, allowed);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  // Returns the number of checks allowed
+  private static long run(GcraStateStore store, ExecutorService executor, int threadCount, int keyCount,
+      int checkCount) throws Exception {
+    List<GcraRateLimitChecker> checkers = new ArrayList<>();
+    for (int key = 0; key < keyCount; key++) {
+      checkers.add(new GcraRateLimitChecker(LIMIT, store, "key" + key));
+    }
+    List<Future<Long>> futures = new ArrayList<>();
+    for (int thread = 0; thread < threadCount; thread++) {
+      int offset = thread;
+      futures.add(executor.submit(() -> {
+        long allowed = 0;
+        for (int check = 0; check < checkCount; check++) {
+          if (checkers.get((check + offset) % keyCount).checkAndConsume()) {
+            allowed++;
+          }
+        }
+        return allowed;
+      }));
+    }
+    long allowed = 0;
+    for (Future<Long> future : futures) {
+      allowed += future.get();
+    }
+    return allowed;
+  }
+
+  private static void report(String mode, int threadCount, int keyCount, int checkCount, long startTime, long allowed) {
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    long checks = (long) threadCount * checkCount;
+    long expected = Math.min(checks, (long) keyCount * LIMIT.getCount());
+    log.info("{}: {} checks by {} threads in {} s, {} checks per second, {} allowed, {} expected", mode, checks,
+        threadCount, String.format("%.2f", seconds), String.format("%.0f", checks / seconds), allowed, expected);
+  }
+}
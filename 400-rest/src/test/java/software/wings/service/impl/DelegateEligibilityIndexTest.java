@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.category.element.StressTests;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateScope;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(HarnessTeam.DEL)
+@Slf4j
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  private static Delegate delegate(String hostName, List<String> taskTypes, String... tags) {
+    return Delegate.builder()
+        .uuid(generateUuid())
+        .hostName(hostName)
+        .supportedTaskTypes(taskTypes)
+        .tags(asList(tags))
+        .build();
+  }
+
+  private static DelegateEligibilityIndex index(List<Delegate> delegates) {
+    return new DelegateEligibilityIndex(delegates, delegate
+        -> new HashSet<>(delegate.getTags()),
+        delegate -> "profile-scoped".equals(delegate.getHostName()));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testIntersectTaskTypesAndSelectors() {
+    Delegate http = delegate("http", asList("HTTP"), " K8s ", "aws");
+    Delegate script = delegate(null, asList("HTTP", "SCRIPT"), "k8s");
+    Delegate untagged = delegate("untagged", asList("SCRIPT"));
+    DelegateEligibilityIndex index = index(asList(http, script, untagged));
+
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.supportingTaskType("HTTP")).isEqualTo(bits(0, 1));
+    assertThat(index.supportingTaskType("JIRA")).isEqualTo(bits());
+    assertThat(index.supportingTaskType(null)).isEqualTo(bits());
+
+    assertThat(index.havingSelectors(ImmutableSet.of("k8s"))).isEqualTo(bits(0, 1));
+    assertThat(index.havingSelectors(ImmutableSet.of("k8s", "aws"))).isEqualTo(bits(0));
+    assertThat(index.havingSelectors(ImmutableSet.of("gcp"))).isEqualTo(bits());
+    // Delegates without selectors never match a task requiring selectors
+    assertThat(index.havingSelectors(ImmutableSet.of())).isEqualTo(bits(0, 1));
+
+    // Results are copies, intersecting them does not alter the index
+    index.supportingTaskType("HTTP").and(index.havingSelectors(ImmutableSet.of("aws")));
+    assertThat(index.supportingTaskType("HTTP")).isEqualTo(bits(0, 1));
+
+    assertThat(index.getName(0)).isEqualTo("http");
+    assertThat(index.getName(1)).isEqualTo(script.getUuid());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testPositionAndScopes() {
+    Delegate unscoped = delegate("unscoped", asList("HTTP"));
+    Delegate scoped = delegate("scoped", asList("HTTP"));
+    scoped.setExcludeScopes(asList(DelegateScope.builder().name("scope").build()));
+    Delegate profileScoped = delegate("profile-scoped", asList("HTTP"));
+    DelegateEligibilityIndex index = index(asList(unscoped, scoped, profileScoped));
+
+    assertThat(index.isScoped(index.position(unscoped))).isFalse();
+    assertThat(index.isScoped(index.position(scoped))).isTrue();
+    assertThat(index.isScoped(index.position(profileScoped))).isTrue();
+    assertThat(index.getDelegate(index.position(scoped))).isSameAs(scoped);
+
+    // Another version of an indexed delegate, or a delegate registered later, are not served from the index
+    Delegate updated = delegate("unscoped", asList("SCRIPT"));
+    updated.setUuid(unscoped.getUuid());
+    assertThat(index.position(updated)).isEqualTo(DelegateEligibilityIndex.NOT_INDEXED);
+    assertThat(index.position(delegate("new", asList("HTTP")))).isEqualTo(DelegateEligibilityIndex.NOT_INDEXED);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("Micro benchmark of eligibility evaluation for a large synthetic account, run manually")
+  public void benchmarkEligibleDelegates() {
+    int delegateCount = 2000;
+    List<String> taskTypes = asList("HTTP", "SCRIPT", "K8S_COMMAND_TASK", "JIRA", "SHELL_SCRIPT_TASK_NG");
+    List<Delegate> delegates = new ArrayList<>();
+    for (int i = 0; i < delegateCount; i++) {
+      delegates.add(delegate("delegate-" + i, asList(taskTypes.get(i % taskTypes.size()), "HTTP"), "region-" + i % 10,
+          "cluster-" + i % 50, "Team-" + i % 7));
+    }
+    Set<String> required = ImmutableSet.of("region-3", "team-3");
+    int iterations = 5000;
+
+    long start = System.nanoTime();
+    int eligible = 0;
+    for (int i = 0; i < iterations; i++) {
+      // Evaluation of every delegate, as done without the index
+      for (Delegate delegate : delegates) {
+        Set<String> selectors = trimmedLowercaseSet(delegate.getTags());
+        if (delegate.getSupportedTaskTypes().contains("SCRIPT") && selectors.containsAll(required)) {
+          eligible++;
+        }
+      }
+    }
+    long perDelegate = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    DelegateEligibilityIndex index = index(delegates);
+    long build = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    int indexedEligible = 0;
+    for (int i = 0; i < iterations; i++) {
+      BitSet candidates = index.supportingTaskType("SCRIPT");
+      candidates.and(index.havingSelectors(required));
+      indexedEligible += candidates.cardinality();
+    }
+    long indexed = System.nanoTime() - start;
+
+    assertThat(indexedEligible).isEqualTo(eligible);
+    log.info("{} delegates: per delegate {} us/task, indexed {} us/task, index build {} us", delegateCount,
+        TimeUnit.NANOSECONDS.toMicros(perDelegate / iterations), TimeUnit.NANOSECONDS.toMicros(indexed / iterations),
+        TimeUnit.NANOSECONDS.toMicros(build));
+  }
+
+  private static BitSet bits(int... positions) {
+    BitSet bits = new BitSet();
+    for (int position : positions) {
+      bits.set(position);
+    }
+    return bits;
+  }
+}
@@ -27,7 +27,6 @@ import io.harness.serializer.KryoSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import com.google.protobuf.ByteString;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -45,38 +44,32 @@ public class DelegateServiceClassicGrpcClient {
   }
 
   public String queueTask(DelegateTask task) {
-    ByteString.copyFrom(kryoSerializer.asDeflatedBytes(task));
     DelegateClassicTaskRequest delegateClassicTaskRequest =
-        DelegateClassicTaskRequest.newBuilder()
-            .setDelegateTaskKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(task)))
-            .build();
+        DelegateClassicTaskRequest.newBuilder().setDelegateTaskKryo(kryoSerializer.asDeflatedByteString(task)).build();
     final QueueTaskResponse queueTaskResponse = delegateTaskBlockingStub.queueTask(delegateClassicTaskRequest);
     return queueTaskResponse.getUuid();
   }
 
   public <T extends DelegateResponseData> T executeTask(DelegateTask task) {
     DelegateClassicTaskRequest delegateClassicTaskRequest =
-        DelegateClassicTaskRequest.newBuilder()
-            .setDelegateTaskKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(task)))
-            .build();
+        DelegateClassicTaskRequest.newBuilder().setDelegateTaskKryo(kryoSerializer.asDeflatedByteString(task)).build();
 
     final ExecuteTaskResponse executeTaskResponse = delegateTaskBlockingStub.executeTask(delegateClassicTaskRequest);
     ObjectMapper mapper = new ObjectMapper();
     return (T) mapper.convertValue(
-        kryoSerializer.asInflatedObject(executeTaskResponse.getDelegateTaskResponseKryo().toByteArray()),
-        DelegateResponseData.class);
+        kryoSerializer.asInflatedObject(executeTaskResponse.getDelegateTaskResponseKryo()), DelegateResponseData.class);
   }
 
   public DelegateTask abortTask(String accountId, String delegateTaskId) {
     final AbortTaskResponse abortTaskResponse = delegateTaskBlockingStub.abortTask(
         AbortExpireTaskRequest.newBuilder().setAccountId(accountId).setDelegateTaskId(delegateTaskId).build());
-    return (DelegateTask) kryoSerializer.asInflatedObject(abortTaskResponse.getDelegateTaskKryo().toByteArray());
+    return (DelegateTask) kryoSerializer.asInflatedObject(abortTaskResponse.getDelegateTaskKryo());
   }
 
   public String expireTask(String accountId, String delegateTaskId) {
     final ExpireTaskResponse expireTaskResponse = delegateTaskBlockingStub.expireTask(
         AbortExpireTaskRequest.newBuilder().setAccountId(accountId).setDelegateTaskId(delegateTaskId).build());
-    return (String) kryoSerializer.asInflatedObject(expireTaskResponse.getMessageBytes().toByteArray());
+    return (String) kryoSerializer.asInflatedObject(expireTaskResponse.getMessageBytes());
   }
 
   public String createPerpetualTask(String perpetualTaskType, String accountId,
@@ -87,8 +80,8 @@ public class DelegateServiceClassicGrpcClient {
             CreatePerpetualTaskRequestClassic.newBuilder()
                 .setPerpetualTaskType(perpetualTaskType)
                 .setAccountId(accountId)
-                .setPerpetualTaskScheduleKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(schedule)))
-                .setClientContextKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(clientContext)))
+                .setPerpetualTaskScheduleKryo(kryoSerializer.asDeflatedByteString(schedule))
+                .setClientContextKryo(kryoSerializer.asDeflatedByteString(clientContext))
                 .setAllowDuplicate(allowDuplicate)
                 .setTaskDescription(taskDescription)
                 .build());
@@ -0,0 +1,19 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.service;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.TableResult;
+
+/**
+ * Runs perspective queries, serving results of identical queries without going to BigQuery where possible.
+ */
+public interface ViewsQueryResultCache {
+  TableResult query(BigQuery bigQuery, QueryJobConfiguration queryConfig) throws InterruptedException;
+}
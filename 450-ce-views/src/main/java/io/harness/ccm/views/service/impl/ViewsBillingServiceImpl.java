@@ -146,6 +146,7 @@ import io.harness.ccm.views.helper.AwsAccountFieldHelper;
 import io.harness.ccm.views.helper.InstanceDetailsHelper;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.ViewsBillingService;
+import io.harness.ccm.views.service.ViewsQueryResultCache;
 import io.harness.ccm.views.utils.ViewFieldUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.ff.FeatureFlagService;
@@ -201,6 +202,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Inject EntityMetadataService entityMetadataService;
   @Inject BusinessMappingService businessMappingService;
   @Inject AwsAccountFieldHelper awsAccountFieldHelper;
+  @Inject ViewsQueryResultCache viewsQueryResultCache;
 
   private static final String OTHERS = "Others";
   private static final String COST_DESCRIPTION = "of %s - %s";
@@ -273,7 +275,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
         QueryJobConfiguration.newBuilder(viewsQueryMetadata.getQuery().toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getViewFilterValueStats. {}", e);
       Thread.currentThread().interrupt();
@@ -337,7 +339,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataPoints. {}", e);
       Thread.currentThread().interrupt();
@@ -357,7 +359,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     SelectQuery query = getQuery(filters, groupBy, aggregateFunction, sort, cloudProviderTableName, true);
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     try {
-      return bigQuery.query(queryConfig);
+      return viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getTimeSeriesStats. {}", e);
       Thread.currentThread().interrupt();
@@ -383,7 +385,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     SelectQuery query = getQuery(filters, groupBy, aggregateFunction, sort, cloudProviderTableName, queryParams);
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     try {
-      return bigQuery.query(queryConfig);
+      return viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getTimeSeriesStats. {}", e);
       Thread.currentThread().interrupt();
@@ -405,7 +407,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
           cloudProviderTableName, queryParams);
       final QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
       try {
-        return convertToUnallocatedCostData(bigQuery.query(queryConfig));
+        return convertToUnallocatedCostData(viewsQueryResultCache.query(bigQuery, queryConfig));
       } catch (final InterruptedException e) {
         log.error("Failed to getUnallocatedCostDataNg.", e);
         Thread.currentThread().interrupt();
@@ -537,7 +539,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getTotalCountForQuery. {}", e);
       Thread.currentThread().interrupt();
@@ -596,7 +598,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getLabelsForWorkloadsData. {}", e);
       Thread.currentThread().interrupt();
@@ -625,7 +627,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getTrendStatsData. {}", e);
       Thread.currentThread().interrupt();
@@ -646,7 +648,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getTrendStatsData. {}", e);
       Thread.currentThread().interrupt();
@@ -1480,7 +1482,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = viewsQueryResultCache.query(bigQuery, queryConfig);
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataForCostTrend. {}", e);
       Thread.currentThread().interrupt();
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ccm.views.service.ViewsQueryResultCache;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.TableResult;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the results of perspective queries in memory, keyed by a fingerprint of the query with insignificant whitespace
+ * removed. Billing data is loaded by the hourly batch jobs, so results are kept until the next hour at the latest and
+ * never serve data older than the last load. Concurrent identical queries wait for the one already running instead of
+ * running again. Results spanning more than one page are not kept, their further pages are read lazily.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class ViewsQueryResultCacheImpl implements ViewsQueryResultCache {
+  private static final long INGESTION_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final long MAX_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+  private static final int MAX_CACHED_RESULTS = 2000;
+  private static final long MAX_CACHED_ROWS = 10000;
+
+  private final Cache<String, CachedResult> results = CacheBuilder.newBuilder()
+                                                          .maximumSize(MAX_CACHED_RESULTS)
+                                                          .expireAfterWrite(MAX_TTL_MILLIS, TimeUnit.MILLISECONDS)
+                                                          .build();
+  private final Map<String, CompletableFuture<TableResult>> inFlightQueries = new ConcurrentHashMap<>();
+
+  @Override
+  public TableResult query(BigQuery bigQuery, QueryJobConfiguration queryConfig) throws InterruptedException {
+    String fingerprint = fingerprint(queryConfig);
+    while (true) {
+      TableResult cachedResult = getCachedResult(fingerprint);
+      if (cachedResult != null) {
+        return cachedResult;
+      }
+
+      CompletableFuture<TableResult> query = new CompletableFuture<>();
+      CompletableFuture<TableResult> runningQuery = inFlightQueries.putIfAbsent(fingerprint, query);
+      if (runningQuery == null) {
+        return runQuery(bigQuery, queryConfig, fingerprint, query);
+      }
+      try {
+        return runningQuery.get();
+      } catch (ExecutionException e) {
+        // The thread running the query was interrupted, this one runs it instead
+        if (!(e.getCause() instanceof InterruptedException)) {
+          throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                                                         : new IllegalStateException(e.getCause());
+        }
+      }
+    }
+  }
+
+  private TableResult runQuery(BigQuery bigQuery, QueryJobConfiguration queryConfig, String fingerprint,
+      CompletableFuture<TableResult> query) throws InterruptedException {
+    try {
+      // A query finishing between the cache lookup and registering this one has already cached its result
+      TableResult result = getCachedResult(fingerprint);
+      if (result == null) {
+        result = bigQuery.query(queryConfig);
+        if (isCacheable(result)) {
+          long now = System.currentTimeMillis();
+          results.put(fingerprint, new CachedResult(result, getExpiryTime(now)));
+        }
+      }
+      query.complete(result);
+      return result;
+    } catch (Throwable t) {
+      query.completeExceptionally(t);
+      throw t;
+    } finally {
+      inFlightQueries.remove(fingerprint, query);
+    }
+  }
+
+  private TableResult getCachedResult(String fingerprint) {
+    CachedResult cachedResult = results.getIfPresent(fingerprint);
+    if (cachedResult == null) {
+      return null;
+    }
+    if (System.currentTimeMillis() >= cachedResult.getExpiryTime()) {
+      results.asMap().remove(fingerprint, cachedResult);
+      return null;
+    }
+    return cachedResult.getResult();
+  }
+
+  private boolean isCacheable(TableResult result) {
+    return result != null && !result.hasNextPage() && result.getTotalRows() <= MAX_CACHED_ROWS;
+  }
+
+  @VisibleForTesting
+  static long getExpiryTime(long now) {
+    long nextIngestionTime = (now / INGESTION_INTERVAL_MILLIS + 1) * INGESTION_INTERVAL_MILLIS;
+    return Math.min(now + MAX_TTL_MILLIS, nextIngestionTime);
+  }
+
+  @VisibleForTesting
+  static String fingerprint(QueryJobConfiguration queryConfig) {
+    String key = normalize(queryConfig.getQuery()) + '\n' + queryConfig.useLegacySql() + '\n'
+        + queryConfig.getNamedParameters() + '\n' + queryConfig.getPositionalParameters();
+    return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+  }
+
+  // Collapses whitespace outside of string literals and quoted identifiers
+  @VisibleForTesting
+  static String normalize(String query) {
+    StringBuilder normalized = new StringBuilder(query.length());
+    char quote = 0;
+    boolean pendingSpace = false;
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      if (quote != 0) {
+        normalized.append(c);
+        if (c == '\\' && i + 1 < query.length()) {
+          normalized.append(query.charAt(++i));
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (Character.isWhitespace(c)) {
+        pendingSpace = normalized.length() > 0;
+      } else {
+        if (pendingSpace) {
+          normalized.append(' ');
+          pendingSpace = false;
+        }
+        if (c == '\'' || c == '"' || c == '`') {
+          quote = c;
+        }
+        normalized.append(c);
+      }
+    }
+    return normalized.toString();
+  }
+
+  @Value
+  private static class CachedResult {
+    TableResult result;
+    long expiryTime;
+  }
+}
@@ -130,6 +130,7 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
   @Before
   public void setUp() throws Exception {
     MockitoAnnotations.initMocks(this);
+    viewsBillingService.viewsQueryResultCache = (bigQuery, queryConfig) -> bigQuery.query(queryConfig);
     doCallRealMethod().when(viewsQueryBuilder).getAliasFromField(any());
     doCallRealMethod()
         .when(viewsQueryBuilder)
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.service.impl;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.TableResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ViewsQueryResultCacheImplTest extends CategoryTest {
+  private static final String QUERY = "SELECT sum(cost) AS cost FROM `project.dataset.table` WHERE name = 'a  b'";
+
+  private ViewsQueryResultCacheImpl viewsQueryResultCache;
+  private BigQuery bigQuery;
+  private TableResult result;
+
+  @Before
+  public void setUp() throws InterruptedException {
+    viewsQueryResultCache = new ViewsQueryResultCacheImpl();
+    bigQuery = mock(BigQuery.class);
+    result = mock(TableResult.class);
+    when(result.getTotalRows()).thenReturn(1L);
+    when(bigQuery.query(any())).thenReturn(result);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testQueriesDifferingInWhitespaceShareResult() throws InterruptedException {
+    assertThat(viewsQueryResultCache.query(bigQuery, QueryJobConfiguration.of(QUERY))).isSameAs(result);
+    assertThat(viewsQueryResultCache.query(
+                   bigQuery, QueryJobConfiguration.of("\n  SELECT sum(cost)  AS cost\nFROM `project.dataset.table`\n"
+                       + "  WHERE name = 'a  b'  ")))
+        .isSameAs(result);
+    verify(bigQuery, times(1)).query(any());
+
+    viewsQueryResultCache.query(bigQuery, QueryJobConfiguration.of(QUERY.replace("'a  b'", "'a b'")));
+    verify(bigQuery, times(2)).query(any());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testResultsWithMorePagesAreNotCached() throws InterruptedException {
+    when(result.hasNextPage()).thenReturn(true);
+
+    viewsQueryResultCache.query(bigQuery, QueryJobConfiguration.of(QUERY));
+    viewsQueryResultCache.query(bigQuery, QueryJobConfiguration.of(QUERY));
+    verify(bigQuery, times(2)).query(any());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConcurrentIdenticalQueriesRunOnce() throws Exception {
+    CountDownLatch queryStarted = new CountDownLatch(1);
+    CountDownLatch queryReleased = new CountDownLatch(1);
+    when(bigQuery.query(any())).thenAnswer(invocation -> {
+      queryStarted.countDown();
+      queryReleased.await();
+      return result;
+    });
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<TableResult>> futures = new ArrayList<>();
+      futures.add(executorService.submit(() -> viewsQueryResultCache.query(bigQuery, QueryJobConfiguration.of(QUERY))));
+      assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      for (int i = 0; i < 3; i++) {
+        futures.add(
+            executorService.submit(() -> viewsQueryResultCache.query(bigQuery, QueryJobConfiguration.of(QUERY))));
+      }
+      queryReleased.countDown();
+      for (Future<TableResult> future : futures) {
+        assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(result);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+    verify(bigQuery, times(1)).query(any());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testResultsExpireAtNextIngestion() {
+    long hour = TimeUnit.HOURS.toMillis(1);
+    assertThat(ViewsQueryResultCacheImpl.getExpiryTime(10 * hour)).isEqualTo(10 * hour + TimeUnit.MINUTES.toMillis(30));
+    assertThat(ViewsQueryResultCacheImpl.getExpiryTime(11 * hour - 1000)).isEqualTo(11 * hour);
+  }
+}
@@ -15,6 +15,7 @@ import io.harness.git.model.ChangeType;
 import io.harness.template.entity.TemplateEntity;
 import io.harness.template.events.TemplateUpdateEventType;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -72,6 +73,10 @@ public interface NGTemplateRepositoryCustom {
   Page<TemplateEntity> findAll(
       String accountIdentifier, String orgIdentifier, String projectIdentifier, Criteria criteria, Pageable pageable);
 
+  List<TemplateEntity> findAllTemplateVersions(Criteria criteria);
+
+  List<TemplateEntity> findAllByUuids(List<String> uuids);
+
   boolean existsByAccountIdAndOrgIdAndProjectIdAndIdentifierAndVersionLabel(
       String accountId, String orgIdentifier, String projectIdentifier, String templateIdentifier, String versionLabel);
 
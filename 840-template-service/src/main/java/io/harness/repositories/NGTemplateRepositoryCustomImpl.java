@@ -379,6 +379,27 @@ public class NGTemplateRepositoryCustomImpl implements NGTemplateRepositoryCusto
         () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), TemplateEntity.class));
   }
 
+  @Override
+  public List<TemplateEntity> findAllTemplateVersions(Criteria criteria) {
+    Query query = new Query(criteria);
+    query.fields()
+        .include(TemplateEntityKeys.uuid)
+        .include(TemplateEntityKeys.accountId)
+        .include(TemplateEntityKeys.orgIdentifier)
+        .include(TemplateEntityKeys.projectIdentifier)
+        .include(TemplateEntityKeys.identifier)
+        .include(TemplateEntityKeys.versionLabel)
+        .include(TemplateEntityKeys.isStableTemplate)
+        .include(TemplateEntityKeys.version)
+        .include(TemplateEntityKeys.storeType);
+    return mongoTemplate.find(query, TemplateEntity.class);
+  }
+
+  @Override
+  public List<TemplateEntity> findAllByUuids(List<String> uuids) {
+    return mongoTemplate.find(query(Criteria.where(TemplateEntityKeys.uuid).in(uuids)), TemplateEntity.class);
+  }
+
   @Override
   public boolean existsByAccountIdAndOrgIdAndProjectIdAndIdentifierAndVersionLabel(String accountId,
       String orgIdentifier, String projectIdentifier, String templateIdentifier, String versionLabel) {
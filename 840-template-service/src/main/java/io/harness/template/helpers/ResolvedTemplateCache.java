@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.gitsync.beans.StoreType;
+import io.harness.template.entity.TemplateEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Keeps template entities along with their parsed template spec and template inputs across requests. Entries are keyed
+ * by scope, identifier, version label, uuid and entity version, so an updated template never hits the entry of its
+ * previous version. Remote templates are not kept as their yaml depends on the branch they are read from.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.CDC)
+public class ResolvedTemplateCache {
+  private static final int MAX_CACHED_TEMPLATES = 5000;
+  private static final int CACHE_EXPIRY_MINUTES = 30;
+
+  private final Cache<String, ResolvedTemplate> resolvedTemplates =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHED_TEMPLATES)
+          .expireAfterAccess(CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  /**
+   * Returns the cached entity of the given template version, which only needs the identity and version fields set.
+   */
+  public TemplateEntity getTemplateEntity(TemplateEntity templateVersion) {
+    if (!isCacheable(templateVersion)) {
+      return null;
+    }
+    ResolvedTemplate resolvedTemplate = resolvedTemplates.getIfPresent(getKey(templateVersion));
+    return resolvedTemplate == null ? null : resolvedTemplate.templateEntity;
+  }
+
+  public void putTemplateEntity(TemplateEntity templateEntity) {
+    if (isCacheable(templateEntity)) {
+      resolvedTemplates.asMap().putIfAbsent(getKey(templateEntity), new ResolvedTemplate(templateEntity));
+    }
+  }
+
+  public JsonNode getTemplateSpec(TemplateEntity templateEntity, Function<String, JsonNode> templateSpecReader) {
+    ResolvedTemplate resolvedTemplate = getResolvedTemplate(templateEntity);
+    if (resolvedTemplate == null) {
+      return templateSpecReader.apply(templateEntity.getYaml());
+    }
+    if (resolvedTemplate.templateSpec == null) {
+      resolvedTemplate.templateSpec = templateSpecReader.apply(templateEntity.getYaml());
+    }
+    return resolvedTemplate.templateSpec;
+  }
+
+  public String getTemplateInputs(TemplateEntity templateEntity, Function<String, String> templateInputsCreator) {
+    ResolvedTemplate resolvedTemplate = getResolvedTemplate(templateEntity);
+    if (resolvedTemplate == null) {
+      return templateInputsCreator.apply(templateEntity.getYaml());
+    }
+    if (!resolvedTemplate.templateInputsCreated) {
+      resolvedTemplate.templateInputs = templateInputsCreator.apply(templateEntity.getYaml());
+      resolvedTemplate.templateInputsCreated = true;
+    }
+    return resolvedTemplate.templateInputs;
+  }
+
+  // Drops every version of the template, the stable version of a template can change without the entity changing
+  public void invalidate(String accountId, String orgIdentifier, String projectIdentifier, String identifier) {
+    String templatePrefix = getTemplatePrefix(accountId, orgIdentifier, projectIdentifier, identifier);
+    resolvedTemplates.asMap().keySet().removeIf(key -> key.startsWith(templatePrefix));
+  }
+
+  @VisibleForTesting
+  long size() {
+    return resolvedTemplates.size();
+  }
+
+  private ResolvedTemplate getResolvedTemplate(TemplateEntity templateEntity) {
+    if (!isCacheable(templateEntity)) {
+      return null;
+    }
+    try {
+      return resolvedTemplates.get(getKey(templateEntity), () -> new ResolvedTemplate(templateEntity));
+    } catch (ExecutionException e) {
+      return null;
+    }
+  }
+
+  private boolean isCacheable(TemplateEntity templateEntity) {
+    return templateEntity.getUuid() != null && templateEntity.getVersion() != null
+        && templateEntity.getStoreType() != StoreType.REMOTE;
+  }
+
+  private String getKey(TemplateEntity templateEntity) {
+    return getTemplatePrefix(templateEntity.getAccountId(), templateEntity.getOrgIdentifier(),
+               templateEntity.getProjectIdentifier(), templateEntity.getIdentifier())
+        + templateEntity.getVersionLabel() + '/' + templateEntity.getUuid() + '/' + templateEntity.getVersion();
+  }
+
+  private String getTemplatePrefix(
+      String accountId, String orgIdentifier, String projectIdentifier, String identifier) {
+    return accountId + '/' + (isEmpty(orgIdentifier) ? "" : orgIdentifier) + '/'
+        + (isEmpty(projectIdentifier) ? "" : projectIdentifier) + '/' + identifier + '/';
+  }
+
+  // Parsed lazily, concurrent requests may both parse a template the first time which is harmless
+  private static class ResolvedTemplate {
+    private final TemplateEntity templateEntity;
+    private volatile JsonNode templateSpec;
+    private volatile String templateInputs;
+    private volatile boolean templateInputsCreated;
+
+    ResolvedTemplate(TemplateEntity templateEntity) {
+      this.templateEntity = templateEntity;
+    }
+  }
+}
@@ -60,6 +60,8 @@ public class TemplateInputsRefreshHelper {
 
     // TemplateCache Map
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
+    templateMergeServiceHelper.prefetchLinkedTemplates(
+        accountId, orgId, projectId, yamlNode.getCurrJsonNode(), templateCacheMap);
 
     // refreshedTemplateInputsMap -> Key,Value pairs of the YAML with Refreshed Template Inputs
     Map<String, Object> refreshedTemplateInputsMap =
@@ -29,6 +29,7 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.exception.ngexception.NGTemplateException;
 import io.harness.exception.ngexception.beans.templateservice.TemplateInputsErrorDTO;
 import io.harness.exception.ngexception.beans.templateservice.TemplateInputsErrorMetadataDTO;
+import io.harness.gitsync.beans.StoreType;
 import io.harness.pms.merger.YamlConfig;
 import io.harness.pms.merger.fqn.FQN;
 import io.harness.pms.merger.helpers.RuntimeInputFormHelper;
@@ -39,6 +40,7 @@ import io.harness.pms.yaml.YamlUtils;
 import io.harness.serializer.JsonUtils;
 import io.harness.template.beans.yaml.NGTemplateConfig;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.entity.TemplateEntity.TemplateEntityKeys;
 import io.harness.template.services.NGTemplateServiceHelper;
 import io.harness.utils.IdentifierRefHelper;
 import io.harness.utils.YamlPipelineUtils;
@@ -49,7 +51,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.inject.Inject;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -60,6 +64,7 @@ import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(HarnessTeam.CDC)
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
@@ -71,6 +76,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TemplateMergeServiceHelper {
   private static final int MAX_DEPTH = 10;
   private NGTemplateServiceHelper templateServiceHelper;
+  private ResolvedTemplateCache resolvedTemplateCache;
 
   // Gets the Template Entity linked to a YAML
   public TemplateEntity getLinkedTemplateEntity(
@@ -121,11 +127,179 @@ public class TemplateMergeServiceHelper {
     return template;
   }
 
+  /**
+   * Fetches the templates linked in the yaml, and the templates linked in their specs, into the templateCacheMap with
+   * one query per level of nesting instead of one query per template. Templates of old git sync scopes, remote
+   * templates and templates which could not be fetched are left to getLinkedTemplateEntity, which reports them.
+   */
+  public void prefetchLinkedTemplates(
+      String accountId, String orgId, String projectId, JsonNode yaml, Map<String, TemplateEntity> templateCacheMap) {
+    List<JsonNode> linkedTemplates = new ArrayList<>();
+    collectLinkedTemplates(yaml, linkedTemplates);
+    Map<String, Boolean> oldGitSyncScopes = new HashMap<>();
+    for (int depth = 0; depth < MAX_DEPTH && !linkedTemplates.isEmpty(); depth++) {
+      Map<String, IdentifierRef> missingTemplateRefs = new LinkedHashMap<>();
+      Map<String, String> missingTemplateVersionLabels = new HashMap<>();
+      for (JsonNode linkedTemplate : linkedTemplates) {
+        String identifier = linkedTemplate.get(TEMPLATE_REF).asText();
+        IdentifierRef templateIdentifierRef =
+            IdentifierRefHelper.getIdentifierRef(identifier, accountId, orgId, projectId);
+        String versionLabel = "";
+        String versionMarker = STABLE_VERSION;
+        if (linkedTemplate.get(TEMPLATE_VERSION_LABEL) != null) {
+          versionLabel = linkedTemplate.get(TEMPLATE_VERSION_LABEL).asText();
+          versionMarker = versionLabel;
+        }
+        String templateUniqueIdentifier = generateUniqueTemplateIdentifier(templateIdentifierRef.getAccountIdentifier(),
+            templateIdentifierRef.getOrgIdentifier(), templateIdentifierRef.getProjectIdentifier(),
+            templateIdentifierRef.getIdentifier(), versionMarker);
+        if (!templateCacheMap.containsKey(templateUniqueIdentifier)
+            && !isOldGitSync(templateIdentifierRef, oldGitSyncScopes)) {
+          missingTemplateRefs.put(templateUniqueIdentifier, templateIdentifierRef);
+          missingTemplateVersionLabels.put(templateUniqueIdentifier, versionLabel);
+        }
+      }
+
+      linkedTemplates = new ArrayList<>();
+      Map<String, TemplateEntity> fetchedTemplates = fetchTemplates(missingTemplateRefs, missingTemplateVersionLabels);
+      for (Map.Entry<String, TemplateEntity> fetchedTemplate : fetchedTemplates.entrySet()) {
+        templateCacheMap.put(fetchedTemplate.getKey(), fetchedTemplate.getValue());
+        try {
+          collectLinkedTemplates(getTemplateSpec(fetchedTemplate.getValue()), linkedTemplates);
+        } catch (NGTemplateException e) {
+          // The template is reported when it gets merged
+          log.warn("Could not read the spec of template {}", fetchedTemplate.getKey(), e);
+        }
+      }
+    }
+  }
+
+  private void collectLinkedTemplates(JsonNode node, List<JsonNode> linkedTemplates) {
+    if (node == null) {
+      return;
+    }
+    if (node.isArray()) {
+      node.forEach(element -> collectLinkedTemplates(element, linkedTemplates));
+    } else if (node.isObject()) {
+      node.fields().forEachRemaining(field -> {
+        if (isTemplatePresent(field.getKey(), field.getValue())) {
+          linkedTemplates.add(field.getValue());
+        } else {
+          collectLinkedTemplates(field.getValue(), linkedTemplates);
+        }
+      });
+    }
+  }
+
+  private boolean isOldGitSync(IdentifierRef templateIdentifierRef, Map<String, Boolean> oldGitSyncScopes) {
+    String scope = generateUniqueTemplateIdentifier(templateIdentifierRef.getAccountIdentifier(),
+        templateIdentifierRef.getOrgIdentifier(), templateIdentifierRef.getProjectIdentifier(), "", "");
+    return oldGitSyncScopes.computeIfAbsent(scope,
+        key
+        -> templateServiceHelper.isOldGitSync(templateIdentifierRef.getAccountIdentifier(),
+            templateIdentifierRef.getOrgIdentifier(), templateIdentifierRef.getProjectIdentifier()));
+  }
+
+  // Reads the versions of the templates, then the full entities of only the versions which are not cached
+  private Map<String, TemplateEntity> fetchTemplates(
+      Map<String, IdentifierRef> templateRefs, Map<String, String> templateVersionLabels) {
+    if (templateRefs.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    List<Criteria> templateCriteria = new ArrayList<>();
+    templateRefs.forEach((templateUniqueIdentifier, templateIdentifierRef) -> {
+      Criteria criteria = Criteria.where(TemplateEntityKeys.accountId)
+                              .is(templateIdentifierRef.getAccountIdentifier())
+                              .and(TemplateEntityKeys.orgIdentifier)
+                              .is(templateIdentifierRef.getOrgIdentifier())
+                              .and(TemplateEntityKeys.projectIdentifier)
+                              .is(templateIdentifierRef.getProjectIdentifier())
+                              .and(TemplateEntityKeys.identifier)
+                              .is(templateIdentifierRef.getIdentifier());
+      String versionLabel = templateVersionLabels.get(templateUniqueIdentifier);
+      if (isEmpty(versionLabel)) {
+        criteria.and(TemplateEntityKeys.isStableTemplate).is(true);
+      } else {
+        criteria.and(TemplateEntityKeys.versionLabel).is(versionLabel);
+      }
+      templateCriteria.add(criteria);
+    });
+    List<TemplateEntity> templateVersions = templateServiceHelper.getTemplateVersions(
+        Criteria.where(TemplateEntityKeys.deleted).is(false).orOperator(templateCriteria.toArray(new Criteria[0])));
+
+    Map<String, TemplateEntity> templateVersionsByIdentifier = new HashMap<>();
+    for (TemplateEntity templateVersion : templateVersions) {
+      templateVersionsByIdentifier.put(
+          generateUniqueTemplateIdentifier(templateVersion, templateVersion.getVersionLabel()), templateVersion);
+      if (templateVersion.isStableTemplate()) {
+        templateVersionsByIdentifier.put(
+            generateUniqueTemplateIdentifier(templateVersion, STABLE_VERSION), templateVersion);
+      }
+    }
+
+    Map<String, TemplateEntity> templates = new HashMap<>();
+    Map<String, String> uncachedTemplateUuids = new HashMap<>();
+    for (String templateUniqueIdentifier : templateRefs.keySet()) {
+      TemplateEntity templateVersion = templateVersionsByIdentifier.get(templateUniqueIdentifier);
+      if (templateVersion == null || templateVersion.getStoreType() == StoreType.REMOTE) {
+        continue;
+      }
+      TemplateEntity cachedTemplate = resolvedTemplateCache.getTemplateEntity(templateVersion);
+      if (cachedTemplate != null) {
+        templates.put(templateUniqueIdentifier, cachedTemplate);
+      } else {
+        uncachedTemplateUuids.put(templateUniqueIdentifier, templateVersion.getUuid());
+      }
+    }
+    if (!uncachedTemplateUuids.isEmpty()) {
+      Map<String, TemplateEntity> templatesByUuid = new HashMap<>();
+      for (TemplateEntity templateEntity :
+          templateServiceHelper.getTemplatesByUuids(new ArrayList<>(new HashSet<>(uncachedTemplateUuids.values())))) {
+        templatesByUuid.put(templateEntity.getUuid(), templateEntity);
+        resolvedTemplateCache.putTemplateEntity(templateEntity);
+      }
+      uncachedTemplateUuids.forEach((templateUniqueIdentifier, uuid) -> {
+        TemplateEntity templateEntity = templatesByUuid.get(uuid);
+        if (templateEntity != null) {
+          templates.put(templateUniqueIdentifier, templateEntity);
+        }
+      });
+    }
+    // Invalid templates are left to getLinkedTemplateEntity which fails for them
+    templates.values().removeIf(TemplateEntity::isEntityInvalid);
+    return templates;
+  }
+
+  // Returns template.spec of the template yaml, parsed once per template version
+  public JsonNode getTemplateSpec(TemplateEntity templateEntity) {
+    return resolvedTemplateCache.getTemplateSpec(templateEntity, this::readTemplateSpec);
+  }
+
+  // Returns the template inputs of the template yaml, created once per template version
+  public String getTemplateInputs(TemplateEntity templateEntity) {
+    return resolvedTemplateCache.getTemplateInputs(templateEntity, this::createTemplateInputsFromTemplate);
+  }
+
+  private JsonNode readTemplateSpec(String templateYaml) {
+    try {
+      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
+      return templateConfig.getTemplateInfoConfig().getSpec();
+    } catch (IOException e) {
+      log.error("Could not read template yaml", e);
+      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
+    }
+  }
+
   // Checks if the current Json node is a Template node with fieldName as TEMPLATE and Non-null Value
   public boolean isTemplatePresent(String fieldName, JsonNode templateValue) {
     return TEMPLATE.equals(fieldName) && templateValue.isObject() && templateValue.get(TEMPLATE_REF) != null;
   }
 
+  private String generateUniqueTemplateIdentifier(TemplateEntity templateEntity, String versionMarker) {
+    return generateUniqueTemplateIdentifier(templateEntity.getAccountId(), templateEntity.getOrgIdentifier(),
+        templateEntity.getProjectIdentifier(), templateEntity.getIdentifier(), versionMarker);
+  }
+
   // Generates a unique Template Identifier
   private String generateUniqueTemplateIdentifier(
       String accountId, String orgId, String projectId, String templateIdentifier, String versionLabel) {
@@ -338,17 +512,7 @@ public class TemplateMergeServiceHelper {
     JsonNode templateInputs = template.get(TEMPLATE_INPUTS);
 
     TemplateEntity templateEntity = getLinkedTemplateEntity(accountId, orgId, projectId, template, templateCacheMap);
-    String templateYaml = templateEntity.getYaml();
-
-    JsonNode templateSpec;
-    try {
-      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
-      templateSpec = templateConfig.getTemplateInfoConfig().getSpec();
-    } catch (IOException e) {
-      log.error("Could not read template yaml", e);
-      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
-    }
-
+    JsonNode templateSpec = getTemplateSpec(templateEntity);
     return mergeTemplateInputsToTemplateSpecInTemplateYaml(templateInputs, templateSpec);
   }
 
@@ -506,8 +670,7 @@ public class TemplateMergeServiceHelper {
       return linkedTemplate;
     }
 
-    String templateYaml = templateEntity.getYaml();
-    String templateSpecInputSetFormatYaml = createTemplateInputsFromTemplate(templateYaml);
+    String templateSpecInputSetFormatYaml = getTemplateInputs(templateEntity);
 
     try {
       Map<String, JsonNode> dummyLinkedTemplateInputsMap = new LinkedHashMap<>();
@@ -390,6 +390,15 @@ public class NGTemplateServiceHelper {
     }
   }
 
+  // Reads only the identity, version and store type of the templates matching the criteria
+  public List<TemplateEntity> getTemplateVersions(Criteria criteria) {
+    return templateRepository.findAllTemplateVersions(criteria);
+  }
+
+  public List<TemplateEntity> getTemplatesByUuids(List<String> uuids) {
+    return templateRepository.findAllByUuids(uuids);
+  }
+
   public Optional<TemplateEntity> getLastUpdatedTemplate(
       String accountId, String orgIdentifier, String projectIdentifier, String templateIdentifier) {
     if (isOldGitSync(accountId, orgIdentifier, projectIdentifier)) {
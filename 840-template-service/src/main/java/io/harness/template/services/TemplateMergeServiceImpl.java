@@ -62,7 +62,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     if (!optionalTemplateEntity.isPresent()) {
       throw new NGTemplateException("Template to fetch template inputs does not exist.");
     }
-    return templateMergeServiceHelper.createTemplateInputsFromTemplate(optionalTemplateEntity.get().getYaml());
+    return templateMergeServiceHelper.getTemplateInputs(optionalTemplateEntity.get());
   }
 
   @Override
@@ -82,6 +82,8 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     YamlNode yamlNode = validateAndGetYamlNode(yaml);
 
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
+    templateMergeServiceHelper.prefetchLinkedTemplates(
+        accountId, orgId, projectId, yamlNode.getCurrJsonNode(), templateCacheMap);
     TemplateInputsErrorMetadataDTO errorResponse = templateMergeServiceHelper.validateLinkedTemplateInputsInYaml(
         accountId, orgId, projectId, yamlNode, templateCacheMap);
     if (errorResponse != null) {
@@ -100,6 +102,8 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     YamlNode yamlNode = validateAndGetYamlNode(yaml);
 
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
+    templateMergeServiceHelper.prefetchLinkedTemplates(
+        accountId, orgId, projectId, yamlNode.getCurrJsonNode(), templateCacheMap);
     ValidateTemplateInputsResponseDTO validateTemplateInputsResponse =
         templateInputsValidator.validateNestedTemplateInputsForGivenYaml(
             accountId, orgId, projectId, yaml, templateCacheMap);
@@ -43,6 +43,7 @@ import io.harness.security.SourcePrincipalContextData;
 import io.harness.security.dto.Principal;
 import io.harness.security.dto.UserPrincipal;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -69,7 +70,8 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     objectMapper = HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
     auditClientService = mock(AuditClientService.class);
     eventProducer = mock(Producer.class);
-    templateOutboxEventHandler = spy(new TemplateOutboxEventHandler(auditClientService, eventProducer));
+    templateOutboxEventHandler =
+        spy(new TemplateOutboxEventHandler(auditClientService, eventProducer, new ResolvedTemplateCache()));
     newYaml = Resources.toString(this.getClass().getClassLoader().getResource("template.yaml"), Charsets.UTF_8);
     oldYaml = Resources.toString(this.getClass().getClassLoader().getResource("template_updated.yaml"), Charsets.UTF_8);
   }
@@ -58,6 +58,7 @@ public class TemplateInputsValidatorTest extends TemplateServiceTestBase {
   @Before
   public void setup() {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateCache", new ResolvedTemplateCache());
     on(templateInputsValidator).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
@@ -20,6 +20,7 @@ import io.harness.pms.yaml.YamlNode;
 import io.harness.pms.yaml.YamlUtils;
 import io.harness.rule.Owner;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 import io.harness.template.helpers.TemplateInputsRefreshHelper;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 
@@ -54,6 +55,7 @@ public class TemplateInputsRefreshHelperTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateCache", new ResolvedTemplateCache());
     on(templateInputsRefreshHelper).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
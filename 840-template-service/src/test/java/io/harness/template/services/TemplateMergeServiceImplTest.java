@@ -15,8 +15,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.TemplateServiceTestBase;
@@ -30,12 +34,14 @@ import io.harness.ng.core.template.TemplateReferenceSummary;
 import io.harness.ng.core.template.exception.NGTemplateResolveException;
 import io.harness.rule.Owner;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -69,6 +75,7 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateCache", new ResolvedTemplateCache());
     on(templateMergeService).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
@@ -283,6 +290,53 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
     assertThat(finalPipelineYaml).isEqualTo(resPipeline);
   }
 
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testMergeTemplateSpecToPipelineYaml_PrefetchesLinkedTemplates() {
+    TemplateEntity templateEntity = TemplateEntity.builder()
+                                        .uuid("uuid1")
+                                        .version(1L)
+                                        .accountId(ACCOUNT_ID)
+                                        .orgIdentifier(ORG_ID)
+                                        .projectIdentifier(PROJECT_ID)
+                                        .yaml(readFile("template-step.yaml"))
+                                        .identifier("template1")
+                                        .versionLabel("1")
+                                        .isStableTemplate(true)
+                                        .templateScope(Scope.PROJECT)
+                                        .build();
+    TemplateEntity approvalTemplateEntity = TemplateEntity.builder()
+                                                .uuid("uuid2")
+                                                .version(1L)
+                                                .accountId(ACCOUNT_ID)
+                                                .orgIdentifier(ORG_ID)
+                                                .projectIdentifier(PROJECT_ID)
+                                                .yaml(readFile("approval-step-template.yaml"))
+                                                .identifier("template2")
+                                                .versionLabel("1")
+                                                .templateScope(Scope.PROJECT)
+                                                .build();
+    when(templateServiceHelper.getTemplateVersions(any()))
+        .thenReturn(Arrays.asList(templateEntity.withYaml(null), approvalTemplateEntity.withYaml(null)));
+    when(templateServiceHelper.getTemplatesByUuids(any()))
+        .thenReturn(Arrays.asList(templateEntity, approvalTemplateEntity));
+
+    String pipelineYaml = readFile("pipeline-with-template-step.yaml");
+    String resPipeline = readFile("pipeline-with-template-step-replaced.yaml");
+    for (int i = 0; i < 2; i++) {
+      TemplateMergeResponseDTO pipelineMergeResponse =
+          templateMergeService.applyTemplatesToYaml(ACCOUNT_ID, ORG_ID, PROJECT_ID, pipelineYaml, false);
+      assertThat(pipelineMergeResponse.getMergedPipelineYaml()).isEqualTo(resPipeline);
+      assertThat(pipelineMergeResponse.getTemplateReferenceSummaries()).hasSize(3);
+    }
+    // Both templates came from one bulk read, and from the cache on the second merge
+    verify(templateServiceHelper, times(2)).getTemplateVersions(any());
+    verify(templateServiceHelper, times(1)).getTemplatesByUuids(any());
+    verify(templateServiceHelper, never())
+        .getOrThrowExceptionIfInvalid(any(), any(), any(), any(), any(), anyBoolean());
+  }
+
   @Test
   @Owner(developers = INDER)
   @Category(UnitTests.class)
@@ -58,22 +58,27 @@ public abstract class PmsAbstractMessageListener<T extends com.google.protobuf.M
     log.info("[PMS_MESSAGE_LISTENER] Starting Handling for {} event with messageId {}", entityClass.getSimpleName(),
         message.getId());
     if (isProcessable(message)) {
-      executorService.submit(() -> {
-        try (AutoLogContext ignore = new MessageLogContext(message)) {
-          // Check and log for time taken to schedule the thread
-          checkAndLogSchedulingDelays(message.getId(), readTs);
-          T entity = extractEntity(message);
-          Long issueTimestamp = ProtoUtils.timestampToUnixMillis(message.getTimestamp());
-          processMessage(entity, message.getMessage().getMetadataMap(), issueTimestamp);
-        } catch (Exception ex) {
-          log.error("[PMS_MESSAGE_LISTENER] Exception occurred while processing {} event with messageId: {}",
-              entityClass.getSimpleName(), message.getId(), ex);
-        }
-      });
+      executorService.submit(() -> handleMessageInline(message, readTs));
     }
     return true;
   }
 
+  /**
+   * Processes the message on the calling thread, for consumers that schedule the messages themselves
+   */
+  public void handleMessageInline(Message message, long readTs) {
+    try (AutoLogContext ignore = new MessageLogContext(message)) {
+      // Check and log for time taken to schedule the thread
+      checkAndLogSchedulingDelays(message.getId(), readTs);
+      T entity = extractEntity(message);
+      Long issueTimestamp = ProtoUtils.timestampToUnixMillis(message.getTimestamp());
+      processMessage(entity, message.getMessage().getMetadataMap(), issueTimestamp);
+    } catch (Exception ex) {
+      log.error("[PMS_MESSAGE_LISTENER] Exception occurred while processing {} event with messageId: {}",
+          entityClass.getSimpleName(), message.getId(), ex);
+    }
+  }
+
   private void checkAndLogSchedulingDelays(String messageId, long startTs) {
     Duration scheduleDuration = Duration.ofMillis(System.currentTimeMillis() - startTs);
     if (THRESHOLD_PROCESS_DURATION.compareTo(scheduleDuration) < 0) {
@@ -7,6 +7,7 @@
 
 package io.harness.pms.events.base;
 
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.maintenance.MaintenanceController.getMaintenanceFlag;
 import static io.harness.threading.Morpheus.sleep;
@@ -15,15 +16,27 @@ import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.CollectionUtils;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.pms.events.PmsEventMonitoringConstants;
 import io.harness.queue.QueueController;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.cache.Cache;
@@ -34,18 +47,48 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListener> implements PmsRedisConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
   private static final String CACHE_KEY = "%s_%s";
+  private static final int DISPATCH_LANES = 256;
+  private static final int MAX_PENDING_MESSAGES = 1000;
+  private static final int RECENT_MESSAGES_SIZE = 10000;
+  private static final String DISPATCH_DELAY_METRIC = "pms_event_dispatch_delay";
+  // Put in the metadata of the events from the log context of the ambiance
+  private static final String NODE_EXECUTION_ID = "runtimeId";
+  private static final String PLAN_EXECUTION_ID = "planExecutionId";
+
   private final Consumer redisConsumer;
   private final T messageListener;
   private final QueueController queueController;
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
   private Cache<String, Integer> eventsCache;
+  private final MetricService metricService;
+  private final PmsKeyedEventDispatcher dispatcher;
+  private final Set<String> recentMessageKeys = Collections.newSetFromMap(
+      CacheBuilder.newBuilder().maximumSize(RECENT_MESSAGES_SIZE).<String, Boolean>build().asMap());
 
   public PmsAbstractRedisConsumer(
       Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache, QueueController queueController) {
+    this(redisConsumer, messageListener, eventsCache, queueController, null, null);
+  }
+
+  /**
+   * Creates a consumer that hands the messages to the executor of the listener itself, in order for the same node
+   * execution, or plan execution for messages outside of a node, and concurrently otherwise. Duplicates are checked
+   * and messages acknowledged once per read.
+   */
+  public PmsAbstractRedisConsumer(Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache,
+      QueueController queueController, MetricService metricService) {
+    this(redisConsumer, messageListener, eventsCache, queueController, metricService,
+        new PmsKeyedEventDispatcher(messageListener.executorService, DISPATCH_LANES, MAX_PENDING_MESSAGES));
+  }
+
+  private PmsAbstractRedisConsumer(Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache,
+      QueueController queueController, MetricService metricService, PmsKeyedEventDispatcher dispatcher) {
     this.redisConsumer = redisConsumer;
     this.messageListener = messageListener;
     this.eventsCache = eventsCache;
     this.queueController = queueController;
+    this.metricService = metricService;
+    this.dispatcher = dispatcher;
   }
 
   @Override
@@ -83,11 +126,15 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
   }
 
   @VisibleForTesting
-  void pollAndProcessMessages() {
+  void pollAndProcessMessages() throws InterruptedException {
     List<Message> messages;
     String messageId;
     boolean messageProcessed;
     messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    if (dispatcher != null) {
+      dispatchMessages(messages);
+      return;
+    }
     for (Message message : messages) {
       messageId = message.getId();
       messageProcessed = handleMessage(message);
@@ -148,6 +195,98 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     }
   }
 
+  private void dispatchMessages(List<Message> messages) throws InterruptedException {
+    long readTs = System.currentTimeMillis();
+    List<String> processedMessageIds = new ArrayList<>();
+    try {
+      for (Message message : filterAlreadyProcessed(messages, processedMessageIds)) {
+        try {
+          dispatcher.dispatch(getOrderingKey(message), () -> handleDispatchedMessage(message, readTs));
+          processedMessageIds.add(message.getId());
+        } catch (RejectedExecutionException ex) {
+          // Not acknowledged and forgotten so that it can be processed by other consumers
+          log.error(String.format("Error occurred in dispatching message with id %s", message.getId()), ex);
+          forgetMessage(message);
+        }
+      }
+    } finally {
+      redisConsumer.acknowledge(processedMessageIds);
+    }
+  }
+
+  // Returns the messages to process, the ids of the other messages are added to the processed ones
+  private List<Message> filterAlreadyProcessed(List<Message> messages, List<String> processedMessageIds) {
+    Map<String, Message> newMessages = new LinkedHashMap<>();
+    for (Message message : messages) {
+      String key = String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId());
+      if (!messageListener.isProcessable(message)) {
+        processedMessageIds.add(message.getId());
+      } else if (recentMessageKeys.contains(key) || newMessages.containsKey(key)) {
+        logDuplicate(message);
+        processedMessageIds.add(message.getId());
+      } else {
+        newMessages.put(key, message);
+      }
+    }
+    if (newMessages.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    try {
+      Map<String, Integer> processedCounts = CollectionUtils.emptyIfNull(eventsCache.getAll(newMessages.keySet()));
+      Map<String, Integer> updatedCounts = new HashMap<>();
+      processedCounts.forEach((key, count) -> {
+        Message message = newMessages.remove(key);
+        logDuplicate(message);
+        processedMessageIds.add(message.getId());
+        updatedCounts.put(key, count == null ? 1 : count + 1);
+      });
+      newMessages.keySet().forEach(key -> updatedCounts.put(key, 1));
+      eventsCache.putAll(updatedCounts);
+    } catch (Exception ex) {
+      log.error("Exception occurred while checking for duplicate notifications", ex);
+    }
+    recentMessageKeys.addAll(newMessages.keySet());
+    return new ArrayList<>(newMessages.values());
+  }
+
+  private void forgetMessage(Message message) {
+    String key = String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId());
+    recentMessageKeys.remove(key);
+    try {
+      eventsCache.remove(key);
+    } catch (Exception ex) {
+      log.error("Exception occurred while removing message id from cache", ex);
+    }
+  }
+
+  private String getOrderingKey(Message message) {
+    Map<String, String> metadataMap = message.getMessage().getMetadataMap();
+    if (isNotEmpty(metadataMap.get(NODE_EXECUTION_ID))) {
+      return metadataMap.get(NODE_EXECUTION_ID);
+    }
+    if (isNotEmpty(metadataMap.get(PLAN_EXECUTION_ID))) {
+      return metadataMap.get(PLAN_EXECUTION_ID);
+    }
+    return message.getId();
+  }
+
+  private void handleDispatchedMessage(Message message, long readTs) {
+    try (PmsMetricContextGuard ignore = new PmsMetricContextGuard(
+             ImmutableMap.of(PmsEventMonitoringConstants.EVENT_TYPE, messageListener.entityClass.getSimpleName(),
+                 PmsEventMonitoringConstants.MODULE, messageListener.serviceName))) {
+      metricService.recordDuration(DISPATCH_DELAY_METRIC, Duration.ofMillis(System.currentTimeMillis() - readTs));
+    } catch (Exception ex) {
+      log.error("Exception occurred while recording the dispatch delay", ex);
+    }
+    messageListener.handleMessageInline(message, readTs);
+  }
+
+  private void logDuplicate(Message message) {
+    log.warn(String.format("Duplicate redis notification received to consumer [%s] with messageId [%s]",
+        this.getClass().getSimpleName(), message.getId()));
+  }
+
   public void shutDown() {
     shouldStop.set(true);
   }
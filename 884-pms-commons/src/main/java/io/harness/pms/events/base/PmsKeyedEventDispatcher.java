@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs tasks on a shared executor one at a time for the same key and concurrently for different keys. Keys are spread
+ * over a fixed number of lanes, so different keys can end up waiting on each other, but never the same key running
+ * twice at once. Dispatching blocks once the given number of tasks are waiting or running.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PmsKeyedEventDispatcher {
+  private final Executor[] lanes;
+  private final Semaphore pendingTasks;
+
+  public PmsKeyedEventDispatcher(Executor executor, int laneCount, int maxPendingTasks) {
+    this.lanes = new Executor[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = MoreExecutors.newSequentialExecutor(executor);
+    }
+    this.pendingTasks = new Semaphore(maxPendingTasks);
+  }
+
+  public void dispatch(String key, Runnable task) throws InterruptedException {
+    pendingTasks.acquire();
+    try {
+      lanes[Math.floorMod(key.hashCode(), lanes.length)].execute(() -> {
+        try {
+          task.run();
+        } finally {
+          pendingTasks.release();
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      pendingTasks.release();
+      throw ex;
+    }
+  }
+}
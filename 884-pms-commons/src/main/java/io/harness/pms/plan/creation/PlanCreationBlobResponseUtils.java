@@ -44,6 +44,22 @@ public class PlanCreationBlobResponseUtils {
     addYamlUpdates(builder, other);
   }
 
+  /**
+   * Merges the response like merge but leaves the yaml of the builder as is. The yaml updates are only collected, so
+   * they can be applied to the pipeline yaml once after all the responses of a dependency level are merged.
+   */
+  public void mergeWithoutYaml(PlanCreationBlobResponse.Builder builder, PlanCreationBlobResponse other) {
+    if (other == null) {
+      return;
+    }
+    addNodes(builder, other.getNodesMap());
+    addDependenciesWithoutYaml(builder, other.getDeps());
+    mergeStartingNodeId(builder, other.getStartingNodeId());
+    mergeContext(builder, other.getContextMap());
+    mergeLayoutNodeInfo(builder, other);
+    addYamlUpdates(builder, other);
+  }
+
   public PlanCreationBlobResponse addYamlUpdates(
       PlanCreationBlobResponse.Builder builder, PlanCreationBlobResponse currResponse) {
     if (EmptyPredicate.isEmpty(currResponse.getYamlUpdates().getFqnToYamlMap())) {
@@ -69,7 +85,13 @@ public class PlanCreationBlobResponseUtils {
     if (EmptyPredicate.isEmpty(newNodes)) {
       return builder.build();
     }
-    newNodes.values().forEach(newNode -> addNode(builder, newNode));
+    // Builds the response once for all the nodes, the maps of a built message are copied on the next change
+    Dependencies.Builder dependencies = builder.getDeps().toBuilder();
+    for (PlanNodeProto newNode : newNodes.values()) {
+      builder.putNodes(newNode.getUuid(), newNode);
+      dependencies.removeDependencies(newNode.getUuid()).removeDependencyMetadata(newNode.getUuid());
+    }
+    builder.setDeps(dependencies.build());
     return builder.build();
   }
 
@@ -99,7 +121,8 @@ public class PlanCreationBlobResponseUtils {
 
     if (builder.getDeps() == null || EmptyPredicate.isEmpty(builder.getDeps().getYaml())) {
       builder.setDeps(builder.getDeps().toBuilder().setYaml(dependencies.getYaml()).build());
-    } else {
+    } else if (EmptyPredicate.isNotEmpty(currResponse.getYamlUpdates().getFqnToYamlMap())) {
+      // Merging parses and writes the whole yaml, it is skipped when there is nothing to merge
       String updatedPipelineJson =
           mergeYamlUpdates(builder.getDeps().getYaml(), currResponse.getYamlUpdates().getFqnToYamlMap());
       builder.setDeps(builder.getDeps().toBuilder().setYaml(updatedPipelineJson).build());
@@ -107,6 +130,24 @@ public class PlanCreationBlobResponseUtils {
     return builder.build();
   }
 
+  private void addDependenciesWithoutYaml(PlanCreationBlobResponse.Builder builder, Dependencies dependencies) {
+    if (EmptyPredicate.isEmpty(dependencies.getDependenciesMap())) {
+      return;
+    }
+    Dependencies.Builder dependenciesBuilder = builder.getDeps().toBuilder();
+    dependencies.getDependenciesMap().forEach((nodeId, path) -> {
+      if (!builder.containsNodes(nodeId)) {
+        dependenciesBuilder.putDependencies(nodeId, path);
+      }
+    });
+    dependencies.getDependencyMetadataMap().forEach((nodeId, dependency) -> {
+      if (!builder.containsNodes(nodeId)) {
+        dependenciesBuilder.putDependencyMetadata(nodeId, dependency);
+      }
+    });
+    builder.setDeps(dependenciesBuilder.build());
+  }
+
   private static PlanCreationBlobResponse addDependencyMetadata(
       PlanCreationBlobResponse.Builder builder, String nodeId, Dependency dependency) {
     if (builder.containsNodes(nodeId)) {
@@ -11,10 +11,16 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.cache.NoOpCache;
 import io.harness.eventsframework.api.Consumer;
+import io.harness.metrics.service.api.MetricService;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class NoopPmsRedisConsumer extends PmsAbstractRedisConsumer<NoopPmsMessageListener> {
   public NoopPmsRedisConsumer(Consumer redisConsumer, NoopPmsMessageListener messageListener) {
     super(redisConsumer, messageListener, new NoOpCache<>(), new NoopQueueController());
   }
+
+  public NoopPmsRedisConsumer(
+      Consumer redisConsumer, NoopPmsMessageListener messageListener, MetricService metricService) {
+    super(redisConsumer, messageListener, new NoOpCache<>(), new NoopQueueController(), metricService);
+  }
 }
@@ -8,10 +8,14 @@
 package io.harness.pms.events.base;
 
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 
 import static org.jooq.tools.reflect.Reflect.on;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,12 +25,18 @@ import io.harness.PmsCommonsTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.monitoring.EventMonitoringService;
 import io.harness.pms.gitsync.PmsGitSyncBranchContextGuard;
 import io.harness.pms.gitsync.PmsGitSyncHelper;
 import io.harness.rule.Owner;
 
+import com.google.common.util.concurrent.ForwardingExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -36,6 +46,7 @@ import org.mockito.Mock;
 public class PmsAbstractRedisConsumerTest extends PmsCommonsTestBase {
   @Mock private PmsGitSyncHelper pmsGitSyncHelper;
   @Mock private EventMonitoringService eventMonitoringService;
+  @Mock private MetricService metricService;
   private NoopPmsEventHandler eventHandler;
 
   @Before
@@ -57,4 +68,57 @@ public class PmsAbstractRedisConsumerTest extends PmsCommonsTestBase {
     redisConsumer.pollAndProcessMessages();
     verify(messageListener, times(1)).handleMessage(any());
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDispatchMessagesAndAcknowledgeThemTogether() throws InterruptedException {
+    NoopPmsMessageListener messageListener =
+        spy(new NoopPmsMessageListener("RANDOM_SERVICE", eventHandler, MoreExecutors.newDirectExecutorService()));
+    NoopRedisConsumer eventsConsumer = spy(new NoopRedisConsumer("t", "g"));
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(eventsConsumer, messageListener, metricService);
+    redisConsumer.pollAndProcessMessages();
+    verify(messageListener, times(1)).handleMessageInline(any(), anyLong());
+    verify(messageListener, never()).handleMessage(any());
+    verify(eventsConsumer, times(1)).acknowledge(Collections.singletonList(""));
+    verify(metricService, times(1)).recordDuration(eq("pms_event_dispatch_delay"), any());
+
+    // The same message read again is acknowledged without being processed
+    redisConsumer.pollAndProcessMessages();
+    verify(messageListener, times(1)).handleMessageInline(any(), anyLong());
+    verify(eventsConsumer, times(2)).acknowledge(Collections.singletonList(""));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldProcessMessageReadAgainAfterItsDispatchWasRejected() throws InterruptedException {
+    AtomicBoolean rejecting = new AtomicBoolean(true);
+    ExecutorService directExecutor = MoreExecutors.newDirectExecutorService();
+    ExecutorService executor = new ForwardingExecutorService() {
+      @Override
+      protected ExecutorService delegate() {
+        return directExecutor;
+      }
+
+      @Override
+      public void execute(Runnable command) {
+        if (rejecting.getAndSet(false)) {
+          throw new RejectedExecutionException("Full");
+        }
+        super.execute(command);
+      }
+    };
+    NoopPmsMessageListener messageListener = spy(new NoopPmsMessageListener("RANDOM_SERVICE", eventHandler, executor));
+    NoopRedisConsumer eventsConsumer = spy(new NoopRedisConsumer("t", "g"));
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(eventsConsumer, messageListener, metricService);
+    redisConsumer.pollAndProcessMessages();
+    verify(messageListener, never()).handleMessageInline(any(), anyLong());
+    verify(eventsConsumer, times(1)).acknowledge(Collections.emptyList());
+
+    // Not taken for a duplicate when read again
+    redisConsumer.pollAndProcessMessages();
+    verify(messageListener, times(1)).handleMessageInline(any(), anyLong());
+    verify(eventsConsumer, times(1)).acknowledge(Collections.singletonList(""));
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PmsKeyedEventDispatcherTest extends CategoryTest {
+  private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRunTasksOfTheSameKeyInOrder() throws InterruptedException {
+    PmsKeyedEventDispatcher dispatcher = new PmsKeyedEventDispatcher(executorService, 2, 10);
+    Map<String, List<Integer>> runs = new ConcurrentHashMap<>();
+    Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+    AtomicBoolean overlapped = new AtomicBoolean(false);
+    CountDownLatch finished = new CountDownLatch(300);
+    for (int i = 0; i < 100; i++) {
+      for (String key : new String[] {"a", "b", "c"}) {
+        int run = i;
+        dispatcher.dispatch(key, () -> {
+          if (running.computeIfAbsent(key, k -> new AtomicBoolean()).getAndSet(true)) {
+            overlapped.set(true);
+          }
+          runs.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(run);
+          running.get(key).set(false);
+          finished.countDown();
+        });
+      }
+    }
+
+    assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(overlapped.get()).isFalse();
+    for (List<Integer> keyRuns : runs.values()) {
+      assertThat(keyRuns).hasSize(100).isSorted();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldBlockWhenTooManyTasksArePending() throws InterruptedException {
+    PmsKeyedEventDispatcher dispatcher = new PmsKeyedEventDispatcher(executorService, 4, 2);
+    CountDownLatch release = new CountDownLatch(1);
+    dispatcher.dispatch("a", () -> awaitQuietly(release));
+    dispatcher.dispatch("b", () -> awaitQuietly(release));
+
+    CountDownLatch dispatched = new CountDownLatch(1);
+    Thread thread = new Thread(() -> {
+      try {
+        dispatcher.dispatch("c", () -> {});
+        dispatched.countDown();
+      } catch (InterruptedException ignore) {
+        // Test finished
+      }
+    });
+    thread.start();
+    assertThat(dispatched.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+    release.countDown();
+    assertThat(dispatched.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
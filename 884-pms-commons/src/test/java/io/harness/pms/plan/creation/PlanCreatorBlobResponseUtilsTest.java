@@ -8,6 +8,7 @@
 package io.harness.pms.plan.creation;
 
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -74,6 +75,31 @@ public class PlanCreatorBlobResponseUtilsTest extends CategoryTest {
     assertThat(blobResponse.getGraphLayoutInfo().getLayoutNodesMap().keySet()).containsExactlyInAnyOrder("id1", "id2");
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMergeWithoutYaml() {
+    PlanCreationBlobResponse.Builder builder = PlanCreationBlobResponse.newBuilder().setDeps(
+        Dependencies.newBuilder().setYaml("pipeline yaml").putDependencies("id1", "this/fqn").build());
+    PlanCreationBlobResponseUtils.mergeWithoutYaml(builder,
+        PlanCreationBlobResponse.newBuilder()
+            .setDeps(Dependencies.newBuilder()
+                         .setYaml("sdk yaml")
+                         .putDependencies("id2", "that/fqn")
+                         .putDependencies("id3", "other/fqn")
+                         .build())
+            .putNodes("id1", PlanNodeProto.newBuilder().setUuid("id1").build())
+            .putNodes("id3", PlanNodeProto.newBuilder().setUuid("id3").build())
+            .setYamlUpdates(YamlUpdates.newBuilder().putFqnToYaml("pipeline/stages", "yaml1").build())
+            .build());
+
+    PlanCreationBlobResponse blobResponse = builder.build();
+    assertThat(blobResponse.getDeps().getYaml()).isEqualTo("pipeline yaml");
+    assertThat(blobResponse.getDeps().getDependenciesMap().keySet()).containsExactly("id2");
+    assertThat(blobResponse.getNodesMap().keySet()).containsExactlyInAnyOrder("id1", "id3");
+    assertThat(blobResponse.getYamlUpdates().getFqnToYamlMap()).containsOnlyKeys("pipeline/stages");
+  }
+
   @Test
   @Owner(developers = PRASHANTSHARMA)
   @Category(UnitTests.class)
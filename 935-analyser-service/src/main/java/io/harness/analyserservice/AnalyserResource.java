@@ -11,6 +11,8 @@ import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.QueryAlertCategory;
+import io.harness.event.QueryShapeCost;
+import io.harness.event.QueryShapeCostOrder;
 import io.harness.event.QueryStats;
 import io.harness.ng.core.dto.ResponseDTO;
 import io.harness.serviceinfo.ServiceInfo;
@@ -23,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -61,6 +64,17 @@ public class AnalyserResource {
     return ResponseDTO.newResponse(analyserService.getMostExpensiveQueries(service, version));
   }
 
+  @GET
+  @Path("/queryshapes")
+  @ApiOperation(value = "get query shapes ranked by their execution cost", nickname = "getCostliestQueryShapes")
+  public ResponseDTO<List<QueryShapeCost>> getCostliestQueryShapes(
+      @NotNull @QueryParam(AnalyserServiceConstants.SERVICE) String service,
+      @NotNull @QueryParam(AnalyserServiceConstants.VERSION) String version,
+      @QueryParam(AnalyserServiceConstants.ORDER_BY) @DefaultValue("TOTAL_TIME") QueryShapeCostOrder order,
+      @QueryParam(AnalyserServiceConstants.LIMIT) @DefaultValue("50") int limit) {
+    return ResponseDTO.newResponse(analyserService.getCostliestQueryShapes(service, version, order, limit));
+  }
+
   @GET
   @Path("/querydiff")
   @ApiOperation(value = "get query diff among tow versions", nickname = "getDisjointQueries")
@@ -10,6 +10,8 @@ package io.harness.analyserservice;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.QueryAlertCategory;
+import io.harness.event.QueryShapeCost;
+import io.harness.event.QueryShapeCostOrder;
 import io.harness.event.QueryStats;
 
 import java.util.List;
@@ -22,4 +24,5 @@ public interface AnalyserService {
   List<QueryStats> getMostExpensiveQueries(String service, String version);
   List<QueryStats> getQueryStats(String service, String version, QueryAlertCategory alertCategory);
   List<QueryStats> getDisjointQueries(String service, String oldVersion, String newVersion);
+  List<QueryShapeCost> getCostliestQueryShapes(String service, String version, QueryShapeCostOrder order, int limit);
 }
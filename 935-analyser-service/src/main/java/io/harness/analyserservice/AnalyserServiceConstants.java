@@ -20,5 +20,7 @@ public class AnalyserServiceConstants {
   public static final String OLD_VERSION = "oldVersion";
   public static final String NEW_VERSION = "newVersion";
   public static final String ALERT_TYPE = "alertType";
+  public static final String ORDER_BY = "orderBy";
+  public static final String LIMIT = "limit";
   String SAMPLE_AGGREGATOR_SCHEDULED_THREAD = "analyserSampleAggregatorExecutor";
 }
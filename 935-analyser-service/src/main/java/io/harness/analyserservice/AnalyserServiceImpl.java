@@ -15,12 +15,18 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.alerts.AlertMetadata;
 import io.harness.beans.alerts.AlertMetadata.AlertMetadataKeys;
 import io.harness.event.QueryAlertCategory;
+import io.harness.event.QueryExecutionProfile;
+import io.harness.event.QueryShapeCost;
+import io.harness.event.QueryShapeCostOrder;
 import io.harness.event.QueryStats;
 import io.harness.event.QueryStats.QueryStatsKeys;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
 import io.harness.repositories.QueryStatsRepository;
+import io.harness.service.QueryExecutionProfileService;
 import io.harness.serviceinfo.ServiceInfoService;
 
 import com.google.inject.Inject;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +42,7 @@ public class AnalyserServiceImpl implements AnalyserService {
   @Inject AnalyserServiceConfiguration analyserServiceConfiguration;
   @Inject ServiceInfoService serviceInfoService;
   @Inject MongoTemplate mongoTemplate;
+  @Inject QueryExecutionProfileService queryExecutionProfileService;
 
   @Override
   public List<QueryStats> getQueryStats(String service, String version) {
@@ -78,6 +85,35 @@ public class AnalyserServiceImpl implements AnalyserService {
     return newQueryStats.stream().filter(n -> !oldHashes.contains(n.getHash())).collect(Collectors.toList());
   }
 
+  @Override
+  public List<QueryShapeCost> getCostliestQueryShapes(
+      @NonNull String service, @NonNull String version, @NonNull QueryShapeCostOrder order, int limit) {
+    Comparator<QueryShapeCost> comparator = order == QueryShapeCostOrder.P99
+        ? Comparator.comparingDouble(QueryShapeCost::getP99Millis)
+        : Comparator.comparingLong(QueryShapeCost::getTotalTimeMillis);
+    return queryExecutionProfileService.getProfiles(service, version)
+        .stream()
+        .filter(profile -> profile.getCalls() > 0)
+        .map(this::toQueryShapeCost)
+        .sorted(comparator.reversed())
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  private QueryShapeCost toQueryShapeCost(QueryExecutionProfile profile) {
+    return QueryShapeCost.builder()
+        .hash(profile.getHash())
+        .collectionName(profile.getCollectionName())
+        .calls(profile.getCalls())
+        .totalTimeMillis(profile.getTotalMicros() / 1000)
+        .averageTimeMillis(profile.getTotalMicros() / 1000.0 / profile.getCalls())
+        .p50Millis(QueryShapeExecutionStats.percentileMicros(profile.getLatencyBuckets(), 0.5) / 1000.0)
+        .p99Millis(QueryShapeExecutionStats.percentileMicros(profile.getLatencyBuckets(), 0.99) / 1000.0)
+        .maxMillis(profile.getMaxMicros() / 1000.0)
+        .averageReturnedDocs((double) profile.getReturnedDocs() / profile.getCalls())
+        .build();
+  }
+
   boolean checkNotEmpty(List<AlertMetadata> list) {
     return list != null && list.size() > 0;
   }
@@ -24,6 +24,8 @@ import io.harness.serializer.ParsedQueryWriteConverter;
 import io.harness.serializer.SortPatternReadConverter;
 import io.harness.serializer.SortPatternWriteConverter;
 import io.harness.serializer.morphia.AnalyserMorphiaRegistrar;
+import io.harness.service.QueryExecutionProfileService;
+import io.harness.service.QueryExecutionProfileServiceImpl;
 import io.harness.service.QueryRecordsService;
 import io.harness.service.QueryRecordsServiceImpl;
 import io.harness.service.QueryStatsService;
@@ -117,6 +119,7 @@ public class AnalyserServiceModule extends AbstractModule {
     bind(AnalyserService.class).to(AnalyserServiceImpl.class);
     bind(QueryStatsService.class).to(QueryStatsServiceImpl.class);
     bind(QueryRecordsService.class).to(QueryRecordsServiceImpl.class);
+    bind(QueryExecutionProfileService.class).to(QueryExecutionProfileServiceImpl.class);
 
     bind(ScheduledExecutorService.class)
         .annotatedWith(Names.named(AnalyserServiceConstants.SAMPLE_AGGREGATOR_SCHEDULED_THREAD))
@@ -7,45 +7,56 @@
 
 package io.harness.analyserservice;
 
-import static io.harness.AuthorizationServiceHeader.ANALYZER_SERVICE;
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.QueryAnalysisMessageListener;
 import io.harness.eventsframework.EventsFrameworkConfiguration;
 import io.harness.eventsframework.EventsFrameworkConstants;
-import io.harness.eventsframework.api.Consumer;
-import io.harness.eventsframework.impl.noop.NoOpConsumer;
-import io.harness.eventsframework.impl.redis.RedisConsumer;
+import io.harness.eventsframework.impl.redis.RedisMultiplexedConsumer;
+import io.harness.eventsframework.impl.redis.RedisUtils;
 import io.harness.ng.core.event.MessageListener;
+import io.harness.queue.QueueController;
 import io.harness.redis.RedisConfig;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
 @OwnedBy(PIPELINE)
 public class EventsFrameworkModule extends AbstractModule {
+  private static final int QUERY_ANALYSIS_HANDLER_THREADS = 2;
+
   private final EventsFrameworkConfiguration eventsFrameworkConfiguration;
 
   @Override
   protected void configure() {
     RedisConfig redisConfig = this.eventsFrameworkConfiguration.getRedisConfig();
-    if (redisConfig.getRedisUrl().equals("dummyRedisUrl")) {
-      bind(Consumer.class)
-          .annotatedWith(Names.named(EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC))
-          .toInstance(
-              NoOpConsumer.of(EventsFrameworkConstants.DUMMY_TOPIC_NAME, EventsFrameworkConstants.DUMMY_GROUP_NAME));
-    } else {
-      bind(Consumer.class)
-          .annotatedWith(Names.named(EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC))
-          .toInstance(RedisConsumer.of(EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC, ANALYZER_SERVICE.getServiceId(),
-              redisConfig, EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
-              EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE));
+    // Nothing is consumed without redis
+    if (!redisConfig.getRedisUrl().equals("dummyRedisUrl")) {
+      install(new QueryAnalysisConsumerModule(redisConfig));
     }
     bind(MessageListener.class)
         .annotatedWith(Names.named(EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC))
         .to(QueryAnalysisMessageListener.class);
   }
+
+  @AllArgsConstructor
+  private static class QueryAnalysisConsumerModule extends AbstractModule {
+    private final RedisConfig redisConfig;
+
+    @Provides
+    @Singleton
+    @Named(EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC)
+    RedisMultiplexedConsumer queryAnalysisConsumer(QueueController queueController) {
+      int batchSize = EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE;
+      return RedisMultiplexedConsumer.of(RedisUtils.getClient(redisConfig), redisConfig.getEnvNamespace(),
+          EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME, batchSize, QUERY_ANALYSIS_HANDLER_THREADS,
+          2 * batchSize, null, queueController);
+    }
+  }
 }
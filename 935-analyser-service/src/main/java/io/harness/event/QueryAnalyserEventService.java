@@ -7,30 +7,38 @@
 
 package io.harness.event;
 
+import static io.harness.AuthorizationServiceHeader.ANALYZER_SERVICE;
+import static io.harness.eventsframework.EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC;
+
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.impl.redis.RedisMultiplexedConsumer;
+import io.harness.ng.core.event.MessageListener;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import io.dropwizard.lifecycle.Managed;
-import java.time.Duration;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class QueryAnalyserEventService implements Managed {
-  private ExecutorService queryAnalysisMessageConsumerExecutorService;
-  @Inject private QueryAnalysisMessageConsumer queryAnalysisMessageConsumer;
+  // Not bound when the events framework has no redis
+  @Inject(optional = true) @Named(QUERY_ANALYSIS_TOPIC) private RedisMultiplexedConsumer queryAnalysisConsumer;
+  @Inject @Named(QUERY_ANALYSIS_TOPIC) private MessageListener queryAnalysisMessageListener;
 
   @Override
   public void start() {
-    queryAnalysisMessageConsumerExecutorService = Executors.newFixedThreadPool(2);
-    queryAnalysisMessageConsumerExecutorService.execute(queryAnalysisMessageConsumer);
+    if (queryAnalysisConsumer == null) {
+      return;
+    }
+    queryAnalysisConsumer.subscribe(
+        QUERY_ANALYSIS_TOPIC, ANALYZER_SERVICE.getServiceId(), queryAnalysisMessageListener);
+    queryAnalysisConsumer.start();
   }
 
   @Override
   public void stop() throws Exception {
-    queryAnalysisMessageConsumerExecutorService.shutdownNow();
-    queryAnalysisMessageConsumerExecutorService.awaitTermination(Duration.ofSeconds(10).getSeconds(), TimeUnit.SECONDS);
+    if (queryAnalysisConsumer != null) {
+      queryAnalysisConsumer.shutdown();
+    }
   }
 }
@@ -1,103 +0,0 @@
-/*
- * Copyright 2021 Harness Inc. All rights reserved.
- * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
- * that can be found in the licenses directory at the root of this repository, also available at
- * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
- */
-
-package io.harness.event;
-
-import static io.harness.eventsframework.EventsFrameworkConstants.QUERY_ANALYSIS_TOPIC;
-
-import io.harness.annotations.dev.HarnessTeam;
-import io.harness.annotations.dev.OwnedBy;
-import io.harness.eventsframework.api.Consumer;
-import io.harness.eventsframework.api.EventsFrameworkDownException;
-import io.harness.eventsframework.consumer.Message;
-import io.harness.ng.core.event.MessageListener;
-import io.harness.queue.QueueController;
-
-import com.google.inject.Inject;
-import com.google.inject.name.Named;
-import java.time.Duration;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import lombok.extern.slf4j.Slf4j;
-
-@OwnedBy(HarnessTeam.PIPELINE)
-@Slf4j
-public class QueryAnalysisMessageConsumer implements Runnable {
-  private static final int WAIT_TIME_IN_SECONDS = 10;
-
-  private final Consumer redisConsumer;
-  private final MessageListener messageListener;
-  private final QueueController queueController;
-
-  @Inject
-  public QueryAnalysisMessageConsumer(@Named(QUERY_ANALYSIS_TOPIC) Consumer redisConsumer,
-      @Named(QUERY_ANALYSIS_TOPIC) MessageListener queryListener, QueueController queueController) {
-    this.redisConsumer = redisConsumer;
-    this.messageListener = queryListener;
-    this.queueController = queueController;
-  }
-
-  @Override
-  public void run() {
-    log.info("Started the Consumer {}", this.getClass().getSimpleName());
-    try {
-      while (!Thread.currentThread().isInterrupted()) {
-        if (queueController.isNotPrimary()) {
-          log.info("EntityActivity consumer is not running on primary deployment, will try again after some time...");
-          TimeUnit.SECONDS.sleep(30);
-          continue;
-        }
-        readEventsFrameworkMessages();
-      }
-    } catch (Exception ex) {
-      log.error("Consumer {} unexpectedly stopped", this.getClass().getSimpleName(), ex);
-    }
-  }
-
-  private void readEventsFrameworkMessages() throws InterruptedException {
-    try {
-      pollAndProcessMessages();
-    } catch (EventsFrameworkDownException e) {
-      log.error("Events framework is down for " + this.getClass().getSimpleName() + " consumer. Retrying again...", e);
-      TimeUnit.SECONDS.sleep(WAIT_TIME_IN_SECONDS);
-    }
-  }
-
-  private void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
-    for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
-      }
-    }
-  }
-
-  private boolean handleMessage(Message message) {
-    try {
-      return processMessage(message);
-    } catch (Exception ex) {
-      // This is not evicted from events framework so that it can be processed
-      // by other consumer if the error is a runtime error
-      log.error(String.format("Error occurred in processing message with id %s", message.getId()), ex);
-      return false;
-    }
-  }
-
-  private boolean processMessage(Message message) {
-    AtomicBoolean success = new AtomicBoolean(true);
-    if (!messageListener.handleMessage(message)) {
-      success.set(false);
-    }
-    return success.get();
-  }
-}
@@ -7,6 +7,8 @@
 
 package io.harness.event;
 
+import static io.harness.mongo.tracing.TracerConstants.MESSAGE_TYPE;
+import static io.harness.mongo.tracing.TracerConstants.QUERY_EXECUTION_STATS;
 import static io.harness.mongo.tracing.TracerConstants.QUERY_HASH;
 import static io.harness.mongo.tracing.TracerConstants.SERVICE_ID;
 import static io.harness.version.VersionConstants.MAJOR_VERSION_KEY;
@@ -15,13 +17,17 @@ import static io.harness.version.VersionConstants.VERSION_KEY;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
 import io.harness.ng.core.event.MessageListener;
 import io.harness.repositories.QueryRecordsRepository;
 import io.harness.serializer.JsonUtils;
+import io.harness.service.QueryExecutionProfileService;
 import io.harness.serviceinfo.ServiceInfoService;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.inject.Inject;
 import com.google.protobuf.ByteString;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,9 +36,14 @@ import lombok.extern.slf4j.Slf4j;
 public class QueryAnalysisMessageListener implements MessageListener {
   @Inject private QueryRecordsRepository queryRecordsRepository;
   @Inject private ServiceInfoService serviceInfoService;
+  @Inject private QueryExecutionProfileService queryExecutionProfileService;
 
   @Override
   public boolean handleMessage(Message message) {
+    Map<String, String> metadata = message.getMessage().getMetadataMap();
+    if (QUERY_EXECUTION_STATS.equals(metadata.get(MESSAGE_TYPE))) {
+      return handleExecutionStats(message);
+    }
     log.info("Message data : {}", message.getMessage().getData().toStringUtf8());
     String data = message.getMessage().getData().toStringUtf8();
     String queryResult = "{ \"queryExplainResult\":" + data + "}";
@@ -53,4 +64,13 @@ public class QueryAnalysisMessageListener implements MessageListener {
     serviceInfoService.updateLatest(metadataMap.get(SERVICE_ID), metadataMap.get(MAJOR_VERSION_KEY));
     return true;
   }
+
+  private boolean handleExecutionStats(Message message) {
+    List<QueryShapeExecutionStats> executionStats = JsonUtils.asList(
+        message.getMessage().getData().toStringUtf8(), new TypeReference<List<QueryShapeExecutionStats>>() {});
+    Map<String, String> metadataMap = message.getMessage().getMetadataMap();
+    queryExecutionProfileService.addExecutionStats(
+        metadataMap.get(SERVICE_ID), metadataMap.get(MAJOR_VERSION_KEY), executionStats);
+    return true;
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.MongoIndex;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import lombok.experimental.Wither;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Executions of a query shape by a service version, summed up over the execution stats sent by the tracers.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@FieldNameConstants(innerTypeName = "QueryExecutionProfileKeys")
+@Entity(value = "queryExecutionProfiles", noClassnameStored = true)
+@Document("queryExecutionProfiles")
+@TypeAlias("queryExecutionProfiles")
+@HarnessEntity(exportable = true)
+public class QueryExecutionProfile {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("serviceId_version_hash_idx")
+                 .unique(true)
+                 .field(QueryExecutionProfileKeys.serviceId)
+                 .field(QueryExecutionProfileKeys.version)
+                 .field(QueryExecutionProfileKeys.hash)
+                 .build())
+        .build();
+  }
+
+  @Wither @Id @org.mongodb.morphia.annotations.Id String id;
+  @NonNull String hash;
+  @NonNull String version;
+  @NonNull String serviceId;
+  String collectionName;
+
+  long calls;
+  long totalMicros;
+  long maxMicros;
+  long returnedDocs;
+  // Calls per latency bucket index of QueryShapeExecutionStats.LATENCY_HISTOGRAM_OPTIONS
+  Map<String, Long> latencyBuckets;
+
+  Long lastUpdatedAt;
+}
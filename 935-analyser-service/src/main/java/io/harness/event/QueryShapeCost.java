@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+public class QueryShapeCost {
+  String hash;
+  String collectionName;
+  long calls;
+  long totalTimeMillis;
+  double averageTimeMillis;
+  double p50Millis;
+  double p99Millis;
+  double maxMillis;
+  double averageReturnedDocs;
+}
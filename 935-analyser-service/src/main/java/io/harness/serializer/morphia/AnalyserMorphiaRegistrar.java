@@ -9,6 +9,7 @@ package io.harness.serializer.morphia;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.event.QueryExecutionProfile;
 import io.harness.event.QueryRecordEntity;
 import io.harness.event.QueryStats;
 import io.harness.morphia.MorphiaRegistrar;
@@ -24,6 +25,7 @@ public class AnalyserMorphiaRegistrar implements MorphiaRegistrar {
     set.add(ServiceInfo.class);
     set.add(QueryRecordEntity.class);
     set.add(QueryStats.class);
+    set.add(QueryExecutionProfile.class);
   }
 
   @Override
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.event.QueryExecutionProfile;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
+
+import java.util.List;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public interface QueryExecutionProfileService {
+  void addExecutionStats(String serviceId, String version, List<QueryShapeExecutionStats> executionStats);
+
+  List<QueryExecutionProfile> getProfiles(String serviceId, String version);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.event.QueryExecutionProfile;
+import io.harness.event.QueryExecutionProfile.QueryExecutionProfileKeys;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
+
+import com.google.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryExecutionProfileServiceImpl implements QueryExecutionProfileService {
+  @Inject private MongoTemplate mongoTemplate;
+
+  @Override
+  public void addExecutionStats(String serviceId, String version, List<QueryShapeExecutionStats> executionStats) {
+    if (isEmpty(executionStats)) {
+      return;
+    }
+    // Stats of every instance of the service are added up, so that they can be applied in any order
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, QueryExecutionProfile.class);
+    for (QueryShapeExecutionStats stats : executionStats) {
+      Query query = query(where(QueryExecutionProfileKeys.serviceId).is(serviceId))
+                        .addCriteria(where(QueryExecutionProfileKeys.version).is(version))
+                        .addCriteria(where(QueryExecutionProfileKeys.hash).is(stats.getHash()));
+      Update update = new Update()
+                          .set(QueryExecutionProfileKeys.collectionName, stats.getCollectionName())
+                          .set(QueryExecutionProfileKeys.lastUpdatedAt, System.currentTimeMillis())
+                          .inc(QueryExecutionProfileKeys.calls, stats.getCalls())
+                          .inc(QueryExecutionProfileKeys.totalMicros, stats.getTotalMicros())
+                          .inc(QueryExecutionProfileKeys.returnedDocs, stats.getReturnedDocs())
+                          .max(QueryExecutionProfileKeys.maxMicros, stats.getMaxMicros());
+      if (stats.getLatencyBuckets() != null) {
+        for (Map.Entry<String, Long> bucket : stats.getLatencyBuckets().entrySet()) {
+          update.inc(QueryExecutionProfileKeys.latencyBuckets + "." + bucket.getKey(), bucket.getValue());
+        }
+      }
+      bulkOperations.upsert(query, update);
+    }
+    bulkOperations.execute();
+  }
+
+  @Override
+  public List<QueryExecutionProfile> getProfiles(String serviceId, String version) {
+    Query query = query(where(QueryExecutionProfileKeys.serviceId).is(serviceId))
+                      .addCriteria(where(QueryExecutionProfileKeys.version).is(version));
+    return mongoTemplate.find(query, QueryExecutionProfile.class);
+  }
+}
@@ -7,6 +7,8 @@
 
 package io.harness.tracing;
 
+import static io.harness.mongo.tracing.TracerConstants.MESSAGE_TYPE;
+import static io.harness.mongo.tracing.TracerConstants.QUERY_EXECUTION_STATS;
 import static io.harness.mongo.tracing.TracerConstants.QUERY_HASH;
 import static io.harness.mongo.tracing.TracerConstants.SERVICE_ID;
 import static io.harness.version.VersionConstants.MAJOR_VERSION_KEY;
@@ -16,18 +18,28 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.producer.Message;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
 import io.harness.mongo.tracing.Tracer;
 import io.harness.persistence.HQuery;
 import io.harness.serializer.JsonUtils;
 import io.harness.tracing.shapedetector.QueryShapeDetector;
 import io.harness.version.VersionInfoManager;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.google.protobuf.ByteString;
 import com.mongodb.DBObject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -37,23 +49,34 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Query;
 
 @Slf4j
+@Singleton
 @OwnedBy(HarnessTeam.PIPELINE)
 public class MongoRedisTracer implements Tracer {
   private static final int SAMPLE_SIZE = 120; // Consider only 1 sample out of 120 invocations
+  private static final long STATS_FLUSH_INTERVAL_SECONDS = 60;
+  private static final int MAX_QUERY_SHAPES_PER_MESSAGE = 100;
 
   @Inject @Named(PersistenceTracerConstants.TRACING_THREAD_POOL) private ExecutorService executorService;
   @Inject @Named(PersistenceTracerConstants.QUERY_ANALYSIS_PRODUCER) private Producer producer;
   @Inject @Named(SERVICE_ID) private String serviceId;
   @Inject private VersionInfoManager versionInfoManager;
+  @Inject private QueryExecutionStatsCollector queryExecutionStatsCollector;
 
   private final ConcurrentHashMap<String, Long> queryStatsCache = new ConcurrentHashMap<>();
+  private final AtomicBoolean statsFlushStarted = new AtomicBoolean();
 
   @Override
   public void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate) {
+    traceSpringQueryExecution(query, entityClass, mongoTemplate, null, null);
+  }
+
+  @Override
+  public void traceSpringQueryExecution(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, Long elapsedNanos, Integer resultCount) {
     try {
       executorService.execute(() -> {
         try {
-          traceSpringQueryInternal(query, entityClass, mongoTemplate);
+          traceSpringQueryInternal(query, entityClass, mongoTemplate, elapsedNanos, resultCount);
         } catch (Exception ex) {
           log.error(String.format("Unable to trace spring query: %s", query.getQueryObject().toJson()), ex);
         }
@@ -65,10 +88,15 @@ public class MongoRedisTracer implements Tracer {
 
   @Override
   public void traceMorphiaQuery(HQuery<?> query) {
+    traceMorphiaQueryExecution(query, null, null);
+  }
+
+  @Override
+  public void traceMorphiaQueryExecution(HQuery<?> query, Long elapsedNanos, Integer resultCount) {
     try {
       executorService.execute(() -> {
         try {
-          traceMorphiaQueryInternal(query);
+          traceMorphiaQueryInternal(query, elapsedNanos, resultCount);
         } catch (Exception ex) {
           log.error(String.format("Unable to trace morphia query: %s", query.getQueryObject().toString()), ex);
         }
@@ -78,7 +106,8 @@ public class MongoRedisTracer implements Tracer {
     }
   }
 
-  private void traceSpringQueryInternal(Query query, Class<?> entityClass, MongoTemplate mongoTemplate) {
+  private void traceSpringQueryInternal(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, Long elapsedNanos, Integer resultCount) {
     String collectionName = mongoTemplate.getCollectionName(entityClass);
     MongoConverter mongoConverter = mongoTemplate.getConverter();
     MongoPersistentEntity<?> entity = mongoConverter.getMappingContext().getPersistentEntity(entityClass);
@@ -86,6 +115,7 @@ public class MongoRedisTracer implements Tracer {
     Document queryDoc = queryMapper.getMappedObject(nonNullDocument(query.getQueryObject()), entity);
     Document sortDoc = queryMapper.getMappedSort(nonNullDocument(query.getSortObject()), entity);
     String qHash = QueryShapeDetector.getQueryHash(collectionName, queryDoc, sortDoc);
+    recordExecution(qHash, collectionName, elapsedNanos, resultCount);
     if (skipSample(qHash)) {
       return;
     }
@@ -111,11 +141,12 @@ public class MongoRedisTracer implements Tracer {
                       .build());
   }
 
-  private void traceMorphiaQueryInternal(HQuery<?> query) {
+  private void traceMorphiaQueryInternal(HQuery<?> query, Long elapsedNanos, Integer resultCount) {
     String collectionName = query.getCollection().getName();
     Document queryDoc = toDocument(query.getQueryObject());
     Document sortDoc = toDocument(query.getSortObject());
     String qHash = QueryShapeDetector.getQueryHash(collectionName, queryDoc, sortDoc);
+    recordExecution(qHash, collectionName, elapsedNanos, resultCount);
     if (skipSample(qHash)) {
       return;
     }
@@ -131,6 +162,42 @@ public class MongoRedisTracer implements Tracer {
                       .build());
   }
 
+  private void recordExecution(String qHash, String collectionName, Long elapsedNanos, Integer resultCount) {
+    if (elapsedNanos == null) {
+      return;
+    }
+    queryExecutionStatsCollector.record(qHash, collectionName, elapsedNanos, resultCount == null ? 0 : resultCount);
+    if (!statsFlushStarted.get() && statsFlushStarted.compareAndSet(false, true)) {
+      ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("query-stats-flush-%d").setDaemon(true).build());
+      flushExecutor.scheduleWithFixedDelay(
+          this::flushExecutionStats, STATS_FLUSH_INTERVAL_SECONDS, STATS_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  private void flushExecutionStats() {
+    try {
+      List<QueryShapeExecutionStats> stats = queryExecutionStatsCollector.flush();
+      if (stats.isEmpty()) {
+        return;
+      }
+      List<Message> messages = new ArrayList<>();
+      for (List<QueryShapeExecutionStats> chunk : Lists.partition(stats, MAX_QUERY_SHAPES_PER_MESSAGE)) {
+        messages.add(Message.newBuilder()
+                         .putMetadata(VERSION_KEY, versionInfoManager.getVersionInfo().getVersion())
+                         .putMetadata(MAJOR_VERSION_KEY, getMajorVersionFromFullVersion())
+                         .putMetadata(SERVICE_ID, serviceId)
+                         .putMetadata(MESSAGE_TYPE, QUERY_EXECUTION_STATS)
+                         .setData(ByteString.copyFromUtf8(JsonUtils.asJson(chunk)))
+                         .build());
+      }
+      producer.sendBatch(messages);
+      log.debug("Sent execution stats of {} query shapes", stats.size());
+    } catch (Exception ex) {
+      log.error("Unable to send query execution stats", ex);
+    }
+  }
+
   private String getMajorVersionFromFullVersion() {
     String buildNo = versionInfoManager.getVersionInfo().getBuildNo();
     String replaceBuildNumber = buildNo.substring(0, buildNo.length() - 2) + "xx";
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import static io.harness.mongo.tracing.QueryShapeExecutionStats.LATENCY_HISTOGRAM_OPTIONS;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the executions of every query shape: calls, time, returned documents and a latency histogram. Recording only
+ * updates the striped counters of the shape, which are drained into aggregates on flush. Shapes are dropped only
+ * while no execution is being recorded in them, executions that find their shape dropped record it again.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class QueryExecutionStatsCollector {
+  private static final int MAX_QUERY_SHAPES = 5000;
+
+  private final ConcurrentHashMap<String, QueryShapeCounters> queryShapes = new ConcurrentHashMap<>();
+  private final AtomicLong droppedExecutions = new AtomicLong();
+
+  public void record(String queryHash, String collectionName, long elapsedNanos, int resultCount) {
+    long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+    while (true) {
+      QueryShapeCounters counters = queryShapes.get(queryHash);
+      if (counters == null) {
+        if (queryShapes.size() >= MAX_QUERY_SHAPES) {
+          if (droppedExecutions.getAndIncrement() % 10000 == 0) {
+            log.warn("Tracking more than {} query shapes, dropping executions of new ones", MAX_QUERY_SHAPES);
+          }
+          return;
+        }
+        counters = queryShapes.computeIfAbsent(queryHash, hash -> new QueryShapeCounters(collectionName));
+      }
+      if (counters.tryRecord(elapsedMicros, resultCount)) {
+        return;
+      }
+      queryShapes.remove(queryHash, counters);
+    }
+  }
+
+  /**
+   * Drains the executions recorded since the last flush. Shapes that were not executed in between are forgotten.
+   */
+  public List<QueryShapeExecutionStats> flush() {
+    List<QueryShapeExecutionStats> stats = new ArrayList<>();
+    for (Map.Entry<String, QueryShapeCounters> entry : queryShapes.entrySet()) {
+      QueryShapeCounters counters = entry.getValue();
+      QueryShapeExecutionStats shapeStats = counters.drain(entry.getKey());
+      if (shapeStats == null && counters.drop()) {
+        // Executions that found it dropped may have added the shape again
+        queryShapes.remove(entry.getKey(), counters);
+        // Executions recorded since the drain
+        shapeStats = counters.drain(entry.getKey());
+      }
+      if (shapeStats != null) {
+        stats.add(shapeStats);
+      }
+    }
+    return stats;
+  }
+
+  @VisibleForTesting
+  int getQueryShapeCount() {
+    return queryShapes.size();
+  }
+
+  private static class QueryShapeCounters {
+    private static final int DROPPED = -1;
+
+    private final String collectionName;
+    // Number of executions being recorded, DROPPED once the shape is dropped
+    private final AtomicInteger recorders = new AtomicInteger();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAdder returnedDocs = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(LATENCY_HISTOGRAM_OPTIONS.getNumBuckets());
+
+    QueryShapeCounters(String collectionName) {
+      this.collectionName = collectionName;
+    }
+
+    boolean tryRecord(long elapsedMicros, int resultCount) {
+      int current;
+      do {
+        current = recorders.get();
+        if (current == DROPPED) {
+          return false;
+        }
+      } while (!recorders.compareAndSet(current, current + 1));
+      try {
+        latencyBuckets.incrementAndGet(LATENCY_HISTOGRAM_OPTIONS.findBucket(elapsedMicros));
+        totalMicros.add(elapsedMicros);
+        returnedDocs.add(resultCount);
+        maxMicros.accumulate(elapsedMicros);
+        calls.increment();
+        return true;
+      } finally {
+        recorders.decrementAndGet();
+      }
+    }
+
+    boolean drop() {
+      return recorders.compareAndSet(0, DROPPED);
+    }
+
+    QueryShapeExecutionStats drain(String queryHash) {
+      long drainedCalls = calls.sumThenReset();
+      if (drainedCalls == 0) {
+        return null;
+      }
+      Map<String, Long> buckets = new HashMap<>();
+      for (int i = 0; i < latencyBuckets.length(); i++) {
+        long count = latencyBuckets.getAndSet(i, 0);
+        if (count > 0) {
+          buckets.put(String.valueOf(i), count);
+        }
+      }
+      return QueryShapeExecutionStats.builder()
+          .hash(queryHash)
+          .collectionName(collectionName)
+          .calls(drainedCalls)
+          .totalMicros(totalMicros.sumThenReset())
+          .returnedDocs(returnedDocs.sumThenReset())
+          .maxMicros(maxMicros.getThenReset())
+          .latencyBuckets(buckets)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.mongo.tracing.QueryShapeExecutionStats;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryExecutionStatsCollectorTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFlushAggregatesExecutionsPerShape() {
+    QueryExecutionStatsCollector collector = new QueryExecutionStatsCollector();
+    for (int i = 0; i < 99; i++) {
+      collector.record("hash1", "coll1", TimeUnit.MILLISECONDS.toNanos(1), 2);
+    }
+    collector.record("hash1", "coll1", TimeUnit.SECONDS.toNanos(2), 0);
+    collector.record("hash2", "coll2", TimeUnit.MILLISECONDS.toNanos(5), 1);
+
+    List<QueryShapeExecutionStats> stats = collector.flush();
+    assertThat(stats).hasSize(2);
+    QueryShapeExecutionStats shape1 =
+        stats.stream().filter(shapeStats -> shapeStats.getHash().equals("hash1")).findFirst().get();
+    assertThat(shape1.getCollectionName()).isEqualTo("coll1");
+    assertThat(shape1.getCalls()).isEqualTo(100);
+    assertThat(shape1.getTotalMicros()).isEqualTo(99 * 1000 + 2_000_000);
+    assertThat(shape1.getMaxMicros()).isEqualTo(2_000_000);
+    assertThat(shape1.getReturnedDocs()).isEqualTo(198);
+    assertThat(shape1.getLatencyBuckets().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(100);
+
+    // Bucket starts are at most 25% below the recorded latencies
+    assertThat(QueryShapeExecutionStats.percentileMicros(shape1.getLatencyBuckets(), 0.5)).isBetween(750L, 1000L);
+    assertThat(QueryShapeExecutionStats.percentileMicros(shape1.getLatencyBuckets(), 0.99)).isBetween(750L, 1000L);
+    assertThat(QueryShapeExecutionStats.percentileMicros(shape1.getLatencyBuckets(), 1.0))
+        .isBetween(1_500_000L, 2_000_000L);
+
+    // Shapes that are not executed anymore are forgotten on the next flush
+    collector.record("hash2", "coll2", TimeUnit.MILLISECONDS.toNanos(5), 1);
+    stats = collector.flush();
+    assertThat(stats).hasSize(1);
+    assertThat(stats.get(0).getHash()).isEqualTo("hash2");
+    assertThat(stats.get(0).getCalls()).isEqualTo(1);
+    assertThat(collector.getQueryShapeCount()).isEqualTo(1);
+    assertThat(collector.flush()).isEmpty();
+    assertThat(collector.getQueryShapeCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFlushKeepsExecutionsRecordedWhileShapesAreDropped() throws InterruptedException {
+    QueryExecutionStatsCollector collector = new QueryExecutionStatsCollector();
+    int threadCount = 4;
+    int executionsPerThread = 100000;
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      // Shapes are executed now and then, so flushes keep dropping them while they are recorded
+      Thread thread = new Thread(() -> {
+        for (int execution = 0; execution < executionsPerThread; execution++) {
+          collector.record("hash" + execution % 1000, "coll", 1000, 1);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    long flushedCalls = 0;
+    while (threads.stream().anyMatch(Thread::isAlive)) {
+      flushedCalls += collector.flush().stream().mapToLong(QueryShapeExecutionStats::getCalls).sum();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    flushedCalls += collector.flush().stream().mapToLong(QueryShapeExecutionStats::getCalls).sum();
+
+    assertThat(flushedCalls).isEqualTo((long) threadCount * executionsPerThread);
+  }
+}
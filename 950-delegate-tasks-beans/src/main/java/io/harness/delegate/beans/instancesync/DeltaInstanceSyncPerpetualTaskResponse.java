@@ -0,0 +1,25 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.delegate.beans.instancesync;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+
+/**
+ * Instance sync response that may carry only the instances changed since the last accepted response. Without a base
+ * fingerprint the server instance details are the full instance list, otherwise they are the instances added since
+ * the response with the base fingerprint, and the removed server instance details the instances gone since then.
+ */
+@OwnedBy(HarnessTeam.CDP)
+public interface DeltaInstanceSyncPerpetualTaskResponse extends InstanceSyncPerpetualTaskResponse {
+  String getInstanceFingerprint();
+  String getBaseInstanceFingerprint();
+  List<ServerInstanceInfo> getRemovedServerInstanceDetails();
+}
@@ -20,11 +20,14 @@ import lombok.Data;
 @Data
 @Builder
 @OwnedBy(HarnessTeam.CDP)
-public class K8sInstanceSyncPerpetualTaskResponse implements InstanceSyncPerpetualTaskResponse {
+public class K8sInstanceSyncPerpetualTaskResponse implements DeltaInstanceSyncPerpetualTaskResponse {
   private DelegateMetaInfo delegateMetaInfo;
   private List<ServerInstanceInfo> serverInstanceDetails;
   private String errorMessage;
   private CommandExecutionStatus commandExecutionStatus;
+  private List<ServerInstanceInfo> removedServerInstanceDetails;
+  private String instanceFingerprint;
+  private String baseInstanceFingerprint;
 
   @Override
   public String getDeploymentType() {
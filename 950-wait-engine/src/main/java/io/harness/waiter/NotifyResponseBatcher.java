@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.threading.Morpheus.sleep;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces the responses handed to {@link WaitNotifyEngine#doneWith} within a short window, so they are stored and
+ * resolved against the waiting instances with a handful of bulk operations instead of a few round-trips each. Batches
+ * are flushed by a pool of threads, so the next batch is collected while the previous ones are written. Once all the
+ * flush threads are busy the collector waits, and the responses that keep coming end up in a larger batch.
+ */
+@Slf4j
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseBatcher implements AutoCloseable {
+  public static final String NOTIFY_BATCH_RESPONSES = "wait_engine_notify_batch_responses";
+  public static final String NOTIFY_BATCH_FLUSHES = "wait_engine_notify_batch_flushes";
+  public static final String NOTIFY_BATCH_SIZE = "wait_engine_notify_batch_size";
+  public static final String NOTIFY_BATCH_FLUSH_TIME = "wait_engine_notify_batch_flush_time";
+
+  @Value
+  private static class PendingResponse {
+    NotifyResponse notifyResponse;
+    CompletableFuture<Boolean> stored;
+  }
+
+  private final long windowMillis;
+  private final int maxSize;
+  private final Function<List<NotifyResponse>, List<String>> flusher;
+  private final BlockingQueue<PendingResponse> pending = new LinkedBlockingQueue<>();
+  private final ExecutorService executorService;
+  private final ExecutorService flushExecutorService;
+  private final Semaphore flushPermits;
+
+  private final Meter responsesMeter;
+  private final Meter flushesMeter;
+  private final Histogram batchSizeHistogram;
+  private final Timer flushTimer;
+
+  private volatile boolean running = true;
+
+  /**
+   * @param flusher stores the given responses and returns the ids of the ones that were actually stored
+   */
+  public NotifyResponseBatcher(Duration window, int maxSize, int flushThreads,
+      Function<List<NotifyResponse>, List<String>> flusher, MetricRegistry metricRegistry) {
+    this.windowMillis = window.toMillis();
+    this.maxSize = maxSize;
+    this.flusher = flusher;
+
+    this.responsesMeter = metricRegistry.meter(NOTIFY_BATCH_RESPONSES);
+    this.flushesMeter = metricRegistry.meter(NOTIFY_BATCH_FLUSHES);
+    this.batchSizeHistogram = metricRegistry.histogram(NOTIFY_BATCH_SIZE);
+    this.flushTimer = metricRegistry.timer(NOTIFY_BATCH_FLUSH_TIME);
+
+    executorService = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("notify-response-batcher-%d").setDaemon(true).build());
+    flushExecutorService = Executors.newFixedThreadPool(
+        flushThreads, new ThreadFactoryBuilder().setNameFormat("notify-response-flusher-%d").setDaemon(true).build());
+    flushPermits = new Semaphore(flushThreads);
+    executorService.submit(this::run);
+  }
+
+  /**
+   * @return future completed with true once the response is stored, false if a response with the same id already
+   *     exists
+   */
+  public CompletableFuture<Boolean> submit(NotifyResponse notifyResponse) {
+    CompletableFuture<Boolean> stored = new CompletableFuture<>();
+    if (!running) {
+      stored.completeExceptionally(new IllegalStateException("NotifyResponseBatcher is closed"));
+      return stored;
+    }
+    pending.add(new PendingResponse(notifyResponse, stored));
+    return stored;
+  }
+
+  private void run() {
+    while (running || !pending.isEmpty()) {
+      try {
+        PendingResponse first = pending.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+
+        List<PendingResponse> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.currentTimeMillis() + windowMillis;
+        while (batch.size() < maxSize) {
+          long remaining = deadline - System.currentTimeMillis();
+          if (remaining <= 0) {
+            pending.drainTo(batch, maxSize - batch.size());
+            break;
+          }
+          PendingResponse next = pending.poll(remaining, TimeUnit.MILLISECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+
+        flushPermits.acquire();
+        try {
+          flushExecutorService.submit(() -> {
+            try {
+              flush(batch);
+            } finally {
+              flushPermits.release();
+            }
+          });
+        } catch (Exception exception) {
+          flushPermits.release();
+          batch.forEach(pendingResponse -> pendingResponse.getStored().completeExceptionally(exception));
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception exception) {
+        log.error("Unexpected exception in the notify response batcher", exception);
+        sleep(Duration.ofMillis(windowMillis));
+      }
+    }
+  }
+
+  private void flush(List<PendingResponse> batch) {
+    // The same correlation id can be done more than once within a window, only the first one has a chance to win.
+    List<NotifyResponse> notifyResponses = new ArrayList<>(batch.size());
+    Set<String> batchIds = new HashSet<>();
+    for (PendingResponse pendingResponse : batch) {
+      if (batchIds.add(pendingResponse.getNotifyResponse().getUuid())) {
+        notifyResponses.add(pendingResponse.getNotifyResponse());
+      }
+    }
+
+    try (Timer.Context ignore = flushTimer.time()) {
+      Set<String> storedIds = new HashSet<>(flusher.apply(notifyResponses));
+      for (PendingResponse pendingResponse : batch) {
+        pendingResponse.getStored().complete(storedIds.remove(pendingResponse.getNotifyResponse().getUuid()));
+      }
+    } catch (Exception exception) {
+      batch.forEach(pendingResponse -> pendingResponse.getStored().completeExceptionally(exception));
+    }
+
+    responsesMeter.mark(batch.size());
+    flushesMeter.mark();
+    batchSizeHistogram.update(batch.size());
+    if (log.isDebugEnabled()) {
+      log.debug("Flushed {} notify responses, rate {}/s", batch.size(), responsesMeter.getOneMinuteRate());
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    executorService.shutdown();
+    executorService.awaitTermination(1, TimeUnit.MINUTES);
+    flushExecutorService.shutdown();
+    flushExecutorService.awaitTermination(1, TimeUnit.MINUTES);
+  }
+}
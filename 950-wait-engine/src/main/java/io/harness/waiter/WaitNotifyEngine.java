@@ -19,6 +19,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.logging.AutoLogRemoveContext;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.serializer.KryoSerializer;
 import io.harness.tasks.ErrorResponseData;
 import io.harness.tasks.ProgressData;
@@ -26,6 +27,7 @@ import io.harness.tasks.ResponseData;
 import io.harness.waiter.WaitInstance.WaitInstanceBuilder;
 import io.harness.waiter.persistence.PersistenceWrapper;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.inject.Inject;
@@ -38,6 +40,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -55,6 +58,10 @@ public class WaitNotifyEngine {
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject(optional = true) private HarnessMetricRegistry harnessMetricRegistry;
+
+  private volatile NotifyResponseBatcher notifyResponseBatcher;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -145,14 +152,19 @@ public class WaitNotifyEngine {
     }
 
     try {
+      final NotifyResponse notifyResponse = NotifyResponse.builder()
+                                                .uuid(correlationId)
+                                                .createdAt(currentTimeMillis())
+                                                .responseData(kryoSerializer.asDeflatedBytes(response))
+                                                .error(error || response instanceof ErrorResponseData)
+                                                .build();
+      if (waiterConfiguration.isNotifyBatchingEnabled()) {
+        return obtainNotifyResponseBatcher().submit(notifyResponse).get() ? correlationId : null;
+      }
+
       final Stopwatch stopwatch = Stopwatch.createStarted();
       long doneWithStartTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
-      persistenceWrapper.save(NotifyResponse.builder()
-                                  .uuid(correlationId)
-                                  .createdAt(currentTimeMillis())
-                                  .responseData(kryoSerializer.asDeflatedBytes(response))
-                                  .error(error || response instanceof ErrorResponseData)
-                                  .build());
+      persistenceWrapper.save(notifyResponse);
       long queryEndTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
 
       if (log.isDebugEnabled()) {
@@ -162,12 +174,53 @@ public class WaitNotifyEngine {
       return correlationId;
     } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
       log.warn("Unexpected rate of DuplicateKeyException per correlation", exception);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      log.error("Interrupted while waiting for the response of type " + response.getClass().getSimpleName()
+          + " to be stored");
+    } catch (ExecutionException exception) {
+      log.error(
+          "Failed to notify for response of type " + response.getClass().getSimpleName(), exception.getCause());
     } catch (Exception exception) {
       log.error("Failed to notify for response of type " + response.getClass().getSimpleName(), exception);
     }
     return null;
   }
 
+  private NotifyResponseBatcher obtainNotifyResponseBatcher() {
+    if (notifyResponseBatcher == null) {
+      synchronized (this) {
+        if (notifyResponseBatcher == null) {
+          MetricRegistry metricRegistry =
+              harnessMetricRegistry != null && harnessMetricRegistry.getMetricRegistry() != null
+              ? harnessMetricRegistry.getMetricRegistry()
+              : new MetricRegistry();
+          notifyResponseBatcher = new NotifyResponseBatcher(waiterConfiguration.getNotifyBatchWindow(),
+              waiterConfiguration.getNotifyBatchMaxSize(), waiterConfiguration.getNotifyBatchFlushThreads(),
+              this::storeAndHandleNotifyResponses, metricRegistry);
+        }
+      }
+    }
+    return notifyResponseBatcher;
+  }
+
+  private List<String> storeAndHandleNotifyResponses(List<NotifyResponse> notifyResponses) {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    final List<String> storedIds = persistenceWrapper.saveNotifyResponses(notifyResponses);
+    long storedTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+
+    final List<WaitInstance> waitInstances = persistenceWrapper.modifyAndFetchWaitInstances(storedIds);
+    for (WaitInstance waitInstance : waitInstances) {
+      sendNotification(waitInstance);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("Process {} NotifyResponses mongo queryTime {}, resolved {} wait instances in {}", storedIds.size(),
+          storedTime, waitInstances.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS) - storedTime);
+    }
+    return storedIds;
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (AutoLogRemoveContext ignore = new AutoLogRemoveContext(WaitInstanceLogContext.ID)) {
       String publisher = waitInstance.getPublisher();
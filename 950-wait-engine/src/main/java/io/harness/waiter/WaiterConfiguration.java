@@ -10,6 +10,7 @@ package io.harness.waiter;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import java.time.Duration;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Value;
@@ -20,4 +21,10 @@ import lombok.Value;
 public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+
+  // When enabled doneWith calls are coalesced within notifyBatchWindow and persisted/resolved in bulk
+  @Default boolean notifyBatchingEnabled = false;
+  @Default Duration notifyBatchWindow = Duration.ofMillis(20);
+  @Default int notifyBatchMaxSize = 500;
+  @Default int notifyBatchFlushThreads = 4;
 }
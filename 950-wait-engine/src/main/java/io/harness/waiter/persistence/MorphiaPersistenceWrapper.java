@@ -11,7 +11,10 @@ import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -31,6 +34,10 @@ import io.harness.waiter.WaitInstance;
 import io.harness.waiter.WaitInstance.WaitInstanceKeys;
 
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.ErrorCategory;
 import com.mongodb.WriteConcern;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -41,6 +48,7 @@ import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.FindAndModifyOptions;
 import org.mongodb.morphia.Key;
+import org.mongodb.morphia.Morphia;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -50,6 +58,7 @@ import org.mongodb.morphia.query.UpdateOperations;
 public class MorphiaPersistenceWrapper implements PersistenceWrapper {
   @Inject private HPersistence hPersistence;
   @Inject private KryoSerializer kryoSerializer;
+  @Inject private Morphia morphia;
 
   private FindAndModifyOptions findAndModifyOptions =
       new FindAndModifyOptions().writeConcern(WriteConcern.MAJORITY).upsert(false).returnNew(false);
@@ -186,6 +195,68 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return emptyList();
+    }
+    final BulkWriteOperation bulkWriteOperation =
+        hPersistence.getCollection(NotifyResponse.class).initializeUnorderedBulkOperation();
+    notifyResponses.forEach(notifyResponse -> bulkWriteOperation.insert(morphia.toDBObject(notifyResponse)));
+
+    Set<Integer> rejected = emptySet();
+    try {
+      bulkWriteOperation.execute();
+    } catch (BulkWriteException exception) {
+      for (BulkWriteError error : exception.getWriteErrors()) {
+        if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
+          throw exception;
+        }
+      }
+      rejected = exception.getWriteErrors().stream().map(BulkWriteError::getIndex).collect(toSet());
+      log.warn("Unexpected rate of DuplicateKeyException per correlation, {} responses skipped", rejected.size());
+    }
+
+    List<String> savedIds = new ArrayList<>();
+    for (int i = 0; i < notifyResponses.size(); i++) {
+      if (!rejected.contains(i)) {
+        savedIds.add(notifyResponses.get(i).getUuid());
+      }
+    }
+    return savedIds;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return emptyList();
+    }
+    final List<String> waitInstanceIds = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                             .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                             .in(waitingOnCorrelationIds)
+                                             .asKeyList()
+                                             .stream()
+                                             .map(key -> (String) key.getId())
+                                             .collect(toList());
+
+    // Every instance is pulled with its own findAndModify, so only the one that removes the last id sees it empty
+    List<WaitInstance> waitInstances = new ArrayList<>();
+    for (String waitInstanceId : waitInstanceIds) {
+      final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                            .filter(WaitInstanceKeys.uuid, waitInstanceId)
+                                            .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                            .in(waitingOnCorrelationIds);
+      final UpdateOperations<WaitInstance> operations =
+          hPersistence.createUpdateOperations(WaitInstance.class)
+              .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds);
+      WaitInstance waitInstance = hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        waitInstances.add(waitInstance);
+      }
+    }
+    return waitInstances;
+  }
+
   @Override
   public WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId) {
     final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -28,6 +29,21 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Stores the responses in bulk.
+   *
+   * @return the ids of the responses that were stored, responses with already existing ids are skipped
+   */
+  List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Bulk counterpart of {@link #modifyAndFetchWaitInstance(String)}: removes the correlation ids from every wait
+   * instance waiting on any of them, atomically per instance.
+   *
+   * @return the wait instances this call left not waiting on anything anymore, each returned to exactly one caller
+   */
+  List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
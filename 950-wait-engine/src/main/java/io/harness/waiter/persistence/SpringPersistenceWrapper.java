@@ -13,7 +13,10 @@ import static io.harness.springdata.TransactionUtils.DEFAULT_TRANSACTION_RETRY_P
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
@@ -38,8 +41,11 @@ import io.harness.waiter.WaitInstanceTimeoutCallback;
 
 import com.google.common.base.Stopwatch;
 import com.google.inject.Inject;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -128,6 +136,59 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return savedEntity.getUuid();
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return emptyList();
+    }
+    Set<Integer> rejected = emptySet();
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+    } catch (BulkOperationException exception) {
+      for (BulkWriteError error : exception.getErrors()) {
+        if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+          throw exception;
+        }
+      }
+      rejected = exception.getErrors().stream().map(BulkWriteError::getIndex).collect(toSet());
+      log.warn("Unexpected rate of DuplicateKeyException per correlation, {} responses skipped", rejected.size());
+    }
+
+    List<String> savedIds = new ArrayList<>();
+    for (int i = 0; i < notifyResponses.size(); i++) {
+      if (!rejected.contains(i)) {
+        savedIds.add(notifyResponses.get(i).getUuid());
+      }
+    }
+    return savedIds;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return emptyList();
+    }
+    Query idsQuery = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    idsQuery.fields().include(WaitInstanceKeys.uuid);
+    final List<String> waitInstanceIds =
+        mongoTemplate.find(idsQuery, WaitInstance.class).stream().map(WaitInstance::getUuid).collect(toList());
+
+    // Every instance is pulled with its own findAndModify, so only the one that removes the last id sees it empty
+    List<WaitInstance> waitInstances = new ArrayList<>();
+    Update update =
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0]));
+    for (String waitInstanceId : waitInstanceIds) {
+      Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
+                        .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+      WaitInstance waitInstance =
+          mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        waitInstances.add(waitInstance);
+      }
+    }
+    return waitInstances;
+  }
+
   @Override
   public WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId) {
     Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationId));
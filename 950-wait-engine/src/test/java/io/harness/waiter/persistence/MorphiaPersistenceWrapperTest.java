@@ -215,4 +215,62 @@ public class MorphiaPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(keyList).hasSize(1);
     assertThat(keyList).containsExactly(response1.getUuid());
   }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void testSaveNotifyResponses() {
+    NotifyResponse existing =
+        NotifyResponse.builder().uuid(generateUuid()).responseData(new byte[] {}).error(false).build();
+    hPersistence.save(existing);
+
+    NotifyResponse response1 =
+        NotifyResponse.builder().uuid(generateUuid()).responseData(new byte[] {}).error(false).build();
+    NotifyResponse response2 =
+        NotifyResponse.builder().uuid(existing.getUuid()).responseData(new byte[] {}).error(true).build();
+    NotifyResponse response3 =
+        NotifyResponse.builder().uuid(generateUuid()).responseData(new byte[] {}).error(false).build();
+
+    List<String> savedIds = persistenceWrapper.saveNotifyResponses(Arrays.asList(response1, response2, response3));
+    assertThat(savedIds).containsExactly(response1.getUuid(), response3.getUuid());
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void testModifyAndFetchWaitInstances() {
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    String correlationId3 = generateUuid();
+    final WaitInstance waitInstance1 = WaitInstance.builder()
+                                           .uuid(generateUuid())
+                                           .callback(new TestNotifyCallback())
+                                           .publisher(TEST_PUBLISHER)
+                                           .correlationIds(Arrays.asList(correlationId1, correlationId2))
+                                           .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2))
+                                           .build();
+    final WaitInstance waitInstance2 = WaitInstance.builder()
+                                           .uuid(generateUuid())
+                                           .callback(new TestNotifyCallback())
+                                           .publisher(TEST_PUBLISHER)
+                                           .correlationIds(Arrays.asList(correlationId1, correlationId3))
+                                           .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId3))
+                                           .build();
+    hPersistence.save(waitInstance1);
+    hPersistence.save(waitInstance2);
+
+    List<WaitInstance> doneWaitInstances =
+        persistenceWrapper.modifyAndFetchWaitInstances(Arrays.asList(correlationId1, correlationId2));
+    assertThat(doneWaitInstances).hasSize(1);
+    assertThat(doneWaitInstances.get(0).getUuid()).isEqualTo(waitInstance1.getUuid());
+
+    // A batch repeating the ids must not hand out the completed instance again
+    assertThat(persistenceWrapper.modifyAndFetchWaitInstances(Arrays.asList(correlationId1, correlationId2))).isEmpty();
+
+    List<WaitInstance> waitInstances = persistenceWrapper.fetchWaitInstances(correlationId3);
+    assertThat(waitInstances).hasSize(1);
+    assertThat(waitInstances.get(0).getWaitingOnCorrelationIds()).containsExactly(correlationId3);
+  }
 }
@@ -13,7 +13,9 @@ import io.harness.eventsframework.producer.Message;
 import io.debezium.embedded.EmbeddedEngineChangeEvent;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 public class EventsFrameworkChangeConsumer implements MongoCollectionChangeConsumer {
   private static final String OP_FIELD = "__op";
   private static final String DEFAULT_STRING = "default";
+  private static final int MAX_MESSAGES_PER_SEND = 500;
 
   private final String collectionName;
   private final DebeziumProducerFactory producerFactory;
@@ -42,8 +45,15 @@ public class EventsFrameworkChangeConsumer implements MongoCollectionChangeConsu
   public void handleBatch(List<ChangeEvent<String, String>> records,
       DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter) throws InterruptedException {
     log.info("Handling a batch of {} records for collection {}", records.size(), collectionName);
-    // Add the batch records to the stream(s)
+    // Add the batch records to the stream(s), consecutive records of a stream are sent together
+    List<ChangeEvent<String, String>> pendingRecords = new ArrayList<>();
+    List<Message> pendingMessages = new ArrayList<>();
     for (ChangeEvent<String, String> record : records) {
+      if (!pendingRecords.isEmpty()
+          && (!Objects.equals(pendingRecords.get(0).destination(), record.destination())
+              || pendingRecords.size() >= MAX_MESSAGES_PER_SEND)) {
+        sendAndMarkProcessed(pendingRecords, pendingMessages, recordCommitter);
+      }
       cnt++;
       Optional<OpType> opType = getOperationType(((EmbeddedEngineChangeEvent<String, String>) record).sourceRecord());
 
@@ -53,22 +63,36 @@ public class EventsFrameworkChangeConsumer implements MongoCollectionChangeConsu
                                                     .setOptype(opType.get().toString())
                                                     .setTimestamp(System.currentTimeMillis())
                                                     .build();
+      pendingRecords.add(record);
+      pendingMessages.add(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
 
-      Producer producer = producerFactory.get(record.destination());
-      producer.send(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
-      try {
-        recordCommitter.markProcessed(record);
-      } catch (InterruptedException e) {
-        log.error("Exception Occurred while marking record as committed", e);
-      }
       if (cnt >= producingCountPerBatch) {
+        sendAndMarkProcessed(pendingRecords, pendingMessages, recordCommitter);
         TimeUnit.SECONDS.sleep(sleepInterval);
         cnt = 0;
       }
     }
+    if (!pendingRecords.isEmpty()) {
+      sendAndMarkProcessed(pendingRecords, pendingMessages, recordCommitter);
+    }
     recordCommitter.markBatchFinished();
   }
 
+  private void sendAndMarkProcessed(List<ChangeEvent<String, String>> pendingRecords, List<Message> pendingMessages,
+      DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter) {
+    Producer producer = producerFactory.get(pendingRecords.get(0).destination());
+    producer.sendBatch(pendingMessages);
+    for (ChangeEvent<String, String> record : pendingRecords) {
+      try {
+        recordCommitter.markProcessed(record);
+      } catch (InterruptedException e) {
+        log.error("Exception Occurred while marking record as committed", e);
+      }
+    }
+    pendingRecords.clear();
+    pendingMessages.clear();
+  }
+
   private Optional<OpType> getOperationType(SourceRecord sourceRecord) {
     return Optional.ofNullable(sourceRecord.headers().lastWithName(OP_FIELD))
         .flatMap(x -> OpType.fromString((String) x.value()));
@@ -9,17 +9,31 @@ package io.harness.debezium;
 
 import static io.harness.rule.OwnerRule.SHALINI;
 
+import static java.util.Arrays.asList;
 import static junit.framework.TestCase.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.producer.Message;
 import io.harness.rule.Owner;
 
+import io.debezium.embedded.EmbeddedEngineChangeEvent;
 import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import java.util.List;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 
@@ -86,4 +100,38 @@ public class EventsFrameworkChangeConsumerTest extends CategoryTest {
   public void testGetCollection() {
     assertEquals(collection, eventsFrameworkChangeConsumer.getCollection());
   }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testHandleBatchSendsConsecutiveRecordsOfAStreamTogether() throws InterruptedException {
+    DebeziumProducerFactory producerFactory = mock(DebeziumProducerFactory.class);
+    Producer producer = mock(Producer.class);
+    when(producerFactory.get(any())).thenReturn(producer);
+    DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter =
+        mock(DebeziumEngine.RecordCommitter.class);
+    EventsFrameworkChangeConsumer consumer = new EventsFrameworkChangeConsumer(0, collection, producerFactory, 1000);
+
+    consumer.handleBatch(asList(record("coll1"), record("coll1"), record("coll2")), recordCommitter);
+
+    ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass((Class) List.class);
+    verify(producer, times(2)).sendBatch(messagesCaptor.capture());
+    assertEquals(2, messagesCaptor.getAllValues().get(0).size());
+    assertEquals(1, messagesCaptor.getAllValues().get(1).size());
+    verify(producerFactory, times(1)).get("coll1");
+    verify(producerFactory, times(1)).get("coll2");
+    verify(recordCommitter, times(3)).markProcessed(any());
+    verify(recordCommitter, times(1)).markBatchFinished();
+  }
+
+  private ChangeEvent<String, String> record(String destination) {
+    SourceRecord sourceRecord = mock(SourceRecord.class);
+    when(sourceRecord.headers()).thenReturn(new ConnectHeaders().addString("__op", "c"));
+    EmbeddedEngineChangeEvent<String, String> record = mock(EmbeddedEngineChangeEvent.class);
+    when(record.sourceRecord()).thenReturn(sourceRecord);
+    when(record.key()).thenReturn(key);
+    when(record.value()).thenReturn(value);
+    when(record.destination()).thenReturn(destination);
+    return record;
+  }
 }
@@ -46,6 +46,7 @@ public final class EventsFrameworkMetadataConstants {
   public static final String SERVICE_ENTITY = "service";
   public static final String ENVIRONMENT_ENTITY = "environment";
   public static final String ENVIRONMENT_GROUP_ENTITY = "environmentGroup";
+  public static final String INFRASTRUCTURE_ENTITY = "infrastructure";
 
   public static final String RESOURCE_GROUP = "resourcegroup";
   public static final String USER_GROUP = "usergroup";
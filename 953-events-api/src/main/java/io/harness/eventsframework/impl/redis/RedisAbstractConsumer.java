@@ -234,8 +234,21 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
 
   @Override
   public void acknowledge(String messageId) {
+    acknowledgeWithRetry(RedisUtils.getStreamId(messageId));
+  }
+
+  // Acknowledges all the messages in a single call
+  @Override
+  public void acknowledge(List<String> messageIds) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    acknowledgeWithRetry(messageIds.stream().map(RedisUtils::getStreamId).toArray(StreamMessageId[] ::new));
+  }
+
+  private void acknowledgeWithRetry(StreamMessageId... messageIds) {
     Supplier<Void> acknowledgeSupplier = () -> {
-      acknowledgeInternal(messageId);
+      acknowledgeInternal(messageIds);
       return null;
     };
 
@@ -249,8 +262,8 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
         .get();
   }
 
-  private void acknowledgeInternal(String messageId) {
-    stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
+  private void acknowledgeInternal(StreamMessageId... messageIds) {
+    stream.ack(getGroupName(), messageIds);
   }
 
   private void createConsumerGroupIfNotPresent(Throwable e) {
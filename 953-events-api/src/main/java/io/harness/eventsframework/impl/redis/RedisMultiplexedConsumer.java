@@ -0,0 +1,367 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.ng.core.event.MessageListener;
+import io.harness.queue.QueueController;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+
+/**
+ * Consumer that serves many topics and consumer groups over a single redisson client.
+ *
+ * All the topics subscribed with the same consumer group are read with one XREADGROUP call, the messages are handed
+ * to a shared handler pool while the next read is already in flight, and the acknowledgements and claims of the
+ * pending entries are flushed in bulk (one XACK/XCLAIM per topic with many ids).
+ *
+ * Messages of the same topic are handled concurrently, topics that need strict ordering should keep using
+ * {@link RedisSerialConsumer}. Nothing is read or claimed while the deployment is not the primary one.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisMultiplexedConsumer {
+  private static final String REDIS_CONSUMER_EVENT_METRIC = "redis_consumer_event_metric";
+  private static final int CONSUMER_NAME_LENGTH = 4;
+  private static final Duration ACK_FLUSH_INTERVAL = Duration.ofMillis(100);
+  private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration NOT_PRIMARY_WAIT = Duration.ofSeconds(30);
+
+  private final RedissonClient redissonClient;
+  private final String envNamespace;
+  @Getter private final String name;
+  private final Duration maxProcessingTime;
+  private final int batchSize;
+  private final Semaphore inFlight;
+  private final RedisEventMetricPublisher redisEventMetricPublisher;
+  private final QueueController queueController;
+
+  private final Map<String, List<Subscription>> subscriptionsByGroup = new ConcurrentHashMap<>();
+  private final ExecutorService handlerExecutor;
+  private final ExecutorService readerExecutor;
+  private final ScheduledExecutorService scheduledExecutor;
+  private volatile boolean running;
+
+  private static class Subscription {
+    private final String topicName;
+    private final String groupName;
+    private final RStream<String, String> stream;
+    private final RStream<String, String> deadLetterQueue;
+    private final MessageListener messageListener;
+    private final ConcurrentLinkedQueue<StreamMessageId> pendingAcks = new ConcurrentLinkedQueue<>();
+
+    Subscription(String topicName, String groupName, RStream<String, String> stream,
+        RStream<String, String> deadLetterQueue, MessageListener messageListener) {
+      this.topicName = topicName;
+      this.groupName = groupName;
+      this.stream = stream;
+      this.deadLetterQueue = deadLetterQueue;
+      this.messageListener = messageListener;
+    }
+  }
+
+  public RedisMultiplexedConsumer(@NotNull RedissonClient redissonClient, String envNamespace,
+      Duration maxProcessingTime, int batchSize, int handlerThreads, int maxInFlight,
+      RedisEventMetricPublisher redisEventMetricPublisher, QueueController queueController) {
+    this.redissonClient = redissonClient;
+    this.envNamespace = envNamespace;
+    this.name = randomAlphabetic(CONSUMER_NAME_LENGTH);
+    this.maxProcessingTime = maxProcessingTime;
+    this.batchSize = batchSize;
+    this.inFlight = new Semaphore(Math.max(maxInFlight, batchSize));
+    this.redisEventMetricPublisher = redisEventMetricPublisher;
+    this.queueController = queueController;
+    this.handlerExecutor = Executors.newFixedThreadPool(
+        handlerThreads, new ThreadFactoryBuilder().setNameFormat("redis-multiplexed-handler-%d").build());
+    this.readerExecutor =
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("redis-multiplexed-reader-%d").build());
+    this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("redis-multiplexed-scheduler-%d").build());
+  }
+
+  public static RedisMultiplexedConsumer of(@NotNull RedissonClient redissonClient, String envNamespace,
+      Duration maxProcessingTime, int batchSize, int handlerThreads, int maxInFlight,
+      RedisEventMetricPublisher redisEventMetricPublisher, QueueController queueController) {
+    return new RedisMultiplexedConsumer(redissonClient, envNamespace, maxProcessingTime, batchSize, handlerThreads,
+        maxInFlight, redisEventMetricPublisher, queueController);
+  }
+
+  public void subscribe(String topicName, String groupName, MessageListener messageListener) {
+    if (running) {
+      throw new IllegalStateException("Topics should be subscribed before the consumer is started");
+    }
+    Subscription subscription = new Subscription(topicName, groupName,
+        RedisUtils.getStream(topicName, redissonClient, envNamespace),
+        RedisUtils.getDeadLetterStream(topicName, redissonClient, envNamespace), messageListener);
+    createConsumerGroup(subscription);
+    subscriptionsByGroup.computeIfAbsent(groupName, group -> new CopyOnWriteArrayList<>()).add(subscription);
+  }
+
+  public void start() {
+    running = true;
+    subscriptionsByGroup.forEach((groupName, subscriptions) -> readerExecutor.submit(() -> readLoop(subscriptions)));
+    scheduledExecutor.scheduleWithFixedDelay(
+        this::flushAcks, ACK_FLUSH_INTERVAL.toMillis(), ACK_FLUSH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    long claimInterval = Math.max(maxProcessingTime.toMillis() / 2, ACK_FLUSH_INTERVAL.toMillis());
+    scheduledExecutor.scheduleWithFixedDelay(
+        this::claimPendingEntries, claimInterval, claimInterval, TimeUnit.MILLISECONDS);
+  }
+
+  private void readLoop(List<Subscription> subscriptions) {
+    Subscription first = subscriptions.get(0);
+    Map<String, Subscription> subscriptionsByStream = new HashMap<>();
+    Map<String, StreamMessageId> otherStreams = new LinkedHashMap<>();
+    for (Subscription subscription : subscriptions) {
+      subscriptionsByStream.put(subscription.stream.getName(), subscription);
+      if (subscription != first) {
+        otherStreams.put(subscription.stream.getName(), StreamMessageId.NEVER_DELIVERED);
+      }
+    }
+
+    while (running && !Thread.currentThread().isInterrupted()) {
+      try {
+        if (queueController.isNotPrimary()) {
+          TimeUnit.MILLISECONDS.sleep(NOT_PRIMARY_WAIT.toMillis());
+          continue;
+        }
+        // Reserve the room for a full batch before reading, so we never pull more than we can hold in flight
+        inFlight.acquire(batchSize);
+        int dispatched = 0;
+        try {
+          Map<String, Map<StreamMessageId, Map<String, String>>> result =
+              first.stream.readGroup(first.groupName, name, batchSize, ACK_FLUSH_INTERVAL.toMillis() * 10,
+                  TimeUnit.MILLISECONDS, StreamMessageId.NEVER_DELIVERED, otherStreams);
+          if (isEmpty(result)) {
+            continue;
+          }
+          for (Map.Entry<String, Map<StreamMessageId, Map<String, String>>> entry : result.entrySet()) {
+            Subscription subscription = subscriptionsByStream.get(entry.getKey());
+            for (Message message : RedisUtils.getMessageObject(entry.getValue())) {
+              addMonitoring(subscription, message);
+              dispatch(subscription, message);
+              dispatched++;
+            }
+          }
+        } finally {
+          inFlight.release(batchSize - dispatched);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.error("Failed to read messages for consumer group {}", first.groupName, e);
+        subscriptions.forEach(subscription -> createConsumerGroupIfNotPresent(subscription, e));
+        backoff();
+      }
+    }
+  }
+
+  private void dispatch(Subscription subscription, Message message) {
+    handlerExecutor.submit(() -> {
+      try {
+        if (subscription.messageListener.handleMessage(message)) {
+          subscription.pendingAcks.add(RedisUtils.getStreamId(message.getId()));
+        }
+      } catch (Exception e) {
+        // Not acknowledged, so it will be claimed again once it is idle for longer than the max processing time
+        log.error("Error occurred in processing message with id {} from topic {}", message.getId(),
+            subscription.topicName, e);
+      } finally {
+        inFlight.release();
+      }
+    });
+  }
+
+  private void flushAcks() {
+    for (List<Subscription> subscriptions : subscriptionsByGroup.values()) {
+      for (Subscription subscription : subscriptions) {
+        List<StreamMessageId> messageIds = new ArrayList<>();
+        StreamMessageId messageId;
+        while ((messageId = subscription.pendingAcks.poll()) != null) {
+          messageIds.add(messageId);
+        }
+        if (messageIds.isEmpty()) {
+          continue;
+        }
+        StreamMessageId[] ids = messageIds.toArray(new StreamMessageId[0]);
+        subscription.stream.ackAsync(subscription.groupName, ids).onComplete((count, throwable) -> {
+          if (throwable != null) {
+            log.warn("Failed to acknowledge {} messages of topic {}, they will be redelivered", ids.length,
+                subscription.topicName, throwable);
+          }
+        });
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void claimPendingEntries() {
+    if (queueController.isNotPrimary()) {
+      return;
+    }
+    for (List<Subscription> subscriptions : subscriptionsByGroup.values()) {
+      for (Subscription subscription : subscriptions) {
+        if (inFlight.availablePermits() < batchSize) {
+          // We are busy enough with the messages we already have
+          return;
+        }
+        try {
+          claimPendingEntries(subscription);
+        } catch (Exception e) {
+          log.error("Failed to claim pending messages of topic {}", subscription.topicName, e);
+          createConsumerGroupIfNotPresent(subscription, e);
+        }
+      }
+    }
+  }
+
+  private void claimPendingEntries(Subscription subscription) {
+    List<StreamMessageId> toClaim = new ArrayList<>();
+    List<StreamMessageId> toDeadLetter = new ArrayList<>();
+    int room = inFlight.availablePermits();
+    // Entries idle for long enough can be anywhere in the list, it is read a page at a time until we have enough
+    StreamMessageId startId = StreamMessageId.MIN;
+    while (toClaim.size() - toDeadLetter.size() < room) {
+      List<PendingEntry> pendingEntries =
+          subscription.stream.listPending(subscription.groupName, startId, StreamMessageId.MAX, batchSize);
+      for (PendingEntry entry : pendingEntries) {
+        if (entry.getIdleTime() < maxProcessingTime.toMillis()) {
+          continue;
+        }
+        // If the message has been delivered breach our redelivery threshold then move this to deadLetterQueue
+        if (entry.getLastTimeDelivered() >= RedisUtils.UNACKED_RETRY_COUNT) {
+          toClaim.add(entry.getId());
+          toDeadLetter.add(entry.getId());
+        } else if (toClaim.size() - toDeadLetter.size() < room) {
+          toClaim.add(entry.getId());
+        }
+      }
+      if (pendingEntries.size() < batchSize) {
+        break;
+      }
+      StreamMessageId lastId = pendingEntries.get(pendingEntries.size() - 1).getId();
+      startId = new StreamMessageId(lastId.getId0(), lastId.getId1() + 1);
+    }
+    if (toClaim.isEmpty()) {
+      return;
+    }
+
+    Map<StreamMessageId, Map<String, String>> messages;
+    try {
+      messages = subscription.stream.claim(subscription.groupName, name, maxProcessingTime.toMillis(),
+          TimeUnit.MILLISECONDS, toClaim.toArray(new StreamMessageId[0]));
+    } catch (RedisException e) {
+      log.warn("Claim called with messageIds which were not present - {}", toClaim);
+      return;
+    }
+
+    if (!toDeadLetter.isEmpty()) {
+      moveMessagesToDeadLetterQueue(subscription, toDeadLetter, messages);
+    }
+
+    Map<StreamMessageId, Map<String, String>> redeliver = new LinkedHashMap<>(messages);
+    toDeadLetter.forEach(redeliver::remove);
+    for (Message message : RedisUtils.getMessageObject(redeliver)) {
+      // Reads may have taken the room in the meantime, the rest stays pending and is claimed again later
+      if (!inFlight.tryAcquire()) {
+        break;
+      }
+      dispatch(subscription, message);
+    }
+  }
+
+  private void moveMessagesToDeadLetterQueue(Subscription subscription, List<StreamMessageId> messageIds,
+      Map<StreamMessageId, Map<String, String>> messages) {
+    for (StreamMessageId messageId : messageIds) {
+      Map<String, String> messageData = new HashMap<>(messages.getOrDefault(messageId, new HashMap<>()));
+      messageData.put("prevMessageId", messageId.toString());
+      subscription.deadLetterQueue.addAll(messageData, RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE, false);
+    }
+    subscription.stream.ack(subscription.groupName, messageIds.toArray(new StreamMessageId[0]));
+    log.warn("Pushed {} messages of topic {} to dead letter queue as max retries exceeded", messageIds.size(),
+        subscription.topicName);
+  }
+
+  private void addMonitoring(Subscription subscription, Message message) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      redisEventMetricPublisher.sendMetricWithEventContext(
+          RedisEventMetricDTOMapper.prepareRedisEventMetricDTO(message.getMessage(), subscription.topicName),
+          REDIS_CONSUMER_EVENT_METRIC);
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis consumer events :", ex);
+    }
+  }
+
+  private void createConsumerGroup(Subscription subscription) {
+    try {
+      subscription.stream.createGroup(subscription.groupName, StreamMessageId.ALL);
+    } catch (RedisException e) {
+      log.info("Consumer group {} already exists for {}, continuing with consumer operations...",
+          subscription.groupName, subscription.topicName);
+    }
+  }
+
+  private void createConsumerGroupIfNotPresent(Subscription subscription, Throwable e) {
+    if (e.getMessage() != null && e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
+      log.info("Key or consumer group not present, attempting to create consumer group {} for {}",
+          subscription.groupName, subscription.topicName);
+      createConsumerGroup(subscription);
+    }
+  }
+
+  private void backoff() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(ERROR_BACKOFF.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public void shutdown() throws InterruptedException {
+    running = false;
+    readerExecutor.shutdownNow();
+    handlerExecutor.shutdown();
+    handlerExecutor.awaitTermination(maxProcessingTime.toMillis(), TimeUnit.MILLISECONDS);
+    scheduledExecutor.shutdown();
+    // Last chance to acknowledge what was handled, the rest will be claimed by the other consumers
+    flushAcks();
+  }
+}
@@ -23,16 +23,24 @@ import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.vavr.control.Try;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(PL)
 @Slf4j
@@ -40,6 +48,7 @@ public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
   private RStream<String, String> stream;
+  private String streamName;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
@@ -82,6 +91,7 @@ public class RedisProducer extends AbstractProducer {
     this.maxTopicSize = maxTopicSize;
     this.redissonClient = redissonClient;
     this.stream = RedisUtils.getStream(topicName, redissonClient, envNamespace);
+    this.streamName = RedisUtils.getStreamName(envNamespace, topicName);
     RetryConfig retryConfig =
         RetryConfig.custom().intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5)).maxAttempts(6).build();
 
@@ -93,10 +103,59 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
-  private String sendInternal(Message message) {
+  /**
+   * Adds all the messages to the stream in a single atomic round trip and trims the topic once for the whole batch.
+   */
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (messages.isEmpty()) {
+      return new ArrayList<>();
+    }
+    // Built on the calling thread, which holds the context producer specific data is read from
+    List<Map<String, String>> batchRedisData = new ArrayList<>(messages.size());
+    for (Message message : messages) {
+      batchRedisData.add(getRedisData(message));
+    }
+
+    Supplier<List<String>> sendBatchSupplier = () -> sendBatchInternal(messages, batchRedisData);
+    Supplier<List<String>> retryingSendBatch = Retry.decorateSupplier(retry, sendBatchSupplier);
+    return Try.ofSupplier(retryingSendBatch)
+        .recover(throwable -> {
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private List<String> sendBatchInternal(List<Message> messages, List<Map<String, String>> batchRedisData) {
+    // Executed as a transaction, a retry never adds part of the batch twice
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC));
+    RStreamAsync<String, String> batchStream = batch.getStream(streamName, new StringCodec("UTF-8"));
+    for (Map<String, String> redisData : batchRedisData) {
+      batchStream.addAllAsync(redisData);
+    }
+    batchStream.trimNonStrictAsync(maxTopicSize);
+    BatchResult<?> batchResult = batch.execute();
+
+    List<String> messageIds = new ArrayList<>(messages.size());
+    for (int i = 0; i < messages.size(); i++) {
+      messageIds.add(batchResult.getResponses().get(i).toString());
+      addMonitoring(messages.get(i));
+    }
+    log.info("Events framework batch of {} messages inserted - messageIds: {} in the topic: {}", messages.size(),
+        messageIds, this.getTopicName());
+    return messageIds;
+  }
+
+  private Map<String, String> getRedisData(Message message) {
     Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
     redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
     populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
+  private String sendInternal(Message message) {
+    Map<String, String> redisData = getRedisData(message);
 
     StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
     addMonitoring(message);
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import io.harness.eventsframework.entity_crud.project.ProjectEntityChangeDTO;
+import io.harness.eventsframework.impl.redis.RedisProducer;
+import io.harness.eventsframework.producer.Message;
+import io.harness.redis.RedisConfig;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the throughput of sending messages one by one and in batches. Runs against the redis given as argument,
+ * redis://localhost:6379 by default.
+ */
+@Slf4j
+public class BatchProducerBenchmark {
+  private static final String TOPIC = "batch_producer_benchmark";
+  private static final int MESSAGES = 20000;
+  private static final int[] BATCH_SIZES = {10, 100, 500};
+
+  public static void main(String[] args) {
+    String redisUrl = args.length > 0 ? args[0] : "redis://localhost:6379";
+    RedisConfig redisConfig = RedisConfig.builder().redisUrl(redisUrl).nettyThreads(16).build();
+    RedisProducer producer = RedisProducer.of(TOPIC, redisConfig, 10000, "batchProducerBenchmark");
+
+    List<Message> messages = new ArrayList<>(MESSAGES);
+    for (int i = 0; i < MESSAGES; i++) {
+      ProjectEntityChangeDTO project = ProjectEntityChangeDTO.newBuilder().setIdentifier(String.valueOf(i)).build();
+      messages.add(Message.newBuilder()
+                       .putAllMetadata(ImmutableMap.of("accountId", String.valueOf(i)))
+                       .setData(project.toByteString())
+                       .build());
+    }
+
+    // Warm up the connections before measuring
+    producer.sendBatch(messages.subList(0, 1000));
+
+    long startTime = System.nanoTime();
+    messages.forEach(producer::send);
+    report("send", startTime);
+
+    for (int batchSize : BATCH_SIZES) {
+      startTime = System.nanoTime();
+      for (int i = 0; i < MESSAGES; i += batchSize) {
+        producer.sendBatch(messages.subList(i, Math.min(MESSAGES, i + batchSize)));
+      }
+      report("sendBatch of " + batchSize, startTime);
+    }
+    producer.shutdown();
+  }
+
+  private static void report(String mode, long startTime) {
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    log.info("{}: {} messages in {} s, {} messages/s", mode, MESSAGES, String.format("%.2f", seconds),
+        String.format("%.0f", MESSAGES / seconds));
+  }
+}
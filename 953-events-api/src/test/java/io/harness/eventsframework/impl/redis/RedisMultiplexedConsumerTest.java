@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.ng.core.event.MessageListener;
+import io.harness.queue.QueueController;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+
+@OwnedBy(PL)
+public class RedisMultiplexedConsumerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final String GROUP = "group";
+  private static final Duration MAX_PROCESSING_TIME = Duration.ofSeconds(1);
+  private static final int BATCH_SIZE = 2;
+
+  private RStream<String, String> stream;
+  private MessageListener messageListener;
+  private RedisMultiplexedConsumer consumer;
+  private final Semaphore handled = new Semaphore(0);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    stream = mock(RStream.class);
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    doReturn(stream).when(redissonClient).getStream(anyString(), any());
+    QueueController queueController = mock(QueueController.class);
+    messageListener = message -> {
+      handled.release();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      // Not acknowledged, there is nothing to flush on shutdown
+      return false;
+    };
+    consumer = new RedisMultiplexedConsumer(
+        redissonClient, "", MAX_PROCESSING_TIME, BATCH_SIZE, 1, BATCH_SIZE, null, queueController);
+    consumer.subscribe(TOPIC, GROUP, messageListener);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    release.countDown();
+    consumer.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testClaimPagesThroughPendingEntries() throws InterruptedException {
+    StreamMessageId idleId = new StreamMessageId(3, 0);
+    when(stream.listPending(GROUP, StreamMessageId.MIN, StreamMessageId.MAX, BATCH_SIZE))
+        .thenReturn(Arrays.asList(pendingEntry(1, 0), pendingEntry(2, 0)));
+    when(stream.listPending(GROUP, new StreamMessageId(2, 1), StreamMessageId.MAX, BATCH_SIZE))
+        .thenReturn(Collections.singletonList(pendingEntry(3, MAX_PROCESSING_TIME.toMillis())));
+    when(stream.claim(eq(GROUP), anyString(), eq(MAX_PROCESSING_TIME.toMillis()), eq(TimeUnit.MILLISECONDS),
+             eq(idleId)))
+        .thenReturn(messages(idleId));
+
+    consumer.claimPendingEntries();
+
+    assertThat(handled.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+    verify(stream).claim(eq(GROUP), anyString(), eq(MAX_PROCESSING_TIME.toMillis()), eq(TimeUnit.MILLISECONDS),
+        eq(idleId));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testClaimOnlyTakesWhatThereIsRoomFor() throws InterruptedException {
+    StreamMessageId firstId = new StreamMessageId(1, 0);
+    StreamMessageId secondId = new StreamMessageId(2, 0);
+    when(stream.listPending(GROUP, StreamMessageId.MIN, StreamMessageId.MAX, BATCH_SIZE))
+        .thenReturn(Arrays.asList(
+            pendingEntry(1, MAX_PROCESSING_TIME.toMillis()), pendingEntry(2, MAX_PROCESSING_TIME.toMillis())));
+    when(stream.claim(eq(GROUP), anyString(), eq(MAX_PROCESSING_TIME.toMillis()), eq(TimeUnit.MILLISECONDS),
+             eq(firstId), eq(secondId)))
+        .thenReturn(messages(firstId, secondId));
+
+    consumer.claimPendingEntries();
+    assertThat(handled.tryAcquire(BATCH_SIZE, 10, TimeUnit.SECONDS)).isTrue();
+    // Both handlers are still busy, nothing more is listed or claimed
+    consumer.claimPendingEntries();
+
+    verify(stream, times(1))
+        .listPending(anyString(), any(StreamMessageId.class), any(StreamMessageId.class), eq(BATCH_SIZE));
+  }
+
+  private PendingEntry pendingEntry(long id, long idleTime) {
+    return new PendingEntry(new StreamMessageId(id, 0), "consumer", idleTime, 1);
+  }
+
+  private Map<StreamMessageId, Map<String, String>> messages(StreamMessageId... ids) {
+    Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+    for (StreamMessageId id : ids) {
+      Map<String, String> message = new HashMap<>();
+      message.put(RedisUtils.REDIS_STREAM_INTERNAL_KEY, "");
+      messages.put(id, message);
+    }
+    return messages;
+  }
+}
@@ -60,6 +60,9 @@ public class OutboxEvent implements PersistentEntity {
   @CreatedDate Long createdAt;
   @Setter @Builder.Default Boolean blocked = Boolean.FALSE;
   @Setter Instant nextUnblockAttemptAt;
+  @Setter Integer attempts;
+  // Events of the same resource share a slot, partitions of the outbox are dispatched from slot ranges
+  Integer partitionSlot;
 
   GlobalContext globalContext;
 
@@ -9,26 +9,38 @@ package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_RETRY_INITIAL_INTERVAL_IN_SECONDS;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
 
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.exception.UnexpectedException;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Dispatches the outbox events partition by partition. Events of a resource always belong to the same partition, and
+ * every partition is handled under its own lock, in creation order, so partitions are drained concurrently by the
+ * workers of every service instance. Failed events are not retried inline, they are moved to the retry lane and picked
+ * up again once their backoff elapsed. Later events of the same resource are dispatched meanwhile, so a failed event
+ * is handled after them: events of a resource are only dispatched in order as long as none of them fails.
+ */
 @OwnedBy(PL)
 @Slf4j
 public class OutboxEventPollJob implements Runnable {
@@ -36,9 +48,11 @@ public class OutboxEventPollJob implements Runnable {
   private final OutboxEventHandler outboxEventHandler;
   private final PersistentLocker persistentLocker;
   private final OutboxPollConfiguration outboxPollConfiguration;
-  private final OutboxEventFilter outboxEventFilter;
-  private final Retry retry;
+  private final IntervalFunction retryInterval;
+  private final int partitions;
+  private final ExecutorService partitionExecutorService;
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
+  private static final Duration MAX_PARTITION_DRAIN_DURATION = Duration.ofMinutes(1);
   private final String outboxLockId;
 
   @Inject
@@ -49,12 +63,15 @@ public class OutboxEventPollJob implements Runnable {
     this.persistentLocker = persistentLocker;
     this.outboxPollConfiguration = outboxPollConfiguration;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
-    this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
-    RetryConfig retryConfig = RetryConfig.custom()
-                                  .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
-                                  .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
-                                  .build();
-    this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    this.retryInterval =
+        IntervalFunction.ofExponentialBackoff(TimeUnit.SECONDS.toMillis(DEFAULT_RETRY_INITIAL_INTERVAL_IN_SECONDS), 2);
+    this.partitions = Math.max(1, outboxPollConfiguration.getPartitions());
+    this.partitionExecutorService =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(partitions, outboxPollConfiguration.getWorkers())),
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-partition-worker-" + outboxPollConfiguration.getLockId() + "-%d")
+                .setDaemon(true)
+                .build());
   }
 
   @Override
@@ -66,74 +83,107 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  void shutdown() {
+    partitionExecutorService.shutdownNow();
+  }
+
   private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
+    List<Future<?>> partitionFutures = new ArrayList<>(partitions);
+    for (int i = 0; i < partitions; i++) {
+      final int partition = i;
+      partitionFutures.add(partitionExecutorService.submit(() -> pollAndHandlePartition(partition)));
+    }
+    // Waiting for every partition keeps a partition from being scheduled again while it is still being handled
+    try {
+      for (Future<?> partitionFuture : partitionFutures) {
+        partitionFuture.get();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      partitionFutures.forEach(partitionFuture -> partitionFuture.cancel(true));
+    } catch (ExecutionException exception) {
+      log.error("Unexpected error occurred while handling an outbox partition", exception.getCause());
+    }
+  }
+
+  private void pollAndHandlePartition(int partition) {
+    // A single partition keeps the lock of the service, as before partitioning
+    String lockName = partitions == 1 ? outboxLockId : outboxLockId + "_" + partition;
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockName, Duration.ofMinutes(2))) {
       if (lock == null) {
-        log.warn("Could not acquire lock for outbox poll job");
+        log.debug("Could not acquire lock {} for outbox poll job", lockName);
         return;
       }
+      OutboxEventFilter outboxEventFilter = OutboxEventFilter.builder()
+                                                .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+                                                .partition(partition)
+                                                .partitions(partitions)
+                                                .build();
+      long drainDeadline = System.currentTimeMillis() + MAX_PARTITION_DRAIN_DURATION.toMillis();
       List<OutboxEvent> outboxEvents;
-      try {
-        outboxEvents = outboxService.list(outboxEventFilter);
-      } catch (InstantiationError error) {
-        log.error("InstantiationError occurred while fetching entries from the outbox", error);
-        return;
-      }
-
-      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+      do {
         try {
-          if (success) {
-            outboxService.delete(outbox.getId());
-          } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
-          }
-        } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
-              exception);
+          outboxEvents = outboxService.list(outboxEventFilter);
+        } catch (InstantiationError error) {
+          log.error("InstantiationError occurred while fetching entries from the outbox", error);
+          return;
         }
+        handleOutboxEvents(outboxEvents);
+        // A full page means there is a backlog, keep going instead of waiting for the next poll
+      } while (outboxEvents.size() >= DEFAULT_MAX_EVENTS_POLLED && System.currentTimeMillis() < drainDeadline
+          && !Thread.currentThread().isInterrupted());
+    }
+  }
+
+  private void handleOutboxEvents(List<OutboxEvent> outboxEvents) {
+    List<String> handledOutboxEventIds = new ArrayList<>(outboxEvents.size());
+    for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
+      OutboxEvent outbox = outboxEvents.get(i);
+      long startTime = System.currentTimeMillis();
+      boolean success = handle(outbox);
+      log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+          System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+      if (success) {
+        handledOutboxEventIds.add(outbox.getId());
+      } else {
+        moveToRetryLane(outbox);
       }
     }
+
+    try {
+      outboxService.deleteAll(handledOutboxEventIds);
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred while deleting %d handled outbox events", handledOutboxEventIds.size()),
+          exception);
+    }
   }
 
   private boolean handle(OutboxEvent outboxEvent) {
-    boolean success = false;
     try {
-      success = outboxEventHandler.handle(outboxEvent);
+      return outboxEventHandler.handle(outboxEvent);
     } catch (Exception exception) {
       log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
                     outboxEvent.getEventType()),
           exception);
+      return false;
     }
-    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
-      log.error("Retrying this outbox event with exponential backoff now...");
-      success = handleWithExponentialBackOff(outboxEvent);
-    }
-    return success;
   }
 
-  private boolean handleWithExponentialBackOff(OutboxEvent outboxEvent) {
+  private void moveToRetryLane(OutboxEvent outbox) {
+    int attempts = outbox.getAttempts() == null ? 1 : outbox.getAttempts() + 1;
+    // Exponential backoff for the first attempts, then the regular unblock interval
+    Instant nextUnblockAttemptAt = attempts < outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent()
+        ? Instant.now().plusMillis(retryInterval.apply(attempts))
+        : Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES);
     try {
-      return retry.executeSupplier(() -> {
-        if (!outboxEventHandler.handle(outboxEvent)) {
-          throw new UnexpectedException(String.format(
-              "Outbox event handling failed in another retry attempt for event with id %s", outboxEvent.getId()));
-        }
-        return true;
-      });
+      outbox.setAttempts(attempts);
+      outbox.setBlocked(true);
+      outbox.setNextUnblockAttemptAt(nextUnblockAttemptAt);
+      outboxService.update(outbox);
     } catch (Exception exception) {
-      log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
-                    outboxEvent.getEventType()),
+      log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                    outbox.getId(), outbox.getEventType()),
           exception);
-      return false;
     }
   }
 }
@@ -27,4 +27,6 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  int partitions;
+  int workers;
 }
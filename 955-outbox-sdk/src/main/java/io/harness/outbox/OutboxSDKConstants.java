@@ -31,6 +31,14 @@ public class OutboxSDKConstants {
 
   public static final int DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES = 10;
 
+  public static final int DEFAULT_RETRY_INITIAL_INTERVAL_IN_SECONDS = 10;
+
+  public static final int DEFAULT_OUTBOX_PARTITIONS = 8;
+
+  public static final int DEFAULT_OUTBOX_WORKERS = 4;
+
+  public static final int OUTBOX_PARTITION_SLOTS = 1024;
+
   public static final OutboxPollConfiguration DEFAULT_OUTBOX_POLL_CONFIGURATION =
       OutboxPollConfiguration.builder()
           .maximumRetryAttemptsForAnEvent(DEFAULT_MAX_ATTEMPTS)
@@ -45,5 +53,7 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME = "outbox_blocked_queue_size";
 
+  public static final String OUTBOX_PARTITION_LAG_METRIC_NAME = "outbox_partition_lag";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
@@ -8,7 +8,9 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_PARTITIONS;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_POLL_CONFIGURATION;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_WORKERS;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.jobs.RecordMetricsJob;
@@ -52,6 +54,12 @@ public class TransactionOutboxModule extends AbstractModule {
     if (outboxPollConfiguration.getLockId() == null) {
       outboxPollConfiguration.setLockId(serviceId);
     }
+    if (outboxPollConfiguration.getPartitions() <= 0) {
+      outboxPollConfiguration.setPartitions(DEFAULT_OUTBOX_PARTITIONS);
+    }
+    if (outboxPollConfiguration.getWorkers() <= 0) {
+      outboxPollConfiguration.setWorkers(DEFAULT_OUTBOX_WORKERS);
+    }
     this.outboxPollConfiguration = outboxPollConfiguration;
     this.serviceId = serviceId;
     this.exportMetricsToStackDriver = exportMetricsToStackDriver;
@@ -28,4 +28,11 @@ public interface OutboxDao {
   Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter);
 
   boolean delete(String outboxEventId);
+
+  boolean deleteAll(List<String> outboxEventIds);
+
+  /**
+   * Creation time of the oldest event waiting to be dispatched in every partition, partitions without any are absent.
+   */
+  Map<Integer, Long> oldestCreatedAtPerPartition(int partitions);
 }
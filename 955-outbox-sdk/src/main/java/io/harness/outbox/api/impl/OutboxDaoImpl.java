@@ -33,8 +33,11 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.GroupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
@@ -44,6 +47,7 @@ import org.springframework.util.Assert;
 
 @OwnedBy(PL)
 public class OutboxDaoImpl implements OutboxDao {
+  private static final String PARTITION = "partition";
   private final OutboxEventRepository outboxRepository;
 
   @Inject
@@ -98,6 +102,26 @@ public class OutboxDaoImpl implements OutboxDao {
     return result;
   }
 
+  @Override
+  public Map<Integer, Long> oldestCreatedAtPerPartition(int partitions) {
+    MatchOperation matchStage = Aggregation.match(Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE));
+    // Same partitioning as when listing, events without a slot belong to the first partition
+    ProjectionOperation projectionStage =
+        project(OutboxEventKeys.createdAt)
+            .and(ArithmeticOperators.valueOf(ConditionalOperators.ifNull(OutboxEventKeys.partitionSlot).then(0))
+                     .mod(partitions))
+            .as(PARTITION);
+    GroupOperation groupByPartitionStage =
+        group(PARTITION).min(OutboxEventKeys.createdAt).as(OutboxEventKeys.createdAt);
+    Map<Integer, Long> result = new HashMap<>();
+    outboxRepository.aggregate(newAggregation(matchStage, projectionStage, groupByPartitionStage), Document.class)
+        .getMappedResults()
+        .forEach(document
+            -> result.put(((Number) document.get(MONGODB_ID)).intValue(),
+                ((Number) document.get(OutboxEventKeys.createdAt)).longValue()));
+    return result;
+  }
+
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
     Criteria criteria = new Criteria();
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
@@ -105,7 +129,19 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .is(Boolean.TRUE)
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
-    criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    if (outboxEventFilter.getPartitions() <= 1) {
+      criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+      return criteria;
+    }
+
+    Criteria partitionCriteria = Criteria.where(OutboxEventKeys.partitionSlot)
+                                     .mod(outboxEventFilter.getPartitions(), outboxEventFilter.getPartition());
+    if (outboxEventFilter.getPartition() == 0) {
+      // Events saved before partitioning was introduced have no slot
+      partitionCriteria =
+          new Criteria().orOperator(partitionCriteria, Criteria.where(OutboxEventKeys.partitionSlot).is(null));
+    }
+    criteria.andOperator(new Criteria().orOperator(blockedNotTrueCriteria, blockedTrueCriteria), partitionCriteria);
     return criteria;
   }
 
@@ -114,4 +150,10 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public boolean deleteAll(List<String> outboxEventIds) {
+    outboxRepository.remove(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+    return true;
+  }
 }
@@ -9,6 +9,7 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_EVENT_FILTER;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_SLOTS;
 
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
 
@@ -16,6 +17,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.Event;
 import io.harness.exception.UnexpectedException;
 import io.harness.manage.GlobalContextManager;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
@@ -25,6 +27,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
 import java.util.List;
+import java.util.Objects;
 import javax.annotation.Nullable;
 
 @OwnedBy(PL)
@@ -53,6 +56,7 @@ public class OutboxServiceImpl implements OutboxService {
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
+                                  .partitionSlot(getPartitionSlot(event))
                                   .build();
     return outboxDao.save(outboxEvent);
   }
@@ -75,4 +79,22 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public boolean deleteAll(List<String> outboxEventIds) {
+    if (outboxEventIds.isEmpty()) {
+      return true;
+    }
+    return outboxDao.deleteAll(outboxEventIds);
+  }
+
+  // Events of a resource land in the same partition, so they are never handled concurrently when partitions are
+  // dispatched in parallel. The hash only depends on string hash codes, so every service instance maps a resource to
+  // the same slot.
+  private static int getPartitionSlot(Event event) {
+    Resource resource = event.getResource();
+    int hash = Objects.hash(event.getResourceScope(), resource == null ? null : resource.getType(),
+        resource == null ? null : resource.getIdentifier());
+    return Math.floorMod(hash, OUTBOX_PARTITION_SLOTS);
+  }
 }
@@ -22,4 +22,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class OutboxEventFilter {
   int maximumEventsPolled;
+  // Only events of the given partition are listed when the outbox has more than one partition
+  int partition;
+  int partitions;
 }
@@ -10,15 +10,18 @@ package io.harness.outbox.monitor;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.ALL_EVENT_TYPES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_LAG_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_QUEUE_SIZE_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.outbox.OutboxPollConfiguration;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.filter.OutboxMetricsFilter;
 import io.harness.outbox.monitor.context.OutboxContext;
+import io.harness.outbox.monitor.context.OutboxPartitionContext;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
@@ -32,13 +35,15 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
   private final OutboxDao outboxDao;
   private final MetricService metricService;
   private final String serviceId;
+  private final int partitions;
 
   @Inject
-  public OutboxMetricsPublisher(
-      OutboxDao outboxDao, MetricService metricService, @Named(SERVICE_ID_FOR_OUTBOX) String serviceId) {
+  public OutboxMetricsPublisher(OutboxDao outboxDao, MetricService metricService,
+      @Named(SERVICE_ID_FOR_OUTBOX) String serviceId, OutboxPollConfiguration outboxPollConfiguration) {
     this.outboxDao = outboxDao;
     this.metricService = metricService;
     this.serviceId = serviceId;
+    this.partitions = Math.max(1, outboxPollConfiguration.getPartitions());
   }
 
   @Override
@@ -61,5 +66,16 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
         metricService.recordMetric(OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME, count);
       }
     });
+
+    // Age of the oldest event waiting in every partition, zero for the partitions that are drained
+    long now = System.currentTimeMillis();
+    Map<Integer, Long> oldestCreatedAtPerPartition = outboxDao.oldestCreatedAtPerPartition(partitions);
+    for (int partition = 0; partition < partitions; partition++) {
+      Long oldestCreatedAt = oldestCreatedAtPerPartition.get(partition);
+      try (OutboxPartitionContext ignored = new OutboxPartitionContext(serviceId, partition)) {
+        metricService.recordMetric(
+            OUTBOX_PARTITION_LAG_METRIC_NAME, oldestCreatedAt == null ? 0 : Math.max(0, now - oldestCreatedAt));
+      }
+    }
   }
 }
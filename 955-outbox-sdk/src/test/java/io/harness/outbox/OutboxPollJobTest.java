@@ -10,13 +10,16 @@ package io.harness.outbox;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.startsWith;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,8 +32,11 @@ import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.rule.Owner;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -51,7 +57,7 @@ public class OutboxPollJobTest extends CategoryTest {
     outboxEventHandler = mock(OutboxEventHandler.class);
     persistentLocker = mock(PersistentLocker.class);
     outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
-        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").build());
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").partitions(1).build());
   }
 
   @Test
@@ -66,9 +72,9 @@ public class OutboxPollJobTest extends CategoryTest {
     OutboxEvent outboxEvent = OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).build();
     when(outboxService.list(any())).thenReturn(singletonList(outboxEvent));
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(true);
-    when(outboxService.delete(id)).thenReturn(true);
+    when(outboxService.deleteAll(singletonList(id))).thenReturn(true);
     outboxEventPollJob.run();
-    verify(outboxService, times(1)).delete(id);
+    verify(outboxService, times(1)).deleteAll(singletonList(id));
     verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(0)).update(any());
   }
@@ -87,12 +93,50 @@ public class OutboxPollJobTest extends CategoryTest {
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(false);
     final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
     outboxEventPollJob.run();
-    verify(outboxService, times(0)).delete(any());
-    verify(outboxEventHandler, times(3)).handle(any());
+    verify(outboxService, times(1)).deleteAll(emptyList());
+    // Not retried inline, the event is moved to the retry lane
+    verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
     OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
     assertEquals(id, updateOutboxEvent.getId());
     assertTrue(updateOutboxEvent.getBlocked());
+    assertEquals(1, updateOutboxEvent.getAttempts().intValue());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
+    assertTrue(updateOutboxEvent.getNextUnblockAttemptAt().isBefore(Instant.now().plus(1, ChronoUnit.MINUTES)));
+
+    // Once out of quick retries the event waits for the regular unblock interval
+    when(outboxService.list(any())).thenReturn(singletonList(updateOutboxEvent));
+    outboxEventPollJob.run();
+    verify(outboxService, times(2)).update(outboxEventArgumentCaptor.capture());
+    assertEquals(2, outboxEventArgumentCaptor.getValue().getAttempts().intValue());
+    assertTrue(outboxEventArgumentCaptor.getValue().getNextUnblockAttemptAt().isAfter(
+        Instant.now().plus(5, ChronoUnit.MINUTES)));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandling() {
+    OutboxPollConfiguration outboxPollConfiguration = OutboxPollConfiguration.builder()
+                                                          .maximumRetryAttemptsForAnEvent(2)
+                                                          .lockId("LOCK_ID")
+                                                          .partitions(3)
+                                                          .workers(2)
+                                                          .build();
+    outboxEventPollJob =
+        new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker, outboxPollConfiguration);
+    when(persistentLocker.tryToAcquireLock(startsWith(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any())).thenReturn(null);
+    when(outboxService.list(any())).thenReturn(emptyList());
+    outboxEventPollJob.run();
+
+    // Partitions locked by another instance are skipped
+    final ArgumentCaptor<OutboxEventFilter> filterArgumentCaptor = ArgumentCaptor.forClass(OutboxEventFilter.class);
+    verify(outboxService, times(2)).list(filterArgumentCaptor.capture());
+    assertThat(filterArgumentCaptor.getAllValues())
+        .extracting(OutboxEventFilter::getPartition)
+        .containsExactlyInAnyOrder(0, 2);
+    assertThat(filterArgumentCaptor.getAllValues()).extracting(OutboxEventFilter::getPartitions).containsOnly(3);
   }
 }
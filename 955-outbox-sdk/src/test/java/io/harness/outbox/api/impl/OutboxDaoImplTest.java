@@ -29,6 +29,7 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 import io.harness.rule.Owner;
 
 import com.mongodb.BasicDBList;
+import java.util.Arrays;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
@@ -82,4 +83,24 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListPartition() {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(50).partition(2).partitions(4).build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    BasicDBList andList = (BasicDBList) criteriaObject.get("$and");
+    assertNotNull(andList);
+    assertEquals(2, andList.size());
+    assertNotNull(((Document) andList.get(0)).get("$or"));
+
+    Document partitionSlot = (Document) ((Document) andList.get(1)).get(OutboxEventKeys.partitionSlot);
+    assertEquals(Arrays.asList(4, 2), partitionSlot.get("$mod"));
+  }
 }
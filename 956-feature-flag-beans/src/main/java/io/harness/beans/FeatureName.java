@@ -410,7 +410,9 @@ public enum FeatureName {
   USE_PAGINATED_ENCRYPT_FOR_VARIABLE_OVERRIDES(
       "Enables PaginatedComponent & Formik for VariableOverrides in CG-UI", HarnessTeam.PL),
   ON_DEMAND_ROLLBACK_WITH_DIFFERENT_ARTIFACT(
-      "Used to do on demand rollback to previously deployed different artifact on same inframapping", HarnessTeam.CDC);
+      "Used to do on demand rollback to previously deployed different artifact on same inframapping", HarnessTeam.CDC),
+  PIPELINE_PLAN_CACHE(
+      "Reuses the plan of a recent execution of the same pipeline yaml, inputs and trigger", HarnessTeam.PIPELINE);
   @Deprecated
   FeatureName() {
     scope = Scope.PER_ACCOUNT;
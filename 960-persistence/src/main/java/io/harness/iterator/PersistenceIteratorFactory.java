@@ -65,6 +65,8 @@ public final class PersistenceIteratorFactory {
     private String name;
     private int poolSize;
     private Duration interval;
+    // Leases up to this many entities per claim instead of one at a time, 0 disables the batch mode
+    private int batchSize;
   }
 
   private <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
@@ -84,6 +86,9 @@ public final class PersistenceIteratorFactory {
     InstrumentedExecutorService instrumentedExecutorService =
         new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
 
+    if (options.getBatchSize() > 0) {
+      builder.batchSize(options.getBatchSize());
+    }
     MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
                                                   .executorService(instrumentedExecutorService)
                                                   .semaphore(new Semaphore(options.getPoolSize()))
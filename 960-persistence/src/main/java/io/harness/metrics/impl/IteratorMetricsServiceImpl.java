@@ -26,6 +26,8 @@ public class IteratorMetricsServiceImpl {
   public static final String ITERATOR_DELAY = "iterator_delay";
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
+  public static final String ITERATOR_BATCH_SIZE = "iterator_batch_size";
+  public static final String ITERATOR_LAG = "iterator_lag";
 
   @Inject private MetricService metricService;
 
@@ -40,4 +42,10 @@ public class IteratorMetricsServiceImpl {
       metricService.recordDuration(metricName, duration);
     }
   }
+
+  public void recordIteratorMetricsWithValue(String iteratorName, double value, String metricName) {
+    try (IteratorMetricContext ignore = new IteratorMetricContext(iteratorName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
 }
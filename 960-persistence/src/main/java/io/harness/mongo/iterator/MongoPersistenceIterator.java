@@ -8,11 +8,14 @@
 package io.harness.mongo.iterator;
 
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_BATCH_SIZE;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_LAG;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
@@ -83,6 +86,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private EntityProcessController<T> entityProcessController;
   @Getter private SchedulingType schedulingType;
   private String iteratorName;
+  // When positive, up to batchSize entities are leased with a single claim and handed to the executor at once
+  private int batchSize;
 
   private long movingAvg(long current, long sample) {
     return (15 * current + sample) / 16;
@@ -124,6 +129,17 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         // make sure we did not hit the limit
         semaphore.acquire();
 
+        if (batchSize > 0) {
+          if (processBatch()) {
+            continue;
+          }
+          if (mode == PUMP) {
+            break;
+          }
+          sleepUntilNext();
+          continue;
+        }
+
         long base = currentTimeMillis();
         long throttled = base + (throttleInterval == null ? 0 : throttleInterval.toMillis());
         // redistribution make sense only for regular iteration
@@ -177,16 +193,9 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
           break;
         }
 
-        T next = persistenceProvider.findInstance(clazz, fieldName, filterExpander);
-
-        long sleepMillis = calculateSleepDuration(next).toMillis();
-        // Do not sleep with 0, it is actually infinite sleep
-        if (sleepMillis > 0) {
+        if (sleepUntilNext()) {
           // set previous to 0 to reset base after notify() is called
           previous = 0;
-          synchronized (this) {
-            wait(sleepMillis);
-          }
         }
       } catch (InterruptedException exception) {
         Thread.currentThread().interrupt();
@@ -199,6 +208,77 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private boolean sleepUntilNext() throws InterruptedException {
+    T next = persistenceProvider.findInstance(clazz, fieldName, filterExpander);
+
+    long sleepMillis = calculateSleepDuration(next).toMillis();
+    // Do not sleep with 0, it is actually infinite sleep
+    if (sleepMillis <= 0) {
+      return false;
+    }
+    synchronized (this) {
+      wait(sleepMillis);
+    }
+    return true;
+  }
+
+  // Expects one permit of the semaphore to be already acquired. The permits of the leased entities are handed over to
+  // their tasks, so there is no need to wait for each of them to start.
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  private boolean processBatch() {
+    int permits = 1;
+    while (permits < batchSize && semaphore.tryAcquire()) {
+      permits++;
+    }
+
+    List<T> entities = null;
+    try {
+      long base = currentTimeMillis();
+      long throttled = base + (throttleInterval == null ? 0 : throttleInterval.toMillis());
+      entities = persistenceProvider.obtainNextInstances(
+          base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, permits, generateUuid());
+      recordBatchMetrics(entities, base);
+
+      for (T entity : entities) {
+        if (schedulingType != REGULAR) {
+          Long nextIteration = entity.obtainNextIteration(fieldName);
+          List<Long> nextIterations =
+              ((PersistentIrregularIterable) entity)
+                  .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
+          if (isNotEmpty(nextIterations)) {
+            persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
+          }
+          if (nextIteration == null) {
+            continue;
+          }
+        }
+
+        if (entityProcessController != null && !entityProcessController.shouldProcessEntity(entity)) {
+          continue;
+        }
+
+        executorService.submit(() -> processLeasedEntity(entity));
+        permits--;
+      }
+    } finally {
+      semaphore.release(permits);
+    }
+    return isNotEmpty(entities);
+  }
+
+  private void recordBatchMetrics(List<T> entities, long now) {
+    long oldest = now;
+    for (T entity : entities) {
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+      if (nextIteration != null && nextIteration != 0 && nextIteration < oldest) {
+        oldest = nextIteration;
+      }
+    }
+    iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, entities.size(), ITERATOR_BATCH_SIZE);
+    iteratorMetricsService.recordIteratorMetricsWithDuration(
+        iteratorName, Duration.ofMillis(now - oldest), ITERATOR_LAG);
+  }
+
   public void recoverAfterPause() {
     persistenceProvider.recoverAfterPause(clazz, fieldName);
   }
@@ -236,55 +316,68 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         Thread.currentThread().interrupt();
         return;
       }
-      long startTime = currentTimeMillis();
+      handleEntity(entity);
+    }
+  }
 
-      try {
-        synchronized (entity) {
-          entity.notify();
-        }
-        Long nextIteration = entity.obtainNextIteration(fieldName);
-        if (schedulingType == REGULAR) {
-          ((PersistentRegularIterable) entity).updateNextIteration(fieldName, 0L);
-        }
+  // The semaphore permit for the entity was acquired when it was leased
+  private void processLeasedEntity(T entity) {
+    try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
+      handleEntity(entity);
+    }
+  }
 
-        long delay = nextIteration == null || nextIteration == 0 ? 0 : startTime - nextIteration;
-        try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
-          log.debug("Working on entity");
-          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_WORKING_ON_ENTITY);
-          iteratorMetricsService.recordIteratorMetricsWithDuration(
-              iteratorName, Duration.ofMillis(delay), ITERATOR_DELAY);
+  // Releases the semaphore permit acquired for the entity
+  @SuppressWarnings({"squid:S2445", "PMD", "squid:S1181"})
+  private void handleEntity(T entity) {
+    long startTime = currentTimeMillis();
 
-          if (delay >= acceptableNoAlertDelay.toMillis()) {
-            log.debug(
-                "Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
-          }
+    try {
+      synchronized (entity) {
+        entity.notify();
+      }
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+      if (schedulingType == REGULAR) {
+        ((PersistentRegularIterable) entity).updateNextIteration(fieldName, 0L);
+      }
+
+      long delay = nextIteration == null || nextIteration == 0 ? 0 : startTime - nextIteration;
+      try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
+        log.debug("Working on entity");
+        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_WORKING_ON_ENTITY);
+        iteratorMetricsService.recordIteratorMetricsWithDuration(
+            iteratorName, Duration.ofMillis(delay), ITERATOR_DELAY);
+
+        if (delay >= acceptableNoAlertDelay.toMillis()) {
+          log.debug(
+              "Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
         }
+      }
 
-        try {
-          handler.handle(entity);
-        } catch (RuntimeException exception) {
-          log.error("Catch and handle all exceptions in the entity handler", exception);
-          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+      try {
+        handler.handle(entity);
+      } catch (RuntimeException exception) {
+        log.error("Catch and handle all exceptions in the entity handler", exception);
+        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+      }
+    } catch (Throwable exception) {
+      log.error("Exception while processing entity", exception);
+      iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+    } finally {
+      semaphore.release();
+
+      long processTime = currentTimeMillis() - startTime;
+      log.debug("Done with entity");
+      iteratorMetricsService.recordIteratorMetricsWithDuration(
+          iteratorName, Duration.ofMillis(processTime), ITERATOR_PROCESSING_TIME);
+
+      try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
+        if (acceptableExecutionTime != null && processTime > acceptableExecutionTime.toMillis()) {
+          log.debug("Done with entity but took too long acceptable {}", acceptableExecutionTime.toMillis());
         }
       } catch (Throwable exception) {
-        log.error("Exception while processing entity", exception);
+        log.error("Exception while recording the processing of entity", exception);
         iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
-      } finally {
-        semaphore.release();
-
-        long processTime = currentTimeMillis() - startTime;
-        log.debug("Done with entity");
-        iteratorMetricsService.recordIteratorMetricsWithDuration(
-            iteratorName, Duration.ofMillis(processTime), ITERATOR_PROCESSING_TIME);
-
-        try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
-          if (acceptableExecutionTime != null && processTime > acceptableExecutionTime.toMillis()) {
-            log.debug("Done with entity but took too long acceptable {}", acceptableExecutionTime.toMillis());
-          }
-        } catch (Throwable exception) {
-          log.error("Exception while recording the processing of entity", exception);
-          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
-        }
       }
     }
   }
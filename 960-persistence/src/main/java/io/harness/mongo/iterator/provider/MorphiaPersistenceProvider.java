@@ -7,21 +7,28 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.govern.Switch.unhandled;
+import static io.harness.mongo.iterator.provider.PersistenceProvider.leaseFieldName;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.persistence.HPersistence;
+import io.harness.persistence.UuidAccess;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import org.mongodb.morphia.query.FilterOperator;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -29,6 +36,8 @@ import org.mongodb.morphia.query.UpdateOperations;
 @Singleton
 public class MorphiaPersistenceProvider<T extends PersistentIterable>
     implements PersistenceProvider<T, MorphiaFilterExpander<T>> {
+  private static final String ID_KEY = "_id";
+
   @Inject private HPersistence persistence;
 
   public Query<T> createQuery(Class<T> clazz, String fieldName, MorphiaFilterExpander<T> filterExpander) {
@@ -60,6 +69,39 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
       SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander) {
     long now = currentTimeMillis();
     Query<T> query = createQuery(now, clazz, fieldName, filterExpander);
+    UpdateOperations<T> updateOperations =
+        createUpdateOperations(base, throttled, clazz, fieldName, schedulingType, targetInterval);
+    return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
+  }
+
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander, int limit,
+      String leaseToken) {
+    long now = currentTimeMillis();
+    List<T> candidates = createQuery(now, clazz, fieldName, filterExpander).asList(new FindOptions().limit(limit));
+    if (isEmpty(candidates)) {
+      return candidates;
+    }
+    List<String> ids = candidates.stream().map(UuidAccess::getUuid).collect(toList());
+
+    // Re-check the iteration field, some of the candidates might have been claimed meanwhile
+    Query<T> query = createQuery(now, clazz, fieldName, null);
+    query.field(ID_KEY).in(ids);
+    UpdateOperations<T> updateOperations =
+        createUpdateOperations(base, throttled, clazz, fieldName, schedulingType, targetInterval)
+            .disableValidation()
+            .set(leaseFieldName(fieldName), leaseToken);
+    persistence.update(query, updateOperations);
+
+    Query<T> leasedQuery = persistence.createQuery(clazz).disableValidation().project(ID_KEY, true);
+    leasedQuery.filter(leaseFieldName(fieldName), leaseToken).field(ID_KEY).in(ids);
+    Set<String> leased = leasedQuery.asList().stream().map(UuidAccess::getUuid).collect(toSet());
+    return candidates.stream().filter(candidate -> leased.contains(candidate.getUuid())).collect(toList());
+  }
+
+  private UpdateOperations<T> createUpdateOperations(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval) {
     UpdateOperations<T> updateOperations = persistence.createUpdateOperations(clazz);
     switch (schedulingType) {
       case REGULAR:
@@ -74,7 +116,7 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
       default:
         unhandled(schedulingType);
     }
-    return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
+    return updateOperations;
   }
 
   @Override
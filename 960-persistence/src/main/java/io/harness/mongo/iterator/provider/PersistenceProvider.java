@@ -19,6 +19,18 @@ public interface PersistenceProvider<T extends PersistentIterable, F extends Fil
   void updateEntityField(T entity, List<Long> nextIterations, Class<T> clazz, String fieldName);
   T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName, SchedulingType schedulingType,
       Duration targetInterval, F filterExpander);
+
+  /**
+   * Claims up to limit due entities at once. The claimed documents are tagged with the lease token, only the ones
+   * still carrying it after the update are returned, so concurrent claimers never get the same entity.
+   */
+  List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, F filterExpander, int limit, String leaseToken);
+
   T findInstance(Class<T> clazz, String fieldName, F filterExpander);
   void recoverAfterPause(Class<T> clazz, String fieldName);
+
+  static String leaseFieldName(String fieldName) {
+    return fieldName + "Lease";
+  }
 }
@@ -8,18 +8,24 @@
 package io.harness.mongo.iterator.provider;
 
 import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.govern.Switch.unhandled;
+import static io.harness.mongo.iterator.provider.PersistenceProvider.leaseFieldName;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
+import io.harness.persistence.UuidAccess;
 
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.NotImplementedException;
 import org.mongodb.morphia.query.FilterOperator;
 import org.springframework.data.domain.Sort;
@@ -33,6 +39,8 @@ import org.springframework.data.mongodb.core.query.Update;
 @OwnedBy(CDC)
 public class SpringPersistenceProvider<T extends PersistentIterable>
     implements PersistenceProvider<T, SpringFilterExpander> {
+  private static final String ID_KEY = "_id";
+
   private final MongoTemplate persistence;
 
   public SpringPersistenceProvider(MongoTemplate persistence) {
@@ -73,6 +81,36 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
       SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander) {
     long now = currentTimeMillis();
     Query query = createQuery(now, fieldName, filterExpander);
+    Update update = createUpdate(base, throttled, fieldName, schedulingType, targetInterval);
+    return persistence.findAndModify(
+        query, update, FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
+  }
+
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander, int limit,
+      String leaseToken) {
+    long now = currentTimeMillis();
+    List<T> candidates = persistence.find(createQuery(now, fieldName, filterExpander).limit(limit), clazz);
+    if (isEmpty(candidates)) {
+      return candidates;
+    }
+    List<String> ids = candidates.stream().map(UuidAccess::getUuid).collect(toList());
+
+    // Re-check the iteration field, some of the candidates might have been claimed meanwhile
+    Query query = createQuery(now, fieldName, null).addCriteria(Criteria.where(ID_KEY).in(ids));
+    Update update = createUpdate(base, throttled, fieldName, schedulingType, targetInterval)
+                        .set(leaseFieldName(fieldName), leaseToken);
+    persistence.updateMulti(query, update, clazz);
+
+    Query leasedQuery = new Query(Criteria.where(leaseFieldName(fieldName)).is(leaseToken).and(ID_KEY).in(ids));
+    leasedQuery.fields().include(ID_KEY);
+    Set<String> leased = persistence.find(leasedQuery, clazz).stream().map(UuidAccess::getUuid).collect(toSet());
+    return candidates.stream().filter(candidate -> leased.contains(candidate.getUuid())).collect(toList());
+  }
+
+  private Update createUpdate(
+      long base, long throttled, String fieldName, SchedulingType schedulingType, Duration targetInterval) {
     Update update = new Update();
     switch (schedulingType) {
       case REGULAR:
@@ -87,8 +125,7 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
       default:
         unhandled(schedulingType);
     }
-    return persistence.findAndModify(
-        query, update, FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
+    return update;
   }
 
   @Override
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.tracing;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.histogram.ExponentialHistogramOptions;
+import io.harness.histogram.HistogramOptions;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Executions of a query shape aggregated by the tracer over a flush interval. Latencies are counted in the buckets of
+ * {@link #LATENCY_HISTOGRAM_OPTIONS}, keyed by bucket index, so that aggregates can be merged by adding them up.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryShapeExecutionStats {
+  // Microseconds, from 100us up to a minute in buckets growing by 25%
+  public static final HistogramOptions LATENCY_HISTOGRAM_OPTIONS =
+      new ExponentialHistogramOptions(60_000_000, 100, 1.25, 0.0001);
+
+  private String hash;
+  private String collectionName;
+  private long calls;
+  private long totalMicros;
+  private long maxMicros;
+  private long returnedDocs;
+  private Map<String, Long> latencyBuckets;
+
+  /**
+   * Returns the start of the latency bucket holding the given percentile, between 0 and 1, of the calls.
+   */
+  public static long percentileMicros(Map<String, Long> latencyBuckets, double percentile) {
+    if (latencyBuckets == null || latencyBuckets.isEmpty()) {
+      return 0;
+    }
+    int numBuckets = LATENCY_HISTOGRAM_OPTIONS.getNumBuckets();
+    long[] counts = new long[numBuckets];
+    long total = 0;
+    for (Map.Entry<String, Long> bucket : latencyBuckets.entrySet()) {
+      int index = Integer.parseInt(bucket.getKey());
+      if (index >= 0 && index < numBuckets && bucket.getValue() != null) {
+        counts[index] += bucket.getValue();
+        total += bucket.getValue();
+      }
+    }
+    long threshold = (long) Math.ceil(total * percentile);
+    long seen = 0;
+    for (int i = 0; i < numBuckets; i++) {
+      seen += counts[i];
+      if (seen >= threshold && seen > 0) {
+        return (long) LATENCY_HISTOGRAM_OPTIONS.getBucketStart(i);
+      }
+    }
+    return 0;
+  }
+}
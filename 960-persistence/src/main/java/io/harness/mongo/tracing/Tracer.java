@@ -18,4 +18,19 @@ import org.springframework.data.mongodb.core.query.Query;
 public interface Tracer {
   void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate);
   void traceMorphiaQuery(HQuery<?> query);
+
+  /**
+   * Informs about a spring query once it was executed, in place of {@link #traceSpringQuery}.
+   */
+  default void traceSpringQueryExecution(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, Long elapsedNanos, Integer resultCount) {
+    traceSpringQuery(query, entityClass, mongoTemplate);
+  }
+
+  /**
+   * Informs about a morphia query once it was executed, in place of {@link #traceMorphiaQuery}.
+   */
+  default void traceMorphiaQueryExecution(HQuery<?> query, Long elapsedNanos, Integer resultCount) {
+    traceMorphiaQuery(query);
+  }
 }
@@ -14,4 +14,6 @@ import io.harness.annotations.dev.OwnedBy;
 public class TracerConstants {
   public static final String SERVICE_ID = "tracerServiceId";
   public static final String QUERY_HASH = "queryHash";
+  public static final String MESSAGE_TYPE = "tracerMessageType";
+  public static final String QUERY_EXECUTION_STATS = "queryExecutionStats";
 }
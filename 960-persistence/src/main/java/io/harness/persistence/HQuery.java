@@ -128,12 +128,18 @@ public class HQuery<T> extends QueryImpl<T> {
   @Override
   public List<Key<T>> asKeyList(FindOptions options) {
     enforceHarnessRules();
-    traceQuery();
-    return HPersistence.retry(() -> {
-      final List<Key<T>> list = super.asKeyList(options);
-      checkKeyListSize(list);
-      return list;
-    });
+    long startTime = System.nanoTime();
+    List<Key<T>> keys = null;
+    try {
+      keys = HPersistence.retry(() -> {
+        final List<Key<T>> list = super.asKeyList(options);
+        checkKeyListSize(list);
+        return list;
+      });
+      return keys;
+    } finally {
+      traceQueryExecution(startTime, keys == null ? 0 : keys.size());
+    }
   }
 
   @Override
@@ -141,12 +147,18 @@ public class HQuery<T> extends QueryImpl<T> {
   public List<T> asList(FindOptions options) {
     try (AutoLogContext ignore = new CollectionLogContext(super.getCollection().getName(), OVERRIDE_ERROR)) {
       enforceHarnessRules();
-      traceQuery();
-      return HPersistence.retry(() -> {
-        final List<T> list = super.asList(options);
-        checkListSize(list);
-        return list;
-      });
+      long startTime = System.nanoTime();
+      List<T> entities = null;
+      try {
+        entities = HPersistence.retry(() -> {
+          final List<T> list = super.asList(options);
+          checkListSize(list);
+          return list;
+        });
+        return entities;
+      } finally {
+        traceQueryExecution(startTime, entities == null ? 0 : entities.size());
+      }
     }
   }
 
@@ -212,6 +224,13 @@ public class HQuery<T> extends QueryImpl<T> {
     }
   }
 
+  // Also called for queries that failed, with no results
+  private void traceQueryExecution(long startTime, int resultCount) {
+    if (traceMode == TraceMode.ENABLED) {
+      tracerSubject.fireInform(Tracer::traceMorphiaQueryExecution, this, System.nanoTime() - startTime, resultCount);
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
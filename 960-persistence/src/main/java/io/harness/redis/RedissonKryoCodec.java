@@ -19,20 +19,76 @@ import io.harness.serializer.ClassResolver;
 import io.harness.serializer.HKryo;
 import io.harness.serializer.KryoRegistrar;
 import io.harness.serializer.KryoSerializer;
+import io.harness.serializer.KryoStreamPool;
 
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.Registration;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.serializers.FieldSerializer;
 import com.esotericsoftware.kryo.util.IntMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Set;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
 import org.redisson.codec.KryoCodec;
 
 @OwnedBy(PL)
 public class RedissonKryoCodec extends KryoCodec {
   private boolean useFieldSerializer;
+  private final KryoStreamPool streamPool = KryoStreamPool.DEFAULT;
+
+  // Same wire format as the KryoCodec encoder/decoder, but with pooled kryo buffers instead of new ones per value
+  private final Encoder encoder = in -> {
+    Kryo kryo = null;
+    ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+    Output output = streamPool.obtainOutput(new ByteBufOutputStream(out));
+    try {
+      kryo = get();
+      kryo.writeClassAndObject(output, in);
+      output.flush();
+      return out;
+    } catch (Exception e) {
+      out.release();
+      throw new GeneralException("Failed to encode value", e);
+    } finally {
+      streamPool.release(output);
+      if (kryo != null) {
+        yield(kryo);
+      }
+    }
+  };
+
+  private final Decoder<Object> decoder = (buf, state) -> {
+    Kryo kryo = null;
+    try {
+      kryo = get();
+      if (buf.hasArray()) {
+        // Read straight from the heap buffer, no copy and no intermediate stream buffer
+        int offset = buf.arrayOffset() + buf.readerIndex();
+        Input input = new Input(buf.array(), offset, buf.readableBytes());
+        Object value = kryo.readClassAndObject(input);
+        buf.skipBytes(input.position() - offset);
+        return value;
+      }
+      Input input = streamPool.obtainInput(new ByteBufInputStream(buf));
+      try {
+        return kryo.readClassAndObject(input);
+      } finally {
+        streamPool.release(input);
+      }
+    } finally {
+      if (kryo != null) {
+        yield(kryo);
+      }
+    }
+  };
 
   public RedissonKryoCodec() {
     this.useFieldSerializer = true;
@@ -42,6 +98,16 @@ public class RedissonKryoCodec extends KryoCodec {
     this.useFieldSerializer = useFieldSerializer;
   }
 
+  @Override
+  public Encoder getValueEncoder() {
+    return encoder;
+  }
+
+  @Override
+  public Decoder<Object> getValueDecoder() {
+    return decoder;
+  }
+
   @Override
   protected Kryo createInstance(List<Class<?>> classes, ClassLoader classLoader) {
     return kryo(useFieldSerializer);
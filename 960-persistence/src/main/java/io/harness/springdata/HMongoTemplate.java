@@ -88,14 +88,26 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
 
   @Override
   public <T> List<T> find(Query query, Class<T> entityClass, String collectionName) {
-    traceQuery(query, entityClass);
-    return super.find(query, entityClass, collectionName);
+    long startTime = System.nanoTime();
+    List<T> entities = null;
+    try {
+      entities = super.find(query, entityClass, collectionName);
+      return entities;
+    } finally {
+      traceQueryExecution(query, entityClass, startTime, entities == null ? 0 : entities.size());
+    }
   }
 
   @Override
   public <T> T findOne(Query query, Class<T> entityClass, String collectionName) {
-    traceQuery(query, entityClass);
-    return super.findOne(query, entityClass, collectionName);
+    long startTime = System.nanoTime();
+    T entity = null;
+    try {
+      entity = super.findOne(query, entityClass, collectionName);
+      return entity;
+    } finally {
+      traceQueryExecution(query, entityClass, startTime, entity == null ? 0 : 1);
+    }
   }
 
   private <T> void traceQuery(Query query, Class<T> entityClass) {
@@ -104,6 +116,13 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
     }
   }
 
+  private <T> void traceQueryExecution(Query query, Class<T> entityClass, long startTime, int resultCount) {
+    if (traceMode == TraceMode.ENABLED) {
+      tracerSubject.fireInform(
+          Tracer::traceSpringQueryExecution, query, entityClass, this, System.nanoTime() - startTime, resultCount);
+    }
+  }
+
   public interface Executor<R> {
     R execute();
   }
@@ -38,6 +38,8 @@ import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
@@ -65,6 +67,11 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
 
   public MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator(
       PersistenceIterator.ProcessMode mode) {
+    return iterator(mode, 0);
+  }
+
+  public MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator(
+      PersistenceIterator.ProcessMode mode, int batchSize) {
     MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
         MongoPersistenceIterator.<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>>builder()
             .mode(mode)
@@ -80,6 +87,7 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
             .handler(new TestHandler())
             .schedulingType(REGULAR)
             .redistribute(true)
+            .batchSize(batchSize)
             .persistenceProvider(persistenceProvider)
             .build();
     on(iterator).set("queueController", queueController);
@@ -170,4 +178,29 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
       assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPumpBatch() {
+    MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+        iterator(PUMP, 3);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      long now = currentTimeMillis();
+      List<String> uuids = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        TestRegularIterableEntity entity =
+            TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - i).build();
+        uuids.add(persistence.save(entity));
+      }
+
+      iterator.wakeup();
+
+      Poller.pollFor(ofSeconds(5), ofMillis(10),
+          ()
+              -> uuids.stream().allMatch(
+                  uuid -> persistence.get(TestRegularIterableEntity.class, uuid).getNextIteration() > now));
+    }
+  }
 }
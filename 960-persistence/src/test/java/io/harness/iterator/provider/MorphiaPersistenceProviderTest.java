@@ -7,25 +7,35 @@
 
 package io.harness.iterator.provider;
 
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 import static io.harness.rule.OwnerRule.GEORGE;
 
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofMinutes;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.iterator.TestIterableEntity;
 import io.harness.iterator.TestIterableEntity.TestIterableEntityKeys;
+import io.harness.iterator.TestRegularIterableEntity;
+import io.harness.iterator.TestRegularIterableEntity.RegularIterableEntityKeys;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
+import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
 import com.google.inject.Inject;
+import java.util.List;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mongodb.morphia.query.Query;
 
 public class MorphiaPersistenceProviderTest extends PersistenceTestBase {
+  @Inject private HPersistence persistence;
   @Inject private MorphiaPersistenceProvider<TestIterableEntity> persistenceProvider;
+  @Inject private MorphiaPersistenceProvider<TestRegularIterableEntity> regularPersistenceProvider;
 
   @SuppressWarnings("checkstyle:RepetitiveName")
   @Test
@@ -82,4 +92,30 @@ public class MorphiaPersistenceProviderTest extends PersistenceTestBase {
         .isEqualTo(
             "{query:{\"$and\":[{\"$and\":[{\"name\":{\"$exists\":true}},{\"name\":\"foo\"}]},{\"$or\":[{\"nextIterations\":{\"$lt\":{\"$numberLong\":\"5\"}}},{\"nextIterations\":{\"$exists\":false}}]}]}}");
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testObtainNextInstances() {
+    long now = currentTimeMillis();
+    for (int i = 0; i < 3; i++) {
+      persistence.save(TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build());
+    }
+
+    List<TestRegularIterableEntity> first = obtainNextInstances(now, 2);
+    assertThat(first).hasSize(2);
+    // the entities are returned as they were before the claim
+    assertThat(first).allMatch(entity -> entity.getNextIteration() == now - 1000);
+
+    List<TestRegularIterableEntity> second = obtainNextInstances(now, 2);
+    assertThat(second).hasSize(1);
+    assertThat(second).doesNotContainAnyElementsOf(first);
+
+    assertThat(obtainNextInstances(now, 2)).isEmpty();
+  }
+
+  private List<TestRegularIterableEntity> obtainNextInstances(long now, int limit) {
+    return regularPersistenceProvider.obtainNextInstances(now, now, TestRegularIterableEntity.class,
+        RegularIterableEntityKeys.nextIteration, REGULAR, ofMinutes(1), null, limit, generateUuid());
+  }
 }
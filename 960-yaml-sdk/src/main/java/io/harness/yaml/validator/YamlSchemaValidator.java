@@ -15,13 +15,20 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.ngexception.beans.yamlschema.YamlSchemaErrorDTO;
 import io.harness.exception.ngexception.beans.yamlschema.YamlSchemaErrorWrapperDTO;
+import io.harness.threading.ThreadPool;
 import io.harness.yaml.schema.beans.YamlSchemaRootClass;
 import io.harness.yaml.utils.SchemaValidationUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.networknt.schema.JsonSchema;
@@ -30,24 +37,46 @@ import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 import com.networknt.schema.ValidatorTypeCode;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
 @Slf4j
 @OwnedBy(DX)
 public class YamlSchemaValidator {
-  public static Map<EntityType, JsonSchema> schemas = new HashMap<>();
+  public static Map<EntityType, JsonSchema> schemas = new ConcurrentHashMap<>();
   public static final String ENUM_SCHEMA_ERROR_CODE = ValidatorTypeCode.ENUM.getErrorCode();
   public static final String REQUIRED_SCHEMA_ERROR_CODE = ValidatorTypeCode.REQUIRED.getErrorCode();
+  // Arrays with fewer elements are validated in one go, splitting them costs more than it saves
+  static final int PARALLEL_VALIDATION_MIN_ELEMENTS = 10;
+  private static final int MAX_COMPILED_SCHEMAS = 200;
+  private static final String DEFINITIONS = "definitions";
+  private static final String DEFINITION_REF_PREFIX = "#/definitions/";
+  // Compiled schemas keyed by the sha-256 of the schema text, the same schema is sent on every request
+  private static final Cache<String, JsonSchema> compiledSchemas =
+      CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_SCHEMAS).build();
+  // Schemas validating an array apart from its elements, keyed by the sha-256 of the schema text and the array path
+  private static final Cache<String, Optional<SplitSchema>> splitSchemas =
+      CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_SCHEMAS).build();
+  // Shared by all validators, threads stop once idle so none are left behind
+  private static final ExecutorService validationExecutor =
+      ThreadPool.create(0, Runtime.getRuntime().availableProcessors(), 1, TimeUnit.MINUTES,
+          new ThreadFactoryBuilder().setNameFormat("yaml-schema-validator-%d").setDaemon(true).build());
   ObjectMapper mapper;
   List<YamlSchemaRootClass> yamlSchemaRootClasses;
   EnumCodeSchemaHandler enumCodeSchemaHandler;
@@ -82,35 +111,186 @@ public class YamlSchemaValidator {
     return validateMsg.stream().map(ValidationMessage::getMessage).collect(Collectors.toSet());
   }
 
+  /**
+   * Validates the yaml against the schema text. When the array at pathToJsonNode, the stages of a pipeline for
+   * example, is large its elements are validated in parallel against the schema of the array items, and the rest of
+   * the yaml once against the schema without them.
+   */
   public Set<String> validate(String yaml, String stringSchema, boolean shouldValidateParallelStageCount,
       int allowedParallelStages, String pathToJsonNode) throws IOException {
     JsonNode jsonNode = mapper.readTree(yaml);
     validateParallelStagesCount(jsonNode, shouldValidateParallelStageCount, allowedParallelStages, pathToJsonNode);
-    JsonSchemaFactory factory =
-        JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
-    JsonSchema schema = factory.getSchema(stringSchema);
+    String schemaHash = Hashing.sha256().hashString(stringSchema, StandardCharsets.UTF_8).toString();
+    ArrayNode arrayNode = getArrayNode(jsonNode, pathToJsonNode);
+    Optional<SplitSchema> splitSchema = arrayNode != null && arrayNode.size() >= PARALLEL_VALIDATION_MIN_ELEMENTS
+        ? getSplitSchema(schemaHash, stringSchema, pathToJsonNode)
+        : Optional.empty();
+    List<YamlSchemaErrorDTO> errorDTOS;
+    if (splitSchema.isPresent()) {
+      errorDTOS = validateElementsInParallel(splitSchema.get(), jsonNode, pathToJsonNode.split("/"), arrayNode);
+    } else {
+      JsonSchema schema = getCompiledSchema(schemaHash, stringSchema);
+      errorDTOS = new ArrayList<>();
+      for (ValidationMessage validationMessage : validateNode(schema, jsonNode)) {
+        errorDTOS.add(toErrorDTO(validationMessage.getMessage(), validationMessage.getPath(), jsonNode));
+      }
+    }
+    if (!errorDTOS.isEmpty()) {
+      String combinedValidationMessage =
+          errorDTOS.stream().map(YamlSchemaErrorDTO::getMessageWithFQN).collect(Collectors.joining());
+      YamlSchemaErrorWrapperDTO errorWrapperDTO = YamlSchemaErrorWrapperDTO.builder().schemaErrors(errorDTOS).build();
+      throw new InvalidYamlException(combinedValidationMessage, errorWrapperDTO);
+    }
+    return Collections.emptySet();
+  }
+
+  private JsonSchema getCompiledSchema(String schemaHash, String stringSchema) {
+    try {
+      return compiledSchemas.get(schemaHash, () -> newSchemaFactory().getSchema(stringSchema));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw new InvalidRequestException("Couldn't parse schema", e.getCause());
+    }
+  }
+
+  private Optional<SplitSchema> getSplitSchema(String schemaHash, String stringSchema, String pathToJsonNode) {
+    try {
+      return splitSchemas.get(schemaHash + ":" + pathToJsonNode,
+          () -> Optional.ofNullable(splitSchema(mapper.readTree(stringSchema), pathToJsonNode.split("/"))));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw new InvalidRequestException("Couldn't parse schema", e.getCause());
+    }
+  }
+
+  /**
+   * Follows the properties and definition references of the schema down to the array and moves its items schema out,
+   * keeping the definitions so references in it still resolve. Returns null when the array schema can't be found that
+   * way or is combined with other schemas, the yaml is then validated as a whole.
+   */
+  private SplitSchema splitSchema(JsonNode schemaNode, String[] pathToArray) {
+    if (!schemaNode.isObject()) {
+      return null;
+    }
+    JsonNode definitions = schemaNode.get(DEFINITIONS);
+    ObjectNode documentSchema = schemaNode.deepCopy();
+    ObjectNode node = documentSchema;
+    for (String fieldName : pathToArray) {
+      node = inlineReference(node, definitions);
+      JsonNode properties = node == null ? null : node.get("properties");
+      if (properties == null || !properties.path(fieldName).isObject()) {
+        return null;
+      }
+      node = (ObjectNode) properties.get(fieldName);
+    }
+    node = inlineReference(node, definitions);
+    if (node == null || !node.path("items").isObject() || node.has("allOf") || node.has("anyOf")
+        || node.has("oneOf")) {
+      return null;
+    }
+    ObjectNode itemSchema = (ObjectNode) node.remove("items");
+    if (definitions != null) {
+      itemSchema.set(DEFINITIONS, definitions);
+    }
+    JsonSchemaFactory schemaFactory = newSchemaFactory();
+    return new SplitSchema(schemaFactory.getSchema(documentSchema), schemaFactory.getSchema(itemSchema));
+  }
+
+  // Replaces a reference by a copy of the definition, so changing it leaves other references to the definition as is
+  private ObjectNode inlineReference(ObjectNode node, JsonNode definitions) {
+    JsonNode ref = node.get("$ref");
+    if (ref == null) {
+      return node;
+    }
+    if (definitions == null || !ref.asText().startsWith(DEFINITION_REF_PREFIX)) {
+      return null;
+    }
+    JsonNode definition = definitions.get(ref.asText().substring(DEFINITION_REF_PREFIX.length()));
+    if (definition == null || !definition.isObject() || definition.has("$ref")) {
+      return null;
+    }
+    node.remove("$ref");
+    node.setAll((ObjectNode) definition.deepCopy());
+    return node;
+  }
+
+  private Set<ValidationMessage> validateNode(JsonSchema schema, JsonNode jsonNode) {
     Set<ValidationMessage> validateMsg = schema.validate(jsonNode);
     if (!validateMsg.isEmpty()) {
       log.error(validateMsg.stream().map(ValidationMessage::getMessage).collect(Collectors.joining("\n")));
     }
-    Set<ValidationMessage> processValidationMessages = processValidationMessages(validateMsg, jsonNode);
-    StringBuilder combinedValidationMessage = new StringBuilder();
-    if (!processValidationMessages.isEmpty()) {
-      List<YamlSchemaErrorDTO> errorDTOS = new ArrayList<>();
-      for (ValidationMessage validationMessage : processValidationMessages) {
-        errorDTOS.add(YamlSchemaErrorDTO.builder()
-                          .messageWithFQN(validationMessage.getMessage())
-                          .message(removeFqnFromErrorMessage(validationMessage.getMessage()))
-                          .stageInfo(SchemaValidationUtils.getStageErrorInfo(validationMessage.getPath(), jsonNode))
-                          .stepInfo(SchemaValidationUtils.getStepErrorInfo(validationMessage.getPath(), jsonNode))
-                          .fqn(validationMessage.getPath())
-                          .build());
-        combinedValidationMessage.append(validationMessage.getMessage());
+    return processValidationMessages(validateMsg, jsonNode);
+  }
+
+  private List<YamlSchemaErrorDTO> validateElementsInParallel(
+      SplitSchema splitSchema, JsonNode jsonNode, String[] pathToArray, ArrayNode arrayNode) {
+    List<Future<Set<ValidationMessage>>> futures = new ArrayList<>();
+    for (JsonNode element : arrayNode) {
+      futures.add(validationExecutor.submit(() -> validateNode(splitSchema.itemSchema, element)));
+    }
+
+    // The rest of the yaml and the keywords of the array itself, like minItems, are validated once
+    List<YamlSchemaErrorDTO> errorDTOS = new ArrayList<>();
+    for (ValidationMessage validationMessage : validateNode(splitSchema.documentSchema, jsonNode)) {
+      errorDTOS.add(toErrorDTO(validationMessage.getMessage(), validationMessage.getPath(), jsonNode));
+    }
+    // Every element is validated as a document of its own, paths are mapped back to its index in the yaml
+    String arrayFqn = "$." + String.join(".", pathToArray);
+    for (int index = 0; index < futures.size(); index++) {
+      String elementFqn = arrayFqn + "[" + index + "]";
+      for (ValidationMessage validationMessage : getValidationResult(futures.get(index))) {
+        errorDTOS.add(toErrorDTO(toElementFqn(validationMessage.getMessage(), elementFqn),
+            toElementFqn(validationMessage.getPath(), elementFqn), jsonNode));
       }
-      YamlSchemaErrorWrapperDTO errorWrapperDTO = YamlSchemaErrorWrapperDTO.builder().schemaErrors(errorDTOS).build();
-      throw new InvalidYamlException(combinedValidationMessage.toString(), errorWrapperDTO);
     }
-    return Collections.emptySet();
+    return errorDTOS;
+  }
+
+  private String toElementFqn(String pathInElement, String elementFqn) {
+    return pathInElement != null && pathInElement.startsWith("$") ? elementFqn + pathInElement.substring(1)
+                                                                  : pathInElement;
+  }
+
+  private Set<ValidationMessage> getValidationResult(Future<Set<ValidationMessage>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidRequestException("Interrupted while validating yaml", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw new InvalidRequestException("Couldn't validate yaml", e.getCause());
+    }
+  }
+
+  private YamlSchemaErrorDTO toErrorDTO(String message, String path, JsonNode jsonNode) {
+    return YamlSchemaErrorDTO.builder()
+        .messageWithFQN(message)
+        .message(removeFqnFromErrorMessage(message))
+        .stageInfo(SchemaValidationUtils.getStageErrorInfo(path, jsonNode))
+        .stepInfo(SchemaValidationUtils.getStepErrorInfo(path, jsonNode))
+        .fqn(path)
+        .build();
+  }
+
+  private ArrayNode getArrayNode(JsonNode jsonNode, String pathToJsonNode) {
+    if (pathToJsonNode == null) {
+      return null;
+    }
+    JsonNode node = jsonNode;
+    for (String fieldName : pathToJsonNode.split("/")) {
+      if (node == null || !node.isObject()) {
+        return null;
+      }
+      node = node.get(fieldName);
+    }
+    return node != null && node.isArray() ? (ArrayNode) node : null;
   }
 
   private String removeFqnFromErrorMessage(String message) {
@@ -151,16 +331,18 @@ public class YamlSchemaValidator {
   }
 
   public void populateSchemaInStaticMap(JsonNode schema, EntityType entityType) {
-    JsonSchemaFactory factory =
-        JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
     try {
-      final JsonSchema jsonSchema = factory.getSchema(schema);
+      final JsonSchema jsonSchema = newSchemaFactory().getSchema(schema);
       schemas.put(entityType, jsonSchema);
     } catch (Exception e) {
       throw new InvalidRequestException(String.format("Couldn't parse schema for entity: %s", entityType), e);
     }
   }
 
+  private static JsonSchemaFactory newSchemaFactory() {
+    return JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
+  }
+
   /**
    * Initialises a static map which will help in fast validation against a schema.
    *
@@ -189,4 +371,11 @@ public class YamlSchemaValidator {
     }
     return SchemaValidationUtils.filterErrorsIfMoreSpecificErrorIsPresent(validationMessageList);
   }
+
+  @AllArgsConstructor
+  private static class SplitSchema {
+    // The whole schema but the items of the array
+    private final JsonSchema documentSchema;
+    private final JsonSchema itemSchema;
+  }
 }
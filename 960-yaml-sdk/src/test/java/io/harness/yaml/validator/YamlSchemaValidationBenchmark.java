@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.yaml.validator;
+
+import static io.harness.yaml.schema.beans.SchemaConstants.PIPELINE_NODE;
+import static io.harness.yaml.schema.beans.SchemaConstants.STAGES_NODE;
+
+import static org.mockito.Mockito.mock;
+
+import io.harness.yaml.schema.beans.YamlSchemaRootClass;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Validates a generated pipeline yaml against a pipeline like schema, once compiling the schema and validating the
+ * whole yaml on every call as the validator used to, and once through the validator. Stage count, steps per stage and
+ * validation count can be given as arguments, 100, 10 and 200 by default.
+ */
+@Slf4j
+public class YamlSchemaValidationBenchmark {
+  public static void main(String[] args) throws IOException {
+    int stageCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+    int stepCount = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    int validationCount = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+    String schema = IOUtils.resourceToString("validator/benchmarkPipelineSchema.json", StandardCharsets.UTF_8,
+        YamlSchemaValidationBenchmark.class.getClassLoader());
+    String yaml = buildPipelineYaml(stageCount, stepCount);
+    String pathToStages = PIPELINE_NODE + "/" + STAGES_NODE;
+    YamlSchemaValidator yamlSchemaValidator = new YamlSchemaValidator(Collections.<YamlSchemaRootClass>emptyList(),
+        mock(EnumCodeSchemaHandler.class), mock(RequiredCodeSchemaHandler.class));
+    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+
+    // Warm up both paths
+    for (int i = 0; i < 10; i++) {
+      validateUncached(mapper, schema, yaml);
+      yamlSchemaValidator.validate(yaml, schema, true, 0, pathToStages);
+    }
+
+    long startTime = System.nanoTime();
+    for (int i = 0; i < validationCount; i++) {
+      validateUncached(mapper, schema, yaml);
+    }
+    report("schema compiled per call", validationCount, startTime);
+
+    startTime = System.nanoTime();
+    for (int i = 0; i < validationCount; i++) {
+      yamlSchemaValidator.validate(yaml, schema, true, 0, pathToStages);
+    }
+    report("cached schema, stages in parallel", validationCount, startTime);
+  }
+
+  private static void validateUncached(ObjectMapper mapper, String schema, String yaml) throws IOException {
+    JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7))
+        .build()
+        .getSchema(schema)
+        .validate(mapper.readTree(yaml));
+  }
+
+  private static String buildPipelineYaml(int stageCount, int stepCount) {
+    StringBuilder yaml = new StringBuilder("pipeline:\n  identifier: benchmark\n  name: benchmark\n  stages:\n");
+    for (int stage = 0; stage < stageCount; stage++) {
+      yaml.append("    - stage:\n")
+          .append("        identifier: stage")
+          .append(stage)
+          .append("\n        name: stage")
+          .append(stage)
+          .append("\n        type: Custom\n        spec:\n          execution:\n            steps:\n");
+      for (int step = 0; step < stepCount; step++) {
+        yaml.append("              - step:\n")
+            .append("                  identifier: step")
+            .append(step)
+            .append("\n                  name: step")
+            .append(step)
+            .append("\n                  type: ShellScript\n                  timeout: 10m\n")
+            .append("                  spec:\n                    script: echo hello\n");
+      }
+    }
+    return yaml.toString();
+  }
+
+  private static void report(String mode, int validationCount, long startTime) {
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    log.info("{}: {} validations in {} s, {} validations/s", mode, validationCount, String.format("%.2f", seconds),
+        String.format("%.1f", validationCount / seconds));
+  }
+}
@@ -98,6 +98,74 @@ public class YamlSchemaValidatorTest extends CategoryTest {
         .hasMessage("$.pipeline.stages: there must be a minimum of 1 items in the array");
   }
 
+  @Test
+  @Owner(developers = ABHINAV)
+  @Category(UnitTests.class)
+  public void testValidateStagesInParallel() {
+    String schema = "{\"type\": \"object\", \"properties\": {\"pipeline\": {\"type\": \"object\", "
+        + "\"properties\": {\"identifier\": {\"type\": \"string\"}, \"stages\": {\"type\": \"array\", "
+        + "\"items\": {\"type\": \"object\", \"properties\": {\"stage\": {\"type\": \"object\", "
+        + "\"properties\": {\"identifier\": {\"type\": \"string\"}}}}}}}}}}";
+    int stageCount = YamlSchemaValidator.PARALLEL_VALIDATION_MIN_ELEMENTS + 2;
+    StringBuilder pipeline = new StringBuilder("pipeline:\n  identifier: p1\n  stages:\n");
+    for (int index = 0; index < stageCount; index++) {
+      String identifier = index == stageCount - 1 ? "5" : "s" + index;
+      pipeline.append("    - stage:\n        identifier: ").append(identifier).append('\n');
+    }
+    String validPipeline = pipeline.toString().replace("identifier: 5", "identifier: s5");
+
+    assertThatCode(
+        () -> yamlSchemaValidator.validate(validPipeline, schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .doesNotThrowAnyException();
+    // The error of the last stage is reported once, at its index in the pipeline
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(
+                               pipeline.toString(), schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .isInstanceOf(InvalidYamlException.class)
+        .hasMessage(
+            String.format("$.pipeline.stages[%d].stage.identifier: integer found, string expected", stageCount - 1));
+    // Errors outside of the stages are reported once as well
+    String invalidPipeline = pipeline.toString().replace("identifier: p1", "identifier: 1");
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(
+                               invalidPipeline, schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .isInstanceOf(InvalidYamlException.class)
+        .hasMessageContaining("$.pipeline.identifier: integer found, string expected")
+        .hasMessageNotContaining("stages[0]");
+  }
+
+  @Test
+  @Owner(developers = ABHINAV)
+  @Category(UnitTests.class)
+  public void testValidateArrayKeywordsOfStagesInParallel() {
+    int maxStages = YamlSchemaValidator.PARALLEL_VALIDATION_MIN_ELEMENTS + 1;
+    String schema = "{\"type\": \"object\", \"properties\": {\"pipeline\": {\"$ref\": \"#/definitions/Pipeline\"}}, "
+        + "\"definitions\": {\"Pipeline\": {\"type\": \"object\", \"properties\": {\"stages\": {\"type\": \"array\", "
+        + "\"maxItems\": " + maxStages + ", \"uniqueItems\": true, \"items\": {\"$ref\": \"#/definitions/Stage\"}}}}, "
+        + "\"Stage\": {\"type\": \"object\", \"properties\": {\"stage\": {\"type\": \"object\", "
+        + "\"properties\": {\"identifier\": {\"type\": \"string\"}}}}}}}";
+    StringBuilder pipeline = new StringBuilder("pipeline:\n  stages:\n");
+    for (int index = 0; index <= maxStages; index++) {
+      pipeline.append("    - stage:\n        identifier: s").append(index).append('\n');
+    }
+
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(
+                               pipeline.toString(), schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .isInstanceOf(InvalidYamlException.class)
+        .hasMessage(String.format("$.pipeline.stages: there must be a maximum of %d items in the array", maxStages));
+    // Array keywords are checked against the elements of the yaml, the elements against the referenced definition
+    String duplicatePipeline = pipeline.toString().replace("identifier: s" + maxStages, "identifier: s0");
+    String invalidPipeline = duplicatePipeline.replace("identifier: s1\n", "identifier: 1\n");
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(
+                               invalidPipeline, schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .isInstanceOf(InvalidYamlException.class)
+        .hasMessageContaining("$.pipeline.stages: there must be a maximum of")
+        .hasMessageContaining("$.pipeline.stages: the items in the array must be unique")
+        .hasMessageContaining("$.pipeline.stages[1].stage.identifier: integer found, string expected");
+  }
+
   private String getYamlResource(String resource) throws IOException {
     return IOUtils.resourceToString(resource, StandardCharsets.UTF_8, YamlSchemaValidatorTest.class.getClassLoader());
   }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.text.StringReplacer;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of parsed jexl expressions and scripts keyed by their text. Parsed expressions and scripts are
+ * immutable and do not hold on to the context they are evaluated with, so all the evaluators can share them.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class EngineExpressionCache {
+  private static final int MAX_EXPRESSIONS = 20000;
+  private static final int MAX_SCRIPTS = 5000;
+
+  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private static final Cache<String, JexlExpression> expressions =
+      CacheBuilder.newBuilder().maximumSize(MAX_EXPRESSIONS).recordStats().build();
+  private static final Cache<String, JexlScript> scripts =
+      CacheBuilder.newBuilder().maximumSize(MAX_SCRIPTS).recordStats().build();
+
+  public static JexlExpression createExpression(String expression) {
+    JexlExpression jexlExpression = expressions.getIfPresent(expression);
+    if (jexlExpression == null) {
+      // Parse outside of the cache loader so that parsing errors reach the caller as they are
+      jexlExpression = engine.createExpression(expression);
+      expressions.put(expression, jexlExpression);
+    }
+    return jexlExpression;
+  }
+
+  public static JexlScript createScript(String script) {
+    JexlScript jexlScript = scripts.getIfPresent(script);
+    if (jexlScript == null) {
+      jexlScript = engine.createScript(script);
+      scripts.put(script, jexlScript);
+    }
+    return jexlScript;
+  }
+
+  public static CacheStats expressionStats() {
+    return expressions.stats();
+  }
+
+  public static CacheStats scriptStats() {
+    return scripts.stats();
+  }
+
+  public static void invalidateAll() {
+    expressions.invalidateAll();
+    scripts.invalidateAll();
+    StringReplacer.invalidateTemplates();
+  }
+
+  public static void registerMetrics(MetricRegistry metricRegistry) {
+    registerMetrics(metricRegistry, "jexl_expression_cache", expressions::stats, expressions::size);
+    registerMetrics(metricRegistry, "jexl_script_cache", scripts::stats, scripts::size);
+    registerMetrics(
+        metricRegistry, "expression_template_cache", StringReplacer::templateStats, StringReplacer::templateCount);
+  }
+
+  private static void registerMetrics(
+      MetricRegistry metricRegistry, String name, Supplier<CacheStats> stats, Supplier<Long> size) {
+    metricRegistry.register(name + "_hit_rate", (Gauge<Double>) () -> stats.get().hitRate());
+    metricRegistry.register(name + "_eviction_count", (Gauge<Long>) () -> stats.get().evictionCount());
+    metricRegistry.register(name + "_size", (Gauge<Long>) size::get);
+  }
+}
@@ -45,6 +45,11 @@ public class Subject<T> {
     void inform(T t, U1 u1, U2 u2, U3 u3, U4 u4);
   }
 
+  @FunctionalInterface
+  public interface Informant5<T, U1, U2, U3, U4, U5> {
+    void inform(T t, U1 u1, U2 u2, U3 u3, U4 u4, U5 u5);
+  }
+
   @FunctionalInterface
   public interface Processor0<T, U> {
     U process(T t, U u);
@@ -123,6 +128,19 @@ public class Subject<T> {
     });
   }
 
+  public <U1, U2, U3, U4, U5> void fireInform(
+      Informant5<T, U1, U2, U3, U4, U5> func, U1 arg1, U2 arg2, U3 arg3, U4 arg4, U5 arg5) {
+    observers.forEach(observer -> {
+      if (observer instanceof AsyncInformObserver) {
+        ((AsyncInformObserver) observer)
+            .getInformExecutorService()
+            .submit(() -> func.inform(observer, arg1, arg2, arg3, arg4, arg5));
+      } else {
+        func.inform(observer, arg1, arg2, arg3, arg4, arg5);
+      }
+    });
+  }
+
   public <U> U fireProcess(Processor0<T, U> func, U data) {
     for (T observer : observers) {
       data = func.process(observer, data);
@@ -20,13 +20,18 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Set;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
 
@@ -52,6 +57,7 @@ public class KryoSerializer {
   }
 
   private final KryoPool pool;
+  private final KryoStreamPool streamPool = KryoStreamPool.DEFAULT;
   private final boolean skipHarnessClassOriginRegistrarCheck;
 
   @Inject
@@ -110,20 +116,46 @@ public class KryoSerializer {
   }
 
   public byte[] asDeflatedBytes(Object obj) {
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    writeDeflatedTo(obj, byteStream);
+    return byteStream.toByteArray();
+  }
+
+  /**
+   * Same as {@link #asDeflatedBytes(Object)}, but without copying the serialized bytes into a protobuf message field.
+   */
+  public ByteString asDeflatedByteString(Object obj) {
+    final ByteString.Output output = ByteString.newOutput();
+    writeDeflatedTo(obj, output);
+    return output.toByteString();
+  }
+
+  /**
+   * Serializes the object straight into the given stream, using pooled kryo buffers.
+   */
+  public void writeTo(Object obj, OutputStream outputStream) {
+    writeToStream(obj, outputStream);
+  }
+
+  /**
+   * Serializes and deflates the object straight into the given stream, using pooled kryo buffers and deflater.
+   */
+  public void writeDeflatedTo(Object obj, OutputStream outputStream) {
+    final Deflater deflater = streamPool.obtainDeflater();
     try {
-      final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-      final DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+      final DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outputStream, deflater);
+      writeToStream(obj, deflaterStream);
+      deflaterStream.finish();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      streamPool.release(deflater);
     }
   }
 
   private void writeToStream(Object obj, OutputStream outputStream) {
+    final Output output = streamPool.obtainOutput(outputStream);
     try {
-      Output output = new Output(outputStream);
       pool.run(kryo -> {
         kryo.writeClassAndObject(output, obj);
         return null;
@@ -131,6 +163,8 @@ public class KryoSerializer {
       output.flush();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      streamPool.release(output);
     }
   }
 
@@ -146,10 +180,35 @@ public class KryoSerializer {
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    Input input = new Input(new InflaterInputStream(new Input(bytes)));
-    Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
-    input.close();
-    return obj;
+    return readInflatedFrom(new ByteArrayInputStream(bytes));
+  }
+
+  public Object asInflatedObject(ByteString byteString) {
+    return readInflatedFrom(byteString.newInput());
+  }
+
+  /**
+   * Deserializes an object straight from the given stream, using pooled kryo buffers.
+   */
+  public Object readFrom(InputStream inputStream) {
+    final Input input = streamPool.obtainInput(inputStream);
+    try {
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    } finally {
+      streamPool.release(input);
+    }
+  }
+
+  /**
+   * Inflates and deserializes an object straight from the given stream, using pooled kryo buffers and inflater.
+   */
+  public Object readInflatedFrom(InputStream inputStream) {
+    final Inflater inflater = streamPool.obtainInflater();
+    try {
+      return readFrom(new InflaterInputStream(inputStream, inflater));
+    } finally {
+      streamPool.release(inflater);
+    }
   }
 
   public Object asObject(String base64) {
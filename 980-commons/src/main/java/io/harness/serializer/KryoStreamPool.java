@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Pool of the kryo Output/Input buffers and the zlib Deflater/Inflater used around every serialization.
+ *
+ * Obtained objects must be released after use, borrowing (instead of thread locals) keeps it safe for serializers
+ * that serialize nested objects with the same pool.
+ */
+public class KryoStreamPool {
+  public static final KryoStreamPool DEFAULT = new KryoStreamPool();
+
+  private static final int BUFFER_SIZE = 4096;
+  // Buffers that grew over this size for a large object are not kept around
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+  private static final int MAX_POOLED = 64;
+
+  private final Pool<Output> outputs = new Pool<>(() -> new Output(BUFFER_SIZE, -1));
+  private final Pool<Input> inputs = new Pool<>(() -> new Input(BUFFER_SIZE));
+  private final Pool<Deflater> deflaters = new Pool<>(Deflater::new);
+  private final Pool<Inflater> inflaters = new Pool<>(Inflater::new);
+
+  private static class Pool<T> {
+    private final Queue<T> objects = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Supplier<T> factory;
+
+    Pool(Supplier<T> factory) {
+      this.factory = factory;
+    }
+
+    T obtain() {
+      T object = objects.poll();
+      if (object == null) {
+        return factory.get();
+      }
+      size.decrementAndGet();
+      return object;
+    }
+
+    boolean release(T object) {
+      if (size.incrementAndGet() > MAX_POOLED) {
+        size.decrementAndGet();
+        return false;
+      }
+      objects.offer(object);
+      return true;
+    }
+  }
+
+  public Output obtainOutput(OutputStream outputStream) {
+    Output output = outputs.obtain();
+    output.setOutputStream(outputStream);
+    return output;
+  }
+
+  public void release(Output output) {
+    output.setOutputStream(null);
+    if (output.getBuffer().length <= MAX_RETAINED_BUFFER_SIZE) {
+      outputs.release(output);
+    }
+  }
+
+  public Input obtainInput(InputStream inputStream) {
+    Input input = inputs.obtain();
+    input.setInputStream(inputStream);
+    return input;
+  }
+
+  public void release(Input input) {
+    input.setInputStream(null);
+    inputs.release(input);
+  }
+
+  public Deflater obtainDeflater() {
+    return deflaters.obtain();
+  }
+
+  public void release(Deflater deflater) {
+    deflater.reset();
+    if (!deflaters.release(deflater)) {
+      deflater.end();
+    }
+  }
+
+  public Inflater obtainInflater() {
+    return inflaters.obtain();
+  }
+
+  public void release(Inflater inflater) {
+    inflater.reset();
+    if (!inflaters.release(inflater)) {
+      inflater.end();
+    }
+  }
+}
@@ -11,32 +11,92 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.text.resolver.ExpressionResolver;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+
 @OwnedBy(HarnessTeam.PIPELINE)
 public class StringReplacer {
   private static final char ESCAPE_CHAR = '\\';
+  // Bounded by the total length of the cached sources
+  private static final long MAX_TEMPLATE_CHARS = 20_000_000L;
+
+  private static final Cache<TemplateKey, List<Segment>> templates =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_TEMPLATE_CHARS)
+          .weigher((Weigher<TemplateKey, List<Segment>>) (key, segments) -> key.getSource().length())
+          .recordStats()
+          .build();
 
   private final ExpressionResolver expressionResolver;
-  private final char[] expressionPrefix;
-  private final char[] expressionSuffix;
+  private final String expressionPrefix;
+  private final String expressionSuffix;
 
   public StringReplacer(ExpressionResolver expressionResolver, String expressionPrefix, String expressionSuffix) {
     this.expressionResolver = expressionResolver;
-    this.expressionPrefix = expressionPrefix.toCharArray();
-    this.expressionSuffix = expressionSuffix.toCharArray();
+    this.expressionPrefix = expressionPrefix;
+    this.expressionSuffix = expressionSuffix;
   }
 
   public String replace(String source) {
     if (source == null) {
       return null;
     }
+    if (!source.contains(expressionPrefix)) {
+      return source;
+    }
+
+    List<Segment> segments = tokenize(source);
+    StringBuilder buf = new StringBuilder(source.length());
+    boolean altered = false;
+    for (Segment segment : segments) {
+      if (segment.getExpression() == null) {
+        buf.append(segment.getText());
+        continue;
+      }
+
+      // Resolve the expression
+      String expressionValue = expressionResolver.resolve(segment.getExpression());
+      buf.append(expressionValue);
+      altered = altered || !segment.getText().equals(expressionValue);
+    }
+    return altered ? buf.toString() : source;
+  }
 
-    StringBuffer buf = new StringBuffer(source);
-    return substitute(buf) ? buf.toString() : source;
+  public static CacheStats templateStats() {
+    return templates.stats();
   }
 
-  private boolean substitute(StringBuffer buf) {
-    boolean altered = false;
+  public static long templateCount() {
+    return templates.size();
+  }
+
+  public static void invalidateTemplates() {
+    templates.invalidateAll();
+  }
+
+  private List<Segment> tokenize(String source) {
+    TemplateKey key = new TemplateKey(expressionPrefix, expressionSuffix, source);
+    List<Segment> segments = templates.getIfPresent(key);
+    if (segments == null) {
+      segments = split(new StringBuilder(source), expressionPrefix.toCharArray(), expressionSuffix.toCharArray());
+      templates.put(key, segments);
+    }
+    return segments;
+  }
+
+  /**
+   * Splits the source into literal text and outermost expressions. The resolved values are never scanned again, so
+   * the split only depends on the source and the delimiters.
+   */
+  private static List<Segment> split(StringBuilder buf, char[] expressionPrefix, char[] expressionSuffix) {
+    List<Segment> segments = new ArrayList<>();
     int bufEnd = buf.length();
+    int textStartPos = 0;
     int pos = 0;
     while (pos < bufEnd) {
       boolean hasPrefix = isMatch(expressionPrefix, buf, pos, bufEnd);
@@ -86,29 +146,29 @@ public class StringReplacer {
         }
 
         // Get whole expression
-        int expressionEndPos = pos;
-        String expressionWithDelimiters = buf.substring(expressionStartPos, expressionEndPos);
+        if (textStartPos < expressionStartPos) {
+          segments.add(new Segment(buf.substring(textStartPos, expressionStartPos), null));
+        }
+        String expressionWithDelimiters = buf.substring(expressionStartPos, pos);
         String expression = expressionWithDelimiters.substring(
             expressionPrefix.length, expressionWithDelimiters.length() - expressionSuffix.length);
-
-        // Resolve the expression
-        String expressionValue = expressionResolver.resolve(expression);
-
-        buf.replace(expressionStartPos, expressionEndPos, expressionValue);
-        pos += expressionValue.length() - expressionWithDelimiters.length();
-        bufEnd = buf.length();
-        altered = altered || !expressionWithDelimiters.equals(expressionValue);
+        segments.add(new Segment(expressionWithDelimiters, expression));
+        textStartPos = pos;
         break;
       }
     }
-    return altered;
+
+    if (textStartPos < bufEnd) {
+      segments.add(new Segment(buf.substring(textStartPos, bufEnd), null));
+    }
+    return segments;
   }
 
-  private static boolean isMatch(char ch, StringBuffer buf, int bufStart, int bufEnd) {
+  private static boolean isMatch(char ch, StringBuilder buf, int bufStart, int bufEnd) {
     return bufStart < bufEnd && buf.charAt(bufStart) == ch;
   }
 
-  private static boolean isMatch(char[] str, StringBuffer buf, int bufStart, int bufEnd) {
+  private static boolean isMatch(char[] str, StringBuilder buf, int bufStart, int bufEnd) {
     if (bufStart + str.length > bufEnd) {
       return false;
     }
@@ -119,4 +179,19 @@ public class StringReplacer {
     }
     return true;
   }
+
+  @Value
+  private static class TemplateKey {
+    String expressionPrefix;
+    String expressionSuffix;
+    String source;
+  }
+
+  @Value
+  private static class Segment {
+    // Literal text, or the expression together with its delimiters
+    String text;
+    // null for literal text
+    String expression;
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.jexl3.JexlException;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class EngineExpressionCacheTest extends CategoryTest {
+  private static Map<String, Object> context() {
+    Map<String, Object> stages = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      stages.put("s" + i, ImmutableMap.of("name", "stage" + i, "status", "SUCCEEDED", "replicas", i));
+    }
+    return ImmutableMap.of("pipeline",
+        ImmutableMap.of("name", "pipeline", "sequenceId", 42, "stages", stages, "variables",
+            ImmutableMap.of("region", "us-east-1", "count", 3)));
+  }
+
+  private static String template() {
+    StringBuilder template = new StringBuilder(4096);
+    template.append("pipeline:\n  name: <+pipeline.name>-<+pipeline.sequenceId>\n  stages:\n");
+    for (int i = 0; i < 20; i++) {
+      template.append("    - stage:\n")
+          .append("        name: <+pipeline.stages.s")
+          .append(i)
+          .append(".name>\n        region: <+pipeline.variables.region>\n")
+          .append("        replicas: <+pipeline.stages.s")
+          .append(i)
+          .append(".replicas * pipeline.variables.count>\n")
+          .append("        when: <+pipeline.stages.s")
+          .append(i)
+          .append(".status == \"SUCCEEDED\">\n");
+    }
+    return template.toString();
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testParsedExpressionsAreShared() {
+    long hits = EngineExpressionCache.expressionStats().hitCount();
+    assertThat(EngineExpressionCache.createExpression("a.b + 1"))
+        .isSameAs(EngineExpressionCache.createExpression("a.b + 1"));
+    assertThat(EngineExpressionCache.createScript("var x = a; x + 1"))
+        .isSameAs(EngineExpressionCache.createScript("var x = a; x + 1"));
+    assertThat(EngineExpressionCache.expressionStats().hitCount()).isGreaterThan(hits);
+
+    // Parsing errors are not cached and reach the caller unwrapped
+    assertThatThrownBy(() -> EngineExpressionCache.createExpression("a.b +")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> EngineExpressionCache.createExpression("a.b +")).isInstanceOf(JexlException.class);
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testRenderWithSharedCache() {
+    EngineExpressionEvaluator evaluator = new EngineExpressionEvaluator(null);
+    String template = template();
+    String rendered = evaluator.renderExpression(template, context());
+    assertThat(rendered).contains("name: pipeline-42").contains("name: stage7").contains("replicas: 21");
+    assertThat(rendered).doesNotContain("<+");
+
+    // A different evaluator renders the same template from the cached segments and parsed expressions
+    assertThat(new EngineExpressionEvaluator(null).renderExpression(template, context())).isEqualTo(rendered);
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testRegisterMetrics() {
+    MetricRegistry metricRegistry = new MetricRegistry();
+    EngineExpressionCache.registerMetrics(metricRegistry);
+    assertThat(metricRegistry.getGauges())
+        .containsKeys("jexl_expression_cache_hit_rate", "jexl_script_cache_size", "expression_template_cache_hit_rate");
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(StressTests.class)
+  @Ignore("Micro benchmark of rendering with cold and warm expression caches, run manually")
+  public void benchmarkRenderTemplate() {
+    EngineExpressionEvaluator evaluator = new EngineExpressionEvaluator(null);
+    Map<String, Object> context = context();
+    String template = template();
+    int iterations = 2000;
+
+    // warm up the jit for both paths
+    for (int i = 0; i < iterations; i++) {
+      EngineExpressionCache.invalidateAll();
+      evaluator.renderExpression(template, context);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      EngineExpressionCache.invalidateAll();
+      evaluator.renderExpression(template, context);
+    }
+    long cold = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      evaluator.renderExpression(template, context);
+    }
+    long warm = System.nanoTime() - start;
+
+    log.info("render template: cold {} us/op, warm {} us/op, expression hit rate {}",
+        TimeUnit.NANOSECONDS.toMicros(cold / iterations), TimeUnit.NANOSECONDS.toMicros(warm / iterations),
+        EngineExpressionCache.expressionStats().hitRate());
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Slf4j
+public class KryoSerializerTest extends CategoryTest {
+  private static final KryoSerializer kryoSerializer =
+      new KryoSerializer(new HashSet<>(Arrays.asList(TestRegistrar.class)), true);
+  private static final Kryo legacyKryo = legacyKryo();
+
+  @EqualsAndHashCode
+  public static class TestPayload {
+    String name;
+    int count;
+    byte[] data;
+  }
+
+  public static class TestRegistrar implements KryoRegistrar {
+    @Override
+    public void register(Kryo kryo) {
+      // These IDs are not related to prod IDs.
+      kryo.register(TestPayload.class, 10000);
+    }
+  }
+
+  private static TestPayload payload(int size) {
+    TestPayload payload = new TestPayload();
+    payload.name = "payload-" + size;
+    payload.count = size;
+    payload.data = new byte[size];
+    new Random(size).nextBytes(payload.data);
+    // Keep half of it compressible
+    Arrays.fill(payload.data, 0, size / 2, (byte) 7);
+    return payload;
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRoundTrips() {
+    for (int size : new int[] {0, 10, 5000, 300000}) {
+      TestPayload payload = payload(size);
+
+      assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(payload))).isEqualTo(payload);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(payload))).isEqualTo(payload);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedByteString(payload))).isEqualTo(payload);
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      kryoSerializer.writeTo(payload, outputStream);
+      assertThat(kryoSerializer.readFrom(new ByteArrayInputStream(outputStream.toByteArray()))).isEqualTo(payload);
+
+      ByteArrayOutputStream deflatedStream = new ByteArrayOutputStream();
+      kryoSerializer.writeDeflatedTo(payload, deflatedStream);
+      assertThat(kryoSerializer.readInflatedFrom(new ByteArrayInputStream(deflatedStream.toByteArray())))
+          .isEqualTo(payload);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testWireFormatIsUnchanged() throws Exception {
+    TestPayload payload = payload(5000);
+
+    // The bytes produced by the pooled deflater have to be readable by the old code and vice versa
+    byte[] legacyDeflated = legacyAsDeflatedBytes(payload);
+    assertThat(kryoSerializer.asDeflatedBytes(payload)).isEqualTo(legacyDeflated);
+    assertThat(kryoSerializer.asDeflatedByteString(payload).toByteArray()).isEqualTo(legacyDeflated);
+    assertThat(legacyAsInflatedObject(kryoSerializer.asDeflatedBytes(payload))).isEqualTo(payload);
+    assertThat(kryoSerializer.asInflatedObject(ByteString.copyFrom(legacyDeflated))).isEqualTo(payload);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(StressTests.class)
+  @Ignore("Micro benchmark of the pooled serialization against the previous implementation, run manually")
+  public void benchmarkDeflatedRoundTrip() throws Exception {
+    for (int size : new int[] {100, 10000, 1000000}) {
+      TestPayload payload = payload(size);
+      int iterations = Math.max(50, 2000000 / Math.max(size, 1000));
+
+      // warm up both paths
+      for (int i = 0; i < iterations; i++) {
+        legacyAsInflatedObject(legacyAsDeflatedBytes(payload));
+        kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedByteString(payload));
+      }
+
+      long start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        legacyAsInflatedObject(ByteString.copyFrom(legacyAsDeflatedBytes(payload)).toByteArray());
+      }
+      long legacy = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedByteString(payload));
+      }
+      long pooled = System.nanoTime() - start;
+
+      log.info("payload {} bytes: legacy {} us/op, pooled {} us/op", size,
+          TimeUnit.NANOSECONDS.toMicros(legacy / iterations), TimeUnit.NANOSECONDS.toMicros(pooled / iterations));
+    }
+  }
+
+  private static byte[] legacyAsDeflatedBytes(Object object) throws Exception {
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    final DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
+    Output output = new Output(outputStream);
+    legacyKryo.writeClassAndObject(output, object);
+    output.flush();
+    outputStream.finish();
+    return byteStream.toByteArray();
+  }
+
+  private static Object legacyAsInflatedObject(byte[] bytes) {
+    Input input = new Input(new InflaterInputStream(new Input(bytes)));
+    Object object = legacyKryo.readClassAndObject(input);
+    input.close();
+    return object;
+  }
+
+  private static Kryo legacyKryo() {
+    HKryo kryo = new HKryo(new ClassResolver(), true, true);
+    new TestRegistrar().register(kryo);
+    return kryo;
+  }
+}
@@ -57,6 +57,23 @@ public class StringReplacerTest extends CategoryTest {
             " de \\ f ", "gh <+ij <+kl.select(\"<book><title>Harry Potter</title></book>\")> > ", "abc > def");
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testStringReplacerCachedTemplate() {
+    String source = "abc <+ de \\> f > gh <+ij \\> kl";
+    for (int i = 0; i < 2; i++) {
+      // Escape chars are only dropped when something was replaced
+      DummyExpressionResolver resolver = new DummyExpressionResolver();
+      assertThat(replace(resolver, source)).isEqualTo("abc 1 gh <+ij > kl");
+      assertThat(resolver.getExpressions()).containsExactly(" de > f ");
+
+      assertThat(replace(expression -> "<+" + expression + ">", source)).isEqualTo(source);
+      assertThat(replace(resolver, "no expressions")).isEqualTo("no expressions");
+    }
+    assertThat(StringReplacer.templateStats().hitCount()).isGreaterThan(0);
+  }
+
   private String replace(ExpressionResolver resolver, String source) {
     StringReplacer stringReplacer = new StringReplacer(resolver, "<+", ">");
     String resp = stringReplacer.replace(source);
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.PL)
+@Value
+@Builder(toBuilder = true)
+public class ACLCacheConfig {
+  boolean enabled;
+  @Builder.Default long maximumPrincipals = 10000;
+  @Builder.Default int maximumEntriesPerPrincipal = 5000;
+  // Safety net on top of the invalidations broadcast to all replicas
+  @Builder.Default long expireAfterWriteInSeconds = 60;
+}
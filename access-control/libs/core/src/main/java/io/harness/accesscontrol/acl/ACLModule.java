@@ -8,9 +8,11 @@
 package io.harness.accesscontrol.acl;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
 import io.harness.accesscontrol.acl.persistence.ACLMorphiaRegistrar;
+import io.harness.accesscontrol.acl.persistence.NoopACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.acl.persistence.repositories.PrimaryACLRepositoryImpl;
 import io.harness.accesscontrol.acl.persistence.repositories.SecondaryACLRepositoryImpl;
@@ -21,6 +23,7 @@ import io.harness.morphia.MorphiaRegistrar;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Names;
 
 @OwnedBy(HarnessTeam.PL)
@@ -40,6 +43,13 @@ public class ACLModule extends AbstractModule {
         Multibinder.newSetBinder(binder(), new TypeLiteral<Class<? extends MorphiaRegistrar>>() {});
     morphiaRegistrars.addBinding().toInstance(ACLMorphiaRegistrar.class);
 
+    OptionalBinder.newOptionalBinder(binder(), ACLCacheConfig.class)
+        .setDefault()
+        .toInstance(ACLCacheConfig.builder().enabled(false).build());
+    OptionalBinder.newOptionalBinder(binder(), ACLCacheInvalidationBroadcaster.class)
+        .setDefault()
+        .to(NoopACLCacheInvalidationBroadcaster.class);
+
     bind(ACLService.class).to(ACLServiceImpl.class);
     bind(ACLDAO.class).to(ACLDAOImpl.class);
     bind(ACLRepository.class).annotatedWith(Names.named(ACL.PRIMARY_COLLECTION)).to(PrimaryACLRepositoryImpl.class);
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.ACLCacheConfig;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per principal index of enabled ACLs by acl query string. Absent ACLs are cached as empty lists so that denied checks
+ * are served from memory as well. Entries are dropped whenever ACLs of the principal change in the primary collection,
+ * on this replica and, through the {@link ACLCacheInvalidationBroadcaster}, on all the others.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLCache {
+  private static final String DELIMITER = "$";
+
+  private final ACLCacheConfig config;
+  private final ACLCacheInvalidationBroadcaster broadcaster;
+  private final Cache<String, PrincipalACLs> principalACLs;
+  // Bumped on every invalidation so that a lookup racing with a change does not cache what it read
+  private final AtomicLong generation = new AtomicLong();
+
+  @Inject
+  public ACLCache(ACLCacheConfig config, ACLCacheInvalidationBroadcaster broadcaster) {
+    this.config = config;
+    this.broadcaster = broadcaster;
+    this.principalACLs = CacheBuilder.newBuilder()
+                             .maximumSize(config.getMaximumPrincipals())
+                             .expireAfterWrite(config.getExpireAfterWriteInSeconds(), TimeUnit.SECONDS)
+                             .recordStats()
+                             .build();
+    if (config.isEnabled()) {
+      broadcaster.subscribe(this::apply);
+    }
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled();
+  }
+
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Returns the cached ACLs of the given query strings, query strings which are not cached are left out.
+   */
+  public Map<String, List<ACL>> get(Principal principal, Set<String> aclQueryStrings) {
+    Map<String, List<ACL>> acls = new HashMap<>();
+    PrincipalACLs cached = principalACLs.getIfPresent(principalKey(principal));
+    if (cached == null) {
+      return acls;
+    }
+    for (String aclQueryString : aclQueryStrings) {
+      List<ACL> aclsForQueryString = cached.aclsByQueryString.get(aclQueryString);
+      if (aclsForQueryString != null) {
+        acls.put(aclQueryString, aclsForQueryString);
+      }
+    }
+    return acls;
+  }
+
+  /**
+   * Caches ACLs read from the database, unless something was invalidated since the given generation was read.
+   */
+  public void put(Principal principal, Map<String, List<ACL>> aclsByQueryString, long readGeneration) {
+    if (generation.get() != readGeneration) {
+      return;
+    }
+    PrincipalACLs cached;
+    try {
+      cached = principalACLs.get(principalKey(principal), PrincipalACLs::new);
+    } catch (Exception e) {
+      log.warn("Could not cache ACLs of principal {}", principal, e);
+      return;
+    }
+    if (cached.aclsByQueryString.size() + aclsByQueryString.size() > config.getMaximumEntriesPerPrincipal()) {
+      cached.aclsByQueryString.clear();
+    }
+    aclsByQueryString.forEach((aclQueryString, acls) -> {
+      acls.stream()
+          .map(ACL::getRoleAssignmentId)
+          .filter(Objects::nonNull)
+          .forEach(cached.roleAssignmentIds::add);
+      cached.aclsByQueryString.put(aclQueryString, acls);
+    });
+    if (generation.get() != readGeneration) {
+      // A change landed while the ACLs were being read, they may already be stale
+      principalACLs.invalidate(principalKey(principal));
+    }
+  }
+
+  public void invalidatePrincipalsOf(Collection<ACL> acls) {
+    if (isEmpty(acls)) {
+      return;
+    }
+    invalidate(ACLCacheInvalidation.principals(
+        acls.stream()
+            .map(acl -> principalKey(acl.getPrincipalType(), acl.getPrincipalIdentifier()))
+            .collect(Collectors.toSet())));
+  }
+
+  public void invalidateRoleAssignment(String roleAssignmentId) {
+    invalidate(ACLCacheInvalidation.roleAssignment(roleAssignmentId));
+  }
+
+  public void invalidateAll() {
+    invalidate(ACLCacheInvalidation.all());
+  }
+
+  public CacheStats stats() {
+    return principalACLs.stats();
+  }
+
+  private void invalidate(ACLCacheInvalidation invalidation) {
+    apply(invalidation);
+    if (config.isEnabled()) {
+      broadcaster.broadcast(invalidation);
+    }
+  }
+
+  private void apply(ACLCacheInvalidation invalidation) {
+    generation.incrementAndGet();
+    switch (invalidation.getType()) {
+      case PRINCIPALS:
+        principalACLs.invalidateAll(invalidation.getKeys());
+        break;
+      case ROLE_ASSIGNMENT:
+        principalACLs.asMap().values().removeIf(
+            cached -> invalidation.getKeys().stream().anyMatch(cached.roleAssignmentIds::contains));
+        break;
+      default:
+        principalACLs.invalidateAll();
+    }
+  }
+
+  private static String principalKey(Principal principal) {
+    return principalKey(principal.getPrincipalType().name(), principal.getPrincipalIdentifier());
+  }
+
+  private static String principalKey(String principalType, String principalIdentifier) {
+    return principalType + DELIMITER + principalIdentifier;
+  }
+
+  private static class PrincipalACLs {
+    private final Map<String, List<ACL>> aclsByQueryString = new ConcurrentHashMap<>();
+    private final Set<String> roleAssignmentIds = ConcurrentHashMap.newKeySet();
+  }
+}
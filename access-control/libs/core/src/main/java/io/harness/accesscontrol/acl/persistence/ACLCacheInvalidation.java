@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collections;
+import java.util.Set;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+public class ACLCacheInvalidation {
+  public enum Type { PRINCIPALS, ROLE_ASSIGNMENT, ALL }
+
+  Type type;
+  // Principal keys or the role assignment id, depending on the type
+  Set<String> keys;
+
+  public static ACLCacheInvalidation principals(Set<String> principalKeys) {
+    return new ACLCacheInvalidation(Type.PRINCIPALS, principalKeys);
+  }
+
+  public static ACLCacheInvalidation roleAssignment(String roleAssignmentId) {
+    return new ACLCacheInvalidation(Type.ROLE_ASSIGNMENT, Collections.singleton(roleAssignmentId));
+  }
+
+  public static ACLCacheInvalidation all() {
+    return new ACLCacheInvalidation(Type.ALL, Collections.emptySet());
+  }
+}
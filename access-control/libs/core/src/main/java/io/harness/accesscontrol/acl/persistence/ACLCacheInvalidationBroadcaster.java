@@ -0,0 +1,32 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the invalidations of the {@link ACLCache} of one replica to the caches of all the other replicas, since only
+ * the replica running the aggregator sees the changes to ACLs.
+ */
+@OwnedBy(PL)
+public interface ACLCacheInvalidationBroadcaster {
+  /**
+   * Sends the invalidation to the other replicas, throws if it could not be sent.
+   */
+  void broadcast(ACLCacheInvalidation invalidation);
+
+  /**
+   * Registers the listener for the invalidations sent by the other replicas. When invalidations might have been missed,
+   * for example while the connection was down, the listener is given an invalidation of everything.
+   */
+  void subscribe(Consumer<ACLCacheInvalidation> listener);
+}
@@ -10,6 +10,9 @@ package io.harness.accesscontrol.acl.persistence;
 import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
@@ -21,6 +24,8 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,11 +43,14 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLCache aclCache,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -151,12 +159,43 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    Map<String, List<ACL>> aclsByQueryString = getACLsByQueryString(principal, aclQueryStrings);
     return aclQueryStringsPerPermission.stream()
         .map(queryStringsForPermission
-            -> aclsPresentInDB.stream()
-                   .filter(acl -> queryStringsForPermission.contains(acl.getAclQueryString()))
+            -> queryStringsForPermission.stream()
+                   .flatMap(queryString -> aclsByQueryString.getOrDefault(queryString, emptyList()).stream())
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
+
+  private Map<String, List<ACL>> getACLsByQueryString(Principal principal, Set<String> aclQueryStrings) {
+    if (!aclCache.isEnabled()) {
+      return groupByQueryString(aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true), emptySet());
+    }
+
+    Map<String, List<ACL>> aclsByQueryString = aclCache.get(principal, aclQueryStrings);
+    if (aclsByQueryString.size() == aclQueryStrings.size()) {
+      return aclsByQueryString;
+    }
+    Set<String> missingQueryStrings = new HashSet<>(aclQueryStrings);
+    missingQueryStrings.removeAll(aclsByQueryString.keySet());
+
+    long generation = aclCache.getGeneration();
+    Map<String, List<ACL>> aclsPresentInDB = groupByQueryString(
+        aclRepository.getByAclQueryStringInAndEnabled(missingQueryStrings, true), missingQueryStrings);
+    aclCache.put(principal, aclsPresentInDB, generation);
+    aclsByQueryString.putAll(aclsPresentInDB);
+    return aclsByQueryString;
+  }
+
+  private static Map<String, List<ACL>> groupByQueryString(List<ACL> acls, Set<String> queriedQueryStrings) {
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>();
+    // Query strings without any ACL are kept as well so that they can be cached as misses
+    queriedQueryStrings.forEach(queryString -> aclsByQueryString.put(queryString, emptyList()));
+    acls.stream()
+        .collect(Collectors.groupingBy(ACL::getAclQueryString))
+        .forEach((queryString, aclsForQueryString)
+                     -> aclsByQueryString.put(queryString, Collections.unmodifiableList(aclsForQueryString)));
+    return aclsByQueryString;
+  }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * For a single replica, or when the cache is disabled.
+ */
+@OwnedBy(PL)
+public class NoopACLCacheInvalidationBroadcaster implements ACLCacheInvalidationBroadcaster {
+  @Override
+  public void broadcast(ACLCacheInvalidation invalidation) {
+    // Nobody else to tell
+  }
+
+  @Override
+  public void subscribe(Consumer<ACLCacheInvalidation> listener) {
+    // Nobody else to hear from
+  }
+}
@@ -163,7 +163,11 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
   @Override
   public List<ACL> getByAclQueryStringInAndEnabled(Collection<String> aclQueries, boolean enabled) {
     Query query = new Query(Criteria.where(ACLKeys.aclQueryString).in(aclQueries).and(ACLKeys.enabled).is(enabled));
-    query.fields().include(ACLKeys.aclQueryString).include(ACLKeys.condition).include(ACLKeys.conditional);
+    query.fields()
+        .include(ACLKeys.aclQueryString)
+        .include(ACLKeys.condition)
+        .include(ACLKeys.conditional)
+        .include(ACLKeys.roleAssignmentId);
     return mongoTemplate.find(query, ACL.class);
   }
 
@@ -8,23 +8,89 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Set;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+/**
+ * The aggregator change consumers write ACLs through this repository, so every change to the primary collection
+ * invalidates the affected principals in the {@link ACLCache}.
+ */
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class PrimaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLCache aclCache;
+
   @Inject
-  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLCache aclCache) {
     super(mongoTemplate);
+    this.aclCache = aclCache;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.PRIMARY_COLLECTION;
   }
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    try {
+      return super.insertAllIgnoringDuplicates(acls);
+    } finally {
+      aclCache.invalidatePrincipalsOf(acls);
+    }
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    try {
+      return super.deleteByRoleAssignmentId(id);
+    } finally {
+      aclCache.invalidateRoleAssignment(id);
+    }
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<ResourceSelector> resourceSelectorsToDelete) {
+    try {
+      return super.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectorsToDelete);
+    } finally {
+      aclCache.invalidateRoleAssignment(roleAssignmentId);
+    }
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    try {
+      return super.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions);
+    } finally {
+      aclCache.invalidateRoleAssignment(roleAssignmentId);
+    }
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    try {
+      return super.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    } finally {
+      aclCache.invalidateRoleAssignment(roleAssignmentId);
+    }
+  }
+
+  @Override
+  public void cleanCollection() {
+    try {
+      super.cleanCollection();
+    } finally {
+      aclCache.invalidateAll();
+    }
+  }
 }
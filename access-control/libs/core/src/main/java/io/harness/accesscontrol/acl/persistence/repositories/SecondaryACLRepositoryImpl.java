@@ -8,6 +8,7 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
@@ -18,13 +19,28 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class SecondaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLCache aclCache;
+
   @Inject
-  public SecondaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public SecondaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLCache aclCache) {
     super(mongoTemplate);
+    this.aclCache = aclCache;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.SECONDARY_COLLECTION;
   }
+
+  @Override
+  public void renameCollection(String newCollectionName) {
+    try {
+      super.renameCollection(newCollectionName);
+    } finally {
+      if (ACL.PRIMARY_COLLECTION.equals(newCollectionName)) {
+        // The secondary collection replaced the primary one, none of the cached ACLs can be trusted
+        aclCache.invalidateAll();
+      }
+    }
+  }
 }
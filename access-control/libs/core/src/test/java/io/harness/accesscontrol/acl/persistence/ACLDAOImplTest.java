@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.ACLCacheConfig;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLDAOImplTest extends AccessControlCoreTestBase {
+  private static final String PERMISSION = "core_pipeline_view";
+  private static final Principal PRINCIPAL = Principal.of(PrincipalType.USER, "user");
+
+  private ACLRepository aclRepository;
+  private ACLCacheInvalidationBroadcaster broadcaster;
+  private final AtomicReference<Consumer<ACLCacheInvalidation>> remoteInvalidations = new AtomicReference<>();
+  private ACLCache aclCache;
+  private ACLDAOImpl aclDAO;
+  private List<PermissionCheck> permissionChecks;
+
+  @Before
+  public void setup() {
+    aclRepository = mock(ACLRepository.class);
+    broadcaster = mock(ACLCacheInvalidationBroadcaster.class);
+    doAnswer(invocation -> {
+      remoteInvalidations.set(invocation.getArgument(0));
+      return null;
+    })
+        .when(broadcaster)
+        .subscribe(any());
+    aclCache = new ACLCache(ACLCacheConfig.builder().enabled(true).build(), broadcaster);
+    aclDAO = new ACLDAOImpl(aclRepository, aclCache, Collections.emptyMap());
+    permissionChecks = Lists.newArrayList(
+        PermissionCheck.builder().resourceType("PIPELINE").resourceIdentifier("p1").permission(PERMISSION).build(),
+        PermissionCheck.builder().resourceType("SECRET").resourceIdentifier("s1").permission(PERMISSION).build());
+
+    ACL acl = ACL.builder()
+                  .roleAssignmentId("roleAssignment")
+                  .aclQueryString(ACL.getAclQueryString("", "/PIPELINE/*", "USER", "user", PERMISSION))
+                  .build();
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), eq(true))).thenReturn(Lists.newArrayList(acl));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsFromCache() {
+    for (int i = 0; i < 3; i++) {
+      List<List<ACL>> matchingACLs = aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks);
+      assertEquals(1, matchingACLs.get(0).size());
+      assertTrue(matchingACLs.get(1).isEmpty());
+    }
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), eq(true));
+
+    // ACLs of other principals do not affect the cached ones
+    aclCache.invalidatePrincipalsOf(
+        Lists.newArrayList(ACL.builder().principalType("USER").principalIdentifier("other").build()));
+    aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks);
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), eq(true));
+
+    aclCache.invalidateRoleAssignment("roleAssignment");
+    assertEquals(1, aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks).get(0).size());
+    verify(aclRepository, times(2)).getByAclQueryStringInAndEnabled(any(), eq(true));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsCacheDisabled() {
+    aclDAO = new ACLDAOImpl(
+        aclRepository, new ACLCache(ACLCacheConfig.builder().build(), broadcaster), Collections.emptyMap());
+    for (int i = 0; i < 3; i++) {
+      assertEquals(1, aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks).get(0).size());
+    }
+    verify(aclRepository, times(3)).getByAclQueryStringInAndEnabled(any(), eq(true));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testLookupRacingWithChangeIsNotCached() {
+    long generation = aclCache.getGeneration();
+    aclCache.invalidateAll();
+    aclCache.put(PRINCIPAL, Collections.singletonMap("queryString", Collections.emptyList()), generation);
+    assertTrue(aclCache.get(PRINCIPAL, Collections.singleton("queryString")).isEmpty());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInvalidationsAreSharedWithOtherReplicas() {
+    aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks);
+    aclCache.invalidateRoleAssignment("roleAssignment");
+    verify(broadcaster).broadcast(ACLCacheInvalidation.roleAssignment("roleAssignment"));
+
+    aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks);
+    remoteInvalidations.get().accept(ACLCacheInvalidation.principals(Collections.singleton("USER$user")));
+    aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks);
+    verify(aclRepository, times(3)).getByAclQueryStringInAndEnabled(any(), eq(true));
+    verify(broadcaster, times(1)).broadcast(any());
+  }
+}
@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static java.util.stream.Collectors.toSet;
 
 import io.harness.AccessControlClientConfiguration;
+import io.harness.accesscontrol.acl.ACLCacheConfig;
 import io.harness.accesscontrol.commons.events.EventsConfig;
 import io.harness.accesscontrol.commons.iterators.AccessControlIteratorsConfig;
 import io.harness.accesscontrol.commons.notifications.NotificationConfig;
@@ -98,6 +99,7 @@ public class AccessControlConfiguration extends Configuration {
   @JsonProperty("accountClient") private AccountClientConfiguration accountClientConfiguration;
   @JsonProperty("notificationConfig") private NotificationConfig notificationConfig;
   @JsonProperty("aggregatorModuleConfig") private AggregatorConfiguration aggregatorConfiguration;
+  @JsonProperty("aclCacheConfig") private ACLCacheConfig aclCacheConfig;
   @JsonProperty("enableAuth") @Getter(AccessLevel.NONE) private boolean enableAuth;
   @JsonProperty("defaultServiceSecret") private String defaultServiceSecret;
   @JsonProperty("jwtAuthSecret") private String jwtAuthSecret;
@@ -24,10 +24,13 @@ import static io.harness.eventsframework.EventsFrameworkConstants.USERMEMBERSHIP
 import static io.harness.lock.DistributedLockImplementation.MONGO;
 
 import io.harness.AccessControlClientModule;
+import io.harness.accesscontrol.acl.ACLCacheConfig;
+import io.harness.accesscontrol.acl.RedisACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.aggregator.AggregatorStackDriverMetricsPublisherImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
 import io.harness.accesscontrol.aggregator.api.AggregatorResourceImpl;
@@ -130,6 +133,7 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import java.time.Duration;
@@ -189,6 +193,14 @@ public class AccessControlModule extends AbstractModule {
     return null;
   }
 
+  @Provides
+  @Singleton
+  public RedisACLCacheInvalidationBroadcaster redisACLCacheInvalidationBroadcaster(
+      @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    return new RedisACLCacheInvalidationBroadcaster(
+        redissonClient, config.getEventsConfig().getRedisConfig().getEnvNamespace());
+  }
+
   @Provides
   @Named(ENTITY_CRUD)
   @Singleton
@@ -295,6 +307,20 @@ public class AccessControlModule extends AbstractModule {
 
     install(AccessControlPersistenceModule.getInstance(config.getMongoConfig()));
     install(AccessControlCoreModule.getInstance());
+    if (config.getAclCacheConfig() != null) {
+      ACLCacheConfig aclCacheConfig = config.getAclCacheConfig();
+      if (aclCacheConfig.isEnabled() && !config.getEventsConfig().isEnabled()) {
+        // Without redis the other replicas would not hear about revoked permissions
+        log.error("ACL cache needs the events framework to share invalidations between replicas, disabling it");
+        aclCacheConfig = aclCacheConfig.toBuilder().enabled(false).build();
+      }
+      OptionalBinder.newOptionalBinder(binder(), ACLCacheConfig.class).setBinding().toInstance(aclCacheConfig);
+      if (aclCacheConfig.isEnabled()) {
+        OptionalBinder.newOptionalBinder(binder(), ACLCacheInvalidationBroadcaster.class)
+            .setBinding()
+            .to(RedisACLCacheInvalidationBroadcaster.class);
+      }
+    }
     install(AccessControlPreferenceModule.getInstance());
     install(new AbstractTelemetryModule() {
       @Override
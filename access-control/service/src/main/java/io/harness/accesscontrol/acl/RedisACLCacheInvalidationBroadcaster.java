@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Shares ACL cache invalidations between the replicas over a redis pub/sub topic. Messages published while a replica is
+ * disconnected are lost, so a replica drops its whole cache every time it (re)subscribes.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisACLCacheInvalidationBroadcaster implements ACLCacheInvalidationBroadcaster {
+  private static final String TOPIC_NAME = "acl_cache_invalidations";
+  private static final String SEPARATOR = "\n";
+
+  private final RTopic topic;
+  // Replicas skip the invalidations they sent themselves, those are applied before being sent
+  private final String origin = generateUuid();
+
+  public RedisACLCacheInvalidationBroadcaster(RedissonClient redissonClient, String envNamespace) {
+    this.topic = redissonClient.getTopic(
+        isEmpty(envNamespace) ? TOPIC_NAME : envNamespace + ":" + TOPIC_NAME, StringCodec.INSTANCE);
+  }
+
+  @Override
+  public void broadcast(ACLCacheInvalidation invalidation) {
+    StringBuilder message = new StringBuilder(origin).append(SEPARATOR).append(invalidation.getType().name());
+    invalidation.getKeys().forEach(key -> message.append(SEPARATOR).append(key));
+    topic.publish(message.toString());
+  }
+
+  @Override
+  public void subscribe(Consumer<ACLCacheInvalidation> listener) {
+    topic.addListener(String.class, (channel, message) -> {
+      String[] parts = message.split(SEPARATOR, -1);
+      if (origin.equals(parts[0])) {
+        return;
+      }
+      listener.accept(new ACLCacheInvalidation(ACLCacheInvalidation.Type.valueOf(parts[1]),
+          new HashSet<>(Arrays.asList(parts).subList(2, parts.length))));
+    });
+    topic.addListener(new BaseStatusListener() {
+      @Override
+      public void onSubscribe(String channel) {
+        log.info("Subscribed to ACL cache invalidations, dropping the cached ACLs");
+        listener.accept(ACLCacheInvalidation.all());
+      }
+    });
+  }
+}
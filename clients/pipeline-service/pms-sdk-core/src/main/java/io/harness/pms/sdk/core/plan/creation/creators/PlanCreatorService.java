@@ -30,6 +30,7 @@ import io.harness.pms.contracts.plan.FilterCreationBlobRequest;
 import io.harness.pms.contracts.plan.FilterCreationBlobResponse;
 import io.harness.pms.contracts.plan.FilterCreationResponse;
 import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
 import io.harness.pms.contracts.plan.PlanCreationServiceGrpc.PlanCreationServiceImplBase;
 import io.harness.pms.contracts.plan.VariablesCreationBlobRequest;
@@ -96,7 +97,8 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
       try {
         MergePlanCreationResponse finalResponse =
             createPlanForDependenciesRecursive(request.getDeps(), request.getContextMap());
-        planCreationResponse = getPlanCreationResponseFromFinalResponse(finalResponse);
+        planCreationResponse =
+            getPlanCreationResponseFromFinalResponse(finalResponse, request.getSkipYamlInResponse());
       } catch (Exception ex) {
         log.error(ExceptionUtils.getMessage(ex), ex);
         WingsException processedException = exceptionManager.processException(ex);
@@ -129,8 +131,17 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     try (PmsGitSyncBranchContextGuard ignore =
              pmsGitSyncHelper.createGitSyncBranchContextGuardFromBytes(ctx.getGitSyncBranchContext(), true)) {
       Dependencies dependencies = initialDependencies.toBuilder().build();
+      // The yaml is parsed again for a level only when it was updated, or when stage plan creators may change the
+      // parsed yaml of their stage to create the execution input template
+      boolean reuseParsedYaml = !ctx.getGlobalContext().get("metadata").getIsExecutionInputEnabled();
+      String parsedYaml = null;
+      YamlField fullField = null;
       while (!dependencies.getDependenciesMap().isEmpty()) {
-        dependencies = createPlanForDependencies(ctx, finalResponse, dependencies);
+        if (!reuseParsedYaml || !dependencies.getYaml().equals(parsedYaml)) {
+          parsedYaml = dependencies.getYaml();
+          fullField = readYaml(parsedYaml);
+        }
+        dependencies = createPlanForDependencies(ctx, finalResponse, dependencies, fullField);
         PlanCreatorServiceHelper.removeInitialDependencies(dependencies, initialDependencies);
       }
       log.info("[PMS_PlanCreatorService_Time] RecursiveDependencies total time took {}ms for dependencies size {}",
@@ -150,18 +161,15 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     if (EmptyPredicate.isEmpty(dependencies.getDependenciesMap())) {
       return dependencies;
     }
+    return createPlanForDependencies(ctx, finalResponse, dependencies, readYaml(dependencies.getYaml()));
+  }
+
+  private Dependencies createPlanForDependencies(PlanCreationContext ctx, MergePlanCreationResponse finalResponse,
+      Dependencies dependencies, YamlField fullField) {
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
     List<Map.Entry<String, String>> dependenciesList = new ArrayList<>(dependencies.getDependenciesMap().entrySet());
     String currentYaml = dependencies.getYaml();
     long start = System.currentTimeMillis();
-    YamlField fullField;
-    try {
-      fullField = YamlUtils.readTree(currentYaml);
-    } catch (IOException ex) {
-      String message = "Invalid yaml during plan creation";
-      log.error(message, ex);
-      throw new InvalidRequestException(message);
-    }
     // Iterating dependencies to create plan for each dependency by submitting parallel threads of executor thread.
     dependenciesList.forEach(key -> completableFutures.supplyAsync(() -> {
       try {
@@ -185,6 +193,16 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     }
   }
 
+  private YamlField readYaml(String yaml) {
+    try {
+      return YamlUtils.readTree(yaml);
+    } catch (IOException ex) {
+      String message = "Invalid yaml during plan creation";
+      log.error(message, ex);
+      throw new InvalidRequestException(message);
+    }
+  }
+
   @Override
   public void createFilter(FilterCreationBlobRequest request, StreamObserver<FilterCreationResponse> responseObserver) {
     FilterCreationResponse filterCreationResponse;
@@ -230,15 +248,17 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
   }
 
   private io.harness.pms.contracts.plan.PlanCreationResponse getPlanCreationResponseFromFinalResponse(
-      MergePlanCreationResponse finalResponse) {
+      MergePlanCreationResponse finalResponse, boolean skipYamlInResponse) {
     if (EmptyPredicate.isNotEmpty(finalResponse.getErrorMessages())) {
       return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
           .setErrorResponse(ErrorResponse.newBuilder().addAllMessages(finalResponse.getErrorMessages()).build())
           .build();
     }
-    return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
-        .setBlobResponse(planCreationResponseBlobHelper.toBlobResponse(finalResponse))
-        .build();
+    PlanCreationBlobResponse blobResponse = planCreationResponseBlobHelper.toBlobResponse(finalResponse);
+    if (skipYamlInResponse && blobResponse.hasDeps()) {
+      blobResponse = blobResponse.toBuilder().setDeps(blobResponse.getDeps().toBuilder().clearYaml()).build();
+    }
+    return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder().setBlobResponse(blobResponse).build();
   }
 
   // Method to create plan for single dependency
@@ -12,6 +12,7 @@ import static io.harness.pms.sdk.execution.events.PmsSdkEventFrameworkConstants.
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.pms.events.base.PmsAbstractRedisConsumer;
 import io.harness.queue.QueueController;
 
@@ -28,7 +29,7 @@ public class ProgressEventRedisConsumer extends PmsAbstractRedisConsumer<Progres
   @Inject
   public ProgressEventRedisConsumer(@Named(PT_PROGRESS_CONSUMER) Consumer redisConsumer,
       ProgressEventMessageListener messageListener, @Named("sdkEventsCache") Cache<String, Integer> eventsCache,
-      QueueController queueController) {
-    super(redisConsumer, messageListener, eventsCache, queueController);
+      QueueController queueController, MetricService metricService) {
+    super(redisConsumer, messageListener, eventsCache, queueController, metricService);
   }
 }
@@ -11,18 +11,15 @@ import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.ngtriggers.beans.response.TriggerEventResponse.FinalStatus.NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO;
 
-import static java.util.stream.Collectors.toList;
-
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.ngtriggers.beans.dto.TriggerDetails;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse.WebhookEventMappingResponseBuilder;
-import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
 import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
 import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
 import io.harness.ngtriggers.helpers.TriggerEventResponseHelper;
-import io.harness.ngtriggers.service.NGTriggerService;
+import io.harness.ngtriggers.helpers.WebhookTriggerIndex;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -35,14 +32,14 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 @OwnedBy(PIPELINE)
 public class AccountTriggerFilter implements TriggerFilter {
-  private final NGTriggerService ngTriggerService;
+  private final WebhookTriggerIndex webhookTriggerIndex;
 
   @Override
   public WebhookEventMappingResponse applyFilter(FilterRequestData filterRequestData) {
     WebhookEventMappingResponseBuilder builder = initWebhookEventMappingResponse(filterRequestData);
     TriggerWebhookEvent triggerWebhookEvent = filterRequestData.getWebhookPayloadData().getOriginalEvent();
-    List<NGTriggerEntity> triggersForAccount =
-        ngTriggerService.findTriggersForWehbookBySourceRepoType(triggerWebhookEvent, false, true);
+    // Triggers come with their configs parsed, so that the next filters do not parse them on every event
+    List<TriggerDetails> triggersForAccount = webhookTriggerIndex.getTriggers(triggerWebhookEvent);
 
     if (isEmpty(triggersForAccount)) {
       String errorMsg = new StringBuilder(256)
@@ -55,10 +52,7 @@ public class AccountTriggerFilter implements TriggerFilter {
       builder.failedToFindTrigger(true).webhookEventResponse(TriggerEventResponseHelper.toResponse(
           NO_ENABLED_TRIGGER_FOR_ACCOUNT_SOURCE_REPO, triggerWebhookEvent, null, null, errorMsg, null));
     } else {
-      addDetails(builder, filterRequestData,
-          triggersForAccount.stream()
-              .map(entity -> TriggerDetails.builder().ngTriggerEntity(entity).build())
-              .collect(toList()));
+      addDetails(builder, filterRequestData, triggersForAccount);
     }
 
     return builder.build();
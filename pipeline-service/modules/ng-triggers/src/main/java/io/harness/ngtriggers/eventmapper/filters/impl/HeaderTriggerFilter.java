@@ -17,18 +17,22 @@ import io.harness.ngtriggers.beans.dto.TriggerDetails;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse;
 import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse.WebhookEventMappingResponseBuilder;
 import io.harness.ngtriggers.beans.source.NGTriggerSpecV2;
+import io.harness.ngtriggers.beans.source.webhook.v2.TriggerEventDataCondition;
 import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerConfigV2;
 import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
+import io.harness.ngtriggers.expressions.TriggerExpressionEvaluator;
 import io.harness.ngtriggers.helpers.TriggerEventResponseHelper;
 import io.harness.ngtriggers.helpers.WebhookConfigHelper;
 import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
 import io.harness.ngtriggers.utils.WebhookTriggerFilterUtils;
 
+import com.google.common.base.Suppliers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +47,9 @@ public class HeaderTriggerFilter implements TriggerFilter {
   public WebhookEventMappingResponse applyFilter(FilterRequestData filterRequestData) {
     WebhookEventMappingResponseBuilder mappingResponseBuilder = WebhookEventMappingResponse.builder();
     List<TriggerDetails> matchedTriggers = new ArrayList<>();
+    // The headers are the same for all triggers, they are read once for the event
+    Supplier<TriggerExpressionEvaluator> evaluatorSupplier =
+        Suppliers.memoize(() -> getHeaderExpressionEvaluator(filterRequestData));
 
     for (TriggerDetails trigger : filterRequestData.getDetails()) {
       try {
@@ -55,7 +62,7 @@ public class HeaderTriggerFilter implements TriggerFilter {
                                             .ngTriggerConfigV2(ngTriggerConfig)
                                             .ngTriggerEntity(trigger.getNgTriggerEntity())
                                             .build();
-        if (checkTriggerEligibility(filterRequestData, triggerDetails)) {
+        if (checkTriggerEligibility(filterRequestData, triggerDetails, evaluatorSupplier)) {
           matchedTriggers.add(triggerDetails);
         }
       } catch (Exception e) {
@@ -77,6 +84,12 @@ public class HeaderTriggerFilter implements TriggerFilter {
   }
 
   boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails) {
+    return checkTriggerEligibility(
+        filterRequestData, triggerDetails, () -> getHeaderExpressionEvaluator(filterRequestData));
+  }
+
+  private boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails,
+      Supplier<TriggerExpressionEvaluator> evaluatorSupplier) {
     NGTriggerSpecV2 spec = triggerDetails.getNgTriggerConfigV2().getSource().getSpec();
     if (!WebhookTriggerConfigV2.class.isAssignableFrom(spec.getClass())) {
       log.error("Trigger spec is not a WebhookTriggerConfig");
@@ -84,8 +97,16 @@ public class HeaderTriggerFilter implements TriggerFilter {
     }
 
     WebhookTriggerConfigV2 webhookTriggerConfigV1 = (WebhookTriggerConfigV2) spec;
-    return WebhookTriggerFilterUtils.checkIfCustomHeaderConditionsMatch(
-        filterRequestData.getWebhookPayloadData().getOriginalEvent().getHeaders(),
-        WebhookConfigHelper.retrieveHeaderConditions(webhookTriggerConfigV1));
+    List<TriggerEventDataCondition> headerConditions =
+        WebhookConfigHelper.retrieveHeaderConditions(webhookTriggerConfigV1);
+    if (isEmpty(headerConditions)) {
+      return true;
+    }
+    return WebhookTriggerFilterUtils.checkIfCustomHeaderConditionsMatch(evaluatorSupplier.get(), headerConditions);
+  }
+
+  private TriggerExpressionEvaluator getHeaderExpressionEvaluator(FilterRequestData filterRequestData) {
+    return WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(
+        null, filterRequestData.getWebhookPayloadData().getOriginalEvent().getHeaders(), "{}");
   }
 }
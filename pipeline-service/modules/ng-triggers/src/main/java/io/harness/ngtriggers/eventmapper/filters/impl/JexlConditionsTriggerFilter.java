@@ -11,6 +11,8 @@ import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.ngtriggers.beans.response.TriggerEventResponse.FinalStatus.NO_MATCHING_TRIGGER_FOR_JEXL_CONDITIONS;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.ngtriggers.beans.config.NGTriggerConfigV2;
 import io.harness.ngtriggers.beans.dto.TriggerDetails;
@@ -20,14 +22,17 @@ import io.harness.ngtriggers.beans.source.NGTriggerSpecV2;
 import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerConfigV2;
 import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
+import io.harness.ngtriggers.expressions.TriggerExpressionEvaluator;
 import io.harness.ngtriggers.helpers.TriggerEventResponseHelper;
 import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
 import io.harness.ngtriggers.utils.WebhookTriggerFilterUtils;
 
+import com.google.common.base.Suppliers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +47,9 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
   public WebhookEventMappingResponse applyFilter(FilterRequestData filterRequestData) {
     WebhookEventMappingResponseBuilder mappingResponseBuilder = initWebhookEventMappingResponse(filterRequestData);
     List<TriggerDetails> matchedTriggers = new ArrayList<>();
+    // The payload is the same for all triggers, it is parsed once for the event
+    Supplier<TriggerExpressionEvaluator> evaluatorSupplier = Suppliers.memoize(
+        () -> WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(filterRequestData.getWebhookPayloadData()));
 
     for (TriggerDetails trigger : filterRequestData.getDetails()) {
       try {
@@ -54,7 +62,7 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
                                             .ngTriggerConfigV2(ngTriggerConfig)
                                             .ngTriggerEntity(trigger.getNgTriggerEntity())
                                             .build();
-        if (checkTriggerEligibility(filterRequestData, triggerDetails)) {
+        if (checkTriggerEligibility(filterRequestData, triggerDetails, evaluatorSupplier)) {
           matchedTriggers.add(triggerDetails);
         }
       } catch (Exception e) {
@@ -77,6 +85,12 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
   }
 
   boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails) {
+    return checkTriggerEligibility(filterRequestData, triggerDetails,
+        () -> WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(filterRequestData.getWebhookPayloadData()));
+  }
+
+  private boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails,
+      Supplier<TriggerExpressionEvaluator> evaluatorSupplier) {
     NGTriggerSpecV2 spec = triggerDetails.getNgTriggerConfigV2().getSource().getSpec();
     if (!WebhookTriggerConfigV2.class.isAssignableFrom(spec.getClass())) {
       log.error("Trigger spec is not a WebhookTriggerConfig");
@@ -84,10 +98,10 @@ public class JexlConditionsTriggerFilter implements TriggerFilter {
     }
 
     WebhookTriggerConfigV2 webhookTriggerConfig = (WebhookTriggerConfigV2) spec;
-    return WebhookTriggerFilterUtils.checkIfJexlConditionsMatch(
-        filterRequestData.getWebhookPayloadData().getParseWebhookResponse(),
-        filterRequestData.getWebhookPayloadData().getOriginalEvent().getHeaders(),
-        filterRequestData.getWebhookPayloadData().getOriginalEvent().getPayload(),
-        webhookTriggerConfig.getSpec().fetchPayloadAware().fetchJexlCondition());
+    String jexlCondition = webhookTriggerConfig.getSpec().fetchPayloadAware().fetchJexlCondition();
+    if (isBlank(jexlCondition)) {
+      return true;
+    }
+    return WebhookTriggerFilterUtils.checkIfJexlConditionsMatch(evaluatorSupplier.get(), jexlCondition);
   }
 }
@@ -20,14 +20,17 @@ import io.harness.ngtriggers.beans.source.NGTriggerSpecV2;
 import io.harness.ngtriggers.beans.source.webhook.v2.WebhookTriggerConfigV2;
 import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
+import io.harness.ngtriggers.expressions.TriggerExpressionEvaluator;
 import io.harness.ngtriggers.helpers.TriggerEventResponseHelper;
 import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
 import io.harness.ngtriggers.utils.WebhookTriggerFilterUtils;
 
+import com.google.common.base.Suppliers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +45,9 @@ public class PayloadConditionsTriggerFilter implements TriggerFilter {
   public WebhookEventMappingResponse applyFilter(FilterRequestData filterRequestData) {
     WebhookEventMappingResponseBuilder mappingResponseBuilder = initWebhookEventMappingResponse(filterRequestData);
     List<TriggerDetails> matchedTriggers = new ArrayList<>();
+    // The payload is the same for all triggers, it is parsed once for the event
+    Supplier<TriggerExpressionEvaluator> evaluatorSupplier = Suppliers.memoize(
+        () -> WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(filterRequestData.getWebhookPayloadData()));
 
     for (TriggerDetails trigger : filterRequestData.getDetails()) {
       try {
@@ -54,7 +60,7 @@ public class PayloadConditionsTriggerFilter implements TriggerFilter {
                                             .ngTriggerConfigV2(ngTriggerConfig)
                                             .ngTriggerEntity(trigger.getNgTriggerEntity())
                                             .build();
-        if (checkTriggerEligibility(filterRequestData, triggerDetails)) {
+        if (checkTriggerEligibility(filterRequestData, triggerDetails, evaluatorSupplier)) {
           matchedTriggers.add(triggerDetails);
         }
       } catch (Exception e) {
@@ -76,6 +82,12 @@ public class PayloadConditionsTriggerFilter implements TriggerFilter {
   }
 
   boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails) {
+    return checkTriggerEligibility(filterRequestData, triggerDetails,
+        () -> WebhookTriggerFilterUtils.generatorPMSExpressionEvaluator(filterRequestData.getWebhookPayloadData()));
+  }
+
+  private boolean checkTriggerEligibility(FilterRequestData filterRequestData, TriggerDetails triggerDetails,
+      Supplier<TriggerExpressionEvaluator> evaluatorSupplier) {
     NGTriggerSpecV2 spec = triggerDetails.getNgTriggerConfigV2().getSource().getSpec();
     if (!WebhookTriggerConfigV2.class.isAssignableFrom(spec.getClass())) {
       log.error("Trigger spec is not a WebhookTriggerConfig");
@@ -83,7 +95,7 @@ public class PayloadConditionsTriggerFilter implements TriggerFilter {
     }
 
     WebhookTriggerConfigV2 webhookTriggerConfigV1 = (WebhookTriggerConfigV2) spec;
-    return WebhookTriggerFilterUtils.checkIfPayloadConditionsMatch(
-        filterRequestData.getWebhookPayloadData(), webhookTriggerConfigV1.getSpec());
+    return WebhookTriggerFilterUtils.checkIfPayloadConditionsMatch(filterRequestData.getWebhookPayloadData(),
+        webhookTriggerConfigV1.getSpec().fetchPayloadAware().fetchPayloadConditions(), evaluatorSupplier);
   }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ngtriggers.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ngtriggers.beans.config.NGTriggerConfigV2;
+import io.harness.ngtriggers.beans.dto.TriggerDetails;
+import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
+import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
+import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
+import io.harness.ngtriggers.service.NGTriggerService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the parsed configs of the webhook triggers of every account and source repo type. On each webhook only the
+ * uuids and versions of the enabled triggers are read, and the yaml of a trigger is read and parsed again only when
+ * its version changed, so that triggers updated through any instance of the service are picked up.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(PIPELINE)
+public class WebhookTriggerIndex {
+  private static final int CACHE_EXPIRY_MINUTES = 30;
+  private static final int MAX_CACHED_SOURCES = 10000;
+
+  @Inject private NGTriggerService ngTriggerService;
+  @Inject private NGTriggerElementMapper ngTriggerElementMapper;
+
+  private final Cache<String, Map<String, IndexedTrigger>> triggersBySource =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHED_SOURCES)
+          .expireAfterAccess(CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  /**
+   * Returns the enabled triggers of the account and source repo type of the event, in the order of the database, with
+   * their configs parsed.
+   */
+  public List<TriggerDetails> getTriggers(TriggerWebhookEvent triggerWebhookEvent) {
+    List<NGTriggerEntity> triggerVersions =
+        ngTriggerService.findTriggerVersionsForWebhookBySourceRepoType(triggerWebhookEvent, false, true);
+    if (isEmpty(triggerVersions)) {
+      triggersBySource.invalidate(getSourceKey(triggerWebhookEvent));
+      return Collections.emptyList();
+    }
+
+    String sourceKey = getSourceKey(triggerWebhookEvent);
+    Map<String, IndexedTrigger> cachedTriggers = triggersBySource.getIfPresent(sourceKey);
+    Map<String, IndexedTrigger> indexedTriggers = new HashMap<>();
+    List<String> changedTriggerIds = new ArrayList<>();
+    for (NGTriggerEntity triggerVersion : triggerVersions) {
+      IndexedTrigger cachedTrigger = cachedTriggers == null ? null : cachedTriggers.get(triggerVersion.getUuid());
+      if (cachedTrigger != null && Objects.equals(cachedTrigger.getVersion(), triggerVersion.getVersion())) {
+        indexedTriggers.put(triggerVersion.getUuid(), cachedTrigger);
+      } else {
+        changedTriggerIds.add(triggerVersion.getUuid());
+      }
+    }
+    if (!changedTriggerIds.isEmpty()) {
+      for (NGTriggerEntity ngTriggerEntity : ngTriggerService.findTriggersByUuids(changedTriggerIds)) {
+        indexedTriggers.put(ngTriggerEntity.getUuid(), index(ngTriggerEntity));
+      }
+    }
+    triggersBySource.put(sourceKey, indexedTriggers);
+
+    List<TriggerDetails> triggers = new ArrayList<>(triggerVersions.size());
+    for (NGTriggerEntity triggerVersion : triggerVersions) {
+      // Triggers deleted in between the two reads are skipped
+      IndexedTrigger indexedTrigger = indexedTriggers.get(triggerVersion.getUuid());
+      if (indexedTrigger != null) {
+        triggers.add(TriggerDetails.builder()
+                         .ngTriggerEntity(indexedTrigger.getNgTriggerEntity())
+                         .ngTriggerConfigV2(indexedTrigger.getNgTriggerConfigV2())
+                         .build());
+      }
+    }
+    return triggers;
+  }
+
+  @VisibleForTesting
+  long getCachedSourceCount() {
+    return triggersBySource.size();
+  }
+
+  private IndexedTrigger index(NGTriggerEntity ngTriggerEntity) {
+    NGTriggerConfigV2 ngTriggerConfigV2 = null;
+    try {
+      ngTriggerConfigV2 = ngTriggerElementMapper.toTriggerConfigV2(ngTriggerEntity);
+    } catch (Exception e) {
+      // The filters parse the yaml again and report the trigger as skipped
+      log.warn("Failed to parse the yaml of trigger {}", ngTriggerEntity.getIdentifier(), e);
+    }
+    return new IndexedTrigger(ngTriggerEntity.getVersion(), ngTriggerEntity, ngTriggerConfigV2);
+  }
+
+  private String getSourceKey(TriggerWebhookEvent triggerWebhookEvent) {
+    return triggerWebhookEvent.getAccountId() + ':' + triggerWebhookEvent.getSourceRepoType().toUpperCase();
+  }
+
+  @Value
+  private static class IndexedTrigger {
+    Long version;
+    NGTriggerEntity ngTriggerEntity;
+    NGTriggerConfigV2 ngTriggerConfigV2;
+  }
+}
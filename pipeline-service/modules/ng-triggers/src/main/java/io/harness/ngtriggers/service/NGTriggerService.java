@@ -47,6 +47,9 @@ public interface NGTriggerService {
       TriggerWebhookEvent triggerWebhookEvent, boolean isDeleted, boolean enabled);
   List<NGTriggerEntity> findTriggersForWehbookBySourceRepoType(
       TriggerWebhookEvent triggerWebhookEvent, boolean isDeleted, boolean enabled);
+  List<NGTriggerEntity> findTriggerVersionsForWebhookBySourceRepoType(
+      TriggerWebhookEvent triggerWebhookEvent, boolean isDeleted, boolean enabled);
+  List<NGTriggerEntity> findTriggersByUuids(List<String> uuids);
   List<NGTriggerEntity> findBuildTriggersByAccountIdAndSignature(String accountId, List<String> signatures);
   boolean delete(String accountId, String orgIdentifier, String projectIdentifier, String targetIdentifier,
       String identifier, Long version);
@@ -513,6 +513,20 @@ public class NGTriggerServiceImpl implements NGTriggerService {
     return triggersPage.get().collect(Collectors.toList());
   }
 
+  @Override
+  public List<NGTriggerEntity> findTriggerVersionsForWebhookBySourceRepoType(
+      TriggerWebhookEvent triggerWebhookEvent, boolean isDeleted, boolean enabled) {
+    return ngTriggerRepository.findAllVersions(TriggerFilterHelper.createCriteriaFormWebhookTriggerGetListByRepoType(
+        triggerWebhookEvent, EMPTY, isDeleted, enabled));
+  }
+
+  @Override
+  public List<NGTriggerEntity> findTriggersByUuids(List<String> uuids) {
+    Page<NGTriggerEntity> triggersPage =
+        list(Criteria.where(NGTriggerEntityKeys.uuid).in(uuids), Pageable.unpaged());
+    return triggersPage.get().collect(Collectors.toList());
+  }
+
   @Override
   public List<NGTriggerEntity> findBuildTriggersByAccountIdAndSignature(String accountId, List<String> signatures) {
     Page<NGTriggerEntity> triggersPage =
@@ -42,6 +42,7 @@ import io.harness.product.ci.scm.proto.ParseWebhookResponse;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
@@ -52,6 +53,9 @@ import org.apache.commons.lang3.StringUtils;
 @UtilityClass
 @Slf4j
 public class WebhookTriggerFilterUtils {
+  private final Pattern HEADER_EXPRESSION_PATTERN =
+      Pattern.compile("(<\\+trigger.header\\[[\\'|\"])(.*?)([\\'|\"]\\]>)");
+
   public boolean evaluateEventAndActionFilters(
       WebhookPayloadData webhookPayloadData, WebhookTriggerSpecV2 webhookTriggerConfigSpec) {
     return checkIfEventTypeMatches(webhookPayloadData.getWebhookEvent().getType(), webhookTriggerConfigSpec)
@@ -132,12 +136,22 @@ public class WebhookTriggerFilterUtils {
 
   public boolean checkIfPayloadConditionsMatch(
       WebhookPayloadData webhookPayloadData, WebhookTriggerSpecV2 webhookTriggerSpec) {
-    if (isEmpty(webhookTriggerSpec.fetchPayloadAware().fetchPayloadConditions())) {
+    return checkIfPayloadConditionsMatch(webhookPayloadData,
+        webhookTriggerSpec.fetchPayloadAware().fetchPayloadConditions(),
+        () -> generatorPMSExpressionEvaluator(webhookPayloadData));
+  }
+
+  /**
+   * Same as above, with the expression evaluator of the payload supplied by the caller so that it can be shared by the
+   * triggers of an event.
+   */
+  public boolean checkIfPayloadConditionsMatch(WebhookPayloadData webhookPayloadData,
+      List<TriggerEventDataCondition> payloadConditions, Supplier<TriggerExpressionEvaluator> evaluatorSupplier) {
+    if (isEmpty(payloadConditions)) {
       return true;
     }
 
     // Remove changed files condition from payload conditions. It will be evaluated separately.
-    List<TriggerEventDataCondition> payloadConditions = webhookTriggerSpec.fetchPayloadAware().fetchPayloadConditions();
     payloadConditions = payloadConditions.stream()
                             .filter(payloadCondition -> !CHANGED_FILES.equalsIgnoreCase(payloadCondition.getKey()))
                             .collect(toList());
@@ -165,7 +179,7 @@ public class WebhookTriggerFilterUtils {
         input = webhookPayloadData.getWebhookEvent().getBaseAttributes().getTarget();
       } else {
         if (triggerExpressionEvaluator == null) {
-          triggerExpressionEvaluator = generatorPMSExpressionEvaluator(webhookPayloadData);
+          triggerExpressionEvaluator = evaluatorSupplier.get();
         }
         input = readFromPayload(triggerEventDataCondition.getKey(), triggerExpressionEvaluator);
       }
@@ -184,11 +198,18 @@ public class WebhookTriggerFilterUtils {
     if (isBlank(jexlExpression)) {
       return true;
     }
+    return checkIfJexlConditionsMatch(
+        generatorPMSExpressionEvaluator(parseWebhookResponse, headers, payload), jexlExpression);
+  }
+
+  public boolean checkIfJexlConditionsMatch(
+      TriggerExpressionEvaluator triggerExpressionEvaluator, String jexlExpression) {
+    if (isBlank(jexlExpression)) {
+      return true;
+    }
 
     jexlExpression = sanitiseHeaderConditionsForJexl(jexlExpression);
 
-    TriggerExpressionEvaluator triggerExpressionEvaluator =
-        generatorPMSExpressionEvaluator(parseWebhookResponse, headers, payload);
     Object result = triggerExpressionEvaluator.evaluateExpression(jexlExpression);
     if (result != null && Boolean.class.isAssignableFrom(result.getClass())) {
       return (Boolean) result;
@@ -219,8 +240,7 @@ public class WebhookTriggerFilterUtils {
     }
 
     try {
-      Pattern p = Pattern.compile("(<\\+trigger.header\\[[\\'|\"])(.*?)([\\'|\"]\\]>)");
-      Matcher m = p.matcher(expresion);
+      Matcher m = HEADER_EXPRESSION_PATTERN.matcher(expresion);
 
       while (m.find()) {
         expresion = expresion.replace(
@@ -239,10 +259,17 @@ public class WebhookTriggerFilterUtils {
     if (isEmpty(headerConditions)) {
       return true;
     }
+    return checkIfCustomHeaderConditionsMatch(generatorPMSExpressionEvaluator(null, headers, "{}"), headerConditions);
+  }
+
+  public boolean checkIfCustomHeaderConditionsMatch(
+      TriggerExpressionEvaluator triggerExpressionEvaluator, List<TriggerEventDataCondition> headerConditions) {
+    if (isEmpty(headerConditions)) {
+      return true;
+    }
     String input;
     String standard;
     String operator;
-    TriggerExpressionEvaluator triggerExpressionEvaluator = generatorPMSExpressionEvaluator(null, headers, "{}");
 
     for (TriggerEventDataCondition webhookHeaderCondition : headerConditions) {
       String headerConditionKey = webhookHeaderCondition.getKey();
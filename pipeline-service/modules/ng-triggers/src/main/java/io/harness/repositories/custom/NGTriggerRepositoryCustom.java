@@ -14,6 +14,7 @@ import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
 
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -21,6 +22,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @OwnedBy(PIPELINE)
 public interface NGTriggerRepositoryCustom {
   Page<NGTriggerEntity> findAll(Criteria criteria, Pageable pageable);
+  List<NGTriggerEntity> findAllVersions(Criteria criteria);
   NGTriggerEntity update(Criteria criteria, NGTriggerEntity ngTriggerEntity);
   NGTriggerEntity updateValidationStatus(Criteria criteria, NGTriggerEntity ngTriggerEntity);
   NGTriggerEntity updateValidationStatusAndMetadata(Criteria criteria, NGTriggerEntity ngTriggerEntity);
@@ -51,6 +51,13 @@ public class NGTriggerRepositoryCustomImpl implements NGTriggerRepositoryCustom
         triggers, pageable, () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), NGTriggerEntity.class));
   }
 
+  @Override
+  public List<NGTriggerEntity> findAllVersions(Criteria criteria) {
+    Query query = new Query(criteria);
+    query.fields().include(NGTriggerEntityKeys.uuid).include(NGTriggerEntityKeys.version);
+    return mongoTemplate.find(query, NGTriggerEntity.class);
+  }
+
   @Override
   public NGTriggerEntity update(Criteria criteria, NGTriggerEntity ngTriggerEntity) {
     Query query = new Query(criteria);
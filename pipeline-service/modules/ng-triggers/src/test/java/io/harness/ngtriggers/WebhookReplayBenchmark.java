@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ngtriggers;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.beans.HeaderConfig;
+import io.harness.beans.PRWebhookEvent;
+import io.harness.beans.WebhookBaseAttributes;
+import io.harness.ngtriggers.beans.dto.TriggerDetails;
+import io.harness.ngtriggers.beans.dto.eventmapping.WebhookEventMappingResponse;
+import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
+import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
+import io.harness.ngtriggers.beans.scm.WebhookPayloadData;
+import io.harness.ngtriggers.eventmapper.filters.TriggerFilter;
+import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
+import io.harness.ngtriggers.eventmapper.filters.impl.AccountTriggerFilter;
+import io.harness.ngtriggers.eventmapper.filters.impl.EventActionTriggerFilter;
+import io.harness.ngtriggers.eventmapper.filters.impl.HeaderTriggerFilter;
+import io.harness.ngtriggers.eventmapper.filters.impl.JexlConditionsTriggerFilter;
+import io.harness.ngtriggers.eventmapper.filters.impl.PayloadConditionsTriggerFilter;
+import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
+import io.harness.ngtriggers.service.NGTriggerService;
+import io.harness.product.ci.scm.proto.ParseWebhookResponse;
+import io.harness.product.ci.scm.proto.PullRequest;
+import io.harness.product.ci.scm.proto.PullRequestHook;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.mockito.Mockito;
+
+/**
+ * Replays pull request webhooks through the account, event action and condition filters of the webhook trigger
+ * mapping, once with the trigger yamls parsed for every event and once with the parsed triggers of the webhook trigger
+ * index. The trigger store is mocked, so the numbers are the cpu cost of the matching only. Trigger and event counts
+ * can be given as arguments, 2000 and 200 by default.
+ */
+@Slf4j
+public class WebhookReplayBenchmark {
+  private static final String TRIGGER_YAML = "trigger:\n"
+      + "  name: trigger%1$d\n"
+      + "  identifier: trigger%1$d\n"
+      + "  enabled: true\n"
+      + "  orgIdentifier: org\n"
+      + "  projectIdentifier: proj\n"
+      + "  pipelineIdentifier: pipeline\n"
+      + "  source:\n"
+      + "    type: Webhook\n"
+      + "    spec:\n"
+      + "      type: Github\n"
+      + "      spec:\n"
+      + "        type: PullRequest\n"
+      + "        spec:\n"
+      + "          connectorRef: conn\n"
+      + "          autoAbortPreviousExecutions: false\n"
+      + "          actions:\n"
+      + "            - %2$s\n"
+      + "          payloadConditions:\n"
+      + "            - key: targetBranch\n"
+      + "              operator: Equals\n"
+      + "              value: main\n"
+      + "          headerConditions:\n"
+      + "            - key: <+trigger.header['X-GitHub-Event']>\n"
+      + "              operator: Equals\n"
+      + "              value: pull_request\n"
+      + "          jexlCondition: <+trigger.payload.pull_request.number> == 1\n"
+      + "  inputYaml: |\n"
+      + "    pipeline:\n"
+      + "      identifier: pipeline\n";
+
+  public static void main(String[] args) {
+    int triggerCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    int eventCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+    List<NGTriggerEntity> triggers = new ArrayList<>(triggerCount);
+    for (int i = 0; i < triggerCount; i++) {
+      // A quarter of the triggers listen to the replayed action
+      String action = i % 4 == 0 ? "Open" : "Close";
+      triggers.add(NGTriggerEntity.builder()
+                       .uuid(String.valueOf(i))
+                       .identifier("trigger" + i)
+                       .accountId("acc")
+                       .orgIdentifier("org")
+                       .projectIdentifier("proj")
+                       .targetIdentifier("pipeline")
+                       .version(1L)
+                       .yaml(String.format(TRIGGER_YAML, i, action))
+                       .build());
+    }
+    Map<String, NGTriggerEntity> triggersById =
+        triggers.stream().collect(Collectors.toMap(NGTriggerEntity::getUuid, Function.identity()));
+
+    NGTriggerService ngTriggerService = mock(NGTriggerService.class);
+    when(ngTriggerService.findTriggerVersionsForWebhookBySourceRepoType(any(), anyBoolean(), anyBoolean()))
+        .thenReturn(triggers.stream()
+                        .map(trigger -> NGTriggerEntity.builder().uuid(trigger.getUuid()).version(1L).build())
+                        .collect(Collectors.toList()));
+    when(ngTriggerService.findTriggersByUuids(any())).thenAnswer(invocation -> {
+      List<String> uuids = (List<String>) invocation.getArguments()[0];
+      return uuids.stream().map(triggersById::get).collect(Collectors.toList());
+    });
+    NGTriggerElementMapper ngTriggerElementMapper = mock(NGTriggerElementMapper.class, Mockito.CALLS_REAL_METHODS);
+    Injector injector = Guice.createInjector(binder -> {
+      binder.bind(NGTriggerService.class).toInstance(ngTriggerService);
+      binder.bind(NGTriggerElementMapper.class).toInstance(ngTriggerElementMapper);
+    });
+
+    List<TriggerFilter> conditionFilters = Arrays.asList(injector.getInstance(EventActionTriggerFilter.class),
+        injector.getInstance(PayloadConditionsTriggerFilter.class), injector.getInstance(HeaderTriggerFilter.class),
+        injector.getInstance(JexlConditionsTriggerFilter.class));
+    List<TriggerFilter> indexedFilters = new ArrayList<>();
+    indexedFilters.add(injector.getInstance(AccountTriggerFilter.class));
+    indexedFilters.addAll(conditionFilters);
+
+    WebhookPayloadData webhookPayloadData = buildPullRequestWebhook();
+    List<TriggerDetails> unparsedTriggers =
+        triggers.stream()
+            .map(trigger -> TriggerDetails.builder().ngTriggerEntity(trigger).build())
+            .collect(Collectors.toList());
+
+    // Warm up both paths, this also fills the index
+    int matched = replay(conditionFilters, webhookPayloadData, unparsedTriggers, 10);
+    replay(indexedFilters, webhookPayloadData, Collections.emptyList(), 10);
+    log.info("{} of {} triggers match the replayed webhook", matched, triggerCount);
+
+    long startTime = System.nanoTime();
+    replay(conditionFilters, webhookPayloadData, unparsedTriggers, eventCount);
+    report("yaml parsed per event", eventCount, startTime);
+
+    startTime = System.nanoTime();
+    replay(indexedFilters, webhookPayloadData, Collections.emptyList(), eventCount);
+    report("webhook trigger index", eventCount, startTime);
+  }
+
+  private static int replay(List<TriggerFilter> filters, WebhookPayloadData webhookPayloadData,
+      List<TriggerDetails> triggers, int eventCount) {
+    int matched = 0;
+    for (int i = 0; i < eventCount; i++) {
+      FilterRequestData filterRequestData = FilterRequestData.builder()
+                                                .accountId("acc")
+                                                .webhookPayloadData(webhookPayloadData)
+                                                .details(triggers)
+                                                .build();
+      WebhookEventMappingResponse response = null;
+      for (TriggerFilter filter : filters) {
+        response = filter.applyFilter(filterRequestData);
+        if (response.isFailedToFindTrigger()) {
+          break;
+        }
+        filterRequestData.setDetails(response.getTriggers());
+      }
+      matched = response == null || response.isFailedToFindTrigger() ? 0 : response.getTriggers().size();
+    }
+    return matched;
+  }
+
+  private static WebhookPayloadData buildPullRequestWebhook() {
+    TriggerWebhookEvent triggerWebhookEvent =
+        TriggerWebhookEvent.builder()
+            .accountId("acc")
+            .sourceRepoType("GITHUB")
+            .createdAt(0L)
+            .headers(Collections.singletonList(
+                HeaderConfig.builder().key("X-GitHub-Event").values(Collections.singletonList("pull_request")).build()))
+            .payload("{\"action\": \"opened\", \"pull_request\": {\"number\": 1, \"title\": \"benchmark\"}}")
+            .build();
+    return WebhookPayloadData.builder()
+        .originalEvent(triggerWebhookEvent)
+        .webhookEvent(PRWebhookEvent.builder()
+                          .baseAttributes(WebhookBaseAttributes.builder().action("open").target("main").build())
+                          .build())
+        .parseWebhookResponse(
+            ParseWebhookResponse.newBuilder()
+                .setPr(PullRequestHook.newBuilder().setPr(PullRequest.newBuilder().setNumber(1).build()).build())
+                .build())
+        .build();
+  }
+
+  private static void report(String mode, int eventCount, long startTime) {
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    log.info("{}: {} webhooks in {} s, {} webhooks/s", mode, eventCount, String.format("%.2f", seconds),
+        String.format("%.1f", eventCount / seconds));
+  }
+}
@@ -24,7 +24,7 @@ import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
 import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
 import io.harness.ngtriggers.beans.scm.WebhookPayloadData;
 import io.harness.ngtriggers.eventmapper.filters.dto.FilterRequestData;
-import io.harness.ngtriggers.service.NGTriggerService;
+import io.harness.ngtriggers.helpers.WebhookTriggerIndex;
 import io.harness.rule.Owner;
 
 import com.google.inject.Inject;
@@ -40,7 +40,7 @@ import org.powermock.api.mockito.PowerMockito;
 
 @OwnedBy(PIPELINE)
 public class TriggetAccountFilterTest extends CategoryTest {
-  @Mock private NGTriggerService ngTriggerService;
+  @Mock private WebhookTriggerIndex webhookTriggerIndex;
   @Inject @InjectMocks AccountTriggerFilter accountTriggerFilter;
 
   @Before
@@ -65,9 +65,10 @@ public class TriggetAccountFilterTest extends CategoryTest {
                                                   .build();
 
     PowerMockito.doReturn(null)
-        .doReturn(Arrays.asList(t1, t2))
-        .when(ngTriggerService)
-        .findTriggersForWehbookBySourceRepoType(triggerWebhookEvent, false, true);
+        .doReturn(Arrays.asList(TriggerDetails.builder().ngTriggerEntity(t1).build(),
+            TriggerDetails.builder().ngTriggerEntity(t2).build()))
+        .when(webhookTriggerIndex)
+        .getTriggers(triggerWebhookEvent);
 
     FilterRequestData filterRequestData =
         FilterRequestData.builder()
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ngtriggers.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.ADWAIT;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.ngtriggers.beans.config.NGTriggerConfigV2;
+import io.harness.ngtriggers.beans.dto.TriggerDetails;
+import io.harness.ngtriggers.beans.entity.NGTriggerEntity;
+import io.harness.ngtriggers.beans.entity.TriggerWebhookEvent;
+import io.harness.ngtriggers.mapper.NGTriggerElementMapper;
+import io.harness.ngtriggers.service.NGTriggerService;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+@OwnedBy(PIPELINE)
+public class WebhookTriggerIndexTest extends CategoryTest {
+  @Mock private NGTriggerService ngTriggerService;
+  @Mock private NGTriggerElementMapper ngTriggerElementMapper;
+  @InjectMocks private WebhookTriggerIndex webhookTriggerIndex;
+
+  private final TriggerWebhookEvent event =
+      TriggerWebhookEvent.builder().accountId("acc").sourceRepoType("GITHUB").build();
+
+  @Before
+  public void setUp() {
+    initMocks(this);
+    when(ngTriggerElementMapper.toTriggerConfigV2(any(NGTriggerEntity.class)))
+        .thenAnswer(invocation -> NGTriggerConfigV2.builder().build());
+  }
+
+  @Test
+  @Owner(developers = ADWAIT)
+  @Category(UnitTests.class)
+  public void testTriggersAreParsedAgainOnlyWhenTheirVersionChanges() {
+    NGTriggerEntity t1 = trigger("t1", 1L);
+    NGTriggerEntity t2 = trigger("t2", 1L);
+    when(ngTriggerService.findTriggerVersionsForWebhookBySourceRepoType(event, false, true))
+        .thenReturn(Arrays.asList(version("t1", 1L), version("t2", 1L)));
+    when(ngTriggerService.findTriggersByUuids(Arrays.asList("t1", "t2"))).thenReturn(Arrays.asList(t1, t2));
+
+    List<TriggerDetails> triggers = webhookTriggerIndex.getTriggers(event);
+    assertThat(triggers.stream().map(TriggerDetails::getNgTriggerEntity).collect(toList())).containsExactly(t1, t2);
+    assertThat(triggers).allMatch(triggerDetails -> triggerDetails.getNgTriggerConfigV2() != null);
+
+    // Nothing changed, the cached configs are returned
+    NGTriggerConfigV2 t1Config = triggers.get(0).getNgTriggerConfigV2();
+    triggers = webhookTriggerIndex.getTriggers(event);
+    assertThat(triggers).hasSize(2);
+    assertThat(triggers.get(0).getNgTriggerConfigV2()).isSameAs(t1Config);
+    verify(ngTriggerService, times(1)).findTriggersByUuids(any());
+    verify(ngTriggerElementMapper, times(2)).toTriggerConfigV2(any(NGTriggerEntity.class));
+
+    // t1 got deleted and t2 updated
+    NGTriggerEntity updatedT2 = trigger("t2", 2L);
+    when(ngTriggerService.findTriggerVersionsForWebhookBySourceRepoType(event, false, true))
+        .thenReturn(Collections.singletonList(version("t2", 2L)));
+    when(ngTriggerService.findTriggersByUuids(Collections.singletonList("t2")))
+        .thenReturn(Collections.singletonList(updatedT2));
+    triggers = webhookTriggerIndex.getTriggers(event);
+    assertThat(triggers.stream().map(TriggerDetails::getNgTriggerEntity).collect(toList())).containsExactly(updatedT2);
+    verify(ngTriggerElementMapper, times(3)).toTriggerConfigV2(any(NGTriggerEntity.class));
+  }
+
+  @Test
+  @Owner(developers = ADWAIT)
+  @Category(UnitTests.class)
+  public void testNoTriggers() {
+    when(ngTriggerService.findTriggerVersionsForWebhookBySourceRepoType(event, false, true))
+        .thenReturn(Collections.emptyList());
+    assertThat(webhookTriggerIndex.getTriggers(event)).isEmpty();
+    verify(ngTriggerService, never()).findTriggersByUuids(any());
+    assertThat(webhookTriggerIndex.getCachedSourceCount()).isZero();
+  }
+
+  private NGTriggerEntity trigger(String uuid, Long version) {
+    return NGTriggerEntity.builder().uuid(uuid).identifier(uuid).accountId("acc").version(version).build();
+  }
+
+  private NGTriggerEntity version(String uuid, Long version) {
+    return NGTriggerEntity.builder().uuid(uuid).version(version).build();
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.pms.contracts.execution.Status;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The vertices of an {@link OrchestrationGraph} changed by one graph update, together with the graph level fields.
+ * Applying the deltas in order on top of the cached graph gives the current graph.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class OrchestrationGraphDelta {
+  long lastUpdatedAt;
+  Long endTs;
+  Status status;
+  List<String> rootNodeIds;
+
+  Map<String, GraphVertex> graphVertexMap;
+  Map<String, EdgeListInternal> adjacencyMap;
+  List<String> removedVertexIds;
+
+  public static OrchestrationGraphDelta of(OrchestrationGraph orchestrationGraph, Collection<String> vertexIds) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    List<String> removedVertexIds = new ArrayList<>();
+    for (String vertexId : vertexIds) {
+      GraphVertex graphVertex = adjacencyList.getGraphVertexMap().get(vertexId);
+      EdgeListInternal edgeList = adjacencyList.getAdjacencyMap().get(vertexId);
+      if (graphVertex == null && edgeList == null) {
+        removedVertexIds.add(vertexId);
+        continue;
+      }
+      if (graphVertex != null) {
+        graphVertexMap.put(vertexId, graphVertex);
+      }
+      if (edgeList != null) {
+        adjacencyMap.put(vertexId, edgeList);
+      }
+    }
+
+    return OrchestrationGraphDelta.builder()
+        .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+        .endTs(orchestrationGraph.getEndTs())
+        .status(orchestrationGraph.getStatus())
+        .rootNodeIds(new ArrayList<>(orchestrationGraph.getRootNodeIds()))
+        .graphVertexMap(graphVertexMap)
+        .adjacencyMap(adjacencyMap)
+        .removedVertexIds(removedVertexIds)
+        .build();
+  }
+
+  public OrchestrationGraph applyTo(OrchestrationGraph orchestrationGraph) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    for (String vertexId : removedVertexIds) {
+      adjacencyList.getGraphVertexMap().remove(vertexId);
+      adjacencyList.getAdjacencyMap().remove(vertexId);
+    }
+    adjacencyList.getGraphVertexMap().putAll(graphVertexMap);
+    adjacencyList.getAdjacencyMap().putAll(adjacencyMap);
+
+    orchestrationGraph.getRootNodeIds().clear();
+    orchestrationGraph.getRootNodeIds().addAll(rootNodeIds);
+    return orchestrationGraph.withEndTs(endTs).withStatus(status).withLastUpdatedAt(lastUpdatedAt);
+  }
+}
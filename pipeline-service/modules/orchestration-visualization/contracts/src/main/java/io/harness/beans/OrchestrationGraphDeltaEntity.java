@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static java.time.Duration.ofDays;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@FieldNameConstants(innerTypeName = "OrchestrationGraphDeltaKeys")
+@Entity(value = "orchestrationGraphDeltas", noClassnameStored = true)
+@Document("orchestrationGraphDeltas")
+@HarnessEntity(exportable = false)
+@TypeAlias("OrchestrationGraphDelta")
+@StoreIn(DbAliases.PMS)
+public class OrchestrationGraphDeltaEntity implements PersistentEntity {
+  // Same as the cached graph the deltas apply to
+  public static final Duration TTL = ofDays(183);
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("planExecutionId_lastUpdatedAt")
+                 .unique(false)
+                 .field(OrchestrationGraphDeltaKeys.planExecutionId)
+                 .field(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                 .build())
+        .build();
+  }
+
+  @Id @org.mongodb.morphia.annotations.Id String uuid;
+  String planExecutionId;
+  long lastUpdatedAt;
+  // kryo serialized and deflated OrchestrationGraphDelta
+  byte[] delta;
+  @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plus(TTL).toInstant());
+}
@@ -16,7 +16,10 @@ import io.harness.beans.FeatureName;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.OrchestrationGraphDeltaEntity;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
+import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
@@ -46,6 +49,8 @@ import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.plan.execution.ExecutionSummaryUpdateUtils;
 import io.harness.pms.plan.execution.service.PmsExecutionSummaryService;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
+import io.harness.repositories.orchestrationGraphDelta.OrchestrationGraphDeltaRepository;
+import io.harness.serializer.KryoSerializer;
 import io.harness.service.GraphGenerationService;
 import io.harness.skip.service.VertexSkipperService;
 
@@ -69,6 +74,8 @@ import org.springframework.data.mongodb.core.query.Update;
 public class GraphGenerationServiceImpl implements GraphGenerationService {
   private static final long THRESHOLD_LOG = 50;
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
+  // Number of deltas after which the cached graph is rewritten as a whole
+  private static final long DELTA_COMPACTION_THRESHOLD = 50;
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
@@ -83,6 +90,8 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private PersistentLocker persistentLocker;
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
+  @Inject private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
+  @Inject private KryoSerializer kryoSerializer;
 
   @Override
   public boolean updateGraph(String planExecutionId) {
@@ -155,6 +164,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
     Update executionSummaryUpdate = new Update();
     Set<String> processedNodeExecutionIds = new HashSet<>();
+    Set<String> changedVertexIds = new HashSet<>();
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
       OrchestrationEventType orchestrationEventType = orchestrationEventLog.getOrchestrationEventType();
@@ -165,10 +175,12 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          changedVertexIds.add(nodeExecutionId);
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          changedVertexIds.add(nodeExecutionId);
           break;
         default:
           if (processedNodeExecutionIds.contains(nodeExecutionId)) {
@@ -192,24 +204,89 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
           }
           orchestrationGraph = graphStatusUpdateHelper.handleEventV2(
               planExecutionId, nodeExecution, orchestrationEventType, orchestrationGraph);
+          addChangedVertexIds(changedVertexIds, orchestrationGraph, nodeExecution);
       }
       lastUpdatedAt = orchestrationEventLog.getCreatedAt();
     }
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    persistGraphUpdate(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), changedVertexIds);
     pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
     log.info("[PMS_GRAPH] Processing of [{}] orchestration event logs completed in [{}ms]", unprocessedEventLogs.size(),
         System.currentTimeMillis() - startTs);
     return true;
   }
 
+  // Adding a vertex or removing it also changes the edges of its parent or previous vertex
+  private void addChangedVertexIds(
+      Set<String> changedVertexIds, OrchestrationGraph orchestrationGraph, NodeExecution nodeExecution) {
+    changedVertexIds.add(nodeExecution.getUuid());
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getParentId())) {
+      changedVertexIds.add(nodeExecution.getParentId());
+    }
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getPreviousId())) {
+      changedVertexIds.add(nodeExecution.getPreviousId());
+    }
+    EdgeListInternal edgeList = orchestrationGraph.getAdjacencyList().getAdjacencyMap().get(nodeExecution.getUuid());
+    if (edgeList != null && edgeList.getPrevIds() != null) {
+      changedVertexIds.addAll(edgeList.getPrevIds());
+    }
+  }
+
+  // Only the changed vertices are appended as a delta, the whole graph is rewritten once enough deltas piled up or the
+  // execution reached a final status.
+  private void persistGraphUpdate(OrchestrationGraph orchestrationGraph, Set<String> changedVertexIds) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    if (StatusUtils.isFinalStatus(orchestrationGraph.getStatus())
+        || orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId) >= DELTA_COMPACTION_THRESHOLD) {
+      cachePartialOrchestrationGraph(orchestrationGraph, orchestrationGraph.getLastUpdatedAt());
+      deleteCompactedDeltas(orchestrationGraph);
+      return;
+    }
+
+    orchestrationGraphDeltaRepository.save(
+        OrchestrationGraphDeltaEntity.builder()
+            .planExecutionId(planExecutionId)
+            .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+            .delta(kryoSerializer.asDeflatedBytes(OrchestrationGraphDelta.of(orchestrationGraph, changedVertexIds)))
+            .build());
+  }
+
+  private void deleteCompactedDeltas(OrchestrationGraph orchestrationGraph) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    if (planExecutionId == null) {
+      return;
+    }
+    // The store swallows write failures, only drop the deltas once they are part of the cached graph
+    Long cachedUpdatedAt = mongoStore.getEntityUpdatedAt(
+        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (cachedUpdatedAt == null || cachedUpdatedAt < orchestrationGraph.getLastUpdatedAt()) {
+      log.warn("[PMS_GRAPH] Cached graph was not updated, keeping its deltas");
+      return;
+    }
+    orchestrationGraphDeltaRepository.deleteByPlanExecutionIdAndLastUpdatedAtLessThanEqual(
+        planExecutionId, orchestrationGraph.getLastUpdatedAt());
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    List<OrchestrationGraphDeltaEntity> deltas =
+        orchestrationGraphDeltaRepository.findByPlanExecutionIdAndLastUpdatedAtGreaterThanOrderByLastUpdatedAtAsc(
+            planExecutionId, orchestrationGraph.getLastUpdatedAt());
+    for (OrchestrationGraphDeltaEntity delta : deltas) {
+      orchestrationGraph =
+          ((OrchestrationGraphDelta) kryoSerializer.asInflatedObject(delta.getDelta())).applyTo(orchestrationGraph);
+    }
+    return orchestrationGraph;
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    deleteCompactedDeltas(orchestrationGraph);
   }
 
   private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.OrchestrationVisualizationTestBase;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class OrchestrationGraphDeltaTest extends OrchestrationVisualizationTestBase {
+  @Inject private KryoSerializer kryoSerializer;
+
+  private static OrchestrationGraph graph(String... vertexIds) {
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    for (String vertexId : vertexIds) {
+      graphVertexMap.put(vertexId, GraphVertex.builder().uuid(vertexId).status(Status.RUNNING).build());
+      adjacencyMap.put(vertexId,
+          EdgeListInternal.builder()
+              .edges(new ArrayList<>())
+              .nextIds(new ArrayList<>())
+              .prevIds(new ArrayList<>())
+              .build());
+    }
+    return OrchestrationGraph.builder()
+        .planExecutionId("planExecutionId")
+        .lastUpdatedAt(1)
+        .status(Status.RUNNING)
+        .rootNodeIds(Lists.newArrayList(vertexIds[0]))
+        .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                           .graphVertexMap(graphVertexMap)
+                           .adjacencyMap(adjacencyMap)
+                           .build())
+        .build();
+  }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testApplyDelta() {
+    OrchestrationGraph cached = graph("a", "b", "c");
+
+    OrchestrationGraph current = graph("a", "b", "c");
+    current.getAdjacencyList().getGraphVertexMap().get("b").setStatus(Status.SUCCEEDED);
+    current.getAdjacencyList().getGraphVertexMap().remove("c");
+    current.getAdjacencyList().getAdjacencyMap().remove("c");
+    current.getAdjacencyList().getGraphVertexMap().put("d", GraphVertex.builder().uuid("d").build());
+    current.getAdjacencyList().getAdjacencyMap().get("a").getNextIds().add("d");
+    current = current.withStatus(Status.SUCCEEDED).withLastUpdatedAt(2);
+
+    OrchestrationGraphDelta delta = OrchestrationGraphDelta.of(current, Arrays.asList("a", "b", "c", "d"));
+    assertThat(delta.getRemovedVertexIds()).containsExactly("c");
+
+    OrchestrationGraphDelta storedDelta =
+        (OrchestrationGraphDelta) kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(delta));
+    OrchestrationGraph updated = storedDelta.applyTo(cached);
+
+    assertThat(updated.getLastUpdatedAt()).isEqualTo(2);
+    assertThat(updated.getStatus()).isEqualTo(Status.SUCCEEDED);
+    assertThat(updated.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys("a", "b", "d");
+    assertThat(updated.getAdjacencyList().getGraphVertexMap().get("b").getStatus()).isEqualTo(Status.SUCCEEDED);
+    assertThat(updated.getAdjacencyList().getAdjacencyMap()).containsOnlyKeys("a", "b");
+    assertThat(updated.getAdjacencyList().getAdjacencyMap().get("a").getNextIds()).containsExactly("d");
+  }
+}
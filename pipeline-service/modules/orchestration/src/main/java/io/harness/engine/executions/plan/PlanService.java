@@ -20,6 +20,9 @@ import java.util.Optional;
 public interface PlanService {
   Plan save(Plan plan);
 
+  // Saves the plan again under a new uuid, for an execution that runs the same nodes as the execution it was saved for
+  Plan clonePlan(Plan plan);
+
   <T extends Node> T fetchNode(String planId, String nodeId);
 
   Plan fetchPlan(String planId);
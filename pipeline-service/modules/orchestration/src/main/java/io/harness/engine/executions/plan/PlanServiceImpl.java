@@ -8,6 +8,7 @@
 package io.harness.engine.executions.plan;
 
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -66,6 +67,14 @@ public class PlanServiceImpl implements PlanService {
     });
   }
 
+  @Override
+  public Plan clonePlan(Plan plan) {
+    // Nodes refer to each other by uuid from their adviser and step parameters, so the copy keeps the nodes saved for
+    // the plan rather than saving them again under new uuids
+    return planRepository.save(
+        plan.withUuid(generateUuid()).withPlanNodes(new ArrayList<>()).withCreatedAt(null).withVersion(null));
+  }
+
   @Override
   public Node fetchNode(String planId, String nodeId) {
     Optional<NodeEntity> nodeEntity = nodeEntityRepository.findById(nodeId);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.pms.data;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.engine.expressions.functors.NodeExecutionEntityType;
+import io.harness.engine.observers.OrchestrationEndObserver;
+import io.harness.logging.AutoLogContext;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.execution.utils.AmbianceUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the outcomes and sweeping outputs of running plan executions by name and level as they are written and read.
+ * An instance is unique by name and level and never changes, but a lookup resolves to the instance at the most specific
+ * level of the node, and any pod can write a more specific instance than the ones known here. So lookups are only
+ * served from memory when the instance at the level of the node itself is known, which is the case for the outputs of
+ * a node read by expressions. Executions are dropped when they end, or after half an hour without lookups on pods that
+ * did not end them, and the least recently used ones once the json kept for all of them is over the budget.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class ExecutionOutputCache implements OrchestrationEndObserver {
+  // Json lengths are in chars, about a byte each for the ascii json of outputs
+  static final int MAX_CACHED_JSON_LENGTH = 64 * 1024;
+  static final int MAX_EXECUTION_JSON_LENGTH = 8 * 1024 * 1024;
+  private static final long MAX_TOTAL_JSON_LENGTH = 256L * 1024 * 1024;
+  private static final int MAX_INSTANCES_PER_EXECUTION = 5000;
+  private static final int EXECUTION_EXPIRY_MINUTES = 30;
+
+  private final Cache<String, ExecutionOutputs> executions =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_TOTAL_JSON_LENGTH)
+          .weigher((String planExecutionId, ExecutionOutputs outputs) -> (int) outputs.jsonLength.get() + 1)
+          .expireAfterAccess(EXECUTION_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  public void put(NodeExecutionEntityType type, String planExecutionId, String name, String levelRuntimeIdIdx,
+      String json) {
+    if (json == null || json.length() > MAX_CACHED_JSON_LENGTH) {
+      return;
+    }
+    ExecutionOutputs outputs = executions.asMap().computeIfAbsent(planExecutionId, k -> new ExecutionOutputs());
+    if (outputs.instances.size() >= MAX_INSTANCES_PER_EXECUTION
+        || outputs.jsonLength.get() + json.length() > MAX_EXECUTION_JSON_LENGTH) {
+      return;
+    }
+    if (outputs.instances.putIfAbsent(getKey(type, name, levelRuntimeIdIdx), json) == null) {
+      outputs.jsonLength.addAndGet(json.length());
+      // The weight of an execution is taken when it is written, so it is written again with its new length
+      executions.asMap().replace(planExecutionId, outputs, outputs);
+    }
+  }
+
+  /**
+   * Returns the json of the instance at the level of the node, null when it is not known here.
+   */
+  public String get(NodeExecutionEntityType type, Ambiance ambiance, String name) {
+    ExecutionOutputs outputs = executions.getIfPresent(ambiance.getPlanExecutionId());
+    String json = outputs == null
+        ? null
+        : outputs.instances.get(
+            getKey(type, name, ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList())));
+    recordLookup(outputs, json != null);
+    return json;
+  }
+
+  /**
+   * Returns the json of the instances at the level of the node that are known here, by name.
+   */
+  public Map<String, String> getAll(NodeExecutionEntityType type, Ambiance ambiance, Collection<String> names) {
+    Map<String, String> jsons = new HashMap<>();
+    ExecutionOutputs outputs = executions.getIfPresent(ambiance.getPlanExecutionId());
+    String levelRuntimeIdIdx = ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList());
+    for (String name : names) {
+      String json = outputs == null ? null : outputs.instances.get(getKey(type, name, levelRuntimeIdIdx));
+      if (json != null) {
+        jsons.put(name, json);
+      }
+      recordLookup(outputs, json != null);
+    }
+    return jsons;
+  }
+
+  @Override
+  public void onEnd(Ambiance ambiance) {
+    ExecutionOutputs outputs = executions.asMap().remove(ambiance.getPlanExecutionId());
+    if (outputs == null) {
+      return;
+    }
+    long hits = outputs.hits.get();
+    long lookups = hits + outputs.misses.get();
+    try (AutoLogContext ignore = AmbianceUtils.autoLogContext(ambiance)) {
+      log.info("Output cache served {} of {} lookups of the execution, hit rate {}%", hits, lookups,
+          lookups == 0 ? 0 : hits * 100 / lookups);
+    }
+  }
+
+  @VisibleForTesting
+  long getHits(String planExecutionId) {
+    ExecutionOutputs outputs = executions.getIfPresent(planExecutionId);
+    return outputs == null ? 0 : outputs.hits.get();
+  }
+
+  private void recordLookup(ExecutionOutputs outputs, boolean hit) {
+    if (outputs != null) {
+      (hit ? outputs.hits : outputs.misses).incrementAndGet();
+    }
+  }
+
+  private String getKey(NodeExecutionEntityType type, String name, String levelRuntimeIdIdx) {
+    return type.name() + '/' + name + '/' + levelRuntimeIdIdx;
+  }
+
+  private static class ExecutionOutputs {
+    private final Map<String, String> instances = new ConcurrentHashMap<>();
+    private final AtomicLong jsonLength = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+  }
+}
@@ -30,6 +30,11 @@ public interface PmsOutcomeService extends Resolver {
 
   OptionalOutcome resolveOptional(Ambiance ambiance, RefObject refObject);
 
+  /**
+   * Resolves the outcomes with the given plain names, from the most specific level of the ambiance, in one lookup.
+   */
+  Map<String, OptionalOutcome> resolveOptional(Ambiance ambiance, List<String> names);
+
   List<OutcomeInstance> fetchOutcomeInstanceByRuntimeId(String runtimeId);
 
   List<String> cloneForRetryExecution(Ambiance ambiance, String originalNodeExecutionId);
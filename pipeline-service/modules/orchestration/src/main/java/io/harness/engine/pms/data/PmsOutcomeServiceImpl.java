@@ -9,6 +9,7 @@ package io.harness.engine.pms.data;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.engine.expressions.functors.NodeExecutionEntityType.OUTCOME;
 
 import static java.lang.String.format;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -42,6 +43,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
@@ -55,6 +58,7 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
   @Inject private ExpressionEvaluatorProvider expressionEvaluatorProvider;
   @Inject private Injector injector;
   @Inject private MongoTemplate mongoTemplate;
+  @Inject private ExecutionOutputCache executionOutputCache;
 
   @Override
   public String resolve(Ambiance ambiance, RefObject refObject) {
@@ -87,6 +91,8 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
                                    .groupName(groupName)
                                    .levelRuntimeIdIdx(ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList()))
                                    .build());
+      executionOutputCache.put(OUTCOME, instance.getPlanExecutionId(), name, instance.getLevelRuntimeIdIdx(),
+          instance.getOutcomeJsonValue());
       return instance.getUuid();
     } catch (DuplicateKeyException ex) {
       throw new OutcomeException(format("Outcome with name %s is already saved", name), ex);
@@ -142,22 +148,41 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
 
   private String resolveUsingRuntimeId(@NotNull Ambiance ambiance, @NotNull RefObject refObject) {
     String name = refObject.getName();
-    Query query =
-        query(where(OutcomeInstanceKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
-            .addCriteria(where(OutcomeInstanceKeys.name).is(name))
-            .addCriteria(
-                where(OutcomeInstanceKeys.levelRuntimeIdIdx).in(ResolverUtils.prepareLevelRuntimeIdIndices(ambiance)));
+    OptionalOutcome outcome = resolveOptionalUsingRuntimeId(ambiance, refObject);
+    if (!outcome.isFound()) {
+      throw new OutcomeException(format("Could not resolve outcome with name '%s'", name));
+    }
+    return outcome.getOutcome();
+  }
 
-    List<OutcomeInstance> instances = mongoTemplate.find(query, OutcomeInstance.class);
+  @Override
+  public Map<String, OptionalOutcome> resolveOptional(Ambiance ambiance, List<String> names) {
+    Map<String, String> outcomes = executionOutputCache.getAll(OUTCOME, ambiance, names);
+    List<String> missingNames =
+        names.stream().filter(name -> !outcomes.containsKey(name)).distinct().collect(Collectors.toList());
+    if (EmptyPredicate.isNotEmpty(missingNames)) {
+      Query query = query(where(OutcomeInstanceKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
+                        .addCriteria(where(OutcomeInstanceKeys.name).in(missingNames))
+                        .addCriteria(where(OutcomeInstanceKeys.levelRuntimeIdIdx)
+                                         .in(ResolverUtils.prepareLevelRuntimeIdIndices(ambiance)));
+      // Multiple instances might be returned if the same name was saved at different levels/specificity.
+      mongoTemplate.find(query, OutcomeInstance.class)
+          .stream()
+          .collect(Collectors.toMap(OutcomeInstance::getName, Function.identity(),
+              BinaryOperator.maxBy(Comparator.comparing(OutcomeInstance::getLevelRuntimeIdIdx))))
+          .forEach((name, instance) -> {
+            executionOutputCache.put(OUTCOME, ambiance.getPlanExecutionId(), name, instance.getLevelRuntimeIdIdx(),
+                instance.getOutcomeJsonValue());
+            outcomes.put(name, instance.getOutcomeJsonValue());
+          });
+    }
 
-    // Multiple instances might be returned if the same name was saved at different levels/specificity.
-    OutcomeInstance instance = EmptyPredicate.isEmpty(instances)
-        ? null
-        : instances.stream().max(Comparator.comparing(OutcomeInstance::getLevelRuntimeIdIdx)).orElse(null);
-    if (instance == null) {
-      throw new OutcomeException(format("Could not resolve outcome with name '%s'", name));
+    Map<String, OptionalOutcome> resolvedOutcomes = new HashMap<>();
+    for (String name : names) {
+      resolvedOutcomes.put(
+          name, OptionalOutcome.builder().found(outcomes.containsKey(name)).outcome(outcomes.get(name)).build());
     }
-    return instance.getOutcomeJsonValue();
+    return resolvedOutcomes;
   }
 
   private String resolveUsingProducerSetupId(@NotNull Ambiance ambiance, @NotNull RefObject refObject) {
@@ -269,15 +294,6 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
   }
 
   private OptionalOutcome resolveOptionalUsingRuntimeId(Ambiance ambiance, RefObject refObject) {
-    String outcome;
-    boolean isResolvable;
-    try {
-      outcome = resolveUsingRuntimeId(ambiance, refObject);
-      isResolvable = true;
-    } catch (OutcomeException ignore) {
-      outcome = null;
-      isResolvable = false;
-    }
-    return OptionalOutcome.builder().found(isResolvable).outcome(outcome).build();
+    return resolveOptional(ambiance, Collections.singletonList(refObject.getName())).get(refObject.getName());
   }
 }
@@ -14,11 +14,17 @@ import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.refobjects.RefObject;
 
 import java.util.List;
+import java.util.Map;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public interface PmsSweepingOutputService extends Resolver {
   RawOptionalSweepingOutput resolveOptional(Ambiance ambiance, RefObject refObject);
 
+  /**
+   * Resolves the outputs with the given plain names, from the most specific level of the ambiance, in one lookup.
+   */
+  Map<String, RawOptionalSweepingOutput> resolveOptional(Ambiance ambiance, List<String> names);
+
   List<RawOptionalSweepingOutput> findOutputsUsingNodeId(Ambiance ambiance, String name, List<String> nodeIds);
 
   List<RawOptionalSweepingOutput> findOutputsUsingExecutionIds(Ambiance ambiance, String name, List<String> nodeIds);
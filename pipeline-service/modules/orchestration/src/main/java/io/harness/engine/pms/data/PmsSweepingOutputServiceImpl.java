@@ -8,6 +8,7 @@
 package io.harness.engine.pms.data;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.engine.expressions.functors.NodeExecutionEntityType.SWEEPING_OUTPUT;
 
 import static java.lang.String.format;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -32,9 +33,14 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.mongodb.DuplicateKeyException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlException;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -46,6 +52,7 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
   @Inject private Injector injector;
   @Inject private MongoTemplate mongoTemplate;
   @Inject private PmsOutcomeService pmsOutcomeService;
+  @Inject private ExecutionOutputCache executionOutputCache;
 
   @Override
   public String resolve(Ambiance ambiance, RefObject refObject) {
@@ -63,12 +70,12 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
 
   private String resolveUsingRuntimeId(Ambiance ambiance, RefObject refObject) {
     String name = refObject.getName();
-    ExecutionSweepingOutputInstance instance = getInstance(ambiance, refObject);
-    if (instance == null) {
+    RawOptionalSweepingOutput output = resolveOptionalUsingRuntimeId(ambiance, refObject);
+    if (!output.isFound()) {
       throw new SweepingOutputException(format("Could not resolve sweeping output with name '%s'", name));
     }
 
-    return instance.getOutputValueJson();
+    return output.getOutput();
   }
 
   @Override
@@ -135,26 +142,37 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
   }
 
   private RawOptionalSweepingOutput resolveOptionalUsingRuntimeId(Ambiance ambiance, RefObject refObject) {
-    ExecutionSweepingOutputInstance instance = getInstance(ambiance, refObject);
-    if (instance == null) {
-      return RawOptionalSweepingOutput.builder().found(false).build();
-    }
-    return RawOptionalSweepingOutput.builder().found(true).output(instance.getOutputValueJson()).build();
+    return resolveOptional(ambiance, Collections.singletonList(refObject.getName())).get(refObject.getName());
   }
 
-  private ExecutionSweepingOutputInstance getInstance(Ambiance ambiance, RefObject refObject) {
-    String name = refObject.getName();
-    Query query = query(where(ExecutionSweepingOutputKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
-                      .addCriteria(where(ExecutionSweepingOutputKeys.name).is(name))
-                      .addCriteria(where(ExecutionSweepingOutputKeys.levelRuntimeIdIdx)
-                                       .in(ResolverUtils.prepareLevelRuntimeIdIndices(ambiance)));
-    List<ExecutionSweepingOutputInstance> instances = mongoTemplate.find(query, ExecutionSweepingOutputInstance.class);
-    // Multiple instances might be returned if the same name was saved at different levels/specificity.
-    return EmptyPredicate.isEmpty(instances)
-        ? null
-        : instances.stream()
-              .max(Comparator.comparing(ExecutionSweepingOutputInstance::getLevelRuntimeIdIdx))
-              .orElse(null);
+  @Override
+  public Map<String, RawOptionalSweepingOutput> resolveOptional(Ambiance ambiance, List<String> names) {
+    Map<String, String> outputs = executionOutputCache.getAll(SWEEPING_OUTPUT, ambiance, names);
+    List<String> missingNames =
+        names.stream().filter(name -> !outputs.containsKey(name)).distinct().collect(Collectors.toList());
+    if (EmptyPredicate.isNotEmpty(missingNames)) {
+      Query query = query(where(ExecutionSweepingOutputKeys.planExecutionId).is(ambiance.getPlanExecutionId()))
+                        .addCriteria(where(ExecutionSweepingOutputKeys.name).in(missingNames))
+                        .addCriteria(where(ExecutionSweepingOutputKeys.levelRuntimeIdIdx)
+                                         .in(ResolverUtils.prepareLevelRuntimeIdIndices(ambiance)));
+      // Multiple instances might be returned if the same name was saved at different levels/specificity.
+      mongoTemplate.find(query, ExecutionSweepingOutputInstance.class)
+          .stream()
+          .collect(Collectors.toMap(ExecutionSweepingOutputInstance::getName, Function.identity(),
+              BinaryOperator.maxBy(Comparator.comparing(ExecutionSweepingOutputInstance::getLevelRuntimeIdIdx))))
+          .forEach((name, instance) -> {
+            executionOutputCache.put(SWEEPING_OUTPUT, ambiance.getPlanExecutionId(), name,
+                instance.getLevelRuntimeIdIdx(), instance.getOutputValueJson());
+            outputs.put(name, instance.getOutputValueJson());
+          });
+    }
+
+    Map<String, RawOptionalSweepingOutput> resolvedOutputs = new HashMap<>();
+    for (String name : names) {
+      resolvedOutputs.put(name,
+          RawOptionalSweepingOutput.builder().found(outputs.containsKey(name)).output(outputs.get(name)).build());
+    }
+    return resolvedOutputs;
   }
 
   @Override
@@ -171,6 +189,8 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
                                    .levelRuntimeIdIdx(ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList()))
                                    .groupName(groupName)
                                    .build());
+      executionOutputCache.put(SWEEPING_OUTPUT, instance.getPlanExecutionId(), name, instance.getLevelRuntimeIdIdx(),
+          instance.getOutputValueJson());
       return instance.getUuid();
     } catch (DuplicateKeyException ex) {
       throw new SweepingOutputException(format("Sweeping output with name %s is already saved", name), ex);
@@ -8,6 +8,7 @@
 package io.harness.engine.executions.plan;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANT;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,6 +74,29 @@ public class PlanServiceImplTest extends OrchestrationTestBase {
     assertThat(fetchNode.getName()).isEqualTo("Dummy Node 1");
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldTestClonePlan() {
+    String nodeId = generateUuid();
+    Plan plan = planService.save(Plan.builder()
+                                     .planNode(PlanNode.fromPlanNodeProto(PlanNodeProto.newBuilder()
+                                                                              .setUuid(nodeId)
+                                                                              .setName("Dummy Node")
+                                                                              .setStepType(DUMMY_STEP_TYPE)
+                                                                              .setIdentifier("dummy")
+                                                                              .build()))
+                                     .startingNodeId(nodeId)
+                                     .build());
+
+    Plan clonedPlan = planService.clonePlan(plan);
+    assertThat(clonedPlan.getUuid()).isNotEqualTo(plan.getUuid());
+    assertThat(clonedPlan.getVersion()).isEqualTo(0);
+    assertThat(planService.fetchPlan(clonedPlan.getUuid()).getStartingNodeId()).isEqualTo(nodeId);
+    PlanNode fetchNode = planService.fetchNode(clonedPlan.getUuid(), nodeId);
+    assertThat(fetchNode.getName()).isEqualTo("Dummy Node");
+  }
+
   private Plan buildAnsSavePlan() {
     Plan plan = Plan.builder()
                     .node(PlanNodeProto.newBuilder()
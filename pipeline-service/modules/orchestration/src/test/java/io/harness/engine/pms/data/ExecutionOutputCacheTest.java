@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.pms.data;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.engine.expressions.functors.NodeExecutionEntityType.OUTCOME;
+import static io.harness.engine.expressions.functors.NodeExecutionEntityType.SWEEPING_OUTPUT;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.ambiance.Level;
+import io.harness.pms.execution.utils.AmbianceUtils;
+import io.harness.rule.Owner;
+import io.harness.utils.AmbianceTestUtils;
+
+import java.util.Arrays;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class ExecutionOutputCacheTest extends CategoryTest {
+  private final ExecutionOutputCache executionOutputCache = new ExecutionOutputCache();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testServesOnlyInstancesAtTheLevelOfTheNode() {
+    Ambiance ambianceSection = AmbianceTestUtils.buildAmbiance();
+    Ambiance ambianceStep = AmbianceUtils.cloneForChild(
+        ambianceSection, Level.newBuilder().setRuntimeId(generateUuid()).setSetupId(generateUuid()).build());
+    String planExecutionId = ambianceSection.getPlanExecutionId();
+    executionOutputCache.put(OUTCOME, planExecutionId, "outcome",
+        ResolverUtils.prepareLevelRuntimeIdIdx(ambianceSection.getLevelsList()), "{\"level\":\"section\"}");
+
+    assertThat(executionOutputCache.get(OUTCOME, ambianceSection, "outcome")).isEqualTo("{\"level\":\"section\"}");
+    // A more specific instance could have been written by another pod
+    assertThat(executionOutputCache.get(OUTCOME, ambianceStep, "outcome")).isNull();
+    assertThat(executionOutputCache.get(SWEEPING_OUTPUT, ambianceSection, "outcome")).isNull();
+
+    executionOutputCache.put(OUTCOME, planExecutionId, "outcome",
+        ResolverUtils.prepareLevelRuntimeIdIdx(ambianceStep.getLevelsList()), "{\"level\":\"step\"}");
+    assertThat(executionOutputCache.getAll(OUTCOME, ambianceStep, Arrays.asList("outcome", "missing")))
+        .containsOnlyKeys("outcome")
+        .containsEntry("outcome", "{\"level\":\"step\"}");
+    assertThat(executionOutputCache.getHits(planExecutionId)).isEqualTo(2);
+
+    executionOutputCache.onEnd(ambianceSection);
+    assertThat(executionOutputCache.get(OUTCOME, ambianceSection, "outcome")).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testKeepsJsonOfAnExecutionUpToItsBudget() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    String levelRuntimeIdIdx = ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList());
+    String json = StringUtils.repeat('x', ExecutionOutputCache.MAX_CACHED_JSON_LENGTH);
+    int fittingCount = ExecutionOutputCache.MAX_EXECUTION_JSON_LENGTH / ExecutionOutputCache.MAX_CACHED_JSON_LENGTH;
+    for (int index = 0; index <= fittingCount; index++) {
+      executionOutputCache.put(OUTCOME, ambiance.getPlanExecutionId(), "outcome" + index, levelRuntimeIdIdx, json);
+    }
+
+    assertThat(executionOutputCache.get(OUTCOME, ambiance, "outcome" + (fittingCount - 1))).isEqualTo(json);
+    assertThat(executionOutputCache.get(OUTCOME, ambiance, "outcome" + fittingCount)).isNull();
+  }
+}
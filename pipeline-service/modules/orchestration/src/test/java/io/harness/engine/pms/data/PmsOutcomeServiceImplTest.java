@@ -9,6 +9,7 @@ package io.harness.engine.pms.data;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.ALEXEI;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
 
@@ -195,6 +196,32 @@ public class PmsOutcomeServiceImplTest extends OrchestrationTestBase {
     assertThat(optionalOutcome.isFound()).isTrue();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldResolveOptionalByNames() {
+    Ambiance ambianceSection = AmbianceTestUtils.buildAmbiance();
+    Ambiance ambianceStep = AmbianceUtils.cloneForChild(
+        ambianceSection, Level.newBuilder().setRuntimeId(generateUuid()).setSetupId(generateUuid()).build());
+    String sectionOutcomeJson =
+        RecastOrchestrationUtils.toJson(DummyOrchestrationOutcome.builder().test("section").build());
+    String stepOutcomeJson = RecastOrchestrationUtils.toJson(DummyOrchestrationOutcome.builder().test("step").build());
+    pmsOutcomeService.consume(ambianceSection, "outcome", sectionOutcomeJson, null);
+    pmsOutcomeService.consume(ambianceSection, "sectionOutcome", sectionOutcomeJson, null);
+    pmsOutcomeService.consume(ambianceStep, "outcome", stepOutcomeJson, null);
+
+    Map<String, OptionalOutcome> outcomes =
+        pmsOutcomeService.resolveOptional(ambianceStep, Arrays.asList("outcome", "sectionOutcome", "missing"));
+    assertThat(outcomes).hasSize(3);
+    assertThat(outcomes.get("outcome").getOutcome()).isEqualTo(stepOutcomeJson);
+    assertThat(outcomes.get("sectionOutcome").getOutcome()).isEqualTo(sectionOutcomeJson);
+    assertThat(outcomes.get("missing").isFound()).isFalse();
+
+    outcomes = pmsOutcomeService.resolveOptional(ambianceSection, Arrays.asList("outcome", "sectionOutcome"));
+    assertThat(outcomes.get("outcome").getOutcome()).isEqualTo(sectionOutcomeJson);
+    assertThat(outcomes.get("sectionOutcome").getOutcome()).isEqualTo(sectionOutcomeJson);
+  }
+
   @Test
   @Owner(developers = ALEXEI)
   @Category(UnitTests.class)
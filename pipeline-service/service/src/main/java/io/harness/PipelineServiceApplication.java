@@ -40,6 +40,7 @@ import io.harness.engine.executions.plan.PlanExecutionServiceImpl;
 import io.harness.engine.expressions.OrchestrationConstants;
 import io.harness.engine.interrupts.InterruptMonitor;
 import io.harness.engine.interrupts.OrchestrationEndInterruptHandler;
+import io.harness.engine.pms.data.ExecutionOutputCache;
 import io.harness.engine.pms.execution.strategy.plan.PlanExecutionStrategy;
 import io.harness.engine.timeouts.TimeoutInstanceRemover;
 import io.harness.event.OrchestrationEndGraphHandler;
@@ -48,6 +49,7 @@ import io.harness.event.OrchestrationStartEventHandler;
 import io.harness.exception.GeneralException;
 import io.harness.execution.consumers.InitiateNodeEventRedisConsumer;
 import io.harness.execution.consumers.SdkResponseEventRedisConsumer;
+import io.harness.expression.EngineExpressionCache;
 import io.harness.gitsync.AbstractGitSyncSdkModule;
 import io.harness.gitsync.GitSdkConfiguration;
 import io.harness.gitsync.GitSyncEntitiesConfiguration;
@@ -344,6 +346,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     initializeEnforcementSdk(injector);
 
     harnessMetricRegistry = injector.getInstance(HarnessMetricRegistry.class);
+    EngineExpressionCache.registerMetrics(metricRegistry);
     PipelineServiceIteratorsConfig iteratorsConfig = appConfig.getIteratorsConfig();
     injector.getInstance(TriggerWebhookExecutionService.class)
         .registerIterators(iteratorsConfig.getTriggerWebhookConfig());
@@ -441,6 +444,8 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
         injector.getInstance(Key.get(NodeExecutionStatusUpdateEventHandler.class)));
     nodeExecutionService.getStepStatusUpdateSubject().register(
         injector.getInstance(Key.get(ResourceRestraintObserver.class)));
+    planExecutionStrategy.getOrchestrationEndSubject().register(
+        injector.getInstance(Key.get(ExecutionOutputCache.class)));
 
     nodeExecutionService.getStepStatusUpdateSubject().register(
         injector.getInstance(Key.get(TimeoutInstanceRemover.class)));
@@ -45,11 +45,12 @@ public class PMSEntityCRUDStreamConsumer implements Runnable {
   public PMSEntityCRUDStreamConsumer(@Named(ENTITY_CRUD) Consumer redisConsumer,
       @Named(PIPELINE_ENTITY + ENTITY_CRUD) MessageListener pipelineEntityCRUDStreamListener,
       @Named(PROJECT_ENTITY + ENTITY_CRUD) MessageListener projectEntityCrudStreamListener,
-      QueueController queueController) {
+      PlanCacheEntityCrudStreamListener planCacheEntityCrudStreamListener, QueueController queueController) {
     this.redisConsumer = redisConsumer;
     messageListenersList = new ArrayList<>();
     messageListenersList.add(pipelineEntityCRUDStreamListener);
     messageListenersList.add(projectEntityCrudStreamListener);
+    messageListenersList.add(planCacheEntityCrudStreamListener);
     this.queueController = queueController;
   }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.event.entitycrud;
+
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.PIPELINE_ENTITY;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.ng.core.event.MessageListener;
+import io.harness.pms.plan.creation.PlanCreationCache;
+
+import com.google.inject.Inject;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops the cached plans of an account when any of its entities changes. Plan creators read services, environments,
+ * infrastructures, connectors and more, changes to the pipeline itself already change the key of its plans.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class PlanCacheEntityCrudStreamListener implements MessageListener {
+  private static final String ACCOUNT_ID = "accountId";
+
+  private final PlanCreationCache planCreationCache;
+
+  @Inject
+  public PlanCacheEntityCrudStreamListener(PlanCreationCache planCreationCache) {
+    this.planCreationCache = planCreationCache;
+  }
+
+  @Override
+  public boolean handleMessage(Message message) {
+    if (message == null || !message.hasMessage()) {
+      return true;
+    }
+    Map<String, String> metadataMap = message.getMessage().getMetadataMap();
+    String accountId = metadataMap.get(ACCOUNT_ID);
+    if (accountId == null || PIPELINE_ENTITY.equals(metadataMap.get(ENTITY_TYPE))) {
+      return true;
+    }
+    try {
+      planCreationCache.invalidate(accountId);
+      return true;
+    } catch (Exception ex) {
+      log.error("Could not drop the cached plans of account {}", accountId, ex);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.creation;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.engine.executions.plan.PlanService;
+import io.harness.enforcement.beans.metadata.RestrictionMetadataDTO;
+import io.harness.enforcement.client.services.EnforcementClientService;
+import io.harness.enforcement.constants.FeatureRestrictionName;
+import io.harness.enforcement.constants.RestrictionType;
+import io.harness.execution.PlanExecutionMetadata;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.plan.Plan;
+import io.harness.pms.PmsFeatureFlagService;
+import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.events.PmsEventMonitoringConstants;
+import io.harness.pms.events.base.PmsMetricContextGuard;
+import io.harness.pms.sdk.PmsSdkInstance;
+import io.harness.pms.sdk.PmsSdkInstanceService;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Keeps the plans created for pipeline executions, keyed by the hash of the pipeline yaml with inputs and templates
+ * merged, the execution context given to the plan creators, the registration time of every sdk and the setup
+ * generation of the account. Plan creators read entities referred to by the yaml, like services, environments and
+ * connectors, so the generation is shared by all replicas and moves on every change to the setup of the account. A hit
+ * saves a copy of the cached plan for the execution, which runs the nodes saved for the cached one.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(PIPELINE)
+public class PlanCreationCache {
+  static final String PLAN_CACHE_HIT_COUNT = "plan_cache_hit_count";
+  static final String PLAN_CACHE_MISS_COUNT = "plan_cache_miss_count";
+  static final String PLAN_CACHE_TIME_SAVED = "plan_cache_time_saved";
+
+  private static final int MAX_CACHED_PLANS = 200;
+  private static final int CACHE_EXPIRY_MINUTES = 10;
+  private static final String GENERATION_KEY_PREFIX = "planCacheGeneration:";
+
+  @Inject private PmsSdkInstanceService pmsSdkInstanceService;
+  @Inject private PmsFeatureFlagService pmsFeatureFlagService;
+  @Inject private EnforcementClientService enforcementClientService;
+  @Inject private PlanService planService;
+  @Inject private MetricService metricService;
+  @Inject @Named("cacheRedissonClient") private RedissonClient redissonClient;
+
+  private final Cache<String, CachedPlan> cachedPlans = CacheBuilder.newBuilder()
+                                                            .maximumSize(MAX_CACHED_PLANS)
+                                                            .expireAfterWrite(CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+                                                            .build();
+
+  /**
+   * Returns the key of the plan of the execution, null when the plan has to be created for it.
+   */
+  public String getKey(String accountId, String orgIdentifier, String projectIdentifier, ExecutionMetadata metadata,
+      PlanExecutionMetadata planExecutionMetadata) {
+    // Retries change the plan of the previous execution, they always create it
+    if (metadata == null || metadata.getRetryInfo().getIsRetry()
+        || !pmsFeatureFlagService.isEnabled(accountId, FeatureName.PIPELINE_PLAN_CACHE)
+        || hasServiceLicenseLimit(accountId)) {
+      return null;
+    }
+    long generation;
+    try {
+      generation = redissonClient.getAtomicLong(GENERATION_KEY_PREFIX + accountId).get();
+    } catch (Exception ex) {
+      log.warn("Could not read the plan cache generation of account {}", accountId, ex);
+      return null;
+    }
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, accountId);
+    putString(hasher, orgIdentifier);
+    putString(hasher, projectIdentifier);
+    hasher.putLong(generation);
+    putString(hasher, planExecutionMetadata.getYaml());
+    // Everything given to the plan creators but the execution id and run sequence
+    putBytes(hasher, metadata.toBuilder().clearExecutionUuid().clearRunSequence().build().toByteArray());
+    putBytes(hasher,
+        planExecutionMetadata.getTriggerPayload() == null ? new byte[0]
+                                                          : planExecutionMetadata.getTriggerPayload().toByteArray());
+    hasher.putBoolean(pmsFeatureFlagService.isEnabled(accountId, FeatureName.NG_EXECUTION_INPUT));
+    // An sdk registers again on every deployment, which drops the plans created by its previous version
+    Map<String, Long> sdkRegistrationTimes = new TreeMap<>();
+    for (Map.Entry<String, PmsSdkInstance> entry : pmsSdkInstanceService.getSdkInstanceCacheValue().entrySet()) {
+      Long lastUpdatedAt = entry.getValue().getLastUpdatedAt();
+      sdkRegistrationTimes.put(entry.getKey(), lastUpdatedAt == null ? 0 : lastUpdatedAt);
+    }
+    sdkRegistrationTimes.forEach((name, registrationTime) -> {
+      putString(hasher, name);
+      hasher.putLong(registrationTime);
+    });
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Returns a copy of the cached plan saved for the execution, null if there is none. The processed yaml of the
+   * execution is replaced by the one the plan was created from, whose field uuids are the node ids of the plan.
+   */
+  public Plan get(String key, String accountId, String orgIdentifier, String projectIdentifier,
+      ExecutionMetadata metadata, PlanExecutionMetadata planExecutionMetadata) {
+    long startTime = System.currentTimeMillis();
+    try (PmsMetricContextGuard ignore =
+             new PmsMetricContextGuard(getMetricContext(accountId, orgIdentifier, projectIdentifier, metadata))) {
+      CachedPlan cachedPlan = cachedPlans.getIfPresent(key);
+      if (cachedPlan == null) {
+        metricService.incCounter(PLAN_CACHE_MISS_COUNT);
+        return null;
+      }
+      Plan plan = planService.clonePlan(cachedPlan.plan);
+      planExecutionMetadata.setProcessedYaml(cachedPlan.processedYaml);
+      planExecutionMetadata.setExecutionInputConfigured(cachedPlan.executionInputConfigured);
+      metricService.incCounter(PLAN_CACHE_HIT_COUNT);
+      metricService.recordDuration(PLAN_CACHE_TIME_SAVED,
+          Duration.ofMillis(Math.max(0, cachedPlan.creationMillis - (System.currentTimeMillis() - startTime))));
+      return plan;
+    }
+  }
+
+  /**
+   * Keeps a plan once it is saved, with the execution metadata it was created from.
+   */
+  public void put(String key, Plan plan, PlanExecutionMetadata planExecutionMetadata, long creationMillis) {
+    cachedPlans.put(key,
+        new CachedPlan(plan.withPlanNodes(new ArrayList<>()), planExecutionMetadata.getProcessedYaml(),
+            planExecutionMetadata.getExecutionInputConfigured(), creationMillis));
+  }
+
+  /**
+   * Drops the plans of the account on all replicas.
+   */
+  public void invalidate(String accountId) {
+    redissonClient.getAtomicLong(GENERATION_KEY_PREFIX + accountId).incrementAndGet();
+  }
+
+  // Plan creators count the services of an execution against the license of the account, which a cached plan skips
+  private boolean hasServiceLicenseLimit(String accountId) {
+    if (!enforcementClientService.isEnforcementEnabled()) {
+      return false;
+    }
+    try {
+      Optional<RestrictionMetadataDTO> restrictionMetadata =
+          enforcementClientService.getRestrictionMetadata(FeatureRestrictionName.SERVICES, accountId);
+      return restrictionMetadata.isPresent()
+          && restrictionMetadata.get().getRestrictionType() != RestrictionType.AVAILABILITY;
+    } catch (Exception ex) {
+      log.warn("Could not read the service license restriction of account {}", accountId, ex);
+      return true;
+    }
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    putBytes(hasher, value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void putBytes(Hasher hasher, byte[] value) {
+    hasher.putInt(value.length).putBytes(value);
+  }
+
+  private Map<String, String> getMetricContext(
+      String accountId, String orgIdentifier, String projectIdentifier, ExecutionMetadata metadata) {
+    return ImmutableMap.of(PmsEventMonitoringConstants.ACCOUNT_ID, accountId, PmsEventMonitoringConstants.ORG_ID,
+        orgIdentifier, PmsEventMonitoringConstants.PROJECT_ID, projectIdentifier,
+        PmsEventMonitoringConstants.PIPELINE_IDENTIFIER, metadata.getPipelineIdentifier());
+  }
+
+  @AllArgsConstructor
+  private static class CachedPlan {
+    private final Plan plan;
+    private final String processedYaml;
+    private final Boolean executionInputConfigured;
+    private final long creationMillis;
+  }
+}
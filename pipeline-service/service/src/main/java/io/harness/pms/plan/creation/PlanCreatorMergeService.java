@@ -181,9 +181,16 @@ public class PlanCreatorMergeService {
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, triggerPayload));
 
     try {
+      // The yaml only changes when plan creators send yaml updates, it is parsed again only then
+      String parsedYaml = null;
+      YamlField fullYamlField = null;
       for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
            i++) {
-        YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+        String yaml = finalResponseBuilder.getDeps().getYaml();
+        if (!yaml.equals(parsedYaml)) {
+          fullYamlField = YamlUtils.readTree(yaml);
+          parsedYaml = yaml;
+        }
         PlanCreationBlobResponse currIterationResponse =
             createPlanForDependencies(services, finalResponseBuilder, fullYamlField);
         PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
@@ -228,8 +235,8 @@ public class PlanCreatorMergeService {
                              .map(PlanCreationResponse::getErrorResponse)
                              .collect(Collectors.toList());
         if (EmptyPredicate.isEmpty(errorResponses)) {
-          planCreationResponses.forEach(
-              resp -> PlanCreationBlobResponseUtils.merge(currIterationResponseBuilder, resp.getBlobResponse()));
+          planCreationResponses.forEach(resp
+              -> PlanCreationBlobResponseUtils.mergeWithoutYaml(currIterationResponseBuilder, resp.getBlobResponse()));
         }
       } catch (Exception ex) {
         throw new UnexpectedException("Error fetching plan creation response from service", ex);
@@ -277,15 +284,15 @@ public class PlanCreatorMergeService {
       serviceToDependencyMap.put(serviceEntry, new LinkedList<>());
     }
 
+    Map.Entry<String, PlanCreatorServiceInfo> pmsPlanCreatorService =
+        services.entrySet()
+            .stream()
+            .filter(this::isPipelineService)
+            .findFirst()
+            .orElseThrow(
+                () -> new InvalidRequestException("Pipeline Service service provider information is missing."));
     for (Map.Entry<String, String> dependencyEntry : responseBuilder.getDeps().getDependenciesMap().entrySet()) {
       // Always first check for pipeline-service dependencies
-      Map.Entry<String, PlanCreatorServiceInfo> pmsPlanCreatorService =
-          services.entrySet()
-              .stream()
-              .filter(this::isPipelineService)
-              .findFirst()
-              .orElseThrow(
-                  () -> new InvalidRequestException("Pipeline Service service provider information is missing."));
       if (pmsSdkHelper.containsSupportedSingleDependencyByYamlPath(
               pmsPlanCreatorService.getValue(), fullYamlField, dependencyEntry)) {
         serviceToDependencyMap.get(pmsPlanCreatorService).add(dependencyEntry);
@@ -313,7 +320,11 @@ public class PlanCreatorMergeService {
                metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
         try {
           return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
-              PlanCreationBlobRequest.newBuilder().setDeps(batchDependency).putAllContext(contextMap).build());
+              PlanCreationBlobRequest.newBuilder()
+                  .setDeps(batchDependency)
+                  .putAllContext(contextMap)
+                  .setSkipYamlInResponse(true)
+                  .build());
         } catch (StatusRuntimeException ex) {
           log.error(
               String.format("Error connecting with service: [%s]. Is this service Running?", serviceInfo.getKey()), ex);
@@ -56,6 +56,7 @@ import io.harness.pms.pipeline.service.PMSYamlSchemaService;
 import io.harness.pms.pipeline.service.PipelineEnforcementService;
 import io.harness.pms.pipeline.service.PipelineMetadataService;
 import io.harness.pms.pipeline.yaml.BasicPipeline;
+import io.harness.pms.plan.creation.PlanCreationCache;
 import io.harness.pms.plan.creation.PlanCreatorMergeService;
 import io.harness.pms.plan.creation.PlanCreatorUtils;
 import io.harness.pms.plan.execution.beans.ExecArgs;
@@ -108,6 +109,7 @@ public class ExecutionHelper {
   PMSPipelineTemplateHelper pipelineTemplateHelper;
   PipelineEnforcementService pipelineEnforcementService;
   PmsFeatureFlagHelper featureFlagService;
+  PlanCreationCache planCreationCache;
 
   public PipelineEntity fetchPipelineEntity(@NotNull String accountId, @NotNull String orgIdentifier,
       @NotNull String projectIdentifier, @NotNull String pipelineIdentifier) {
@@ -364,6 +366,22 @@ public class ExecutionHelper {
     long startTs = System.currentTimeMillis();
     try (AutoLogContext ignore =
              PlanCreatorUtils.autoLogContext(executionMetadata, accountId, orgIdentifier, projectIdentifier)) {
+      ImmutableMap<String, String> abstractions = ImmutableMap.<String, String>builder()
+                                                      .put(SetupAbstractionKeys.accountId, accountId)
+                                                      .put(SetupAbstractionKeys.orgIdentifier, orgIdentifier)
+                                                      .put(SetupAbstractionKeys.projectIdentifier, projectIdentifier)
+                                                      .build();
+      String planCacheKey = isRetry ? null
+                                    : planCreationCache.getKey(accountId, orgIdentifier, projectIdentifier,
+                                        executionMetadata, planExecutionMetadata);
+      Plan cachedPlan = planCacheKey == null ? null
+                                             : planCreationCache.get(planCacheKey, accountId, orgIdentifier,
+                                                 projectIdentifier, executionMetadata, planExecutionMetadata);
+      if (cachedPlan != null) {
+        log.info("[PMS_PLAN] Reused the plan of a previous execution in {}ms", System.currentTimeMillis() - startTs);
+        return orchestrationService.executePlan(cachedPlan, abstractions, executionMetadata, planExecutionMetadata);
+      }
+
       PlanCreationBlobResponse resp;
       try {
         resp = planCreatorMergeService.createPlan(
@@ -373,11 +391,6 @@ public class ExecutionHelper {
         throw new InvalidYamlException(format("Invalid yaml in node [%s]", YamlUtils.getErrorNodePartialFQN(e)), e);
       }
       Plan plan = PlanExecutionUtils.extractPlan(resp);
-      ImmutableMap<String, String> abstractions = ImmutableMap.<String, String>builder()
-                                                      .put(SetupAbstractionKeys.accountId, accountId)
-                                                      .put(SetupAbstractionKeys.orgIdentifier, orgIdentifier)
-                                                      .put(SetupAbstractionKeys.projectIdentifier, projectIdentifier)
-                                                      .build();
       long endTs = System.currentTimeMillis();
       log.info("[PMS_PLAN] Time taken to complete plan: {}ms ", endTs - startTs);
       if (isRetry) {
@@ -385,7 +398,13 @@ public class ExecutionHelper {
             plan, identifierOfSkipStages, previousExecutionId, retryStagesIdentifier);
         return orchestrationService.startExecution(newPlan, abstractions, executionMetadata, planExecutionMetadata);
       }
-      return orchestrationService.startExecution(plan, abstractions, executionMetadata, planExecutionMetadata);
+      PlanExecution planExecution =
+          orchestrationService.startExecution(plan, abstractions, executionMetadata, planExecutionMetadata);
+      // Only plans whose nodes are saved can be copied
+      if (planCacheKey != null) {
+        planCreationCache.put(planCacheKey, plan, planExecutionMetadata, endTs - startTs);
+      }
+      return planExecution;
     }
   }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.event.entitycrud;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACTION;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.CONNECTOR_ENTITY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.PIPELINE_ENTITY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.UPDATE_ACTION;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.pms.plan.creation.PlanCreationCache;
+import io.harness.rule.Owner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(PIPELINE)
+public class PlanCacheEntityCrudStreamListenerTest extends CategoryTest {
+  @Mock private PlanCreationCache planCreationCache;
+  @InjectMocks PlanCacheEntityCrudStreamListener planCacheEntityCrudStreamListener;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testHandleMessage() {
+    assertThat(planCacheEntityCrudStreamListener.handleMessage(buildMessage(PIPELINE_ENTITY))).isTrue();
+    verify(planCreationCache, never()).invalidate("acc");
+
+    assertThat(planCacheEntityCrudStreamListener.handleMessage(buildMessage(CONNECTOR_ENTITY))).isTrue();
+    verify(planCreationCache).invalidate("acc");
+
+    doThrow(new RuntimeException("redis down")).when(planCreationCache).invalidate("acc");
+    assertThat(planCacheEntityCrudStreamListener.handleMessage(buildMessage(CONNECTOR_ENTITY))).isFalse();
+  }
+
+  private Message buildMessage(String entityType) {
+    return Message.newBuilder()
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .putMetadata("accountId", "acc")
+                        .putMetadata(ENTITY_TYPE, entityType)
+                        .putMetadata(ACTION, UPDATE_ACTION)
+                        .build())
+        .build();
+  }
+}
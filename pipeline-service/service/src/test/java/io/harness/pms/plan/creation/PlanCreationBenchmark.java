@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.creation;
+
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
+import io.harness.pms.contracts.plan.PlanNodeProto;
+import io.harness.pms.yaml.YamlField;
+import io.harness.pms.yaml.YamlUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays the merging done by the plan creator merge service for a synthetic pipeline, with the sdk responses sent in
+ * batches of 50 dependencies per level. Once the way it used to be done, parsing the yaml at every level and merging
+ * responses that carry the full yaml, and once the current way. Stage count, steps per stage and run count can be
+ * given as arguments, 500, 5 and 10 by default.
+ */
+@Slf4j
+public class PlanCreationBenchmark {
+  private static final int DEPENDENCY_BATCH = 50;
+
+  public static void main(String[] args) throws IOException {
+    int stageCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    int stepCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    int runCount = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+    String yaml = YamlUtils.injectUuid(buildPipelineYaml(stageCount, stepCount));
+    Map<String, List<YamlField>> children = new HashMap<>();
+    YamlField pipelineField = collectChildren(yaml, children);
+
+    // Warm up both paths
+    for (int i = 0; i < 3; i++) {
+      createPlan(yaml, pipelineField, children, false);
+      createPlan(yaml, pipelineField, children, true);
+    }
+
+    long startTime = System.nanoTime();
+    long responseBytes = 0;
+    for (int i = 0; i < runCount; i++) {
+      responseBytes = createPlan(yaml, pipelineField, children, false);
+    }
+    report("yaml parsed per level, full yaml in responses", runCount, startTime, responseBytes);
+
+    startTime = System.nanoTime();
+    for (int i = 0; i < runCount; i++) {
+      responseBytes = createPlan(yaml, pipelineField, children, true);
+    }
+    report("yaml parsed once, structured responses", runCount, startTime, responseBytes);
+  }
+
+  // Returns the size of the sdk responses received
+  private static long createPlan(String yaml, YamlField pipelineField, Map<String, List<YamlField>> children,
+      boolean incremental) throws IOException {
+    PlanCreationBlobResponse.Builder finalResponseBuilder = PlanCreationBlobResponse.newBuilder().setDeps(
+        Dependencies.newBuilder()
+            .setYaml(yaml)
+            .putDependencies(pipelineField.getNode().getUuid(), pipelineField.getNode().getYamlPath())
+            .build());
+    long responseBytes = 0;
+    String parsedYaml = null;
+    YamlField fullYamlField = null;
+    while (!finalResponseBuilder.getDeps().getDependenciesMap().isEmpty()) {
+      String currentYaml = finalResponseBuilder.getDeps().getYaml();
+      if (!incremental || !currentYaml.equals(parsedYaml)) {
+        fullYamlField = YamlUtils.readTree(currentYaml);
+        parsedYaml = currentYaml;
+      }
+      List<Map.Entry<String, String>> dependencies =
+          new ArrayList<>(finalResponseBuilder.getDeps().getDependenciesMap().entrySet());
+      PlanCreationBlobResponse.Builder iterationResponseBuilder = PlanCreationBlobResponse.newBuilder();
+      for (int from = 0; from < dependencies.size(); from += DEPENDENCY_BATCH) {
+        PlanCreationBlobResponse response = createSdkResponse(fullYamlField,
+            dependencies.subList(from, Math.min(from + DEPENDENCY_BATCH, dependencies.size())), children,
+            incremental ? "" : yaml);
+        responseBytes += response.getSerializedSize();
+        if (incremental) {
+          PlanCreationBlobResponseUtils.mergeWithoutYaml(iterationResponseBuilder, response);
+        } else {
+          PlanCreationBlobResponseUtils.merge(iterationResponseBuilder, response);
+        }
+      }
+      PlanCreationBlobResponse iterationResponse = iterationResponseBuilder.build();
+      PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, iterationResponse.getNodesMap());
+      PlanCreationBlobResponseUtils.addDependenciesV2(finalResponseBuilder, iterationResponse);
+    }
+    return responseBytes;
+  }
+
+  private static PlanCreationBlobResponse createSdkResponse(YamlField fullYamlField,
+      List<Map.Entry<String, String>> dependencies, Map<String, List<YamlField>> children, String yaml)
+      throws IOException {
+    PlanCreationBlobResponse.Builder response = PlanCreationBlobResponse.newBuilder();
+    Dependencies.Builder childDependencies = Dependencies.newBuilder().setYaml(yaml);
+    for (Map.Entry<String, String> dependency : dependencies) {
+      YamlField field = fullYamlField.fromYamlPath(dependency.getValue());
+      response.putNodes(dependency.getKey(),
+          PlanNodeProto.newBuilder().setUuid(dependency.getKey()).setIdentifier(field.getName()).build());
+      for (YamlField child : children.getOrDefault(dependency.getKey(), Collections.emptyList())) {
+        childDependencies.putDependencies(child.getNode().getUuid(), child.getNode().getYamlPath());
+      }
+    }
+    return response.setDeps(childDependencies).build();
+  }
+
+  // Dependency levels are the pipeline, the stages, each stage, the steps of each stage and each step
+  private static YamlField collectChildren(String yaml, Map<String, List<YamlField>> children) throws IOException {
+    YamlField pipelineField = YamlUtils.extractPipelineField(yaml);
+    YamlField stagesField = pipelineField.getNode().getField("stages");
+    children.put(pipelineField.getNode().getUuid(), Collections.singletonList(stagesField));
+    List<YamlField> stageFields = getArrayFields(stagesField, "stage");
+    children.put(stagesField.getNode().getUuid(), stageFields);
+    for (YamlField stageField : stageFields) {
+      YamlField stepsField =
+          stageField.getNode().getField("spec").getNode().getField("execution").getNode().getField("steps");
+      children.put(stageField.getNode().getUuid(), Collections.singletonList(stepsField));
+      children.put(stepsField.getNode().getUuid(), getArrayFields(stepsField, "step"));
+    }
+    return pipelineField;
+  }
+
+  private static List<YamlField> getArrayFields(YamlField arrayField, String fieldName) {
+    return arrayField.getNode()
+        .asArray()
+        .stream()
+        .map(element -> element.getField(fieldName))
+        .collect(Collectors.toList());
+  }
+
+  private static String buildPipelineYaml(int stageCount, int stepCount) {
+    StringBuilder yaml = new StringBuilder("pipeline:\n  identifier: benchmark\n  name: benchmark\n  stages:\n");
+    for (int stage = 0; stage < stageCount; stage++) {
+      yaml.append("    - stage:\n")
+          .append("        identifier: stage")
+          .append(stage)
+          .append("\n        name: stage")
+          .append(stage)
+          .append("\n        type: Custom\n        spec:\n          execution:\n            steps:\n");
+      for (int step = 0; step < stepCount; step++) {
+        yaml.append("              - step:\n")
+            .append("                  identifier: step")
+            .append(step)
+            .append("\n                  name: step")
+            .append(step)
+            .append("\n                  type: ShellScript\n                  timeout: 10m\n")
+            .append("                  spec:\n                    script: echo hello\n");
+      }
+    }
+    return yaml.toString();
+  }
+
+  private static void report(String mode, int runCount, long startTime, long responseBytes) {
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    log.info("{}: {} plan creations in {} s, {} ms per plan creation, {} KB of sdk responses per plan creation", mode,
+        runCount, String.format("%.2f", seconds), String.format("%.1f", seconds * 1000 / runCount),
+        responseBytes / 1024);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.creation;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.category.element.UnitTests;
+import io.harness.engine.executions.plan.PlanService;
+import io.harness.enforcement.beans.metadata.RestrictionMetadataDTO;
+import io.harness.enforcement.beans.metadata.StaticLimitRestrictionMetadataDTO;
+import io.harness.enforcement.client.services.EnforcementClientService;
+import io.harness.enforcement.constants.FeatureRestrictionName;
+import io.harness.enforcement.constants.RestrictionType;
+import io.harness.execution.PlanExecutionMetadata;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.plan.Plan;
+import io.harness.plan.PlanNode;
+import io.harness.pms.PmsFeatureFlagService;
+import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.contracts.plan.RetryExecutionInfo;
+import io.harness.pms.sdk.PmsSdkInstanceService;
+import io.harness.rule.Owner;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+@OwnedBy(PIPELINE)
+public class PlanCreationCacheTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "acc";
+
+  @Mock PmsSdkInstanceService pmsSdkInstanceService;
+  @Mock PmsFeatureFlagService pmsFeatureFlagService;
+  @Mock EnforcementClientService enforcementClientService;
+  @Mock PlanService planService;
+  @Mock MetricService metricService;
+  @Mock RedissonClient redissonClient;
+  @Mock RAtomicLong generation;
+  @InjectMocks PlanCreationCache planCreationCache;
+
+  private final AtomicLong generationValue = new AtomicLong();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(pmsSdkInstanceService.getSdkInstanceCacheValue()).thenReturn(Collections.emptyMap());
+    when(pmsFeatureFlagService.isEnabled(ACCOUNT_ID, FeatureName.PIPELINE_PLAN_CACHE)).thenReturn(true);
+    when(redissonClient.getAtomicLong(anyString())).thenReturn(generation);
+    when(generation.get()).thenAnswer(invocation -> generationValue.get());
+    when(generation.incrementAndGet()).thenAnswer(invocation -> generationValue.incrementAndGet());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCachedPlanIsCopiedForTheExecution() {
+    PlanExecutionMetadata planExecutionMetadata = buildPlanExecutionMetadata("processedYaml1");
+    planExecutionMetadata.setExecutionInputConfigured(true);
+    String key = planCreationCache.getKey(ACCOUNT_ID, "org", "proj", buildMetadata("exec1"), planExecutionMetadata);
+    Plan plan = Plan.builder()
+                    .uuid("plan1")
+                    .planNode(PlanNode.builder().uuid("node1").build())
+                    .startingNodeId("node1")
+                    .build();
+    planCreationCache.put(key, plan, planExecutionMetadata, 1000);
+
+    PlanExecutionMetadata newPlanExecutionMetadata = buildPlanExecutionMetadata("processedYaml2");
+    String newKey =
+        planCreationCache.getKey(ACCOUNT_ID, "org", "proj", buildMetadata("exec2"), newPlanExecutionMetadata);
+    assertThat(newKey).isEqualTo(key);
+    Plan clonedPlan = Plan.builder().uuid("plan2").startingNodeId("node1").build();
+    when(planService.clonePlan(any())).thenReturn(clonedPlan);
+
+    assertThat(planCreationCache.get(
+                   newKey, ACCOUNT_ID, "org", "proj", buildMetadata("exec2"), newPlanExecutionMetadata))
+        .isEqualTo(clonedPlan);
+    ArgumentCaptor<Plan> planCaptor = ArgumentCaptor.forClass(Plan.class);
+    verify(planService).clonePlan(planCaptor.capture());
+    assertThat(planCaptor.getValue().getUuid()).isEqualTo("plan1");
+    assertThat(planCaptor.getValue().getPlanNodes()).isEmpty();
+    assertThat(newPlanExecutionMetadata.getProcessedYaml()).isEqualTo("processedYaml1");
+    assertThat(newPlanExecutionMetadata.getExecutionInputConfigured()).isTrue();
+    verify(metricService).incCounter(PlanCreationCache.PLAN_CACHE_HIT_COUNT);
+    verify(metricService).recordDuration(eq(PlanCreationCache.PLAN_CACHE_TIME_SAVED), any());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testInvalidationChangesTheKey() {
+    PlanExecutionMetadata planExecutionMetadata = buildPlanExecutionMetadata("processedYaml");
+    String key = planCreationCache.getKey(ACCOUNT_ID, "org", "proj", buildMetadata("exec1"), planExecutionMetadata);
+    planCreationCache.put(key, Plan.builder().startingNodeId("node1").build(), planExecutionMetadata, 1000);
+
+    planCreationCache.invalidate(ACCOUNT_ID);
+
+    String newKey = planCreationCache.getKey(ACCOUNT_ID, "org", "proj", buildMetadata("exec2"), planExecutionMetadata);
+    assertThat(newKey).isNotNull().isNotEqualTo(key);
+    assertThat(planCreationCache.get(newKey, ACCOUNT_ID, "org", "proj", buildMetadata("exec2"), planExecutionMetadata))
+        .isNull();
+    verify(metricService).incCounter(PlanCreationCache.PLAN_CACHE_MISS_COUNT);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPlansAreNotReusedForRetriesOrLicenseLimits() throws Exception {
+    PlanExecutionMetadata planExecutionMetadata = buildPlanExecutionMetadata("processedYaml");
+    ExecutionMetadata retryMetadata =
+        buildMetadata("exec1").toBuilder().setRetryInfo(RetryExecutionInfo.newBuilder().setIsRetry(true)).build();
+    assertThat(planCreationCache.getKey(ACCOUNT_ID, "org", "proj", retryMetadata, planExecutionMetadata)).isNull();
+
+    when(enforcementClientService.isEnforcementEnabled()).thenReturn(true);
+    RestrictionMetadataDTO restrictionMetadata =
+        StaticLimitRestrictionMetadataDTO.builder().restrictionType(RestrictionType.STATIC_LIMIT).build();
+    when(enforcementClientService.getRestrictionMetadata(FeatureRestrictionName.SERVICES, ACCOUNT_ID))
+        .thenReturn(Optional.of(restrictionMetadata));
+    assertThat(planCreationCache.getKey(ACCOUNT_ID, "org", "proj", buildMetadata("exec1"), planExecutionMetadata))
+        .isNull();
+  }
+
+  private PlanExecutionMetadata buildPlanExecutionMetadata(String processedYaml) {
+    return PlanExecutionMetadata.builder().yaml("pipeline:\n  identifier: p1\n").processedYaml(processedYaml).build();
+  }
+
+  private ExecutionMetadata buildMetadata(String executionUuid) {
+    return ExecutionMetadata.newBuilder().setExecutionUuid(executionUuid).setPipelineIdentifier("p1").build();
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.pms.plan.execution;
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
 import static io.harness.pms.contracts.plan.TriggerType.MANUAL;
 import static io.harness.rule.OwnerRule.ARCHIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.NAMAN;
 import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
 import static io.harness.rule.OwnerRule.UTKARSH_CHOUBEY;
@@ -17,10 +18,12 @@ import static io.harness.rule.OwnerRule.UTKARSH_CHOUBEY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,6 +63,7 @@ import io.harness.pms.pipeline.service.PMSPipelineTemplateHelper;
 import io.harness.pms.pipeline.service.PMSYamlSchemaService;
 import io.harness.pms.pipeline.service.PipelineEnforcementService;
 import io.harness.pms.pipeline.service.PipelineMetadataService;
+import io.harness.pms.plan.creation.PlanCreationCache;
 import io.harness.pms.plan.creation.PlanCreatorMergeService;
 import io.harness.pms.plan.execution.beans.ExecArgs;
 import io.harness.pms.rbac.validator.PipelineRbacService;
@@ -102,6 +106,7 @@ public class ExecutionHelperTest extends CategoryTest {
   @Mock PMSPipelineTemplateHelper pipelineTemplateHelper;
   @Mock PmsExecutionSummaryRespository pmsExecutionSummaryRespository;
   @Mock PmsFeatureFlagHelper featureFlagService;
+  @Mock PlanCreationCache planCreationCache;
 
   String accountId = "accountId";
   String orgId = "orgId";
@@ -657,6 +662,37 @@ public class ExecutionHelperTest extends CategoryTest {
     verify(orchestrationService, times(1)).startExecution(plan, abstractions, executionMetadata, planExecutionMetadata);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStartExecutionWithCachedPlan() throws IOException {
+    ExecutionMetadata executionMetadata = ExecutionMetadata.newBuilder().build();
+    PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().build();
+    Plan plan = Plan.builder().startingNodeId("startingNodeId").build();
+    doReturn("key")
+        .when(planCreationCache)
+        .getKey(accountId, orgId, projectId, executionMetadata, planExecutionMetadata);
+    doReturn(plan)
+        .when(planCreationCache)
+        .get("key", accountId, orgId, projectId, executionMetadata, planExecutionMetadata);
+    ImmutableMap<String, String> abstractions = ImmutableMap.<String, String>builder()
+                                                    .put(SetupAbstractionKeys.accountId, accountId)
+                                                    .put(SetupAbstractionKeys.orgIdentifier, orgId)
+                                                    .put(SetupAbstractionKeys.projectIdentifier, projectId)
+                                                    .build();
+    PlanExecution planExecution = PlanExecution.builder().build();
+    doReturn(planExecution)
+        .when(orchestrationService)
+        .executePlan(plan, abstractions, executionMetadata, planExecutionMetadata);
+
+    PlanExecution createdPlanExecution = executionHelper.startExecution(
+        accountId, orgId, projectId, executionMetadata, planExecutionMetadata, false, null, null, null);
+    assertThat(createdPlanExecution).isEqualTo(planExecution);
+    verify(planCreatorMergeService, never())
+        .createPlan(accountId, orgId, projectId, executionMetadata, planExecutionMetadata);
+    verify(planCreationCache, never()).put(any(), any(), any(), anyLong());
+  }
+
   @Test
   @Owner(developers = PRASHANTSHARMA)
   @Category(UnitTests.class)
@@ -32,6 +32,7 @@ public class ResourceTypeConstants {
   public static final String SERVICE = "SERVICE";
   public static final String ENVIRONMENT = "ENVIRONMENT";
   public static final String ENVIRONMENT_GROUP = "ENVIRONMENT_GROUP";
+  public static final String INFRASTRUCTURE = "INFRASTRUCTURE";
   public static final String DELEGATE = "DELEGATE";
   public static final String DELEGATE_GROUPS = "DELEGATE_GROUPS";
   public static final String SERVICE_ACCOUNT = "SERVICE_ACCOUNT";